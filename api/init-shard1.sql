@@ -0,0 +1,9 @@
+-- 1번 샤드 전용. init.sql 다음에 실행해 거래 id 시퀀스를 1번 샤드 구간(1 * 2^40 + 1 부터)으로 옮긴다.
+-- (ShardingProperties.TRANSACTION_ID_BLOCK) init.sql 의 테스트 계좌와 거래는 샤딩하지 않은 구성용이라 지운다.
+USE mydb;
+DELETE FROM journal_posting;
+DELETE FROM journal_entry;
+DELETE FROM balance_checkpoint;
+DELETE FROM transaction;
+DELETE FROM account;
+ALTER SEQUENCE transaction_seq RESTART WITH 1099511627777;
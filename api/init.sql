@@ -3,7 +3,8 @@ CREATE DATABASE IF NOT EXISTS mydb;
 USE mydb;
 
 -- Create sequences
-CREATE SEQUENCE IF NOT EXISTS transaction_seq START WITH 41 INCREMENT BY 1;
+-- 분개 id. JournalWriter 가 받은 값부터 50 개를 메모리에서 나눠 쓰므로 50 씩 증가시킨다
+CREATE SEQUENCE IF NOT EXISTS transaction_seq START WITH 41 INCREMENT BY 50;
 
 -- Create account type table
 CREATE TABLE IF NOT EXISTS account_type (
@@ -11,6 +12,7 @@ CREATE TABLE IF NOT EXISTS account_type (
     code VARCHAR(20) NOT NULL UNIQUE,
     description VARCHAR(100) NOT NULL,
     transfer_fee_rate DECIMAL(5,4) NOT NULL,
+    interest_rate DECIMAL(7,6) NOT NULL DEFAULT 0,
     daily_withdrawal_limit DECIMAL(19,0) NOT NULL,
     daily_transfer_limit DECIMAL(19,0) NOT NULL,
     active BOOLEAN NOT NULL DEFAULT true,
@@ -24,15 +26,18 @@ CREATE TABLE IF NOT EXISTS account (
     account_number VARCHAR(20) NOT NULL UNIQUE,
     account_type_id BIGINT NOT NULL,
     balance DECIMAL(19,0) NOT NULL DEFAULT 0,
+    held_amount DECIMAL(19,0) NOT NULL DEFAULT 0,
+    ledger_count BIGINT NOT NULL DEFAULT 0,
     status VARCHAR(10) NOT NULL DEFAULT 'ACTIVE',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     deleted_at TIMESTAMP NULL,
     CONSTRAINT fk_account_type FOREIGN KEY (account_type_id) REFERENCES account_type(id),
-    CONSTRAINT chk_account_status CHECK (status IN ('ACTIVE', 'INACTIVE', 'DELETED'))
+    CONSTRAINT chk_account_status CHECK (status IN ('ACTIVE', 'INACTIVE', 'DELETED')),
+    CONSTRAINT chk_account_held CHECK (held_amount >= 0 AND held_amount <= balance)
 );
 
--- Create transaction table
+-- Create legacy transaction table (이전 버전의 거래 원장. 아래 backfill 로 분개에 옮기며 애플리케이션은 읽거나 쓰지 않는다)
 CREATE TABLE IF NOT EXISTS transaction (
     id BIGINT PRIMARY KEY,
     account_id BIGINT NOT NULL,
@@ -41,16 +46,138 @@ CREATE TABLE IF NOT EXISTS transaction (
     balance_after_transaction DECIMAL(19,0) NOT NULL,
     fee DECIMAL(19,2),
     related_account_number VARCHAR(20),
+    account_sequence BIGINT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     CONSTRAINT fk_transaction_account FOREIGN KEY (account_id) REFERENCES account(id),
-    CONSTRAINT chk_transaction_type CHECK (type IN ('DEPOSIT', 'WITHDRAWAL', 'TRANSFER_OUT', 'TRANSFER_IN'))
+    CONSTRAINT chk_transaction_type CHECK (type IN ('DEPOSIT', 'WITHDRAWAL', 'TRANSFER_OUT', 'TRANSFER_IN', 'INTEREST'))
+);
+CREATE INDEX IF NOT EXISTS idx_transaction_account_sequence ON transaction (account_id, account_sequence);
+
+-- Create transaction outbox table (외부로 전달할 거래 이벤트, 릴레이가 전달 후 삭제)
+CREATE TABLE IF NOT EXISTS transaction_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    transaction_id BIGINT NOT NULL,
+    account_number VARCHAR(20) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create journal tables (거래 원장. 복식부기 분개 하나가 계좌별 증감 N 개를 담고 분개마다 증감의 합은 0. 은행 계정은 음수 account_id)
+-- 고객 계좌 증감 하나가 거래 내역 한 줄이라 수수료, 거래 후 잔액, 계좌별 순번, 상대 계좌를 함께 둔다. (은행 계정 증감은 NULL)
+-- 분개 유형과 시각도 증감마다 복사해 두어 거래 내역은 journal_entry 와 조인하지 않고 (account_id, account_sequence) 범위만 읽는다.
+CREATE TABLE IF NOT EXISTS journal_entry (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(24) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS journal_posting (
+    entry_id BIGINT NOT NULL,
+    line SMALLINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    type VARCHAR(24) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    fee DECIMAL(19,2) NULL,
+    balance_after DECIMAL(19,0) NULL,
+    account_sequence BIGINT NULL,
+    related_account_number VARCHAR(20) NULL,
+    PRIMARY KEY (entry_id, line)
+);
+
+-- Create scheduled transfer table (예약 / 자동 이체, 실행기가 SKIP LOCKED 로 실행 시각이 된 행을 가져감)
+CREATE TABLE IF NOT EXISTS scheduled_transfer (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    from_account_number VARCHAR(20) NOT NULL,
+    to_account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    repeat_interval VARCHAR(10) NOT NULL DEFAULT 'ONCE',
+    next_run_at DATETIME NOT NULL,
+    end_at DATETIME NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    lease_until DATETIME NULL,
+    last_transaction_id BIGINT NULL,
+    last_error VARCHAR(200) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_scheduled_transfer_status CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    CONSTRAINT chk_scheduled_transfer_repeat CHECK (repeat_interval IN ('ONCE', 'DAILY', 'WEEKLY', 'MONTHLY'))
+);
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfer_due ON scheduled_transfer (status, next_run_at);
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfer_from ON scheduled_transfer (from_account_number);
+
+-- Create transfer saga tables (샤드 간 이체. 출금 샤드에 transfer_saga, 입금 샤드에 transfer_saga_credit 을 남긴다)
+CREATE TABLE IF NOT EXISTS transfer_saga (
+    saga_id VARCHAR(64) PRIMARY KEY,
+    from_account_number VARCHAR(20) NOT NULL,
+    to_account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    fee DECIMAL(19,2) NOT NULL,
+    state VARCHAR(12) NOT NULL,
+    debit_transaction_id BIGINT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(200) NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT chk_transfer_saga_state CHECK (state IN ('DEBITED', 'COMPLETED', 'COMPENSATED'))
+);
+CREATE INDEX IF NOT EXISTS idx_transfer_saga_state ON transfer_saga (state, updated_at);
+CREATE INDEX IF NOT EXISTS idx_transfer_saga_debit_transaction ON transfer_saga (debit_transaction_id);
+
+CREATE TABLE IF NOT EXISTS transfer_saga_credit (
+    saga_id VARCHAR(64) PRIMARY KEY,
+    credit_transaction_id BIGINT NOT NULL,
+    created_at DATETIME NOT NULL
+);
+
+-- Create account hold table (승인 후 매입. 만료된 승인은 정리 워커가 SKIP LOCKED 로 가져가 해제함)
+CREATE TABLE IF NOT EXISTS account_hold (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    captured_amount DECIMAL(19,0) NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'AUTHORIZED',
+    expires_at DATETIME NOT NULL,
+    transaction_id BIGINT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_account_hold_status CHECK (status IN ('AUTHORIZED', 'CAPTURED', 'VOIDED', 'EXPIRED'))
+);
+CREATE INDEX IF NOT EXISTS idx_account_hold_expiry ON account_hold (status, expires_at);
+
+-- Create balance checkpoint table (계좌별 N 건째 거래마다, 그리고 계좌를 만들 때의 잔액. 시점 잔액 조회가 가장 가까운 체크포인트부터 거래를 따라감)
+CREATE TABLE IF NOT EXISTS balance_checkpoint (
+    account_id BIGINT NOT NULL,
+    account_sequence BIGINT NOT NULL,
+    transaction_id BIGINT NULL,
+    balance DECIMAL(19,0) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (account_id, account_sequence)
+);
+CREATE INDEX IF NOT EXISTS idx_balance_checkpoint_time ON balance_checkpoint (account_id, created_at);
+
+-- Create interest accrual checkpoint table (이자 배치의 id 구간별 진행 상황. 청크를 커밋할 때 마지막 계좌 id 를 함께 기록함)
+CREATE TABLE IF NOT EXISTS interest_accrual_partition (
+    accrual_date DATE NOT NULL,
+    start_id BIGINT NOT NULL,
+    end_id BIGINT NOT NULL,
+    last_account_id BIGINT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    accounts BIGINT NOT NULL DEFAULT 0,
+    interest DECIMAL(19,0) NOT NULL DEFAULT 0,
+    lease_until DATETIME NULL,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (accrual_date, start_id),
+    CONSTRAINT chk_interest_accrual_partition_status CHECK (status IN ('PENDING', 'COMPLETED'))
 );
 
 -- Insert account types
-INSERT INTO account_type (code, description, transfer_fee_rate, daily_withdrawal_limit, daily_transfer_limit, active) VALUES
-('NORMAL', '일반 계좌', 0.01, 1000000, 2000000, true),
-('VIP', 'VIP 계좌', 0.005, 5000000, 10000000, true);
+INSERT INTO account_type (code, description, transfer_fee_rate, interest_rate, daily_withdrawal_limit, daily_transfer_limit, active) VALUES
+('NORMAL', '일반 계좌', 0.01, 0.001, 1000000, 2000000, true),
+('VIP', 'VIP 계좌', 0.005, 0.02, 5000000, 10000000, true);
 
 -- Insert test accounts
 INSERT INTO account (account_number, account_type_id, balance, status) VALUES
@@ -121,4 +248,78 @@ SELECT
         WHEN n % 4 IN (2, 3) THEN '1234567890'
         ELSE NULL
     END as related_account_number
-FROM numbers; 
\ No newline at end of file
+FROM numbers;
+
+-- Backfill account ledger sequence and balance checkpoints (거래 순번, 계좌별 거래 건수, 100 건째마다 체크포인트)
+UPDATE transaction t
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY created_at, id) AS seq FROM transaction) s ON s.id = t.id
+SET t.account_sequence = s.seq
+WHERE t.account_sequence IS NULL;
+
+UPDATE account a SET ledger_count = GREATEST(a.ledger_count, (SELECT COUNT(*) FROM transaction t WHERE t.account_id = a.id));
+
+INSERT IGNORE INTO balance_checkpoint (account_id, account_sequence, transaction_id, balance, created_at)
+SELECT account_id, account_sequence, id, balance_after_transaction, created_at
+FROM transaction
+WHERE account_sequence % 100 = 0;
+
+-- Add journal posting columns (기존 DB 의 journal_posting 에 거래 내역 컬럼과 계좌별 순번 / 시각 인덱스를 더한다)
+-- 분개 유형과 시각은 이미 있는 증감을 분개에서 채운 뒤 NOT NULL 로 바꾼다.
+ALTER TABLE journal_posting
+    ADD COLUMN IF NOT EXISTS type VARCHAR(24) NULL AFTER amount,
+    ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NULL AFTER type,
+    ADD COLUMN IF NOT EXISTS fee DECIMAL(19,2) NULL,
+    ADD COLUMN IF NOT EXISTS balance_after DECIMAL(19,0) NULL,
+    ADD COLUMN IF NOT EXISTS account_sequence BIGINT NULL,
+    ADD COLUMN IF NOT EXISTS related_account_number VARCHAR(20) NULL;
+CREATE INDEX IF NOT EXISTS idx_journal_posting_account_sequence ON journal_posting (account_id, account_sequence);
+CREATE INDEX IF NOT EXISTS idx_journal_posting_account_created_at ON journal_posting (account_id, created_at);
+
+UPDATE journal_posting p JOIN journal_entry e ON e.id = p.entry_id
+SET p.type = e.type, p.created_at = e.created_at
+WHERE p.type IS NULL OR p.created_at IS NULL;
+
+-- Backfill journal from legacy transactions (이전 버전은 거래를 계좌별 한 행씩 transaction 에 남겼다. 행 하나를 분개 하나로 옮긴다)
+-- 이체는 출금 / 입금 행이 따로 있어 각 행의 상대편을 샤드 간 이체 정산 계정(-4)으로 두고, 출금 행의 수수료는 수수료 수익(-2)으로 옮긴다.
+-- 분개 id 는 거래 id 를 그대로 쓰므로 여러 번 실행해도 같은 행이 된다.
+INSERT IGNORE INTO journal_entry (id, type, created_at)
+SELECT id, CASE WHEN type IN ('TRANSFER_OUT', 'TRANSFER_IN') THEN 'TRANSFER' ELSE type END, created_at
+FROM transaction;
+
+INSERT IGNORE INTO journal_posting
+    (entry_id, line, account_id, amount, type, created_at, fee, balance_after, account_sequence, related_account_number)
+SELECT id, 1, account_id,
+    CASE type
+        WHEN 'WITHDRAWAL' THEN -amount
+        WHEN 'TRANSFER_OUT' THEN -(amount + COALESCE(fee, 0))
+        ELSE amount
+    END,
+    CASE WHEN type IN ('TRANSFER_OUT', 'TRANSFER_IN') THEN 'TRANSFER' ELSE type END, created_at,
+    CASE WHEN type = 'TRANSFER_OUT' THEN COALESCE(fee, 0) ELSE 0 END,
+    balance_after_transaction, account_sequence, related_account_number
+FROM transaction;
+
+INSERT IGNORE INTO journal_posting (entry_id, line, account_id, amount, type, created_at)
+SELECT id, 2,
+    CASE type WHEN 'INTEREST' THEN -3 WHEN 'TRANSFER_OUT' THEN -4 WHEN 'TRANSFER_IN' THEN -4 ELSE -1 END,
+    CASE WHEN type IN ('WITHDRAWAL', 'TRANSFER_OUT') THEN amount ELSE -amount END,
+    CASE WHEN type IN ('TRANSFER_OUT', 'TRANSFER_IN') THEN 'TRANSFER' ELSE type END, created_at
+FROM transaction;
+
+INSERT IGNORE INTO journal_posting (entry_id, line, account_id, amount, type, created_at)
+SELECT id, 3, -2, fee, 'TRANSFER', created_at
+FROM transaction
+WHERE type = 'TRANSFER_OUT' AND fee > 0;
+
+ALTER TABLE journal_posting
+    MODIFY type VARCHAR(24) NOT NULL,
+    MODIFY created_at TIMESTAMP NOT NULL;
+
+-- Migrate transaction id sequence (기존 DB 의 INCREMENT BY 1 시퀀스를 Transaction.id 의 allocationSize(50) 에 맞춘다)
+-- 이미 쓴 id 와 현재 시퀀스 값보다 뒤에서 다시 시작하므로 여러 번 실행해도 id 가 겹치지 않는다. 샤드마다 실행한다.
+SELECT NEXT VALUE FOR transaction_seq INTO @transaction_seq_next;
+SELECT GREATEST(@transaction_seq_next, COALESCE(MAX(id), 0) + 1) INTO @transaction_seq_next FROM transaction;
+SET @transaction_seq_ddl = CONCAT('ALTER SEQUENCE transaction_seq INCREMENT BY 50 RESTART WITH ', @transaction_seq_next);
+PREPARE transaction_seq_stmt FROM @transaction_seq_ddl;
+EXECUTE transaction_seq_stmt;
+DEALLOCATE PREPARE transaction_seq_stmt;
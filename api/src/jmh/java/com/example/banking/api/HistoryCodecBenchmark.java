@@ -0,0 +1,131 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 내역 1000 건 한 페이지의 응답 인코딩 비용. API 와 같은 매퍼(JSON, CBOR)로 쓰고, gzip 은 Tomcat 과 같은 기본 압축 수준이다.
+ * 크기는 Setup 에서 한 번 출력한다. (embedded 프로파일)
+ *
+ * <ul>
+ *     <li>writeJson / writeCbor: 응답 바이트로 직렬화</li>
+ *     <li>writeJsonGzip / writeCborGzip: 직렬화 + gzip</li>
+ *     <li>readJson / readCbor: 받는 쪽의 파싱 비용 (트리로 읽기)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryCodecBenchmark {
+
+    private static final String ACCOUNT = "BENCH-CODEC";
+    private static final int PAGE_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private Page<TransactionHistoryResponse> page;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        jsonMapper = context.getBean(ObjectMapper.class);
+        cborMapper = context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+
+        AccountService accountService = context.getBean(AccountService.class);
+        TransactionService transactionService = context.getBean(TransactionService.class);
+        accountService.createAccount(ACCOUNT, new BigDecimal("1000000000"));
+        List<PayoutLeg> legs = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String toAccountNumber = "BENCH-C" + i;
+            accountService.createAccount(toAccountNumber, BigDecimal.ZERO);
+            legs.add(new PayoutLeg(toAccountNumber, new BigDecimal("123")));
+        }
+        transactionService.payout(ACCOUNT, legs);
+        page = transactionService.getTransactionHistory(ACCOUNT, PageRequest.of(0, PAGE_SIZE));
+
+        json = writeJson();
+        cbor = writeCbor();
+        System.out.printf("%npayload bytes (%d rows): json=%d, cbor=%d, json+gzip=%d, cbor+gzip=%d%n",
+                page.getNumberOfElements(), json.length, cbor.length, writeJsonGzip().length, writeCborGzip().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeJsonGzip() throws IOException {
+        return gzip(jsonMapper, page);
+    }
+
+    @Benchmark
+    public byte[] writeCborGzip() throws IOException {
+        return gzip(cborMapper, page);
+    }
+
+    @Benchmark
+    public JsonNode readJson() throws IOException {
+        return jsonMapper.readTree(json);
+    }
+
+    @Benchmark
+    public JsonNode readCbor() throws IOException {
+        return cborMapper.readTree(cbor);
+    }
+
+    private static byte[] gzip(ObjectMapper mapper, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 한 페이지(100 / 1000 건) 조회 비용. 메모리는 -Pjmh.profilers=gc 의 gc.alloc.rate.norm (B/op) 으로 본다. (embedded 프로파일)
+ * API 가 쓰는 경로 그대로 계좌의 증감을 분개와 조인해 읽는다. ({@link TransactionService#getTransactionHistory}, count 쿼리 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryReadBenchmark {
+
+    private static final String ACCOUNT = "BENCH-HIST";
+    private static final int HISTORY_SIZE = 1000;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        transactionService = context.getBean(TransactionService.class);
+
+        // 일괄 지급은 PAYOUT 분개 한 건에 출금 계좌 증감을 지급 건마다 남기므로(계좌별 순번도 건마다) 거래 내역을 빠르게 채운다
+        AccountService accountService = context.getBean(AccountService.class);
+        accountService.createAccount(ACCOUNT, new BigDecimal("1000000000")).id();
+        List<PayoutLeg> legs = new ArrayList<>();
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            String toAccountNumber = "BENCH-H" + i;
+            accountService.createAccount(toAccountNumber, BigDecimal.ZERO);
+            legs.add(new PayoutLeg(toAccountNumber, new BigDecimal("100")));
+        }
+        transactionService.payout(ACCOUNT, legs);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<?> journalHistory() {
+        return transactionService.getTransactionHistory(ACCOUNT, PageRequest.of(0, pageSize));
+    }
+}
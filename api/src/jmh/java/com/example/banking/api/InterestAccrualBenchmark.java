@@ -0,0 +1,71 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.interest.accrual.InterestAccrualJob;
+import com.example.banking.domain.interest.accrual.InterestAccrualResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일별 이자 배치 한 번(계좌 100,000 개)에 걸리는 시간. 처리량은 계좌 수 / 시간으로 본다. (embedded 프로파일)
+ * 실행마다 다른 날짜로 돌려 매번 모든 계좌에 이자를 지급한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class InterestAccrualBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+
+    @Param({"1", "4"})
+    private int workers;
+
+    private ConfigurableApplicationContext context;
+    private InterestAccrualJob interestAccrualJob;
+    private LocalDate accrualDate = LocalDate.of(2026, 1, 1);
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0", "logging.level.root=WARN",
+                        "banking.interest.scheduler-enabled=false",
+                        "banking.interest.workers=" + workers,
+                        "banking.interest.partition-size=10000")
+                .run();
+        interestAccrualJob = context.getBean(InterestAccrualJob.class);
+        // VIP 계좌 타입(연 2%)이면 잔액 1,000,000 원에 하루 54 원이 붙는다
+        context.getBean(JdbcTemplate.class).update("INSERT INTO account (account_number, account_type_id, balance, status) "
+                + "SELECT CONCAT('IB', LPAD(CAST(\"X\" AS VARCHAR), 8, '0')), 2, 1000000, 'ACTIVE' FROM SYSTEM_RANGE(1, ?)",
+                ACCOUNTS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public InterestAccrualResult accrue() {
+        accrualDate = accrualDate.plusDays(1);
+        return interestAccrualJob.run(accrualDate);
+    }
+}
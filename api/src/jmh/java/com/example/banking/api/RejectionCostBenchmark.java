@@ -0,0 +1,121 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비즈니스 규칙 거절 경로와 성공 경로의 비용 비교. (embedded 프로파일)
+ *
+ * <ul>
+ *     <li>http*: HTTP 요청 전체 (Tomcat, 예외 핸들러, 응답 직렬화 포함)</li>
+ *     <li>service*: TransactionService 호출만 (HTTP 오버헤드 제외)</li>
+ *     <li>successfulDeposit: 정상 입금 (검증 조회, 잠금, INSERT, UPDATE)</li>
+ *     <li>rejectedSameAccountTransfer: 자기 계좌 이체 - DB 접근 전에 거절</li>
+ *     <li>rejectedInsufficientBalance: 잔액 부족 출금 - 계좌 조회 1회 후 거절</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionCostBenchmark {
+
+    private static final String RICH_ACCOUNT = "BENCH-RICH";
+    private static final String POOR_ACCOUNT = "BENCH-POOR";
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1000");
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0", "logging.level.root=WARN", "banking.error-log.permits-per-second=0")
+                // 잔액 부족 출금이 거래 빈도 한도에 먼저 걸리지 않게 끈다 (application.yml 을 덮도록 명령행 인자로)
+                .run("--banking.velocity.enabled=false");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        transactionService = context.getBean(TransactionService.class);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        post("/api/accounts", "{\"accountNumber\":\"" + RICH_ACCOUNT + "\",\"initialBalance\":1000000000}");
+        post("/api/accounts", "{\"accountNumber\":\"" + POOR_ACCOUNT + "\",\"initialBalance\":0}");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int httpSuccessfulDeposit() throws Exception {
+        return post("/api/accounts/" + RICH_ACCOUNT + "/deposit", "{\"amount\":1000}");
+    }
+
+    @Benchmark
+    public int httpRejectedSameAccountTransfer() throws Exception {
+        return post("/api/accounts/" + RICH_ACCOUNT + "/transfer/" + RICH_ACCOUNT, "{\"amount\":1000}");
+    }
+
+    @Benchmark
+    public int httpRejectedInsufficientBalance() throws Exception {
+        return post("/api/accounts/" + POOR_ACCOUNT + "/withdraw", "{\"amount\":1000}");
+    }
+
+    @Benchmark
+    public Object serviceSuccessfulDeposit() {
+        return transactionService.deposit(RICH_ACCOUNT, AMOUNT);
+    }
+
+    @Benchmark
+    public Object serviceRejectedSameAccountTransfer() {
+        try {
+            return transactionService.transfer(RICH_ACCOUNT, RICH_ACCOUNT, AMOUNT);
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object serviceRejectedInsufficientBalance() {
+        try {
+            return transactionService.withdraw(POOR_ACCOUNT, AMOUNT);
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    private int post(String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
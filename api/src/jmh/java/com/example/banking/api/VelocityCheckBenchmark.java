@@ -0,0 +1,88 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.transaction.type.TransactionType;
+import com.example.banking.domain.transaction.validation.TransactionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 빈도 판정(출금 건수 + 이체 금액 규칙) 한 번의 비용. 계좌 10,000 개를 돌아가며 판정한다. (embedded 프로파일)
+ * 한도를 크게 잡아 모두 통과시키므로 매번 판정과 기록을 함께 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VelocityCheckBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+    private static final BigDecimal AMOUNT = new BigDecimal("1000");
+    private static final long UNLIMITED = Long.MAX_VALUE / 2;
+
+    private ConfigurableApplicationContext context;
+    private TransactionValidator transactionValidator;
+    private String[] accountNumbers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0", "logging.level.root=WARN")
+                // properties() 는 기본값이라 application.yml 의 규칙 한도를 덮지 못하므로 명령행 인자로 넘긴다
+                .run("--banking.velocity.rules.withdrawal-count.limit=" + UNLIMITED,
+                        "--banking.velocity.rules.withdrawal-count.account-types.VIP=" + UNLIMITED,
+                        "--banking.velocity.rules.transfer-amount.limit=" + UNLIMITED,
+                        "--banking.velocity.rules.transfer-amount.account-types.VIP=" + UNLIMITED);
+        transactionValidator = context.getBean(TransactionValidator.class);
+        context.getBean(JdbcTemplate.class).update("INSERT INTO account (account_number, account_type_id, balance, status) "
+                + "SELECT CONCAT('VB', LPAD(CAST(\"X\" AS VARCHAR), 8, '0')), 1, 0, 'ACTIVE' FROM SYSTEM_RANGE(1, ?)",
+                ACCOUNTS);
+
+        // 계좌 id 캐시를 채워 둔다
+        AccountIdCache accountIdCache = context.getBean(AccountIdCache.class);
+        accountNumbers = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountNumbers[i] = String.format("VB%08d", i + 1);
+            accountIdCache.resolve(accountNumbers[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void withdrawal() {
+        transactionValidator.validateVelocity(nextAccount(), TransactionType.WITHDRAWAL, 1, AMOUNT);
+    }
+
+    @Benchmark
+    public void transfer() {
+        transactionValidator.validateVelocity(nextAccount(), TransactionType.TRANSFER_OUT, 1, AMOUNT);
+    }
+
+    private String nextAccount() {
+        next = next + 1 == ACCOUNTS ? 0 : next + 1;
+        return accountNumbers[next];
+    }
+}
@@ -14,11 +14,13 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 })
 @EntityScan(basePackages = {
     "com.example.banking.domain.account.entity",
-    "com.example.banking.domain.transaction.entity"
+    "com.example.banking.domain.transaction.entity",
+    "com.example.banking.domain.hold.entity"
 })
 @EnableJpaRepositories(basePackages = {
     "com.example.banking.domain.account.repository",
-    "com.example.banking.domain.transaction.repository"
+    "com.example.banking.domain.transaction.repository",
+    "com.example.banking.domain.hold.repository"
 })
 public class BankingApplication {
     public static void main(String[] args) {
@@ -1,15 +1,22 @@
 package com.example.banking.api.account.controller;
 
 import com.example.banking.api.account.dto.AccountCreateRequest;
+import com.example.banking.api.etag.AccountETags;
 import com.example.banking.domain.account.dto.AccountResponse;
+import com.example.banking.domain.account.dto.BalanceResponse;
 import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.account.service.BalanceHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "계좌 관리", description = "계좌 생성, 조회, 삭제 API")
 @RestController
 @RequestMapping("/api/accounts")
@@ -17,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
     private final AccountService accountService;
+    private final BalanceHistoryService balanceHistoryService;
+    private final AccountETags accountETags;
 
     @Operation(summary = "계좌 생성", description = "새로운 계좌를 생성합니다.")
     @PostMapping
@@ -25,6 +34,18 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "시점 잔액 조회", description = "asOf 시각(서버 기본 시간대)의 잔액을 조회합니다. asOf 가 없으면 현재 잔액입니다. "
+            + "If-None-Match 가 계좌의 현재 ETag 와 같으면 304 로 응답합니다.")
+    @GetMapping("/{accountNumber}/balance")
+    public ResponseEntity<BalanceResponse> getBalance(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return accountETags.conditional(accountNumber, ifNoneMatch,
+                () -> balanceHistoryService.getBalance(accountNumber, asOf));
+    }
+
     @Operation(summary = "계좌 삭제", description = "계좌를 삭제 처리합니다.")
     @DeleteMapping("/{accountNumber}")
     public ResponseEntity<Void> deleteAccount(@PathVariable String accountNumber) {
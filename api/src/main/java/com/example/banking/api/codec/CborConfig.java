@@ -0,0 +1,26 @@
+package com.example.banking.api.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Accept: application/cbor 응답. JSON 과 같은 Jackson 설정(모듈, 날짜 형식 등)으로 만든 CBOR 매퍼를 써서
+ * 필드 이름과 구조는 JSON 응답(OpenAPI 스키마)과 같고 인코딩만 바이너리다.
+ *
+ * <p>기본 컨버터 목록에서 JSON 컨버터 뒤의 CBOR 컨버터 자리를 대신하므로, Accept 가 없거나 아무 타입이나 받으면 그대로 JSON 으로 응답한다.
+ */
+@Configuration
+public class CborConfig {
+
+    /**
+     * {@link JacksonAutoConfiguration} 의 빌더는 프로토타입 빈이라 팩토리를 바꿔도 JSON 매퍼에 영향이 없다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.banking.api.etag;
+
+import com.example.banking.domain.account.support.AccountWriteStamps;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 단위 조회(거래 내역, 잔액)의 조건부 GET. ETag 는 계좌의 쓰기 버전({@link AccountWriteStamps})으로 만들고,
+ * If-None-Match 가 맞으면 조회 없이 304 로 응답한다.
+ *
+ * <p>버전은 메모리에만 있어 재기동하면 0 부터 다시 세므로 ETag 앞에 인스턴스마다 다른 epoch 를 붙인다.
+ * 다른 인스턴스가 준 ETag 는 맞지 않아 그냥 200 으로 응답한다.
+ * 같은 버전을 JSON / CBOR, gzip 여부와 상관없이 쓰므로 weak ETag 다. (strong ETag 면 Tomcat 이 응답을 압축하지 않는다)
+ *
+ * <p>windowMillis 가 0 보다 크면 ETag 에 시각 구간 번호를 붙여 다른 인스턴스의 쓰기를 놓쳐도 구간이 바뀌면 다시 조회하게 한다. ({@link ETagProperties})
+ */
+public class AccountETags {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AccountWriteStamps accountWriteStamps;
+    private final long windowMillis;
+
+    public AccountETags(AccountWriteStamps accountWriteStamps, long windowMillis) {
+        this.accountWriteStamps = accountWriteStamps;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 버전은 조회 전에 읽는다. 조회 중 커밋된 쓰기가 있으면 응답이 ETag 보다 새로울 뿐이고, 다음 요청에서 버전이 달라 다시 조회한다.
+     * 쓰기가 진행 중이면 ETag 없이 응답한다.
+     */
+    public <T> ResponseEntity<T> conditional(String accountNumber, String ifNoneMatch, Supplier<T> query) {
+        long stamp = accountWriteStamps.stamp(accountNumber);
+        if (stamp < 0) {
+            return ResponseEntity.ok(query.get());
+        }
+        String eTag = windowMillis > 0
+                ? "W/\"" + epoch + "-" + stamp + "-" + System.currentTimeMillis() / windowMillis + "\""
+                : "W/\"" + epoch + "-" + stamp + "\"";
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(query.get());
+    }
+
+    /**
+     * If-None-Match 는 weak 비교라 W/ 접두어는 보지 않는다.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = opaqueTag(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
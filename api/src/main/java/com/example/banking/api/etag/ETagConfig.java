@@ -0,0 +1,16 @@
+package com.example.banking.api.etag;
+
+import com.example.banking.domain.account.support.AccountWriteStamps;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ETagProperties.class)
+public class ETagConfig {
+
+    @Bean
+    public AccountETags accountETags(AccountWriteStamps accountWriteStamps, ETagProperties properties) {
+        return new AccountETags(accountWriteStamps, properties.window().toMillis());
+    }
+}
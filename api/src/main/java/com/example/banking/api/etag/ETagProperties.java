@@ -0,0 +1,21 @@
+package com.example.banking.api.etag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 조회 ETag (banking.etag.*).
+ * window 가 0 보다 크면 ETag 가 window 마다 바뀐다. 다른 인스턴스의 쓰기는 이 인스턴스의 계좌 버전에 반영되지 않으므로,
+ * 여러 인스턴스가 같은 계좌에 쓰는 배포에서는 304 로 낡은 응답을 주는 시간을 window 이내로 제한한다.
+ */
+@ConfigurationProperties(prefix = "banking.etag")
+public record ETagProperties(
+        Duration window
+) {
+    public ETagProperties {
+        if (window == null || window.isNegative()) {
+            window = Duration.ZERO;
+        }
+    }
+}
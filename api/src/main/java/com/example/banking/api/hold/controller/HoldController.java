@@ -0,0 +1,52 @@
+package com.example.banking.api.hold.controller;
+
+import com.example.banking.api.hold.dto.CaptureRequest;
+import com.example.banking.api.hold.dto.HoldRequest;
+import com.example.banking.core.bulkhead.Bulkhead;
+import com.example.banking.domain.hold.dto.HoldResponse;
+import com.example.banking.domain.hold.service.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Hold", description = "출금 승인 / 매입 API")
+@RestController
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+
+    @Operation(summary = "출금 승인", description = "출금 가능 잔액에서 금액을 묶어 둡니다. 유효 기간이 지나면 자동으로 풀립니다.")
+    @PostMapping("/api/accounts/{accountNumber}/holds")
+    @Bulkhead("write")
+    public ResponseEntity<HoldResponse> authorize(
+            @PathVariable String accountNumber,
+            @Valid @RequestBody HoldRequest request
+    ) {
+        return ResponseEntity.ok(holdService.authorize(accountNumber, request.amount(), request.ttl()));
+    }
+
+    @Operation(summary = "매입", description = "승인 금액 안에서 출금합니다. 남은 승인 금액은 풀립니다.")
+    @PostMapping("/api/accounts/{accountNumber}/holds/{holdId}/capture")
+    @Bulkhead("write")
+    public ResponseEntity<HoldResponse> capture(
+            @PathVariable String accountNumber,
+            @PathVariable Long holdId,
+            @Valid @RequestBody CaptureRequest request
+    ) {
+        return ResponseEntity.ok(holdService.capture(accountNumber, holdId, request.amount()));
+    }
+
+    @Operation(summary = "승인 취소", description = "승인을 취소하고 묶인 금액을 풉니다.")
+    @PostMapping("/api/accounts/{accountNumber}/holds/{holdId}/void")
+    @Bulkhead("write")
+    public ResponseEntity<HoldResponse> voidHold(
+            @PathVariable String accountNumber,
+            @PathVariable Long holdId
+    ) {
+        return ResponseEntity.ok(holdService.voidHold(accountNumber, holdId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.banking.api.hold.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+@Schema(description = "매입 요청 DTO")
+public record CaptureRequest(
+        @Schema(description = "매입 금액 (승인 금액 이하)", example = "8000")
+        @NotNull(message = "매입 금액은 필수입니다")
+        BigDecimal amount
+) {}
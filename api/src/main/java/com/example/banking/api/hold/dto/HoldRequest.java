@@ -0,0 +1,17 @@
+package com.example.banking.api.hold.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@Schema(description = "출금 승인 요청 DTO")
+public record HoldRequest(
+        @Schema(description = "승인 금액", example = "10000")
+        @NotNull(message = "승인 금액은 필수입니다")
+        BigDecimal amount,
+
+        @Schema(description = "유효 기간 (ISO-8601, 없으면 기본값)", example = "PT24H")
+        Duration ttl
+) {}
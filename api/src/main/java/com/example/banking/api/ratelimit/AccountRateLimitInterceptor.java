@@ -0,0 +1,44 @@
+package com.example.banking.api.ratelimit;
+
+import com.example.banking.core.error.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 거래 API 요청을 경로의 계좌번호(이체는 출금 계좌) 기준으로 제한한다.
+ * 컨트롤러와 서비스보다 앞에서 판정하므로 한도를 넘은 요청은 DB 커넥션을 잡지 않는다.
+ */
+@RequiredArgsConstructor
+public class AccountRateLimitInterceptor implements HandlerInterceptor {
+
+    private final AccountRateLimiter accountRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String accountNumber = accountNumber(request);
+        if (accountNumber == null) {
+            return true;
+        }
+        long waitNanos = accountRateLimiter.tryAcquire(accountNumber);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(AccountRateLimiter.toRetryAfterSeconds(waitNanos));
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String accountNumber(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return null;
+        }
+        String accountNumber = variables.get("accountNumber");
+        return accountNumber != null ? accountNumber : variables.get("fromAccountNumber");
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.banking.api.ratelimit;
+
+import com.example.banking.core.concurrent.TokenBucketMap;
+import com.example.banking.domain.account.entity.AccountType;
+import com.example.banking.domain.account.repository.AccountTypeRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌번호별 토큰 버킷. 한도는 계좌의 AccountType 코드로 정하며, 판정은 DB 를 거치지 않는다.
+ * 계좌 타입 id 는 {@link AccountIdCache} 에 있을 때만 쓰고, 타입별 한도는 기동할 때 타입 id 별로 만들어 둔다.
+ * 캐시에 없는 계좌(처음 보거나 캐시에서 밀려난 계좌)는 기본 한도의 임시 버킷으로 판정하고,
+ * 이어지는 거래 경로가 캐시를 채우면 그 계좌의 타입 한도로 바꾼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "banking.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccountRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final AccountIdCache accountIdCache;
+    private final AccountTypeRepository accountTypeRepository;
+    private final Map<Long, TokenBucketMap.Limit> limitsByAccountType = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+    private final TokenBucketMap<String> buckets;
+    private final Counter rejected;
+
+    public AccountRateLimiter(
+            AccountIdCache accountIdCache,
+            AccountTypeRepository accountTypeRepository,
+            RateLimitProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.accountIdCache = accountIdCache;
+        this.accountTypeRepository = accountTypeRepository;
+        this.properties = properties;
+        this.buckets = new TokenBucketMap<>(STRIPES, properties.idleTimeout().toNanos());
+        this.rejected = meterRegistry.counter("rate-limit.rejected");
+        Gauge.builder("rate-limit.buckets", buckets, TokenBucketMap::size).register(meterRegistry);
+    }
+
+    /**
+     * 허용되면 0, 거절되면 다시 시도할 수 있을 때까지의 시간(나노초)을 반환한다.
+     */
+    public long tryAcquire(String accountNumber) {
+        long waitNanos = buckets.tryAcquire(accountNumber, this::resolveLimit, properties.defaultLimit());
+        if (waitNanos > 0) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 계좌 타입별 한도를 기동할 때 만들어 두어 요청 처리 중에 계좌 타입을 조회하지 않게 한다.
+     * 이후 추가된 타입이나 기동할 때 읽지 못한 타입은 기본 한도를 쓴다. (계좌 타입은 몇 개뿐이라 크기 제한 없이 둔다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadAccountTypes() {
+        try {
+            for (AccountType accountType : accountTypeRepository.findAll()) {
+                limitsByAccountType.put(accountType.getId(), properties.limitFor(accountType.getCode()));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to preload rate limits by account type, using default limit: {}", e.getMessage());
+        }
+    }
+
+    // 캐시에 없는 계좌는 null 을 주어 임시 버킷(기본 한도)으로 판정하게 한다
+    private TokenBucketMap.Limit resolveLimit(String accountNumber) {
+        AccountRef account = accountIdCache.getIfCached(accountNumber);
+        if (account == null) {
+            return null;
+        }
+        return limitsByAccountType.getOrDefault(account.accountTypeId(), properties.defaultLimit());
+    }
+
+    static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
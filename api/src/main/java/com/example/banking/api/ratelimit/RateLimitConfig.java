@@ -0,0 +1,33 @@
+package com.example.banking.api.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "banking.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final AccountRateLimiter accountRateLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AccountRateLimitInterceptor(accountRateLimiter))
+                .addPathPatterns(
+                        "/api/accounts/*/deposit",
+                        "/api/accounts/*/withdraw",
+                        "/api/accounts/*/transfer/*",
+                        "/api/accounts/*/payouts",
+                        "/api/accounts/*/scheduled-transfers",
+                        "/api/accounts/*/holds",
+                        "/api/accounts/*/holds/*/*",
+                        "/api/accounts/*/transactions",
+                        "/api/accounts/*/balance"
+                );
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.banking.api.ratelimit;
+
+import com.example.banking.core.concurrent.TokenBucketMap.Limit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 계좌별 요청 한도 (banking.rate-limit.*).
+ * accountTypes 는 AccountType 코드(NORMAL, VIP ...)별 한도이며, 없는 코드는 defaultLimit 를 쓴다.
+ */
+@ConfigurationProperties(prefix = "banking.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        Duration idleTimeout,
+        Limit defaultLimit,
+        Map<String, Limit> accountTypes
+) {
+    public RateLimitProperties {
+        if (idleTimeout == null) {
+            idleTimeout = Duration.ofMinutes(1);
+        }
+        if (defaultLimit == null) {
+            defaultLimit = new Limit(20, 40);
+        }
+        if (accountTypes == null) {
+            accountTypes = Map.of();
+        }
+    }
+
+    public Limit limitFor(String accountTypeCode) {
+        if (accountTypeCode == null) {
+            return defaultLimit;
+        }
+        return accountTypes.getOrDefault(accountTypeCode, defaultLimit);
+    }
+}
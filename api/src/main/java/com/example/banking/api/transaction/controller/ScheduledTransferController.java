@@ -0,0 +1,57 @@
+package com.example.banking.api.transaction.controller;
+
+import com.example.banking.api.transaction.dto.ScheduledTransferRequest;
+import com.example.banking.core.bulkhead.Bulkhead;
+import com.example.banking.domain.transaction.dto.ScheduledTransferResponse;
+import com.example.banking.domain.transaction.service.ScheduledTransferService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Scheduled Transfer", description = "예약 / 자동 이체 API")
+@RestController
+@RequiredArgsConstructor
+public class ScheduledTransferController {
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    @Operation(summary = "예약 이체 등록", description = "지정한 시각에 이체를 실행합니다. 반복 주기를 주면 자동 이체로 계속 실행합니다.")
+    @PostMapping("/api/accounts/{fromAccountNumber}/scheduled-transfers")
+    @Bulkhead("write")
+    public ResponseEntity<ScheduledTransferResponse> schedule(
+            @PathVariable String fromAccountNumber,
+            @Valid @RequestBody ScheduledTransferRequest request
+    ) {
+        ScheduledTransferResponse response = scheduledTransferService.schedule(
+                fromAccountNumber,
+                request.toAccountNumber(),
+                request.amount(),
+                request.repeatInterval(),
+                request.firstRunAt(),
+                request.endAt()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "예약 이체 조회", description = "출금 계좌의 예약 이체를 최신 등록순으로 조회합니다.")
+    @GetMapping("/api/accounts/{fromAccountNumber}/scheduled-transfers")
+    @Bulkhead("read")
+    public ResponseEntity<List<ScheduledTransferResponse>> getScheduledTransfers(@PathVariable String fromAccountNumber) {
+        return ResponseEntity.ok(scheduledTransferService.getScheduledTransfers(fromAccountNumber));
+    }
+
+    @Operation(summary = "예약 이체 취소", description = "아직 끝나지 않은 예약 이체를 취소합니다.")
+    @DeleteMapping("/api/accounts/{fromAccountNumber}/scheduled-transfers/{id}")
+    @Bulkhead("write")
+    public ResponseEntity<ScheduledTransferResponse> cancel(
+            @PathVariable String fromAccountNumber,
+            @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(scheduledTransferService.cancel(fromAccountNumber, id));
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.banking.api.transaction.controller;
 
+import com.example.banking.api.etag.AccountETags;
+import com.example.banking.api.transaction.dto.PayoutRequest;
 import com.example.banking.api.transaction.dto.TransactionRequest;
+import com.example.banking.core.bulkhead.Bulkhead;
+import com.example.banking.domain.transaction.dto.PayoutResponse;
 import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
 import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.history.TransactionHistoryCoalescer;
 import com.example.banking.domain.transaction.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +15,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,9 +26,12 @@ import org.springframework.web.bind.annotation.*;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionHistoryCoalescer transactionHistoryCoalescer;
+    private final AccountETags accountETags;
 
     @Operation(summary = "입금", description = "계좌에 입금을 수행합니다.")
     @PostMapping("/api/accounts/{accountNumber}/deposit")
+    @Bulkhead("write")
     public ResponseEntity<TransactionResponse> deposit(
             @PathVariable String accountNumber,
             @Valid @RequestBody TransactionRequest request
@@ -32,6 +42,7 @@ public class TransactionController {
 
     @Operation(summary = "출금", description = "계좌에서 출금을 수행합니다.")
     @PostMapping("/api/accounts/{accountNumber}/withdraw")
+    @Bulkhead("write")
     public ResponseEntity<TransactionResponse> withdraw(
             @PathVariable String accountNumber,
             @Valid @RequestBody TransactionRequest request
@@ -42,6 +53,7 @@ public class TransactionController {
 
     @Operation(summary = "이체", description = "한 계좌에서 다른 계좌로 이체를 수행합니다.")
     @PostMapping("/api/accounts/{fromAccountNumber}/transfer/{toAccountNumber}")
+    @Bulkhead("transfer")
     public ResponseEntity<TransactionResponse> transfer(
             @PathVariable String fromAccountNumber,
             @PathVariable String toAccountNumber,
@@ -51,13 +63,31 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "거래 내역 조회", description = "계좌의 거래 내역을 조회합니다.")
-    @GetMapping("/api/accounts/{accountNumber}/transactions")
+    @Operation(summary = "일괄 지급", description = "한 계좌에서 여러 계좌로 한 번에 이체합니다. 한 건이라도 실패하면 전체가 취소됩니다. "
+            + "Accept: application/cbor 이면 같은 스키마를 CBOR 로 응답합니다.")
+    @PostMapping(value = "/api/accounts/{fromAccountNumber}/payouts",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Bulkhead("transfer")
+    public ResponseEntity<PayoutResponse> payout(
+            @PathVariable String fromAccountNumber,
+            @Valid @RequestBody PayoutRequest request
+    ) {
+        PayoutResponse response = transactionService.payout(fromAccountNumber, request.toLegs());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "거래 내역 조회", description = "계좌의 거래 내역을 조회합니다. "
+            + "Accept: application/cbor 이면 같은 스키마를 CBOR 로 응답합니다. "
+            + "If-None-Match 가 계좌의 현재 ETag 와 같으면 304 로 응답합니다.")
+    @GetMapping(value = "/api/accounts/{accountNumber}/transactions",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Bulkhead("read")
     public ResponseEntity<Page<TransactionHistoryResponse>> getTransactionHistory(
             @PathVariable String accountNumber,
-            Pageable pageable
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        Page<TransactionHistoryResponse> history = transactionService.getTransactionHistory(accountNumber, pageable);
-        return ResponseEntity.ok(history);
+        return accountETags.conditional(accountNumber, ifNoneMatch,
+                () -> transactionHistoryCoalescer.getTransactionHistory(accountNumber, pageable));
     }
 }
\ No newline at end of file
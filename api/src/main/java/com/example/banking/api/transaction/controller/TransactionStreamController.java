@@ -0,0 +1,36 @@
+package com.example.banking.api.transaction.controller;
+
+import com.example.banking.api.transaction.stream.TransactionStreamBroadcaster;
+import com.example.banking.core.validation.CommonValidator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Transaction", description = "거래 API")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "banking.transaction-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionStreamController {
+
+    private final TransactionStreamBroadcaster transactionStreamBroadcaster;
+    private final CommonValidator commonValidator;
+
+    @Operation(summary = "거래 스트림 구독", description = "커밋된 거래를 Server-Sent Events 로 받습니다. accountNumber 를 주면 해당 계좌의 거래만 받습니다.")
+    @GetMapping(value = "/api/transactions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) String accountNumber,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        if (accountNumber != null) {
+            commonValidator.validateAccountNumberFormat(accountNumber);
+        }
+        return transactionStreamBroadcaster.subscribe(accountNumber, lastEventId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.banking.api.transaction.dto;
+
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.validation.TransactionValidator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "일괄 지급 요청 DTO")
+public record PayoutRequest(
+        @Schema(description = "지급 목록")
+        @NotEmpty(message = "지급 목록은 필수입니다")
+        @Size(max = TransactionValidator.MAX_PAYOUT_LEGS, message = "지급 건수가 너무 많습니다")
+        List<@Valid @NotNull Leg> legs
+) {
+
+    public List<PayoutLeg> toLegs() {
+        return legs.stream()
+                .map(leg -> new PayoutLeg(leg.toAccountNumber(), leg.amount()))
+                .toList();
+    }
+
+    @Schema(description = "지급 한 건")
+    public record Leg(
+            @Schema(description = "입금 계좌 번호", example = "2345678910")
+            @NotBlank(message = "입금 계좌 번호는 필수입니다")
+            String toAccountNumber,
+
+            @Schema(description = "지급 금액", example = "10000")
+            @NotNull(message = "지급 금액은 필수입니다")
+            BigDecimal amount
+    ) {}
+}
@@ -0,0 +1,31 @@
+package com.example.banking.api.transaction.dto;
+
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "예약 이체 요청 DTO")
+public record ScheduledTransferRequest(
+        @Schema(description = "입금 계좌 번호", example = "2345678910")
+        @NotBlank(message = "입금 계좌 번호는 필수입니다")
+        String toAccountNumber,
+
+        @Schema(description = "이체 금액", example = "10000")
+        @NotNull(message = "이체 금액은 필수입니다")
+        BigDecimal amount,
+
+        @Schema(description = "반복 주기", example = "MONTHLY")
+        @NotNull(message = "반복 주기는 필수입니다")
+        RepeatInterval repeatInterval,
+
+        @Schema(description = "첫 실행 시각", example = "2025-01-25T09:00:00")
+        @NotNull(message = "첫 실행 시각은 필수입니다")
+        LocalDateTime firstRunAt,
+
+        @Schema(description = "반복 종료 시각 (없으면 계속 반복)", example = "2025-12-25T09:00:00")
+        LocalDateTime endAt
+) {}
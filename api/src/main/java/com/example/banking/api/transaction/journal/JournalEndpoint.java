@@ -0,0 +1,25 @@
+package com.example.banking.api.transaction.journal;
+
+import com.example.banking.domain.transaction.journal.JournalVerification;
+import com.example.banking.domain.transaction.journal.JournalVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/journal: 분개 전체를 훑어 분개마다 증감의 합이 0 인지 확인한다.
+ * 분개 수에 비례해 오래 걸리므로 운영 중에는 한가한 시간에 호출한다.
+ */
+@Component
+@Endpoint(id = "journal")
+@RequiredArgsConstructor
+public class JournalEndpoint {
+
+    private final JournalVerifier journalVerifier;
+
+    @ReadOperation
+    public JournalVerification verify() {
+        return journalVerifier.verify();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.banking.api.transaction.stream;
+
+import com.example.banking.core.concurrent.BroadcastRingBuffer;
+import com.example.banking.core.error.ServiceBusyException;
+import com.example.banking.domain.transaction.event.TransactionEventStream;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋된 거래 스트림을 SSE 구독자에게 나눠 보낸다.
+ *
+ * <p>디스패처 스레드 하나가 주기적으로 구독자마다 자기 커서부터 batch-size 건까지 읽고, 실제 전송(막힐 수 있는 emitter.send)은 전송 스레드에 넘긴다.
+ * 구독자마다 한 번에 한 묶음만 보내며, 앞 묶음을 보내는 중인 구독자는 건너뛴다.
+ * 그래서 읽지 않는 구독자가 있어도 다른 구독자와 쓰기 요청은 막히지 않는다.
+ * 한 묶음을 send-timeout 안에 못 보낸 구독자는 끊는다.
+ * 느린 구독자는 한 번에 batch-size 건만 받으며 밀리고, 버퍼 한 바퀴 이상 뒤처지면 "lagged" 이벤트를 받고 끊긴다.
+ * 클라이언트는 Last-Event-ID 로 다시 연결해 버퍼에 남아 있는 지점부터 이어 받을 수 있다.
+ */
+@Slf4j
+public class TransactionStreamBroadcaster implements SmartLifecycle {
+
+    private final TransactionEventStream stream;
+    private final TransactionStreamProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<TransactionStreamSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder lagged = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+
+    private ScheduledExecutorService dispatcher;
+    private ThreadPoolExecutor sender;
+
+    public TransactionStreamBroadcaster(
+            TransactionEventStream stream,
+            TransactionStreamProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.stream = stream;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * accountNumber 가 null 이면 모든 거래를 받는다.
+     * lastEventId 가 있으면 그 다음 시퀀스부터 (버퍼에 남아 있는 만큼) 보낸다.
+     */
+    public SseEmitter subscribe(String accountNumber, Long lastEventId) {
+        return subscribe(new SseEmitter(properties.timeout().toMillis()), accountNumber, lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String accountNumber, Long lastEventId) {
+        if (subscriptions.size() >= properties.maxSubscribers()) {
+            throw new ServiceBusyException();
+        }
+        TransactionStreamSubscription subscription =
+                new TransactionStreamSubscription(emitter, accountNumber, startCursor(lastEventId), System.nanoTime());
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    private long startCursor(Long lastEventId) {
+        long cursor = stream.cursor();
+        if (lastEventId == null || lastEventId + 1 > cursor) {
+            return cursor;
+        }
+        return Math.max(lastEventId + 1, stream.oldest());
+    }
+
+    /**
+     * 모든 구독자에게 새 거래를 보낸다. 디스패처 스레드에서만 호출한다.
+     */
+    void dispatch() {
+        long now = System.nanoTime();
+        for (TransactionStreamSubscription subscription : subscriptions) {
+            dispatch(subscription, now);
+        }
+    }
+
+    private void dispatch(TransactionStreamSubscription subscription, long now) {
+        if (subscription.sending()) {
+            if (now - subscription.sendStartedAt() >= properties.sendTimeout().toNanos()) {
+                stalled.increment();
+                log.info("Dropping transaction stream subscriber stalled for {}ms", (now - subscription.sendStartedAt()) / 1_000_000);
+                drop(subscription);
+            }
+            return;
+        }
+        if (subscription.failed()) {
+            close(subscription);
+            return;
+        }
+        List<SseEmitter.SseEventBuilder> batch = new ArrayList<>();
+        long next = stream.read(subscription.cursor(), properties.batchSize(), (event, sequence) -> {
+            if (subscription.matches(event)) {
+                batch.add(TransactionStreamSubscription.event(event, sequence));
+            }
+        });
+        if (next == BroadcastRingBuffer.LAPPED) {
+            lagged.increment();
+            subscriptions.remove(subscription);
+            if (!send(subscription, List.of(SseEmitter.event()
+                    .name("lagged")
+                    .data(Map.of("oldest", stream.oldest()))), now, true)) {
+                complete(subscription);
+            }
+            return;
+        }
+        if (batch.isEmpty() && now - subscription.lastSentAt() >= properties.heartbeat().toNanos()) {
+            batch.add(SseEmitter.event().comment("heartbeat"));
+        }
+        if (batch.isEmpty() || send(subscription, batch, now, false)) {
+            subscription.advance(next);
+        }
+    }
+
+    /**
+     * 전송 스레드에 넘긴다. 스레드가 모자라면 넘기지 않고 다음 주기에 같은 커서부터 다시 읽는다.
+     */
+    private boolean send(TransactionStreamSubscription subscription, List<SseEmitter.SseEventBuilder> batch, long now, boolean last) {
+        subscription.startSending(now);
+        try {
+            sender.execute(() -> {
+                subscription.send(batch);
+                if (last || subscription.failed()) {
+                    close(subscription);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            subscription.cancelSending();
+            return false;
+        }
+    }
+
+    private void close(TransactionStreamSubscription subscription) {
+        subscriptions.remove(subscription);
+        complete(subscription);
+    }
+
+    /**
+     * emitter.complete 는 막혀 있는 send 와 같은 락을 잡으므로 전송 스레드에서 끝낸다.
+     * 스레드가 모자라면 목록에서만 빼고, 응답은 emitter 타임아웃에 맡긴다.
+     */
+    private void drop(TransactionStreamSubscription subscription) {
+        subscriptions.remove(subscription);
+        try {
+            sender.execute(() -> complete(subscription));
+        } catch (RejectedExecutionException e) {
+            // 끊긴 연결의 send 가 실패하거나 타임아웃되면 컨테이너가 정리한다.
+        }
+    }
+
+    private static void complete(TransactionStreamSubscription subscription) {
+        try {
+            subscription.emitter().complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 응답
+        }
+    }
+
+    int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("transaction.stream.subscribers", subscriptions, List::size).register(registry);
+            FunctionCounter.builder("transaction.stream.published", stream, TransactionEventStream::cursor).register(registry);
+            FunctionCounter.builder("transaction.stream.lagged", lagged, LongAdder::sum).register(registry);
+            FunctionCounter.builder("transaction.stream.stalled", stalled, LongAdder::sum).register(registry);
+        });
+        // 구독자마다 전송은 하나씩이라 보통 max-subscribers 개면 충분하고, 끊은 뒤에도 막혀 있는 전송 몫을 더 둔다.
+        AtomicInteger senders = new AtomicInteger();
+        sender = new ThreadPoolExecutor(0, properties.maxSubscribers() * 2, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "transaction-stream-send-" + senders.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transaction-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.dispatchInterval().toMillis();
+        dispatcher.scheduleWithFixedDelay(this::dispatchQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch transaction stream", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+            dispatcher = null;
+        }
+        if (sender != null) {
+            sender.shutdownNow();
+            sender = null;
+        }
+        // 보내는 중인 구독자의 complete 는 막힐 수 있어 목록에서만 뺀다.
+        for (TransactionStreamSubscription subscription : subscriptions) {
+            if (subscription.sending()) {
+                subscriptions.remove(subscription);
+            } else {
+                close(subscription);
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return dispatcher != null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.banking.api.transaction.stream;
+
+import com.example.banking.domain.transaction.event.TransactionEventStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TransactionStreamProperties.class)
+@ConditionalOnProperty(prefix = "banking.transaction-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionStreamConfig {
+
+    @Bean
+    public TransactionStreamBroadcaster transactionStreamBroadcaster(
+            TransactionEventStream transactionEventStream,
+            TransactionStreamProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new TransactionStreamBroadcaster(transactionEventStream, properties, meterRegistry);
+    }
+}
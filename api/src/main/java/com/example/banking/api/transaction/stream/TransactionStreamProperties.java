@@ -0,0 +1,41 @@
+package com.example.banking.api.transaction.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 거래 스트림 구독 (banking.transaction-stream.*).
+ * 링 버퍼 크기(buffer-size)는 도메인의 TransactionEventStream 이 읽는다.
+ */
+@ConfigurationProperties(prefix = "banking.transaction-stream")
+public record TransactionStreamProperties(
+        boolean enabled,
+        int maxSubscribers,
+        int batchSize,
+        Duration dispatchInterval,
+        Duration heartbeat,
+        Duration timeout,
+        Duration sendTimeout
+) {
+    public TransactionStreamProperties {
+        if (maxSubscribers <= 0) {
+            maxSubscribers = 100;
+        }
+        if (batchSize <= 0) {
+            batchSize = 256;
+        }
+        if (dispatchInterval == null) {
+            dispatchInterval = Duration.ofMillis(50);
+        }
+        if (heartbeat == null) {
+            heartbeat = Duration.ofSeconds(15);
+        }
+        if (timeout == null) {
+            timeout = Duration.ofMinutes(30);
+        }
+        if (sendTimeout == null) {
+            sendTimeout = Duration.ofSeconds(5);
+        }
+    }
+}
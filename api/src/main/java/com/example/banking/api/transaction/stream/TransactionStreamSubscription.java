@@ -0,0 +1,99 @@
+package com.example.banking.api.transaction.stream;
+
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 구독자 한 명의 상태. 커서는 디스패처 스레드만 바꾸고, 전송은 전송 스레드에서 구독자마다 한 번에 한 묶음씩 한다.
+ */
+class TransactionStreamSubscription {
+
+    private final SseEmitter emitter;
+    private final String accountNumber;
+    private long cursor;
+    private volatile long lastSentAt;
+    private volatile long sendStartedAt;
+    private volatile boolean sending;
+    private volatile boolean failed;
+
+    TransactionStreamSubscription(SseEmitter emitter, String accountNumber, long cursor, long now) {
+        this.emitter = emitter;
+        this.accountNumber = accountNumber;
+        this.cursor = cursor;
+        this.lastSentAt = now;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    void advance(long next) {
+        this.cursor = next;
+    }
+
+    boolean failed() {
+        return failed;
+    }
+
+    long lastSentAt() {
+        return lastSentAt;
+    }
+
+    boolean sending() {
+        return sending;
+    }
+
+    long sendStartedAt() {
+        return sendStartedAt;
+    }
+
+    boolean matches(TransactionRecordedEvent event) {
+        return accountNumber == null || accountNumber.equals(event.accountNumber());
+    }
+
+    static SseEmitter.SseEventBuilder event(TransactionRecordedEvent event, long sequence) {
+        return SseEmitter.event()
+                .id(Long.toString(sequence))
+                .name("transaction")
+                .data(event);
+    }
+
+    /**
+     * 디스패처 스레드에서 전송을 넘기기 전에 호출한다. 전송이 끝날 때까지 디스패처는 이 구독자를 건너뛴다.
+     */
+    void startSending(long now) {
+        this.sendStartedAt = now;
+        this.lastSentAt = now;
+        this.sending = true;
+    }
+
+    /**
+     * 전송 스레드에 넘기지 못했을 때 되돌린다.
+     */
+    void cancelSending() {
+        this.sending = false;
+    }
+
+    /**
+     * 전송 스레드에서 호출한다. emitter.send 는 클라이언트가 읽지 않으면 막힐 수 있다.
+     */
+    void send(List<SseEmitter.SseEventBuilder> batch) {
+        try {
+            for (SseEmitter.SseEventBuilder event : batch) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 구독. 디스패처가 목록에서 뺀다.
+            failed = true;
+        } finally {
+            sending = false;
+        }
+    }
+}
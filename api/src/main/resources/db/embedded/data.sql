@@ -0,0 +1,12 @@
+-- init.sql 과 동일한 기본 데이터
+INSERT INTO account_type (code, description, transfer_fee_rate, interest_rate, daily_withdrawal_limit, daily_transfer_limit, active) VALUES
+('NORMAL', '일반 계좌', 0.01, 0.001, 1000000, 2000000, true),
+('VIP', 'VIP 계좌', 0.005, 0.02, 5000000, 10000000, true);
+
+INSERT INTO account (account_number, account_type_id, balance, status) VALUES
+('1234567890', 1, 1000000, 'ACTIVE'),
+('2345678901', 2, 5000000, 'ACTIVE');
+
+-- 계좌를 만들 때의 잔액 (시점 잔액 조회의 시작점)
+INSERT INTO balance_checkpoint (account_id, account_sequence, transaction_id, balance, created_at)
+SELECT id, 0, NULL, balance, created_at FROM account;
@@ -0,0 +1,152 @@
+-- init.sql 과 동일한 스키마 (H2 MariaDB 호환 모드)
+CREATE SEQUENCE IF NOT EXISTS transaction_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS account_type (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(20) NOT NULL UNIQUE,
+    description VARCHAR(100) NOT NULL,
+    transfer_fee_rate DECIMAL(5,4) NOT NULL,
+    interest_rate DECIMAL(7,6) NOT NULL DEFAULT 0,
+    daily_withdrawal_limit DECIMAL(19,0) NOT NULL,
+    daily_transfer_limit DECIMAL(19,0) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS account (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_number VARCHAR(20) NOT NULL UNIQUE,
+    account_type_id BIGINT NOT NULL,
+    balance DECIMAL(19,0) NOT NULL DEFAULT 0,
+    held_amount DECIMAL(19,0) NOT NULL DEFAULT 0,
+    ledger_count BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(10) NOT NULL DEFAULT 'ACTIVE',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT fk_account_type FOREIGN KEY (account_type_id) REFERENCES account_type(id),
+    CONSTRAINT chk_account_status CHECK (status IN ('ACTIVE', 'INACTIVE', 'DELETED')),
+    CONSTRAINT chk_account_held CHECK (held_amount >= 0 AND held_amount <= balance)
+);
+
+CREATE TABLE IF NOT EXISTS transaction_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    transaction_id BIGINT NOT NULL,
+    account_number VARCHAR(20) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create journal tables (거래 원장. 복식부기 분개 하나가 계좌별 증감 N 개를 담고 분개마다 증감의 합은 0. 은행 계정은 음수 account_id)
+-- 고객 계좌 증감 하나가 거래 내역 한 줄이라 수수료, 거래 후 잔액, 계좌별 순번, 상대 계좌를 함께 둔다. (은행 계정 증감은 NULL)
+-- 분개 유형과 시각도 증감마다 복사해 두어 거래 내역은 journal_entry 와 조인하지 않고 (account_id, account_sequence) 범위만 읽는다.
+CREATE TABLE IF NOT EXISTS journal_entry (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(24) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS journal_posting (
+    entry_id BIGINT NOT NULL,
+    line SMALLINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    type VARCHAR(24) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    fee DECIMAL(19,2) NULL,
+    balance_after DECIMAL(19,0) NULL,
+    account_sequence BIGINT NULL,
+    related_account_number VARCHAR(20) NULL,
+    PRIMARY KEY (entry_id, line)
+);
+CREATE INDEX IF NOT EXISTS idx_journal_posting_account_sequence ON journal_posting (account_id, account_sequence);
+-- 일일 한도 합계는 계좌의 그날 증감만 읽는다
+CREATE INDEX IF NOT EXISTS idx_journal_posting_account_created_at ON journal_posting (account_id, created_at);
+
+CREATE TABLE IF NOT EXISTS scheduled_transfer (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    from_account_number VARCHAR(20) NOT NULL,
+    to_account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    repeat_interval VARCHAR(10) NOT NULL DEFAULT 'ONCE',
+    next_run_at DATETIME NOT NULL,
+    end_at DATETIME NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    lease_until DATETIME NULL,
+    last_transaction_id BIGINT NULL,
+    last_error VARCHAR(200) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_scheduled_transfer_status CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    CONSTRAINT chk_scheduled_transfer_repeat CHECK (repeat_interval IN ('ONCE', 'DAILY', 'WEEKLY', 'MONTHLY'))
+);
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfer_due ON scheduled_transfer (status, next_run_at);
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfer_from ON scheduled_transfer (from_account_number);
+
+CREATE TABLE IF NOT EXISTS transfer_saga (
+    saga_id VARCHAR(64) PRIMARY KEY,
+    from_account_number VARCHAR(20) NOT NULL,
+    to_account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    fee DECIMAL(19,2) NOT NULL,
+    state VARCHAR(12) NOT NULL,
+    debit_transaction_id BIGINT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(200) NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT chk_transfer_saga_state CHECK (state IN ('DEBITED', 'COMPLETED', 'COMPENSATED'))
+);
+CREATE INDEX IF NOT EXISTS idx_transfer_saga_state ON transfer_saga (state, updated_at);
+-- 일일 이체 한도에서 보상된 출금을 뺄 때 출금 분개로 찾는다
+CREATE INDEX IF NOT EXISTS idx_transfer_saga_debit_transaction ON transfer_saga (debit_transaction_id);
+
+CREATE TABLE IF NOT EXISTS transfer_saga_credit (
+    saga_id VARCHAR(64) PRIMARY KEY,
+    credit_transaction_id BIGINT NOT NULL,
+    created_at DATETIME NOT NULL
+);
+
+-- Create account hold table (승인 후 매입. 만료된 승인은 정리 워커가 SKIP LOCKED 로 가져가 해제함)
+CREATE TABLE IF NOT EXISTS account_hold (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    account_number VARCHAR(20) NOT NULL,
+    amount DECIMAL(19,0) NOT NULL,
+    captured_amount DECIMAL(19,0) NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'AUTHORIZED',
+    expires_at DATETIME NOT NULL,
+    transaction_id BIGINT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_account_hold_status CHECK (status IN ('AUTHORIZED', 'CAPTURED', 'VOIDED', 'EXPIRED'))
+);
+CREATE INDEX IF NOT EXISTS idx_account_hold_expiry ON account_hold (status, expires_at);
+
+-- Create balance checkpoint table (계좌별 N 건째 거래마다, 그리고 계좌를 만들 때의 잔액. 시점 잔액 조회가 가장 가까운 체크포인트부터 거래를 따라감)
+CREATE TABLE IF NOT EXISTS balance_checkpoint (
+    account_id BIGINT NOT NULL,
+    account_sequence BIGINT NOT NULL,
+    transaction_id BIGINT NULL,
+    balance DECIMAL(19,0) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (account_id, account_sequence)
+);
+CREATE INDEX IF NOT EXISTS idx_balance_checkpoint_time ON balance_checkpoint (account_id, created_at);
+
+-- Create interest accrual checkpoint table (이자 배치의 id 구간별 진행 상황. 청크를 커밋할 때 마지막 계좌 id 를 함께 기록함)
+CREATE TABLE IF NOT EXISTS interest_accrual_partition (
+    accrual_date DATE NOT NULL,
+    start_id BIGINT NOT NULL,
+    end_id BIGINT NOT NULL,
+    last_account_id BIGINT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    accounts BIGINT NOT NULL DEFAULT 0,
+    interest DECIMAL(19,0) NOT NULL DEFAULT 0,
+    lease_until DATETIME NULL,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (accrual_date, start_id),
+    CONSTRAINT chk_interest_accrual_partition_status CHECK (status IN ('PENDING', 'COMPLETED'))
+);
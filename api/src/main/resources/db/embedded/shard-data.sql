@@ -0,0 +1,4 @@
+-- 샤드마다 넣는 기본 데이터. 계좌 타입은 모든 샤드에 같은 id 로 둔다 (계좌는 계좌번호의 샤드에 따로 만든다)
+INSERT INTO account_type (code, description, transfer_fee_rate, interest_rate, daily_withdrawal_limit, daily_transfer_limit, active) VALUES
+('NORMAL', '일반 계좌', 0.01, 0.001, 1000000, 2000000, true),
+('VIP', 'VIP 계좌', 0.005, 0.02, 5000000, 10000000, true);
@@ -0,0 +1,108 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.CommonErrorCode;
+import com.example.banking.core.jdbc.SqlStatementBudget;
+import com.example.banking.domain.account.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 계좌별 요청 한도. 한 계좌에 요청이 몰려도 다른 계좌는 영향을 받지 않고, 거절은 DB 를 거치지 않는다.
+ */
+@SpringBootTest(properties = {
+        "banking.rate-limit.default-limit.permits-per-second=0.1",
+        "banking.rate-limit.default-limit.burst=3",
+        "banking.rate-limit.account-types.VIP.permits-per-second=0.1",
+        "banking.rate-limit.account-types.VIP.burst=6"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class AccountRateLimitTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String floodedAccountNumber;
+    private String otherAccountNumber;
+
+    @BeforeEach
+    void setUp() {
+        floodedAccountNumber = "RL" + SEQUENCE.incrementAndGet();
+        otherAccountNumber = "RL" + SEQUENCE.incrementAndGet();
+        accountService.createAccount(floodedAccountNumber, new BigDecimal("1000000"));
+        accountService.createAccount(otherAccountNumber, new BigDecimal("1000000"));
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 계좌는 429 로 거절하고, 다른 계좌는 그대로 처리한다")
+    void flooded_rejected_othersServed() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            deposit(floodedAccountNumber).andExpect(status().isOk());
+        }
+
+        // when & then
+        deposit(floodedAccountNumber)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"))
+                .andExpect(jsonPath("$.code").value(CommonErrorCode.TOO_MANY_REQUESTS.getCode()));
+        deposit(otherAccountNumber).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 SQL 을 실행하지 않는다")
+    void rejected_noSql() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            deposit(floodedAccountNumber);
+        }
+
+        // when & then
+        SqlStatementBudget.of("rejected deposit")
+                .statements(0)
+                .assertWithin(() -> {
+                    try {
+                        deposit(floodedAccountNumber).andExpect(status().isTooManyRequests());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("한도는 AccountType 코드별로 정해진다")
+    void limitByAccountType() throws Exception {
+        // 2345678901 은 data.sql 의 VIP 계좌
+        for (int i = 0; i < 6; i++) {
+            deposit("2345678901").andExpect(status().isOk());
+        }
+        deposit("2345678901").andExpect(status().isTooManyRequests());
+    }
+
+    private ResultActions deposit(String accountNumber) throws Exception {
+        return mockMvc.perform(post("/api/accounts/{accountNumber}/deposit", accountNumber)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\": 1000}"));
+    }
+}
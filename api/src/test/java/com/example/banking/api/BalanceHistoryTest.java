@@ -0,0 +1,96 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.account.dto.BalanceResponse;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.account.service.BalanceHistoryService;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시점 잔액 조회. 체크포인트를 3 건마다 남기게 해 체크포인트 사이 거래를 따라가는 경로를 거치게 한다.
+ */
+@SpringBootTest(properties = "banking.balance-checkpoint.every=3")
+@ActiveProfiles("embedded")
+class BalanceHistoryTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceHistoryService balanceHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone}")
+    private String jdbcTimeZone;
+
+    @Test
+    @DisplayName("개설 시점과 every 건째 거래마다 체크포인트를 남기고, 각 거래 시각의 잔액을 그대로 돌려준다")
+    void getBalance_replaysFromNearestCheckpoint() {
+        // given
+        String accountNumber = "BH-REPLAY";
+        accountService.createAccount(accountNumber, new BigDecimal("1000"));
+        for (int i = 1; i <= 7; i++) {
+            transactionService.deposit(accountNumber, new BigDecimal(i * 100));
+        }
+
+        // when
+        List<Long> checkpoints = jdbcTemplate.queryForList("SELECT c.account_sequence FROM balance_checkpoint c "
+                + "JOIN account a ON a.id = c.account_id WHERE a.account_number = ? ORDER BY c.account_sequence",
+                Long.class, accountNumber);
+        List<Map<String, Object>> transactions = jdbcTemplate.queryForList("SELECT p.balance_after, p.created_at "
+                + "FROM journal_posting p JOIN account a ON a.id = p.account_id "
+                + "WHERE a.account_number = ? ORDER BY p.account_sequence", accountNumber);
+
+        // then
+        assertThat(checkpoints).containsExactly(0L, 3L, 6L);
+        assertThat(transactions).hasSize(7);
+        for (Map<String, Object> transaction : transactions) {
+            // 저장된 시각(hibernate.jdbc.time_zone)을 조회 시각의 기준인 JVM 기본 시간대로 바꾼다
+            LocalDateTime createdAt = ((Timestamp) transaction.get("created_at")).toLocalDateTime()
+                    .atZone(ZoneId.of(jdbcTimeZone)).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            assertThat(balanceHistoryService.getBalance(accountNumber, createdAt).balance())
+                    .isEqualByComparingTo((BigDecimal) transaction.get("balance_after"));
+        }
+        BalanceResponse current = balanceHistoryService.getBalance(accountNumber, null);
+        assertThat(current.balance()).isEqualByComparingTo("3800");
+        assertThat(balanceHistoryService.getBalance(accountNumber, LocalDateTime.now().plusDays(1)).balance())
+                .isEqualByComparingTo("3800");
+    }
+
+    @Test
+    @DisplayName("계좌 개설 이전 시각이면 예외가 발생한다")
+    void getBalance_beforeOpening() {
+        // given
+        String accountNumber = "BH-BEFORE";
+        accountService.createAccount(accountNumber, new BigDecimal("1000"));
+
+        // when & then
+        assertThatThrownBy(() -> balanceHistoryService.getBalance(accountNumber, LocalDateTime.of(2000, 1, 1, 0, 0)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(AccountErrorCode.BALANCE_HISTORY_UNAVAILABLE);
+    }
+}
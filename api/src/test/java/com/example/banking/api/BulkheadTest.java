@@ -0,0 +1,92 @@
+package com.example.banking.api;
+
+import com.example.banking.core.bulkhead.WorkloadContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 쓰기 구획의 커넥션이 모두 잡혀 있어도 조회는 자기 구획의 커넥션으로 바로 처리된다.
+ */
+@SpringBootTest(properties = {
+        "banking.bulkhead.compartments.read.max-concurrent=2",
+        "banking.bulkhead.compartments.write.max-concurrent=2",
+        "banking.bulkhead.compartments.transfer.max-concurrent=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class BulkheadTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("쓰기 구획 커넥션이 고갈되어도 조회는 제한 시간 안에 커넥션을 얻는다")
+    void writePoolsExhausted_readServed() throws Exception {
+        // given
+        List<Connection> held = new ArrayList<>();
+        try {
+            held.addAll(exhaust("write", 2));
+            held.addAll(exhaust("transfer", 2));
+            assertThat(activeConnections("banking-write")).isEqualTo(maxConnections("banking-write"));
+            assertThat(activeConnections("banking-transfer")).isEqualTo(maxConnections("banking-transfer"));
+
+            // when
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/accounts/{accountNumber}/transactions", "1234567890"))
+                    .andExpect(status().isOk());
+
+            // then
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private double activeConnections(String pool) {
+        return meterRegistry.get("hikaricp.connections.active").tag("pool", pool).gauge().value();
+    }
+
+    private double maxConnections(String pool) {
+        return meterRegistry.get("hikaricp.connections.max").tag("pool", pool).gauge().value();
+    }
+
+    private List<Connection> exhaust(String workload, int size) throws Exception {
+        List<Connection> connections = new ArrayList<>();
+        String outer = WorkloadContext.enter(workload);
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                // 지연 커넥션 프록시라 SQL 을 실행해야 풀에서 커넥션을 빌린다.
+                connection.createStatement().close();
+                connections.add(connection);
+            }
+        } finally {
+            WorkloadContext.restore(outer);
+        }
+        return connections;
+    }
+}
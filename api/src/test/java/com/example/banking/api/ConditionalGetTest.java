@@ -0,0 +1,94 @@
+package com.example.banking.api;
+
+import com.example.banking.core.jdbc.SqlStatementBudget;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 거래 내역과 잔액 조회는 계좌 버전으로 만든 ETag 를 주고, If-None-Match 가 맞으면 조회 없이 304 로 응답한다.
+ */
+@SpringBootTest(properties = "banking.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class ConditionalGetTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("거래 내역: 쓰기가 없으면 SQL 없이 304, 거래가 커밋되면 새 ETag 로 200")
+    void history() throws Exception {
+        // given
+        accountService.createAccount("CG-1", new BigDecimal("10000"));
+        transactionService.deposit("CG-1", new BigDecimal("1000"));
+        String path = "/api/accounts/CG-1/transactions";
+        String eTag = eTag(mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn());
+
+        // when & then
+        SqlStatementBudget.of("history 304")
+            .statements(0)
+            .assertWithin(() -> perform(path, eTag, 304));
+
+        transactionService.deposit("CG-1", new BigDecimal("2000"));
+        MvcResult changed = perform(path, eTag, 200);
+        assertThat(eTag(changed)).isNotEqualTo(eTag);
+        assertThat(changed.getResponse().getContentAsString()).contains("2000");
+    }
+
+    @Test
+    @DisplayName("잔액: 쓰기가 없으면 SQL 없이 304, 다른 계좌의 거래는 ETag 를 바꾸지 않는다")
+    void balance() throws Exception {
+        // given
+        accountService.createAccount("CG-2", new BigDecimal("10000"));
+        accountService.createAccount("CG-3", new BigDecimal("10000"));
+        String path = "/api/accounts/CG-2/balance";
+        String eTag = eTag(mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn());
+
+        // when & then
+        transactionService.deposit("CG-3", new BigDecimal("1000"));
+        SqlStatementBudget.of("balance 304")
+            .statements(0)
+            .assertWithin(() -> perform(path, eTag, 304));
+
+        transactionService.withdraw("CG-2", new BigDecimal("3000"));
+        MvcResult changed = perform(path, eTag, 200);
+        assertThat(changed.getResponse().getContentAsString()).contains("7000");
+    }
+
+    private MvcResult perform(String path, String ifNoneMatch, int expectedStatus) {
+        try {
+            MvcResult result = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)).andReturn();
+            assertThat(result.getResponse().getStatus()).isEqualTo(expectedStatus);
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String eTag(MvcResult result) {
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/\"");
+        return eTag;
+    }
+}
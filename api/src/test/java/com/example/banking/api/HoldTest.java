@@ -0,0 +1,220 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.hold.dto.HoldResponse;
+import com.example.banking.domain.hold.error.HoldErrorCode;
+import com.example.banking.domain.hold.expiry.HoldExpirySweeper;
+import com.example.banking.domain.hold.repository.AccountHoldRepository;
+import com.example.banking.domain.hold.service.HoldService;
+import com.example.banking.domain.hold.type.HoldStatus;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출금 승인 / 매입 / 취소와 만료 정리. 승인은 출금 가능 잔액만 줄이고 장부 잔액은 매입할 때 줄어든다.
+ */
+@SpringBootTest(properties = "banking.hold.sweep-interval=1h")
+@ActiveProfiles("embedded")
+class HoldTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private HoldExpirySweeper holdExpirySweeper;
+
+    @Autowired
+    private AccountHoldRepository accountHoldRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("승인하면 출금 가능 잔액만 줄고, 묶인 금액은 출금할 수 없다")
+    void authorize_reducesAvailableBalance() {
+        // given
+        accountService.createAccount("HD1", new BigDecimal("100000"));
+
+        // when
+        holdService.authorize("HD1", new BigDecimal("70000"), null);
+
+        // then
+        Account account = account("HD1");
+        assertThat(account.getBalance()).isEqualByComparingTo("100000");
+        assertThat(account.getHeldAmount()).isEqualByComparingTo("70000");
+        assertThat(account.getAvailableBalance()).isEqualByComparingTo("30000");
+        assertThatThrownBy(() -> transactionService.withdraw("HD1", new BigDecimal("40000")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.INSUFFICIENT_BALANCE);
+        assertThatThrownBy(() -> holdService.authorize("HD1", new BigDecimal("40000"), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.INSUFFICIENT_BALANCE);
+    }
+
+    @Test
+    @DisplayName("매입하지 않은 승인 금액도 일일 출금 한도에 들어가, 승인을 여러 번 나눠 한도를 넘길 수 없다")
+    void authorize_countsOpenHoldsAgainstDailyLimit() {
+        // given: 일반 계좌 일일 출금 한도 1,000,000
+        accountService.createAccount("HD-LIMIT", new BigDecimal("3000000"));
+        HoldResponse first = holdService.authorize("HD-LIMIT", new BigDecimal("600000"), null);
+
+        // when & then
+        assertThatThrownBy(() -> holdService.authorize("HD-LIMIT", new BigDecimal("600000"), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        assertThatThrownBy(() -> transactionService.withdraw("HD-LIMIT", new BigDecimal("500000")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+
+        holdService.capture("HD-LIMIT", first.id(), new BigDecimal("600000"));
+        assertThatThrownBy(() -> holdService.authorize("HD-LIMIT", new BigDecimal("500000"), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        holdService.authorize("HD-LIMIT", new BigDecimal("400000"), null);
+        assertThat(account("HD-LIMIT").getBalance()).isEqualByComparingTo("2400000");
+    }
+
+    @Test
+    @DisplayName("매입할 때 일일 출금 한도를 다시 검증한다")
+    void capture_revalidatesDailyLimit() {
+        // given: 승인 금액이 한도에 들어가지 않은 채 출금이 쌓인 경우(전날 승인 등). 출금하는 동안만 묶인 금액을 0 으로 둔다
+        accountService.createAccount("HD-CAPTURE", new BigDecimal("3000000"));
+        HoldResponse hold = holdService.authorize("HD-CAPTURE", new BigDecimal("600000"), null);
+        jdbcTemplate.update("UPDATE account SET held_amount = 0 WHERE account_number = ?", "HD-CAPTURE");
+        transactionService.withdraw("HD-CAPTURE", new BigDecimal("900000"));
+        jdbcTemplate.update("UPDATE account SET held_amount = 600000 WHERE account_number = ?", "HD-CAPTURE");
+
+        // when & then
+        assertThatThrownBy(() -> holdService.capture("HD-CAPTURE", hold.id(), new BigDecimal("600000")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        holdService.capture("HD-CAPTURE", hold.id(), new BigDecimal("100000"));
+        assertThat(account("HD-CAPTURE").getBalance()).isEqualByComparingTo("2000000");
+    }
+
+    @Test
+    @DisplayName("승인 금액보다 적게 매입하면 매입 금액만 출금되고 나머지는 풀린다")
+    void capture_partial() {
+        // given
+        accountService.createAccount("HD2", new BigDecimal("100000"));
+        HoldResponse hold = holdService.authorize("HD2", new BigDecimal("50000"), Duration.ofHours(1));
+
+        // when
+        HoldResponse captured = holdService.capture("HD2", hold.id(), new BigDecimal("30000"));
+
+        // then
+        assertThat(captured.status()).isEqualTo(HoldStatus.CAPTURED);
+        assertThat(captured.capturedAmount()).isEqualByComparingTo("30000");
+        assertThat(captured.transactionId()).isNotNull();
+
+        Account account = account("HD2");
+        assertThat(account.getBalance()).isEqualByComparingTo("70000");
+        assertThat(account.getHeldAmount()).isEqualByComparingTo("0");
+
+        assertThatThrownBy(() -> holdService.capture("HD2", hold.id(), new BigDecimal("10000")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(HoldErrorCode.HOLD_NOT_AUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("승인 금액보다 많이 매입할 수 없다")
+    void capture_exceedsHold() {
+        // given
+        accountService.createAccount("HD3", new BigDecimal("100000"));
+        HoldResponse hold = holdService.authorize("HD3", new BigDecimal("10000"), null);
+
+        // when & then
+        assertThatThrownBy(() -> holdService.capture("HD3", hold.id(), new BigDecimal("10001")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(HoldErrorCode.CAPTURE_AMOUNT_EXCEEDS_HOLD);
+        assertThat(account("HD3").getHeldAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("취소하면 묶인 금액이 풀리고 장부 잔액은 그대로다")
+    void voidHold_releases() {
+        // given
+        accountService.createAccount("HD4", new BigDecimal("100000"));
+        HoldResponse hold = holdService.authorize("HD4", new BigDecimal("60000"), null);
+
+        // when
+        HoldResponse voided = holdService.voidHold("HD4", hold.id());
+
+        // then
+        assertThat(voided.status()).isEqualTo(HoldStatus.VOIDED);
+        Account account = account("HD4");
+        assertThat(account.getBalance()).isEqualByComparingTo("100000");
+        assertThat(account.getAvailableBalance()).isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("만료된 승인은 매입할 수 없고, 정리 워커가 계좌마다 한 번에 풀어 준다")
+    void expiredHolds_sweptInBatch() {
+        // given
+        accountService.createAccount("HD5", new BigDecimal("100000"));
+        HoldResponse first = holdService.authorize("HD5", new BigDecimal("20000"), null);
+        HoldResponse second = holdService.authorize("HD5", new BigDecimal("30000"), null);
+        HoldResponse live = holdService.authorize("HD5", new BigDecimal("10000"), null);
+        expire(first.id());
+        expire(second.id());
+
+        assertThatThrownBy(() -> holdService.capture("HD5", first.id(), new BigDecimal("20000")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(HoldErrorCode.HOLD_EXPIRED);
+
+        // when
+        int swept = holdExpirySweeper.sweepBatch();
+
+        // then
+        assertThat(swept).isGreaterThanOrEqualTo(2);
+        assertThat(accountHoldRepository.findById(first.id()).orElseThrow().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(accountHoldRepository.findById(second.id()).orElseThrow().getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(accountHoldRepository.findById(live.id()).orElseThrow().getStatus()).isEqualTo(HoldStatus.AUTHORIZED);
+        assertThat(account("HD5").getHeldAmount()).isEqualByComparingTo("10000");
+        assertThat(holdExpirySweeper.sweepBatch()).isZero();
+    }
+
+    private void expire(Long holdId) {
+        jdbcTemplate.update("UPDATE account_hold SET expires_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(1)), holdId);
+    }
+
+    private Account account(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.interest.accrual.InterestAccrualJob;
+import com.example.banking.domain.interest.accrual.InterestAccrualResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 이자 배치. 연 3.65% 계좌 타입이면 잔액 1,000,000 원에 하루 100 원(365일 해)이 붙는다.
+ * 구간과 청크를 작게 잡아 여러 구간 / 여러 청크를 거치게 한다.
+ */
+@SpringBootTest(properties = {
+        "banking.interest.scheduler-enabled=false",
+        "banking.interest.workers=2",
+        "banking.interest.partition-size=5",
+        "banking.interest.chunk-size=2"
+})
+@ActiveProfiles("embedded")
+class InterestAccrualTest {
+
+    @Autowired
+    private InterestAccrualJob interestAccrualJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long accountTypeId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("MERGE INTO account_type (code, description, transfer_fee_rate, interest_rate, "
+                + "daily_withdrawal_limit, daily_transfer_limit, active) KEY (code) "
+                + "VALUES ('SAVING', '예금', 0, 0.0365, 1000000, 1000000, true)");
+        accountTypeId = jdbcTemplate.queryForObject("SELECT id FROM account_type WHERE code = 'SAVING'", Long.class);
+    }
+
+    @Test
+    @DisplayName("활성 계좌마다 하루치 이자를 거래와 거래 내역으로 남기고, 같은 날짜를 다시 실행해도 두 번 주지 않는다")
+    void run_accruesOncePerDay() {
+        // given
+        for (int i = 1; i <= 7; i++) {
+            createAccount("IA" + i, "1000000", "ACTIVE");
+        }
+        createAccount("IA-ZERO", "0", "ACTIVE");
+        createAccount("IA-INACTIVE", "1000000", "INACTIVE");
+        LocalDate date = LocalDate.of(2026, 3, 1);
+
+        // when
+        InterestAccrualResult first = interestAccrualJob.run(date);
+        InterestAccrualResult second = interestAccrualJob.run(date);
+
+        // then
+        for (int i = 1; i <= 7; i++) {
+            assertThat(balance("IA" + i)).isEqualByComparingTo("1000100");
+            assertThat(interestPostings("IA" + i)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT p.balance_after FROM journal_posting p "
+                    + "JOIN journal_entry e ON e.id = p.entry_id JOIN account a ON a.id = p.account_id "
+                    + "WHERE a.account_number = ? AND e.type = 'INTEREST'", BigDecimal.class, "IA" + i))
+                    .isEqualByComparingTo("1000100");
+        }
+        assertThat(balance("IA-ZERO")).isEqualByComparingTo("0");
+        assertThat(interestPostings("IA-ZERO")).isZero();
+        assertThat(balance("IA-INACTIVE")).isEqualByComparingTo("1000000");
+        assertThat(first.accounts()).isGreaterThanOrEqualTo(7);
+        assertThat(first.partitions()).isGreaterThan(1);
+        assertThat(second.accounts()).isZero();
+        assertThat(second.partitions()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interest_accrual_partition "
+                + "WHERE accrual_date = ? AND status <> 'COMPLETED'", Integer.class, date)).isZero();
+    }
+
+    @Test
+    @DisplayName("중단된 구간은 체크포인트 다음 계좌부터 이어서 지급한다")
+    void run_resumesFromCheckpoint() {
+        // given
+        for (int i = 1; i <= 4; i++) {
+            createAccount("IR" + i, "2000000", "ACTIVE");
+        }
+        LocalDate date = LocalDate.of(2026, 3, 2);
+        long checkpoint = accountId("IR2");
+        // IR2 까지 커밋하고 죽어 lease 가 끝난 구간
+        jdbcTemplate.update("INSERT INTO interest_accrual_partition "
+                + "(accrual_date, start_id, end_id, last_account_id, status, lease_until, updated_at) "
+                + "VALUES (?, 1, ?, ?, 'PENDING', '2000-01-01 00:00:00', CURRENT_TIMESTAMP)",
+                date, accountId("IR4"), checkpoint);
+
+        // when
+        InterestAccrualResult result = interestAccrualJob.run(date);
+
+        // then
+        assertThat(balance("IR1")).isEqualByComparingTo("2000000");
+        assertThat(balance("IR2")).isEqualByComparingTo("2000000");
+        assertThat(balance("IR3")).isEqualByComparingTo("2000200");
+        assertThat(balance("IR4")).isEqualByComparingTo("2000200");
+        assertThat(result.accounts()).isEqualTo(2);
+        assertThat(result.interest()).isEqualByComparingTo("400");
+    }
+
+    private void createAccount(String accountNumber, String balance, String status) {
+        jdbcTemplate.update("INSERT INTO account (account_number, account_type_id, balance, status) VALUES (?, ?, ?, ?)",
+                accountNumber, accountTypeId, new BigDecimal(balance), status);
+    }
+
+    private long accountId(String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT id FROM account WHERE account_number = ?", Long.class, accountNumber);
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM account WHERE account_number = ?",
+                BigDecimal.class, accountNumber);
+    }
+
+    private int interestPostings(String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM journal_posting p JOIN journal_entry e ON e.id = p.entry_id "
+                + "JOIN account a ON a.id = p.account_id WHERE a.account_number = ? AND e.type = 'INTEREST'",
+                Integer.class, accountNumber);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.banking.api;
+
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalVerification;
+import com.example.banking.domain.transaction.journal.JournalVerifier;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래마다 분개 한 건을 남기고, 분개마다 증감의 합은 0 이다. 이체 수수료는 수수료 수익 계정에 쌓인다.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class JournalTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private JournalVerifier journalVerifier;
+
+    @Autowired
+    private JournalWriter journalWriter;
+
+    @Autowired
+    private TransactionRunner transactionRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("이체는 출금 / 입금 / 수수료 수익 증감 3 개짜리 분개 한 건을 남기고, 전체 분개는 0 으로 맞는다")
+    void transfer_postsFeeToBankAccount() {
+        // given
+        accountService.createAccount("JE-1", new BigDecimal("100000"));
+        accountService.createAccount("JE-2", BigDecimal.ZERO);
+        BigDecimal feeIncomeBefore = feeIncome(journalVerifier.verify());
+
+        // when
+        transactionService.deposit("JE-1", new BigDecimal("5000"));
+        TransactionResponse transfer = transactionService.transfer("JE-1", "JE-2", new BigDecimal("10000"));
+        transactionService.payout("JE-1", List.of(new PayoutLeg("JE-2", new BigDecimal("2000"))));
+        transactionService.withdraw("JE-2", new BigDecimal("3000"));
+
+        // then
+        List<Map<String, Object>> postings = jdbcTemplate.queryForList(
+                "SELECT account_id, amount FROM journal_posting WHERE entry_id = ? ORDER BY line", transfer.id());
+        assertThat(postings).hasSize(3);
+        assertThat(postings).extracting(row -> ((Number) row.get("account_id")).longValue())
+                .containsExactly(accountId("JE-1"), accountId("JE-2"), BankAccount.FEE_INCOME.getId());
+        assertThat(postings).extracting(row -> (BigDecimal) row.get("amount"))
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("-10100"), new BigDecimal("10000"), new BigDecimal("100"));
+
+        JournalVerification verification = journalVerifier.verify();
+        assertThat(verification.balanced()).isTrue();
+        // 이체 10,000 원과 지급 2,000 원의 수수료 1%
+        assertThat(feeIncome(verification).subtract(feeIncomeBefore)).isEqualByComparingTo("120");
+    }
+
+    @Test
+    @DisplayName("합이 0 이 아닌 분개는 쓰지 않고, 이미 들어간 분개는 검증에서 찾아낸다")
+    void unbalancedEntries_areRejectedAndReported() {
+        // when & then
+        assertThatThrownBy(() -> transactionRunner.write(() -> {
+            journalWriter.write(JournalEntry.of(-100L, JournalEntryType.DEPOSIT, LocalDateTime.now())
+                    .post(BankAccount.CASH, new BigDecimal("1000"))
+                    .post(BankAccount.FEE_INCOME, new BigDecimal("-999")));
+            return null;
+        })).isInstanceOf(IllegalStateException.class);
+
+        // given: 다른 경로로 들어간 어긋난 분개
+        jdbcTemplate.update("INSERT INTO journal_entry (id, type, created_at) VALUES (-200, 'DEPOSIT', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO journal_posting (entry_id, line, account_id, amount, type, created_at) "
+                + "VALUES (-200, 1, 1, 500, 'DEPOSIT', CURRENT_TIMESTAMP)");
+        try {
+            // when
+            JournalVerification verification = journalVerifier.verify();
+
+            // then
+            assertThat(verification.balanced()).isFalse();
+            assertThat(verification.unbalancedEntries()).isEqualTo(1);
+            assertThat(verification.unbalancedEntryIds()).containsExactly(-200L);
+        } finally {
+            jdbcTemplate.update("DELETE FROM journal_posting WHERE entry_id = -200");
+            jdbcTemplate.update("DELETE FROM journal_entry WHERE id = -200");
+        }
+    }
+
+    private BigDecimal feeIncome(JournalVerification verification) {
+        return verification.bankBalances().getOrDefault(BankAccount.FEE_INCOME, BigDecimal.ZERO);
+    }
+
+    private long accountId(String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT id FROM account WHERE account_number = ?", Long.class, accountNumber);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 지급은 모든 건을 한 트랜잭션으로 처리한다. 한 건이라도 실패하면 어느 계좌의 잔액도 바뀌지 않는다.
+ */
+@SpringBootTest(properties = "banking.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class PayoutTest {
+
+    private static final int LEGS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("모든 건을 지급하고 수수료는 건별로 계산한다")
+    void payout_success() throws Exception {
+        // given
+        accountService.createAccount("PO-FROM", new BigDecimal("1000000"));
+        StringJoiner legs = new StringJoiner(",", "{\"legs\": [", "]}");
+        for (int i = 0; i < LEGS; i++) {
+            accountService.createAccount("PO-TO-" + i, BigDecimal.ZERO);
+            legs.add("{\"toAccountNumber\": \"PO-TO-" + i + "\", \"amount\": 1050}");
+        }
+
+        // when & then
+        // 수수료 1% 를 건마다 절사 (1050 -> 10)
+        mockMvc.perform(post("/api/accounts/{accountNumber}/payouts", "PO-FROM")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(legs.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.legCount").value(LEGS))
+            .andExpect(jsonPath("$.totalAmount").value(525000))
+            .andExpect(jsonPath("$.totalFee").value(5000))
+            .andExpect(jsonPath("$.balanceAfterTransaction").value(470000));
+
+        assertThat(balanceOf("PO-FROM")).isEqualByComparingTo("470000");
+        assertThat(balanceOf("PO-TO-0")).isEqualByComparingTo("1050");
+        assertThat(balanceOf("PO-TO-" + (LEGS - 1))).isEqualByComparingTo("1050");
+    }
+
+    @Test
+    @DisplayName("합계가 잔액을 넘으면 어느 건도 지급하지 않는다")
+    void payout_insufficientBalance_rollsBackAll() throws Exception {
+        // given
+        accountService.createAccount("PO-POOR", new BigDecimal("15000"));
+        accountService.createAccount("PO-POOR-TO-1", BigDecimal.ZERO);
+        accountService.createAccount("PO-POOR-TO-2", BigDecimal.ZERO);
+
+        // when & then
+        mockMvc.perform(post("/api/accounts/{accountNumber}/payouts", "PO-POOR")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"legs": [
+                      {"toAccountNumber": "PO-POOR-TO-1", "amount": 10000},
+                      {"toAccountNumber": "PO-POOR-TO-2", "amount": 10000}
+                    ]}
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("T001"));
+
+        assertThat(balanceOf("PO-POOR")).isEqualByComparingTo("15000");
+        assertThat(balanceOf("PO-POOR-TO-1")).isEqualByComparingTo("0");
+        assertThat(balanceOf("PO-POOR-TO-2")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("같은 입금 계좌가 중복되면 거절한다")
+    void payout_duplicateDestination_rejected() throws Exception {
+        // given
+        accountService.createAccount("PO-DUP", new BigDecimal("100000"));
+        accountService.createAccount("PO-DUP-TO", BigDecimal.ZERO);
+
+        // when & then
+        mockMvc.perform(post("/api/accounts/{accountNumber}/payouts", "PO-DUP")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"legs": [
+                      {"toAccountNumber": "PO-DUP-TO", "amount": 1000},
+                      {"toAccountNumber": "PO-DUP-TO", "amount": 1000}
+                    ]}
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("T011"));
+
+        assertThat(balanceOf("PO-DUP-TO")).isEqualByComparingTo("0");
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+    }
+}
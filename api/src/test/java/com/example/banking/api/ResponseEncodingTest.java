@@ -0,0 +1,133 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역은 Accept 에 따라 JSON 또는 같은 구조의 CBOR 로 응답하고, Accept-Encoding: gzip 이면 압축한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "banking.rate-limit.enabled=false")
+@ActiveProfiles("embedded")
+class ResponseEncodingTest {
+
+    private static final int LEGS = 40;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Test
+    @DisplayName("Accept: application/cbor 이면 JSON 과 같은 필드를 CBOR 로 응답하고 크기는 더 작다")
+    void history_cbor() throws Exception {
+        // given
+        String accountNumber = accountWithHistory("RE-CBOR");
+
+        // when
+        HttpResponse<byte[]> json = history(accountNumber, "application/json", null);
+        HttpResponse<byte[]> cbor = history(accountNumber, "application/cbor", null);
+
+        // then
+        assertThat(cbor.headers().firstValue("Content-Type")).hasValue("application/cbor");
+        JsonNode jsonPage = new ObjectMapper().readTree(json.body());
+        JsonNode cborPage = new CBORMapper().readTree(cbor.body());
+        assertThat(cborPage.get("content")).hasSize(LEGS);
+        for (int i = 0; i < LEGS; i++) {
+            JsonNode expected = jsonPage.get("content").get(i);
+            JsonNode actual = cborPage.get("content").get(i);
+            assertThat(actual.get("id").asLong()).isEqualTo(expected.get("id").asLong());
+            assertThat(actual.get("type").asText()).isEqualTo(expected.get("type").asText());
+            assertThat(actual.get("amount").decimalValue()).isEqualByComparingTo(expected.get("amount").decimalValue());
+            assertThat(actual.get("createdAt").asText()).isEqualTo(expected.get("createdAt").asText());
+        }
+        assertThat(cbor.body().length).isLessThan(json.body().length);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding: gzip 이면 JSON 과 CBOR 응답을 압축한다")
+    void history_gzip() throws Exception {
+        // given
+        String accountNumber = accountWithHistory("RE-GZIP");
+
+        // when
+        HttpResponse<byte[]> plain = history(accountNumber, "application/json", null);
+        HttpResponse<byte[]> gzip = history(accountNumber, "application/json", "gzip");
+        HttpResponse<byte[]> cbor = history(accountNumber, "application/cbor", null);
+        HttpResponse<byte[]> cborGzip = history(accountNumber, "application/cbor", "gzip");
+
+        // then
+        assertThat(gzip.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gunzip(gzip.body())).isEqualTo(plain.body());
+        assertThat(gzip.body().length).isLessThan(plain.body().length);
+        assertThat(cborGzip.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gunzip(cborGzip.body())).isEqualTo(cbor.body());
+    }
+
+    private String accountWithHistory(String accountNumber) {
+        accountService.createAccount(accountNumber, new BigDecimal("1000000"));
+        List<PayoutLeg> legs = new ArrayList<>();
+        for (int i = 0; i < LEGS; i++) {
+            String toAccountNumber = accountNumber + "-" + i;
+            accountService.createAccount(toAccountNumber, BigDecimal.ZERO);
+            legs.add(new PayoutLeg(toAccountNumber, new BigDecimal("1000")));
+        }
+        transactionService.payout(accountNumber, legs);
+        return accountNumber;
+    }
+
+    private HttpResponse<byte[]> history(String accountNumber, String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/accounts/" + accountNumber + "/transactions?size=" + LEGS))
+                .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        HttpResponse<byte[]> response = send(request.build());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
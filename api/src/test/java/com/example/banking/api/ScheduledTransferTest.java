@@ -0,0 +1,181 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.ScheduledTransferResponse;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.repository.ScheduledTransferRepository;
+import com.example.banking.domain.transaction.schedule.ScheduledTransferExecutor;
+import com.example.banking.domain.transaction.service.ScheduledTransferService;
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import com.example.banking.domain.transaction.type.ScheduledTransferStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 예약 / 자동 이체 실행기. 실행 시각이 된 행을 워커들이 나눠 잡아 한 번씩만 실행한다.
+ */
+@SpringBootTest(properties = {
+        "banking.scheduled-transfer.poll-interval=50ms",
+        "banking.scheduled-transfer.max-attempts=2",
+        "banking.scheduled-transfer.retry-backoff=1s"
+})
+@ActiveProfiles("embedded")
+class ScheduledTransferTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ScheduledTransferService scheduledTransferService;
+
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+
+    @Autowired
+    private ScheduledTransferExecutor scheduledTransferExecutor;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1회 예약 이체는 실행 후 완료되고, 자동 이체는 다음 회차로 넘어간다")
+    void dueTransfers_executed() throws Exception {
+        // given
+        accountService.createAccount("ST1", new BigDecimal("100000"));
+        accountService.createAccount("ST2", BigDecimal.ZERO);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        ScheduledTransferResponse once = scheduledTransferService.schedule(
+                "ST1", "ST2", new BigDecimal("10000"), RepeatInterval.ONCE, now.minusMinutes(1), null);
+        ScheduledTransferResponse monthly = scheduledTransferService.schedule(
+                "ST1", "ST2", new BigDecimal("5000"), RepeatInterval.MONTHLY, now.minusMinutes(1), null);
+
+        // then
+        await(once.id(), ScheduledTransferStatus.COMPLETED);
+        awaitCondition(() -> scheduledTransferRepository.findById(monthly.id()).orElseThrow().getNextRunAt().isAfter(now));
+
+        ScheduledTransferResponse executedMonthly = scheduledTransferService.getScheduledTransfers("ST1").stream()
+                .filter(response -> response.id().equals(monthly.id()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(executedMonthly.status()).isEqualTo(ScheduledTransferStatus.PENDING);
+        assertThat(executedMonthly.lastTransactionId()).isNotNull();
+        assertThat(executedMonthly.nextRunAt()).isBefore(now.plusMonths(1).plusMinutes(1));
+        // 1% 수수료 (100 + 50)
+        assertThat(balanceOf("ST1")).isEqualByComparingTo("84850");
+        assertThat(balanceOf("ST2")).isEqualByComparingTo("15000");
+    }
+
+    @Test
+    @DisplayName("실패하면 재시도하고, 최대 횟수를 넘기면 실패로 남는다")
+    void failingTransfer_retriedThenFailed() throws Exception {
+        // given
+        accountService.createAccount("ST-POOR", new BigDecimal("1000"));
+        accountService.createAccount("ST-POOR-TO", BigDecimal.ZERO);
+
+        // when
+        ScheduledTransferResponse scheduled = scheduledTransferService.schedule(
+                "ST-POOR", "ST-POOR-TO", new BigDecimal("10000"), RepeatInterval.ONCE, LocalDateTime.now().minusMinutes(1), null);
+
+        // then
+        await(scheduled.id(), ScheduledTransferStatus.FAILED);
+        assertThat(scheduledTransferRepository.findById(scheduled.id()).orElseThrow().getLastError()).startsWith("T001");
+        assertThat(balanceOf("ST-POOR")).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("취소된 예약 이체는 실행 시각이 되어도 가져가지 않는다")
+    void cancelledTransfer_notClaimed() {
+        // given
+        accountService.createAccount("ST-CANCEL", new BigDecimal("100000"));
+        accountService.createAccount("ST-CANCEL-TO", BigDecimal.ZERO);
+        scheduledTransferExecutor.stop();
+        try {
+            ScheduledTransferResponse scheduled = scheduledTransferService.schedule(
+                    "ST-CANCEL", "ST-CANCEL-TO", new BigDecimal("10000"), RepeatInterval.DAILY, LocalDateTime.now().minusMinutes(1), null);
+
+            // when
+            ScheduledTransferResponse cancelled = scheduledTransferService.cancel("ST-CANCEL", scheduled.id());
+
+            // then
+            assertThat(cancelled.status()).isEqualTo(ScheduledTransferStatus.CANCELLED);
+            assertThat(scheduledTransferExecutor.executeBatch()).isZero();
+            assertThatThrownBy(() -> scheduledTransferService.cancel("ST-CANCEL", scheduled.id()))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.SCHEDULED_TRANSFER_NOT_PENDING);
+        } finally {
+            scheduledTransferExecutor.start();
+        }
+        assertThat(balanceOf("ST-CANCEL-TO")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("밀린 예약 이체를 여러 워커가 나눠 잡아도 각각 한 번씩만 실행한다")
+    void backlog_executedExactlyOnce() throws Exception {
+        // given
+        int accounts = 50;
+        int perAccount = 40;
+        for (int i = 0; i < accounts; i++) {
+            accountService.createAccount("STB" + i, new BigDecimal("1000000"));
+        }
+        accountService.createAccount("STB-TO", BigDecimal.ZERO);
+        Timestamp due = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));
+        List<Object[]> rows = new ArrayList<>();
+        for (int n = 0; n < perAccount; n++) {
+            for (int i = 0; i < accounts; i++) {
+                rows.add(new Object[]{"STB" + i, "STB-TO", new BigDecimal("100"), due});
+            }
+        }
+
+        // when
+        jdbcTemplate.batchUpdate("INSERT INTO scheduled_transfer (from_account_number, to_account_number, amount, next_run_at) "
+                + "VALUES (?, ?, ?, ?)", rows);
+
+        // then
+        awaitCondition(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduled_transfer "
+                + "WHERE to_account_number = 'STB-TO' AND status = 'PENDING'", Long.class) == 0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduled_transfer "
+                + "WHERE to_account_number = 'STB-TO' AND status = 'COMPLETED'", Long.class)).isEqualTo(accounts * perAccount);
+        assertThat(balanceOf("STB-TO")).isEqualByComparingTo(BigDecimal.valueOf(100L * accounts * perAccount));
+        // 건당 100 + 수수료 1
+        assertThat(balanceOf("STB0")).isEqualByComparingTo(BigDecimal.valueOf(1000000 - 101L * perAccount));
+    }
+
+    private BigDecimal balanceOf(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance();
+    }
+
+    private void await(Long id, ScheduledTransferStatus status) throws InterruptedException {
+        awaitCondition(() -> scheduledTransferRepository.findById(id).orElseThrow().getStatus() == status);
+    }
+
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("timed out");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.journal.JournalReader;
+import com.example.banking.domain.transaction.saga.CrossShardTransferSaga;
+import com.example.banking.domain.transaction.saga.TransferSagaRecovery;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.domain.transaction.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 H2 두 개를 샤드로 띄운다 (application-sharded.yml).
+ * 같은 샤드 이체는 한 트랜잭션으로, 다른 샤드 이체는 saga 로 처리하고 입금에 실패하면 출금을 되돌린다.
+ */
+@SpringBootTest(properties = {
+        "banking.rate-limit.enabled=false",
+        // 복구는 테스트에서 직접 부른다
+        "banking.transfer-saga.stale-after=0s",
+        "banking.transfer-saga.poll-interval=1h"
+})
+@ActiveProfiles({"embedded", "sharded"})
+class ShardingTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100000");
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CrossShardTransferSaga crossShardTransferSaga;
+
+    @Autowired
+    private TransferSagaRecovery transferSagaRecovery;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JournalReader journalReader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("계좌와 거래 내역은 계좌번호의 샤드에만 저장되고, 거래 id 는 샤드를 통틀어 겹치지 않는다")
+    void accountsStayOnTheirShard() {
+        // given
+        String account0 = createAccountOn(0, "SA");
+        String account1 = createAccountOn(1, "SA");
+
+        // when
+        // 두 샤드의 시퀀스에서 받은 id 구간을 JournalWriter 가 함께 나눠 준다 (allocationSize 50 을 넘기도록)
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(transactionService.deposit(account0, new BigDecimal("10")).id());
+            ids.add(transactionService.deposit(account1, new BigDecimal("10")).id());
+        }
+
+        // then
+        assertThat(ids).hasSize(120);
+        assertThat(count(0, "SELECT COUNT(*) FROM account WHERE account_number = ?", account0)).isOne();
+        assertThat(count(1, "SELECT COUNT(*) FROM account WHERE account_number = ?", account0)).isZero();
+        assertThat(count(1, "SELECT COUNT(*) FROM account WHERE account_number = ?", account1)).isOne();
+        assertThat(count(0, "SELECT COUNT(*) FROM journal_posting p JOIN account a ON a.id = p.account_id WHERE a.account_number = ?", account1)).isZero();
+        assertThat(count(1, "SELECT COUNT(*) FROM journal_posting p JOIN account a ON a.id = p.account_id WHERE a.account_number = ?", account1)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("같은 샤드 계좌 사이 이체는 saga 없이 한 트랜잭션으로 처리한다")
+    void sameShardTransfer() {
+        // given
+        String from = createAccountOn(0, "SL");
+        String to = createAccountOn(0, "SL");
+
+        // when
+        transactionService.transfer(from, to, new BigDecimal("10000"));
+
+        // then
+        assertThat(balance(from)).isEqualByComparingTo("89900");
+        assertThat(balance(to)).isEqualByComparingTo("110000");
+        assertThat(count(0, "SELECT COUNT(*) FROM transfer_saga WHERE from_account_number = ?", from)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 샤드 계좌로 이체하면 출금 샤드에서 출금하고 입금 샤드에서 입금한다")
+    void crossShardTransfer() {
+        // given
+        String from = createAccountOn(0, "SX");
+        String to = createAccountOn(1, "SX");
+
+        // when
+        TransactionResponse response = transactionService.transfer(from, to, new BigDecimal("10000"));
+
+        // then
+        assertThat(response.balanceAfterTransaction()).isEqualByComparingTo("89900");
+        assertThat(balance(from)).isEqualByComparingTo("89900");
+        assertThat(balance(to)).isEqualByComparingTo("110000");
+        assertThat(sagaStates(from)).containsExactly("COMPLETED");
+        assertThat(count(1, "SELECT COUNT(*) FROM journal_posting p JOIN journal_entry e ON e.id = p.entry_id "
+                + "JOIN account a ON a.id = p.account_id WHERE a.account_number = ? AND e.type = 'SHARD_TRANSFER_CREDIT'", to))
+                .isOne();
+        assertThat(count(1, "SELECT COUNT(*) FROM transfer_saga_credit", null)).isPositive();
+        assertThat(dailyTransferAmount(from)).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("입금 계좌에 입금할 수 없으면 수수료까지 출금을 되돌리고 그 오류를 반환한다")
+    void crossShardTransfer_compensated() {
+        // given
+        String from = createAccountOn(0, "SC");
+        String to = createAccountOn(1, "SC");
+        accountService.deleteAccount(to);
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.transfer(from, to, new BigDecimal("10000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AccountErrorCode.INVALID_ACCOUNT_STATUS);
+        assertThat(balance(from)).isEqualByComparingTo(INITIAL_BALANCE);
+        assertThat(balance(to)).isEqualByComparingTo(INITIAL_BALANCE);
+        assertThat(sagaStates(from)).containsExactly("COMPENSATED");
+        assertThat(count(0, "SELECT COUNT(*) FROM journal_posting p JOIN journal_entry e ON e.id = p.entry_id "
+                + "JOIN account a ON a.id = p.account_id WHERE a.account_number = ? AND e.type = 'SHARD_TRANSFER_REFUND' "
+                + "AND p.amount = 10100", from)).isOne();
+        // 보상된 이체는 일일 이체 한도에 넣지 않는다
+        assertThat(dailyTransferAmount(from)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("입금 샤드 장애로 멈춘 이체는 복구 워커가 한 번만 입금해 끝낸다")
+    void crossShardTransfer_recovered() {
+        // given
+        String from = createAccountOn(0, "SR");
+        String to = createAccountOn(1, "SR");
+        execute(1, "ALTER TABLE transfer_saga_credit RENAME TO transfer_saga_credit_off");
+        try {
+            assertThatThrownBy(() -> transactionService.transfer(from, to, new BigDecimal("10000")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.TRANSFER_IN_PROGRESS);
+        } finally {
+            execute(1, "ALTER TABLE transfer_saga_credit_off RENAME TO transfer_saga_credit");
+        }
+        assertThat(balance(from)).isEqualByComparingTo("89900");
+        assertThat(balance(to)).isEqualByComparingTo(INITIAL_BALANCE);
+        assertThat(sagaStates(from)).containsExactly("DEBITED");
+
+        // when
+        int recovered = transferSagaRecovery.recoverBatch();
+
+        // then
+        assertThat(recovered).isOne();
+        assertThat(balance(to)).isEqualByComparingTo("110000");
+        assertThat(sagaStates(from)).containsExactly("COMPLETED");
+        assertThat(transferSagaRecovery.recoverBatch()).isZero();
+        assertThat(balance(to)).isEqualByComparingTo("110000");
+    }
+
+    @Test
+    @DisplayName("같은 sagaId 로 다시 실행하면 다시 출금하지 않고 처음 결과를 반환한다")
+    void sameSagaId_executedOnce() {
+        // given
+        String from = createAccountOn(0, "SI");
+        String to = createAccountOn(1, "SI");
+
+        // when
+        TransactionResponse first = crossShardTransferSaga.transfer("SI-once", from, to, new BigDecimal("10000"));
+        TransactionResponse second = crossShardTransferSaga.transfer("SI-once", from, to, new BigDecimal("10000"));
+
+        // then
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(balance(from)).isEqualByComparingTo("89900");
+        assertThat(balance(to)).isEqualByComparingTo("110000");
+    }
+
+    @Test
+    @DisplayName("일괄 지급은 출금 계좌와 다른 샤드의 계좌를 받지 않는다")
+    void crossShardPayout_rejected() {
+        // given
+        String from = createAccountOn(0, "SP");
+        String sameShard = createAccountOn(0, "SP");
+        String otherShard = createAccountOn(1, "SP");
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.payout(from, List.of(
+                new PayoutLeg(sameShard, new BigDecimal("1000")),
+                new PayoutLeg(otherShard, new BigDecimal("1000")))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.CROSS_SHARD_PAYOUT);
+        assertThat(balance(from)).isEqualByComparingTo(INITIAL_BALANCE);
+    }
+
+    private String createAccountOn(int shard, String prefix) {
+        for (int i = 0; ; i++) {
+            String accountNumber = prefix + "-" + i;
+            if (shardRouter.shardOf(accountNumber) == shard
+                    && count(shard, "SELECT COUNT(*) FROM account WHERE account_number = ?", accountNumber) == 0) {
+                accountService.createAccount(accountNumber, INITIAL_BALANCE);
+                return accountNumber;
+            }
+        }
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return shardRouter.onShardOf(accountNumber, () -> jdbcTemplate.queryForObject(
+                "SELECT balance FROM account WHERE account_number = ?", BigDecimal.class, accountNumber));
+    }
+
+    private BigDecimal dailyTransferAmount(String accountNumber) {
+        return shardRouter.onShardOf(accountNumber, () -> {
+            Long accountId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM account WHERE account_number = ?", Long.class, accountNumber);
+            LocalDate today = LocalDate.now();
+            return journalReader.getDailyAmount(accountId, TransactionType.TRANSFER_OUT,
+                    today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        });
+    }
+
+    private List<String> sagaStates(String fromAccountNumber) {
+        return shardRouter.onShardOf(fromAccountNumber, () -> jdbcTemplate.queryForList(
+                "SELECT state FROM transfer_saga WHERE from_account_number = ?", String.class, fromAccountNumber));
+    }
+
+    private long count(int shard, String sql, String accountNumber) {
+        return shardRouter.onShard(shard, () -> accountNumber == null
+                ? jdbcTemplate.queryForObject(sql, Long.class)
+                : jdbcTemplate.queryForObject(sql, Long.class, accountNumber));
+    }
+
+    private void execute(int shard, String sql) {
+        shardRouter.onShard(shard, () -> {
+            jdbcTemplate.execute(sql);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.banking.api;
+
+import com.example.banking.core.jdbc.SqlStatementBudget;
+import com.example.banking.core.jdbc.SqlStatementResponseHeaderAdvice;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 거래 작업이 실행하는 SQL 수를 고정한다.
+ * 숨은 쿼리(지연 로딩, 중복 검증 조회 등)가 늘어나면 실패한다.
+ */
+@SpringBootTest(properties = "banking.sql-stats.response-header=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class SqlStatementBudgetTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final BigDecimal AMOUNT = new BigDecimal("10000");
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String fromAccountNumber;
+    private String toAccountNumber;
+
+    @BeforeEach
+    void setUp() {
+        fromAccountNumber = "SQL" + SEQUENCE.incrementAndGet();
+        toAccountNumber = "SQL" + SEQUENCE.incrementAndGet();
+        accountService.createAccount(fromAccountNumber, new BigDecimal("1000000"));
+        accountService.createAccount(toAccountNumber, new BigDecimal("1000000"));
+    }
+
+    @Test
+    @DisplayName("입금 SQL 예산")
+    void deposit() {
+        // 잠금 조회 (계좌 id 는 캐시), 시퀀스 (50 건마다 1회), 거래 INSERT, 잔액 UPDATE, 아웃박스 INSERT, 거래 내역 조회 모델 INSERT,
+        // 분개 INSERT, 분개 증감 INSERT 2 (배치 1회)
+        SqlStatementBudget.of("deposit")
+            .statements(9)
+            .roundTrips(8)
+            .assertWithin(() -> transactionService.deposit(fromAccountNumber, AMOUNT));
+    }
+
+    @Test
+    @DisplayName("출금 SQL 예산")
+    void withdraw() {
+        // 입금 + 계좌 타입 지연 로딩, 일일 출금액 합계
+        SqlStatementBudget.of("withdraw")
+            .statements(11)
+            .roundTrips(10)
+            .assertWithin(() -> transactionService.withdraw(fromAccountNumber, AMOUNT));
+    }
+
+    @Test
+    @DisplayName("이체 SQL 예산")
+    void transfer() {
+        // 잠금 조회 2, 계좌 타입 지연 로딩, 일일 이체액 합계, 시퀀스 (최대 1회), 거래 INSERT 2, 잔액 UPDATE 2,
+        // 아웃박스 INSERT 2, 거래 내역 조회 모델 INSERT 2 (각각 배치 1회), 분개 INSERT, 분개 증감 INSERT 3 (배치 1회)
+        SqlStatementBudget.of("transfer")
+            .statements(17)
+            .roundTrips(11)
+            .assertWithin(() -> transactionService.transfer(fromAccountNumber, toAccountNumber, AMOUNT));
+    }
+
+    @Test
+    @DisplayName("일괄 지급 SQL 예산 - 건수가 늘어도 DB 왕복은 배치 크기 단위로만 는다")
+    void payout() {
+        // given
+        List<PayoutLeg> legs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String toAccountNumber = "SQL" + SEQUENCE.incrementAndGet();
+            accountService.createAccount(toAccountNumber, BigDecimal.ZERO);
+            legs.add(new PayoutLeg(toAccountNumber, new BigDecimal("1000")));
+        }
+
+        // 잠금 조회 1 (출금 + 입금 101 계좌), 계좌 타입 지연 로딩, 일일 이체액 합계, 시퀀스 최대 5 (50 개씩 할당),
+        // 거래 INSERT 200 (배치 2회), 잔액 UPDATE 101 (배치 2회), 아웃박스 INSERT 200, 거래 내역 조회 모델 INSERT 200 (각각 배치 1회),
+        // 분개 INSERT 1, 분개 증감 INSERT 102 (출금 1, 수수료 수익 1, 입금 100 을 배치 1회)
+        SqlStatementBudget.of("payout")
+            .statements(812)
+            .roundTrips(16)
+            .assertWithin(() -> transactionService.payout(fromAccountNumber, legs));
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 SQL 예산")
+    void getTransactionHistory() {
+        // given
+        transactionService.deposit(fromAccountNumber, AMOUNT);
+        // 조회 모델 페이지 조회 (계좌 존재 여부는 계좌 id 캐시, 첫 페이지가 다 차지 않으면 COUNT 는 생략된다)
+        SqlStatementBudget.of("getTransactionHistory")
+            .statements(1)
+            .roundTrips(1)
+            .assertWithin(() -> transactionService.getTransactionHistory(fromAccountNumber, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("응답 헤더로 요청별 SQL 통계를 노출한다")
+    void responseHeader() throws Exception {
+        mockMvc.perform(post("/api/accounts/{accountNumber}/deposit", fromAccountNumber)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\": 10000}"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(SqlStatementResponseHeaderAdvice.HEADER));
+    }
+}
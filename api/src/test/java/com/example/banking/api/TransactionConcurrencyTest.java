@@ -6,19 +6,20 @@ import com.example.banking.domain.account.entity.AccountType;
 import com.example.banking.domain.account.repository.AccountRepository;
 import com.example.banking.domain.account.repository.AccountTypeRepository;
 import com.example.banking.domain.account.type.AccountStatus;
-import com.example.banking.domain.transaction.entity.Transaction;
-import com.example.banking.domain.transaction.repository.TransactionRepository;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
 import com.example.banking.domain.transaction.service.TransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -37,9 +38,6 @@ class TransactionConcurrencyTest {
     @Autowired
     private AccountRepository accountRepository;
 
-    @Autowired
-    private TransactionRepository transactionRepository;
-
     @Autowired
     private AccountTypeRepository accountTypeRepository;
 
@@ -135,9 +133,9 @@ class TransactionConcurrencyTest {
         assertThat(finalAccountB.getBalance().setScale(0))
             .isEqualTo(new BigDecimal("10000000").add(totalTransferredAmount).setScale(0));
         
-        // 거래 내역 순서 확인
-        List<Transaction> transactions = transactionRepository.findByAccountOrderByIdDesc(accountA);
-        assertThat(transactions).isSortedAccordingTo((t1, t2) -> t2.getId().compareTo(t1.getId()));
+        // 거래 내역 순서 확인 (최신순이므로 잔액이 늘어나는 순서)
+        assertThat(history(accountA)).isSortedAccordingTo(
+            Comparator.comparing(TransactionHistoryResponse::balanceAfterTransaction));
     }
 
     @Test
@@ -176,9 +174,9 @@ class TransactionConcurrencyTest {
         
         assertThat(finalAccount.getBalance().setScale(0)).isEqualTo(expectedBalance);
         
-        // 거래 내역 순서 확인
-        List<Transaction> transactions = transactionRepository.findByAccountOrderByIdDesc(accountA);
-        assertThat(transactions).isSortedAccordingTo((t1, t2) -> t2.getId().compareTo(t1.getId()));
+        // 거래 내역 순서 확인 (최신순이므로 잔액이 줄어드는 순서)
+        assertThat(history(accountA)).isSortedAccordingTo(
+            Comparator.comparing(TransactionHistoryResponse::balanceAfterTransaction).reversed());
     }
 
     @Test
@@ -222,9 +220,9 @@ class TransactionConcurrencyTest {
         
         assertThat(finalAccount.getBalance().setScale(0)).isEqualTo(expectedBalance);
         
-        // 거래 내역 순서 확인
-        List<Transaction> transactions = transactionRepository.findByAccountOrderByIdDesc(accountA);
-        assertThat(transactions).isSortedAccordingTo((t1, t2) -> t2.getId().compareTo(t1.getId()));
+        // 거래 내역 순서 확인 (최신순이므로 잔액이 늘어나는 순서)
+        assertThat(history(accountA)).isSortedAccordingTo(
+            Comparator.comparing(TransactionHistoryResponse::balanceAfterTransaction));
     }
 
     @Test
@@ -263,4 +261,8 @@ class TransactionConcurrencyTest {
         BigDecimal expectedBalance = new BigDecimal("11000000").setScale(0);
         assertThat(balances).allMatch(balance -> balance.setScale(0).equals(expectedBalance));
     }
-} 
\ No newline at end of file
+
+    private List<TransactionHistoryResponse> history(Account account) {
+        return transactionService.getTransactionHistory(account.getAccountNumber(), Pageable.unpaged()).getContent();
+    }
+}
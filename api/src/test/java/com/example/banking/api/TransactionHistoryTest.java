@@ -0,0 +1,129 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.domain.transaction.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 내역은 고객 계좌 증감(journal_posting)을 분개와 조인하지 않고 읽는다. 이체도 분개 한 건이다.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class TransactionHistoryTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("커밋된 거래만 최신순으로 남고, 이체 양쪽은 같은 분개 id 를 본다")
+    void history_readsPostings() {
+        assertHistory("TH1", "TH2");
+    }
+
+    @Test
+    @DisplayName("JVM 기본 시간대가 hibernate.jdbc.time_zone(Asia/Seoul)과 달라도 거래 시각이 JVM 기본 시간대의 거래 시각이다")
+    void history_readsPostings_otherDefaultZone() {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+        try {
+            assertHistory("TH3", "TH4");
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    private void assertHistory(String accountNumber, String otherAccountNumber) {
+        // given
+        accountService.createAccount(accountNumber, new BigDecimal("10000"));
+        accountService.createAccount(otherAccountNumber, new BigDecimal("10000"));
+        LocalDateTime before = LocalDateTime.now().withNano(0);
+
+        // when
+        transactionService.deposit(accountNumber, new BigDecimal("1000"));
+        assertThatThrownBy(() -> transactionService.withdraw(accountNumber, new BigDecimal("999999")));
+        transactionService.transfer(accountNumber, otherAccountNumber, new BigDecimal("500"));
+        transactionService.withdraw(accountNumber, new BigDecimal("300"));
+        LocalDateTime after = LocalDateTime.now().plusSeconds(1);
+
+        // then
+        List<TransactionHistoryResponse> history =
+                transactionService.getTransactionHistory(accountNumber, PageRequest.of(0, 20)).getContent();
+        assertThat(history).extracting(TransactionHistoryResponse::type)
+                .containsExactly(TransactionType.WITHDRAWAL, TransactionType.TRANSFER_OUT, TransactionType.DEPOSIT);
+        assertThat(history).extracting(TransactionHistoryResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("300"), new BigDecimal("500"), new BigDecimal("1000"));
+        assertThat(history).allSatisfy(response ->
+                assertThat(response.createdAt()).isBetween(before, after));
+
+        // 거래 후 잔액이 앞뒤 거래와 이어진다
+        TransactionHistoryResponse withdrawal = history.get(0);
+        TransactionHistoryResponse transferOut = history.get(1);
+        TransactionHistoryResponse deposit = history.get(2);
+        assertThat(deposit.balanceAfterTransaction()).isEqualByComparingTo("11000");
+        assertThat(transferOut.balanceAfterTransaction()).isEqualByComparingTo(
+                deposit.balanceAfterTransaction().subtract(transferOut.amount()).subtract(transferOut.fee()));
+        assertThat(withdrawal.balanceAfterTransaction()).isEqualByComparingTo(
+                transferOut.balanceAfterTransaction().subtract(withdrawal.amount()));
+        assertThat(withdrawal.balanceAfterTransaction()).isEqualByComparingTo(
+                accountRepository.findByAccountNumber(accountNumber).orElseThrow().getBalance());
+        assertThat(transferOut.relatedAccountNumber()).isEqualTo(otherAccountNumber);
+
+        assertThat(transactionService.getTransactionHistory(otherAccountNumber, PageRequest.of(0, 20)).getContent())
+                .singleElement()
+                .satisfies(response -> {
+                    assertThat(response.id()).isEqualTo(transferOut.id());
+                    assertThat(response.type()).isEqualTo(TransactionType.TRANSFER_IN);
+                    assertThat(response.amount()).isEqualByComparingTo("500");
+                    assertThat(response.fee()).isEqualByComparingTo("0");
+                    assertThat(response.balanceAfterTransaction()).isEqualByComparingTo("10500");
+                    assertThat(response.relatedAccountNumber()).isEqualTo(accountNumber);
+                });
+    }
+
+    @Test
+    @DisplayName("페이지는 계좌별 순번 역순으로 자르고, 전체 개수를 함께 돌려준다")
+    void history_pagesBySequence() {
+        // given
+        accountService.createAccount("TH5", new BigDecimal("10000"));
+        for (int i = 1; i <= 5; i++) {
+            transactionService.deposit("TH5", new BigDecimal(i * 100));
+        }
+
+        // when
+        Page<TransactionHistoryResponse> first = transactionService.getTransactionHistory("TH5", PageRequest.of(0, 3));
+        Page<TransactionHistoryResponse> last = transactionService.getTransactionHistory("TH5", PageRequest.of(1, 3));
+
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent()).extracting(TransactionHistoryResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("500"), new BigDecimal("400"), new BigDecimal("300"));
+        assertThat(last.getContent()).extracting(TransactionHistoryResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("200"), new BigDecimal("100"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.outbox.InMemoryOutboxSink;
+import com.example.banking.domain.transaction.outbox.OutboxMessage;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 아웃박스. 거래와 같은 트랜잭션에서 쓰이고, 릴레이가 싱크로 보낸 뒤 지운다.
+ */
+@SpringBootTest(properties = "banking.outbox.poll-interval=20ms")
+@ActiveProfiles("embedded")
+class TransactionOutboxTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("커밋된 거래만 아웃박스를 거쳐 싱크로 전달되고, 전달된 행은 지워진다")
+    void committedTransactions_relayed() throws Exception {
+        // given
+        accountService.createAccount("OB1", new BigDecimal("10000"));
+        accountService.createAccount("OB2", new BigDecimal("10000"));
+
+        // when
+        TransactionResponse deposit = transactionService.deposit("OB1", new BigDecimal("1000"));
+        assertThatThrownBy(() -> transactionService.withdraw("OB1", new BigDecimal("999999")));
+        transactionService.transfer("OB1", "OB2", new BigDecimal("500"));
+
+        // then
+        List<OutboxMessage> delivered = awaitDelivered("OB", 3);
+        assertThat(delivered).extracting(OutboxMessage::accountNumber).containsExactly("OB1", "OB1", "OB2");
+        assertThat(delivered.get(0).transactionId()).isEqualTo(deposit.id());
+        assertThat(delivered.get(0).payload()).contains("\"type\":\"DEPOSIT\"");
+        assertThat(delivered).noneMatch(message -> message.payload().contains("WITHDRAWAL"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transaction_outbox WHERE account_number LIKE 'OB%'", Long.class)).isZero();
+    }
+
+    private List<OutboxMessage> awaitDelivered(String accountPrefix, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<OutboxMessage> delivered = delivered(accountPrefix);
+        while (delivered.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            delivered = delivered(accountPrefix);
+        }
+        return delivered;
+    }
+
+    private List<OutboxMessage> delivered(String accountPrefix) {
+        return outboxSink.messages().stream()
+                .filter(message -> message.accountNumber().startsWith(accountPrefix))
+                .toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.banking.api;
+
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 커밋된 거래 SSE 스트림. 구독한 계좌의 거래만, 커밋된 것만 받는다.
+ */
+@SpringBootTest(properties = "banking.transaction-stream.dispatch-interval=10ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("embedded")
+class TransactionStreamTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("구독한 계좌의 커밋된 거래만 받는다")
+    void subscribedAccount_receivesCommittedOnly() throws Exception {
+        // given
+        accountService.createAccount("TS1", new BigDecimal("10000"));
+        accountService.createAccount("TS2", new BigDecimal("10000"));
+        MvcResult result = mockMvc.perform(get("/api/transactions/stream").param("accountNumber", "TS1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        transactionService.deposit("TS2", new BigDecimal("2000"));
+        try {
+            transactionService.withdraw("TS1", new BigDecimal("999999"));
+        } catch (RuntimeException expected) {
+            // 잔액 부족으로 롤백된 거래는 스트림에 나오지 않는다
+        }
+        transactionService.deposit("TS1", new BigDecimal("1000"));
+
+        // then
+        String body = awaitBody(result, "TS1");
+        assertThat(body).contains("event:transaction", "\"type\":\"DEPOSIT\"", "\"amount\":1000");
+        assertThat(body).doesNotContain("TS2", "WITHDRAW");
+    }
+
+    private String awaitBody(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
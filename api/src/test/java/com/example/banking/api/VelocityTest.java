@@ -0,0 +1,129 @@
+package com.example.banking.api;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.jdbc.SqlStatementBudget;
+import com.example.banking.domain.account.service.AccountService;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.domain.transaction.type.TransactionType;
+import com.example.banking.domain.transaction.velocity.VelocityEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 빈도 한도. 출금은 5분에 2 건, 이체는 1시간에 10,000 원으로 줄여 판정한다.
+ */
+@SpringBootTest(properties = {
+        "banking.velocity.rules.withdrawal-count.limit=2",
+        "banking.velocity.rules.transfer-amount.limit=10000"
+})
+@ActiveProfiles("embedded")
+class VelocityTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountIdCache accountIdCache;
+
+    @Autowired
+    private VelocityEngine velocityEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("윈도 안의 출금 건수가 한도를 넘으면 DB 작업 전에 거절하고, 다른 계좌는 영향을 받지 않는다")
+    void withdraw_countLimit() {
+        // given
+        accountService.createAccount("VEL-W1", new BigDecimal("100000"));
+        accountService.createAccount("VEL-W2", new BigDecimal("100000"));
+        transactionService.withdraw("VEL-W1", new BigDecimal("1000"));
+        transactionService.withdraw("VEL-W1", new BigDecimal("1000"));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.withdraw("VEL-W1", new BigDecimal("1000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED);
+        assertThat(balance("VEL-W1")).isEqualByComparingTo("98000");
+
+        transactionService.withdraw("VEL-W2", new BigDecimal("1000"));
+        assertThat(balance("VEL-W2")).isEqualByComparingTo("99000");
+    }
+
+    @Test
+    @DisplayName("윈도 안의 이체 금액 합계가 한도를 넘는 이체는 거절하고, 한도 안의 이체는 계속 허용한다")
+    void transfer_amountLimit() {
+        // given
+        accountService.createAccount("VEL-T1", new BigDecimal("100000"));
+        accountService.createAccount("VEL-T2", BigDecimal.ZERO);
+        transactionService.transfer("VEL-T1", "VEL-T2", new BigDecimal("6000"));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.transfer("VEL-T1", "VEL-T2", new BigDecimal("5000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED);
+        transactionService.transfer("VEL-T1", "VEL-T2", new BigDecimal("4000"));
+        assertThat(balance("VEL-T2")).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 실패한 이체의 금액은 이체 금액 합계에서 돌려준다")
+    void transfer_failedAmountReleased() {
+        // given
+        accountService.createAccount("VEL-R1", new BigDecimal("5000"));
+        accountService.createAccount("VEL-R2", BigDecimal.ZERO);
+        transactionService.transfer("VEL-R1", "VEL-R2", new BigDecimal("1000"));
+
+        // when
+        assertThatThrownBy(() -> transactionService.transfer("VEL-R1", "VEL-R2", new BigDecimal("8000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.INSUFFICIENT_BALANCE);
+
+        // then: 실패한 8,000 원이 남아 있으면 1,000 + 8,000 + 2,000 이 한도(10,000)를 넘는다
+        transactionService.transfer("VEL-R1", "VEL-R2", new BigDecimal("2000"));
+        assertThat(balance("VEL-R2")).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("계좌 id 캐시에 없는 계좌는 DB 조회 없이 판정하지 않고, 잠금 경로가 캐시를 채운 다음 요청부터 센다")
+    void cacheMiss_noVerdictWithoutQuery() {
+        // given
+        accountService.createAccount("VEL-C1", new BigDecimal("100000"));
+        accountIdCache.invalidate("VEL-C1");
+
+        // when & then
+        SqlStatementBudget.of("velocity cache miss")
+                .statements(0)
+                .assertWithin(() -> assertThat(velocityEngine.tryRecord(
+                        "VEL-C1", TransactionType.WITHDRAWAL, 1, new BigDecimal("1000"))).isNull());
+        assertThat(accountIdCache.getIfCached("VEL-C1")).isNull();
+
+        transactionService.withdraw("VEL-C1", new BigDecimal("1000"));
+        assertThat(accountIdCache.getIfCached("VEL-C1")).isNotNull();
+        transactionService.withdraw("VEL-C1", new BigDecimal("1000"));
+        transactionService.withdraw("VEL-C1", new BigDecimal("1000"));
+        assertThatThrownBy(() -> transactionService.withdraw("VEL-C1", new BigDecimal("1000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED);
+        assertThat(balance("VEL-C1")).isEqualByComparingTo("97000");
+    }
+
+    private BigDecimal balance(String accountNumber) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM account WHERE account_number = ?",
+                BigDecimal.class, accountNumber);
+    }
+}
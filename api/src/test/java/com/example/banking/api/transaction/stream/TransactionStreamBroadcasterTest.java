@@ -0,0 +1,134 @@
+package com.example.banking.api.transaction.stream;
+
+import com.example.banking.domain.transaction.event.TransactionEventStream;
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import com.example.banking.domain.transaction.type.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 읽지 않는(send 가 막힌) 구독자가 있어도 다른 구독자는 계속 받고, send-timeout 이 지나면 막힌 구독자를 끊는다.
+ */
+@SuppressWarnings("unchecked")
+class TransactionStreamBroadcasterTest {
+
+    private final TransactionEventStream stream = new TransactionEventStream(1024);
+    private final StalledEmitter stalled = new StalledEmitter();
+    private final RecordingEmitter healthy = new RecordingEmitter();
+    private TransactionStreamBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        stalled.release.countDown();
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("한 구독자의 send 가 막혀도 다른 구독자는 새 거래를 받는다")
+    void stalledSubscriber_doesNotBlockOthers() throws Exception {
+        // given
+        start(Duration.ofMinutes(1));
+        broadcaster.subscribe(stalled, null, null);
+        broadcaster.subscribe(healthy, null, null);
+
+        // when
+        publish(1L);
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        publish(2L);
+        publish(3L);
+
+        // then
+        assertThat(await(() -> healthy.transactionIds.size() == 3)).isTrue();
+        assertThat(healthy.transactionIds).containsExactly(1L, 2L, 3L);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("send-timeout 안에 못 보낸 구독자는 끊고, 막힌 send 가 풀리기 전에도 디스패처는 계속 돈다")
+    void stalledSubscriber_droppedAfterSendTimeout() throws Exception {
+        // given
+        start(Duration.ofMillis(200));
+        broadcaster.subscribe(stalled, null, null);
+        broadcaster.subscribe(healthy, null, null);
+        publish(1L);
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean dropped = await(() -> broadcaster.subscriberCount() == 1);
+        publish(2L);
+
+        // then
+        assertThat(dropped).isTrue();
+        assertThat(await(() -> healthy.transactionIds.size() == 2)).isTrue();
+        assertThat(stalled.release.getCount()).isEqualTo(1);
+    }
+
+    private void start(Duration sendTimeout) {
+        TransactionStreamProperties properties = new TransactionStreamProperties(
+                true, 10, 256, Duration.ofMillis(10), Duration.ofMinutes(1), Duration.ofMinutes(1), sendTimeout);
+        broadcaster = new TransactionStreamBroadcaster(stream, properties, mock(ObjectProvider.class));
+        broadcaster.start();
+    }
+
+    private void publish(Long transactionId) {
+        stream.onCommitted(new TransactionRecordedEvent(transactionId, 1L, "TSB-1", TransactionType.DEPOSIT,
+                new BigDecimal("1000"), BigDecimal.ZERO, new BigDecimal("1000"), null, LocalDateTime.now(), transactionId));
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> transactionIds = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(TransactionRecordedEvent.class::isInstance)
+                    .forEach(data -> transactionIds.add(((TransactionRecordedEvent) data).transactionId()));
+        }
+    }
+
+    /**
+     * 클라이언트가 읽지 않아 쓰기가 막힌 연결. 실제 emitter 처럼 send 가 complete 와 같은 락을 잡고 있다.
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.banking.core.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 스트림이 쓰기 요청에 더하는 비용 - 커밋된 거래 한 건을 링 버퍼에 넣는 처리량.
+ *
+ * <ul>
+ *     <li>publish: 생산자 한 명</li>
+ *     <li>publishContended: 생산자 네 명이 동시에 발행</li>
+ *     <li>withSubscriber: 생산자 한 명 + 같은 버퍼를 계속 읽는 구독자 한 명 (구독자가 생산자를 늦추는지)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastRingBufferBenchmark {
+
+    private final BroadcastRingBuffer<Object> buffer = new BroadcastRingBuffer<>(8192);
+    private final Object event = new Object();
+
+    @Benchmark
+    public long publish() {
+        return buffer.publish(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long publishContended() {
+        return buffer.publish(event);
+    }
+
+    @Benchmark
+    @Group("withSubscriber")
+    @GroupThreads(1)
+    public long producer() {
+        return buffer.publish(event);
+    }
+
+    @Benchmark
+    @Group("withSubscriber")
+    @GroupThreads(1)
+    public void subscriber(Subscriber subscriber, Blackhole blackhole) {
+        long next = buffer.read(subscriber.cursor, 256, (element, sequence) -> blackhole.consume(element));
+        subscriber.cursor = next == BroadcastRingBuffer.LAPPED ? buffer.oldest() : next;
+    }
+
+    @State(Scope.Thread)
+    public static class Subscriber {
+        long cursor;
+    }
+}
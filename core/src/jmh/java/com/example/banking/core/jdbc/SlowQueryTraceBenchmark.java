@@ -0,0 +1,113 @@
+package com.example.banking.core.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SQL 한 건당 추적 비용.
+ *
+ * <ul>
+ *     <li>belowThreshold: 임계값 미만 SQL - 모든 SQL 이 내는 비용</li>
+ *     <li>aboveThreshold: 임계값 초과 SQL - 기록 생성 + 링 버퍼 적재 (로그 출력은 드레인 스레드)</li>
+ *     <li>showSqlFormatted: 기존 show-sql + format_sql 처럼 요청 스레드에서 SQL 을 포맷해 출력 (출력 대상은 버림)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlowQueryTraceBenchmark {
+
+    private static final String SQL = "select a1_0.id,a1_0.account_number,a1_0.balance,a1_0.status "
+            + "from account a1_0 where a1_0.account_number=? for update";
+
+    private final ExecutionInfo fastExecution = execution(1);
+    private final ExecutionInfo slowExecution = execution(150);
+    private List<QueryInfo> queries;
+
+    private SlowQueryLog slowQueryLog;
+    private SlowQueryListener listener;
+    private PrintStream discard;
+    private Thread drainer;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(SQL);
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{1, "1234567890"}
+        )));
+        queries = List.of(queryInfo);
+
+        slowQueryLog = new SlowQueryLog(4096, 1000, new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        listener = new SlowQueryListener(slowQueryLog, 100);
+        discard = new PrintStream(OutputStream.nullOutputStream());
+
+        running = true;
+        drainer = new Thread(() -> {
+            while (running) {
+                if (slowQueryLog.drain() == 0) {
+                    LockSupport.parkNanos(100_000);
+                }
+            }
+        }, "slow-query-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        drainer.join();
+    }
+
+    @Benchmark
+    public void belowThreshold() {
+        listener.afterQuery(fastExecution, queries);
+    }
+
+    @Benchmark
+    public void aboveThreshold() {
+        listener.afterQuery(slowExecution, queries);
+    }
+
+    @Benchmark
+    public void showSqlFormatted() {
+        for (QueryInfo queryInfo : queries) {
+            discard.println("Hibernate: " + FormatStyle.BASIC.getFormatter().format(queryInfo.getQuery()));
+        }
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setDataSourceName("dataSource");
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+}
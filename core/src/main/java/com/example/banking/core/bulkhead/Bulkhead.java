@@ -0,0 +1,17 @@
+package com.example.banking.core.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드를 이름이 value 인 작업 구획에서 실행한다.
+ * 구획마다 동시 실행 수, 대기열 길이, 최대 대기 시간, DB 커넥션 풀이 따로 있다. (banking.bulkhead.compartments)
+ * 트랜잭션이 시작되기 전(컨트롤러)에 붙여야 그 구획의 커넥션 풀을 쓴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    String value();
+}
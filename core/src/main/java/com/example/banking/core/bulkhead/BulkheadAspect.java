@@ -0,0 +1,34 @@
+package com.example.banking.core.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Map;
+
+/**
+ * {@link Bulkhead} 가 붙은 메서드를 해당 구획의 자리를 얻은 뒤, 그 구획의 커넥션 풀을 쓰도록 실행한다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final Map<String, Compartment> compartments;
+
+    @Around("@annotation(bulkhead)")
+    public Object execute(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        Compartment compartment = compartments.get(bulkhead.value());
+        if (compartment == null) {
+            return joinPoint.proceed();
+        }
+        compartment.acquire();
+        String outer = WorkloadContext.enter(compartment.getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(outer);
+            compartment.release();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.banking.core.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 작업 구획 설정 (banking.bulkhead.*).
+ * 구획마다 maxConcurrent 개의 전용 커넥션을 가지므로, 구획에 들어온 요청은 커넥션을 기다리지 않는다.
+ * 구획에 속하지 않은 작업(계좌 생성, 초기화 스크립트 등)은 defaultPoolSize 크기의 기본 풀을 쓴다.
+ */
+@ConfigurationProperties(prefix = "banking.bulkhead")
+public record BulkheadProperties(
+        boolean enabled,
+        int defaultPoolSize,
+        Map<String, Compartment> compartments
+) {
+    public BulkheadProperties {
+        if (defaultPoolSize < 1) {
+            defaultPoolSize = 5;
+        }
+        if (compartments == null) {
+            compartments = Map.of();
+        }
+    }
+
+    public record Compartment(int maxConcurrent, int maxQueue, Duration maxWait) {
+        public Compartment {
+            if (maxConcurrent < 1 || maxQueue < 0) {
+                throw new IllegalArgumentException("invalid compartment: maxConcurrent=" + maxConcurrent + ", maxQueue=" + maxQueue);
+            }
+            if (maxWait == null) {
+                maxWait = Duration.ofSeconds(1);
+            }
+        }
+    }
+}
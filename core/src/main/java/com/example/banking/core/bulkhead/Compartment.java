@@ -0,0 +1,89 @@
+package com.example.banking.core.bulkhead;
+
+import com.example.banking.core.error.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 구획 하나. 동시 실행은 maxConcurrent 개, 자리를 기다리는 요청은 maxQueue 개까지이며
+ * 대기열이 가득 찼거나 maxWait 안에 자리가 나지 않으면 {@link ServiceBusyException} 으로 거절한다.
+ *
+ * <p>메트릭: bulkhead.queue.wait (대기 시간), bulkhead.active, bulkhead.queued, bulkhead.rejected (태그 bulkhead)
+ */
+public class Compartment {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public Compartment(String name, BulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = config.maxConcurrent();
+        this.maxQueue = config.maxQueue();
+        this.maxWaitNanos = config.maxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        Tags tags = Tags.of("bulkhead", name);
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("bulkhead.rejected", tags);
+        Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits()).tags(tags).register(meterRegistry);
+        Gauge.builder("bulkhead.queued", queued, AtomicInteger::get).tags(tags).register(meterRegistry);
+    }
+
+    /**
+     * 자리를 얻는다. 얻으면 반드시 {@link #release()} 를 호출해야 한다.
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            queueWait.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new ServiceBusyException();
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+        }
+        queueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejected.increment();
+            throw new ServiceBusyException();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+}
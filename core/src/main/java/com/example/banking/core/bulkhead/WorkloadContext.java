@@ -0,0 +1,33 @@
+package com.example.banking.core.bulkhead;
+
+/**
+ * 현재 스레드가 실행 중인 작업 구획 이름. {@link WorkloadRoutingDataSource} 가 커넥션 풀을 고를 때 읽는다.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업 구획 진입을 기록하고 바깥 구획 이름을 반환한다. 종료 시 {@link #restore(String)} 로 되돌린다.
+     */
+    public static String enter(String workload) {
+        String previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
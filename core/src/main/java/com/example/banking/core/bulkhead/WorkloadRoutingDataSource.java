@@ -0,0 +1,37 @@
+package com.example.banking.core.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 작업 구획({@link WorkloadContext})의 전용 커넥션 풀에서 커넥션을 꺼낸다. 구획 밖이면 기본 풀을 쓴다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final HikariDataSource defaultPool;
+    private final Map<String, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(HikariDataSource defaultPool, Map<String, HikariDataSource> pools) {
+        this.defaultPool = defaultPool;
+        this.pools = Map.copyOf(pools);
+        setDefaultTargetDataSource(defaultPool);
+        setTargetDataSources(new HashMap<>(pools));
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+        defaultPool.close();
+    }
+}
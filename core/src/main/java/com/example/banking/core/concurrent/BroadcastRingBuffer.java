@@ -0,0 +1,98 @@
+package com.example.banking.core.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 다중 생산자 / 다중 구독자용 고정 크기 lock-free 브로드캐스트 링 버퍼.
+ * 생산자는 시퀀스를 하나 받아 슬롯을 덮어쓰기만 하고 구독자를 기다리지 않는다.
+ * 구독자는 각자 읽을 시퀀스(커서)를 들고 있고, 생산자에게 한 바퀴 이상 뒤처지면 {@link #LAPPED} 를 받는다.
+ */
+public final class BroadcastRingBuffer<E> {
+
+    /**
+     * 읽으려던 시퀀스가 이미 덮어써졌다. (구독자가 버퍼 크기 이상 뒤처짐)
+     */
+    public static final long LAPPED = -1;
+
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BroadcastRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 버퍼에 넣고 받은 시퀀스를 반환한다. 가장 오래된 항목을 덮어쓸 뿐 막히지 않는다.
+     * 시퀀스를 받은 뒤 늦어져 한 바퀴 뒤의 생산자가 이미 슬롯을 썼으면, 더 새 항목을 덮지 않고 이 항목을 버린다.
+     * (그 시퀀스를 읽으려던 구독자는 한 바퀴 뒤처진 것과 같으므로 {@link #LAPPED} 를 받는다)
+     */
+    public long publish(E element) {
+        long seq = sequence.getAndIncrement();
+        int index = (int) (seq & mask);
+        Slot<E> slot = new Slot<>(seq, element);
+        while (true) {
+            Slot<E> current = slots.get(index);
+            if (current != null && current.sequence > seq) {
+                return seq;
+            }
+            if (slots.compareAndSet(index, current, slot)) {
+                return seq;
+            }
+        }
+    }
+
+    /**
+     * 다음에 발행될 시퀀스. 새 구독자는 이 값을 커서로 시작하면 이후 항목만 받는다.
+     */
+    public long cursor() {
+        return sequence.get();
+    }
+
+    /**
+     * 아직 덮어써지지 않은 가장 오래된 시퀀스.
+     */
+    public long oldest() {
+        return Math.max(0, sequence.get() - slots.length());
+    }
+
+    /**
+     * from 부터 최대 limit 건을 (항목, 시퀀스) 로 순서대로 넘기고 다음에 읽을 시퀀스를 반환한다.
+     * 시퀀스를 받았지만 아직 슬롯을 쓰지 않은 생산자가 있으면 그 앞에서 멈춘다.
+     *
+     * @return 다음 커서, 또는 from 이 이미 덮어써졌으면 {@link #LAPPED}
+     */
+    public long read(long from, int limit, ObjLongConsumer<? super E> consumer) {
+        long next = from;
+        long end = from + limit;
+        while (next < end) {
+            Slot<E> slot = slots.getAcquire((int) (next & mask));
+            if (slot == null || slot.sequence < next) {
+                break;
+            }
+            if (slot.sequence > next) {
+                return LAPPED;
+            }
+            consumer.accept(slot.element, next);
+            next++;
+        }
+        return next;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private record Slot<E>(long sequence, E element) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.banking.core.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자 / 단일 소비자용 고정 크기 lock-free 링 버퍼.
+ * 각 슬롯의 시퀀스 번호로 생산자 간 경합을 CAS 한 번으로 해결하고, 가득 차면 기다리지 않고 버린다.
+ * 요청 스레드에서 관측 데이터를 넘기고 백그라운드 스레드 하나가 모아서 처리하는 용도로 쓴다.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // 소비자 스레드만 접근한다.
+    private long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 버퍼에 넣는다. 가득 차 있으면 버린 건수만 올리고 false 를 반환한다.
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.getAcquire(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드에서만 호출한다. 비어 있으면 null.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * 소비자 스레드에서만 호출한다. 최대 limit 건을 꺼내 처리하고 처리한 건수를 반환한다.
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
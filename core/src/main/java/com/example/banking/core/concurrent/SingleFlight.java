@@ -0,0 +1,81 @@
+package com.example.banking.core.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합친다.
+ * 먼저 온 호출(leader)만 loader 를 실행하고, 실행 중에 같은 키와 같은 stamp 로 들어온 호출은 그 결과(또는 예외)를 함께 받는다.
+ *
+ * <p>stamp 는 호출 시점의 데이터 버전이다. stamp 가 다르면 진행 중인 조회에 합류하지 않고 새로 조회하므로,
+ * 조회가 시작된 뒤에 반영된 쓰기가 그 이후에 도착한 호출에게 보이지 않는 일은 없다. 음수 stamp 는 합치지 않는다.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    public V execute(K key, long stamp, Supplier<V> loader) {
+        if (stamp < 0) {
+            return loader.get();
+        }
+        while (true) {
+            Flight<V> existing = flights.get(key);
+            if (existing != null && existing.stamp == stamp) {
+                return existing.join();
+            }
+            Flight<V> flight = new Flight<>(stamp);
+            boolean registered = existing == null
+                    ? flights.putIfAbsent(key, flight) == null
+                    : flights.replace(key, existing, flight);
+            if (registered) {
+                return lead(key, flight, loader);
+            }
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 조회 수. (모니터링용)
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private static final class Flight<V> {
+        private final long stamp;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Flight(long stamp) {
+            this.stamp = stamp;
+        }
+
+        private V join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.banking.core.concurrent;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * long 키별 슬라이딩 윈도 카운터. 키마다 같은 구성의 카운터 여러 개를 두고, 카운터 하나는 윈도를 buckets 칸으로 나눈 원형 배열이다.
+ * 윈도 합은 최근 buckets 칸의 합이므로 오차는 한 칸(window / buckets) 이내다.
+ *
+ * <p>키는 여러 개의 stripe 로 나뉘고, stripe 는 키와 칸을 모두 long 배열에 담는 open addressing 해시 테이블이다.
+ * 판정과 갱신은 stripe 잠금 안에서 배열만 읽고 쓰므로 객체를 만들지 않는다. (테이블을 키울 때만 배열을 새로 만든다)
+ * 각 stripe 는 접근하는 스레드가 주기적으로 훑어 idleTimeout 동안 쓰이지 않은 키를 지운다.
+ * idleTimeout 은 가장 긴 윈도보다 짧을 수 없다. 그 안에 쓰이지 않은 키는 모든 칸이 비어 있어 지워도 새 키와 같다.
+ */
+public final class SlidingWindowCounterMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Stripe[] stripes;
+    private final long[] bucketNanos;
+    private final boolean[] sums;
+    private final int buckets;
+    private final int cells;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    public SlidingWindowCounterMap(Window[] windows, int buckets, int stripeCount, long idleTimeoutNanos) {
+        this(windows, buckets, stripeCount, idleTimeoutNanos, System::nanoTime);
+    }
+
+    public SlidingWindowCounterMap(Window[] windows, int buckets, int stripeCount, long idleTimeoutNanos,
+                                   LongSupplier nanoClock) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("buckets must be positive: " + buckets);
+        }
+        this.buckets = buckets;
+        this.cells = windows.length * buckets;
+        this.bucketNanos = new long[windows.length];
+        this.sums = new boolean[windows.length];
+        long longestWindow = 0;
+        for (int i = 0; i < windows.length; i++) {
+            bucketNanos[i] = Math.max(1, windows[i].windowNanos() / buckets);
+            sums[i] = windows[i].measure() == Measure.SUM;
+            longestWindow = Math.max(longestWindow, windows[i].windowNanos());
+        }
+        this.idleTimeoutNanos = Math.max(idleTimeoutNanos, longestWindow);
+        this.nanoClock = nanoClock;
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(cells, now);
+        }
+    }
+
+    /**
+     * key 의 카운터마다 건수 count 또는 합계 amount 를 더한다.
+     * limits[i] 가 음수인 카운터는 건너뛰고(판정도 갱신도 하지 않는다), 윈도 합이 limits[i] 를 넘게 되는 카운터가 있으면
+     * 아무것도 더하지 않고 그 카운터 번호를 반환한다. 모두 한도 안이면 더하고 -1 을 반환한다.
+     */
+    public int tryAdd(long key, long count, long amount, long[] limits) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("reserved key: " + key);
+        }
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[index(key)];
+        synchronized (stripe) {
+            sweepIfDue(stripe, now);
+            int slot = stripe.findOrInsert(key, cells);
+            stripe.lastAccess[slot] = now;
+            int base = slot * cells;
+
+            // 1. 판정: 한도를 넘는 카운터가 하나라도 있으면 더하지 않는다
+            for (int i = 0; i < limits.length; i++) {
+                if (limits[i] < 0) {
+                    continue;
+                }
+                long delta = sums[i] ? amount : count;
+                if (windowTotal(stripe, base + i * buckets, i, now) + delta > limits[i]) {
+                    return i;
+                }
+            }
+
+            // 2. 갱신
+            for (int i = 0; i < limits.length; i++) {
+                if (limits[i] < 0) {
+                    continue;
+                }
+                long bucket = Math.floorDiv(now, bucketNanos[i]);
+                int cell = base + i * buckets + (int) Math.floorMod(bucket, (long) buckets);
+                if (stripe.epochs[cell] != bucket) {
+                    stripe.epochs[cell] = bucket;
+                    stripe.values[cell] = 0;
+                }
+                stripe.values[cell] += sums[i] ? amount : count;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * tryAdd 로 더한 합계 amount 를 다시 뺀다. limits[i] 가 음수가 아닌 합계 카운터만 최근 칸부터 빼고, 건수 카운터는 그대로 둔다.
+     * 윈도를 벗어난 칸은 이미 합에서 빠졌으므로 남은 금액이 있어도 더 빼지 않는다.
+     */
+    public void subtract(long key, long amount, long[] limits) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[index(key)];
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            if (slot < 0) {
+                return;
+            }
+            int base = slot * cells;
+            for (int i = 0; i < limits.length; i++) {
+                if (limits[i] < 0 || !sums[i]) {
+                    continue;
+                }
+                long remaining = amount;
+                long current = Math.floorDiv(now, bucketNanos[i]);
+                for (long bucket = current; bucket > current - buckets && remaining > 0; bucket--) {
+                    int cell = base + i * buckets + (int) Math.floorMod(bucket, (long) buckets);
+                    if (stripe.epochs[cell] == bucket) {
+                        long taken = Math.min(stripe.values[cell], remaining);
+                        stripe.values[cell] -= taken;
+                        remaining -= taken;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * key 의 counter 번째 카운터의 현재 윈도 합. 키가 없으면 0 이다.
+     */
+    public long total(long key, int counter) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[index(key)];
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            return slot < 0 ? 0 : windowTotal(stripe, slot * cells + counter * buckets, counter, now);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    // 현재 칸을 포함한 최근 buckets 칸의 합
+    private long windowTotal(Stripe stripe, int from, int counter, long now) {
+        long oldest = Math.floorDiv(now, bucketNanos[counter]) - buckets;
+        long total = 0;
+        for (int cell = from; cell < from + buckets; cell++) {
+            if (stripe.epochs[cell] > oldest) {
+                total += stripe.values[cell];
+            }
+        }
+        return total;
+    }
+
+    private void sweepIfDue(Stripe stripe, long now) {
+        if (now - stripe.lastSweep < idleTimeoutNanos) {
+            return;
+        }
+        stripe.lastSweep = now;
+        int slot = 0;
+        while (slot < stripe.keys.length) {
+            // 지운 자리로 뒤의 키가 당겨져 올 수 있으므로 같은 자리를 다시 본다
+            if (stripe.keys[slot] != EMPTY && now - stripe.lastAccess[slot] >= idleTimeoutNanos) {
+                stripe.remove(slot, cells);
+            } else {
+                slot++;
+            }
+        }
+    }
+
+    // stripe 는 해시의 윗비트로 고른다. 아랫비트는 stripe 안의 테이블 슬롯에 쓰므로 겹치면 한 stripe 의 키가 몰린다.
+    private int index(long key) {
+        return (mix(key) >>> 16) & (stripes.length - 1);
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 카운터의 윈도 길이와 더하는 값(건수 / 합계).
+     */
+    public record Window(long windowNanos, Measure measure) {
+        public Window {
+            if (windowNanos <= 0 || measure == null) {
+                throw new IllegalArgumentException("invalid window: " + windowNanos + "ns " + measure);
+            }
+        }
+    }
+
+    public enum Measure {
+        COUNT, SUM
+    }
+
+    /**
+     * 선형 탐사 해시 테이블. 슬롯 i 의 칸은 epochs / values 의 [i * cells, (i + 1) * cells) 구간이다.
+     */
+    private static final class Stripe {
+        private long[] keys;
+        private long[] lastAccess;
+        private long[] epochs;
+        private long[] values;
+        private int size;
+        private long lastSweep;
+
+        private Stripe(int cells, long now) {
+            allocate(INITIAL_CAPACITY, cells);
+            this.lastSweep = now;
+        }
+
+        private void allocate(int capacity, int cells) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            lastAccess = new long[capacity];
+            epochs = new long[capacity * cells];
+            Arrays.fill(epochs, Long.MIN_VALUE);
+            values = new long[capacity * cells];
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (keys[slot] == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        private int findOrInsert(long key, int cells) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                if (keys[slot] == EMPTY) {
+                    // 사용률 1/2 을 넘으면 두 배로 키운다
+                    if ((size + 1) * 2 > keys.length) {
+                        grow(cells);
+                        return findOrInsert(key, cells);
+                    }
+                    keys[slot] = key;
+                    size++;
+                    return slot;
+                }
+            }
+        }
+
+        private void grow(int cells) {
+            long[] oldKeys = keys;
+            long[] oldLastAccess = lastAccess;
+            long[] oldEpochs = epochs;
+            long[] oldValues = values;
+            allocate(oldKeys.length * 2, cells);
+            int mask = keys.length - 1;
+            for (int old = 0; old < oldKeys.length; old++) {
+                if (oldKeys[old] == EMPTY) {
+                    continue;
+                }
+                int slot = mix(oldKeys[old]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[old];
+                lastAccess[slot] = oldLastAccess[old];
+                System.arraycopy(oldEpochs, old * cells, epochs, slot * cells, cells);
+                System.arraycopy(oldValues, old * cells, values, slot * cells, cells);
+            }
+        }
+
+        // 선형 탐사를 끊지 않도록 뒤에 이어진 키를 빈자리로 당긴다 (backward shift)
+        private void remove(int slot, int cells) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = mix(keys[next]) & mask;
+                // home 이 (hole, next] 구간 밖이면 hole 로 옮겨도 탐사 경로가 유지된다
+                boolean between = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+                if (!between) {
+                    keys[hole] = keys[next];
+                    lastAccess[hole] = lastAccess[next];
+                    System.arraycopy(epochs, next * cells, epochs, hole * cells, cells);
+                    System.arraycopy(values, next * cells, values, hole * cells, cells);
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            Arrays.fill(epochs, hole * cells, (hole + 1) * cells, Long.MIN_VALUE);
+            Arrays.fill(values, hole * cells, (hole + 1) * cells, 0);
+            size--;
+        }
+    }
+}
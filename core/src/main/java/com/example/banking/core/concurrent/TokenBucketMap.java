@@ -0,0 +1,144 @@
+package com.example.banking.core.concurrent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷. 버킷 하나는 "다음 요청이 허용되는 이론상 시각" 하나로 표현되어(GCRA) CAS 한 번으로 갱신된다.
+ *
+ * <p>키는 여러 개의 맵(stripe)으로 나뉘고, 각 stripe 는 접근하는 스레드가 주기적으로 훑어 오래 쓰이지 않은 버킷을 지운다.
+ * 오래 쓰이지 않은 버킷은 가득 찬 상태이므로 지워도 새로 만든 버킷과 같다.
+ * 한도(Limit)는 버킷을 만들 때 한 번만 조회한다. 한도를 아직 알 수 없는 키는 임시 한도로 두고 알게 될 때까지 다시 묻는다.
+ */
+public final class TokenBucketMap<K> {
+
+    private final Stripe<K>[] stripes;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketMap(int stripeCount, long idleTimeoutNanos) {
+        this(stripeCount, idleTimeoutNanos, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketMap(int stripeCount, long idleTimeoutNanos, LongSupplier nanoClock) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe<>(now);
+        }
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다. 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(나노초)을 반환한다.
+     */
+    public long tryAcquire(K key, Function<? super K, Limit> limitResolver) {
+        return tryAcquire(key, limitResolver, null);
+    }
+
+    /**
+     * limitResolver 가 null 을 주면 provisionalLimit 로 임시 버킷을 만든다.
+     * 임시 버킷은 요청마다 한도를 다시 묻고, 한도가 나오면 지금까지 쓴 토큰을 이어받은 버킷으로 바꾼다.
+     */
+    public long tryAcquire(K key, Function<? super K, Limit> limitResolver, Limit provisionalLimit) {
+        long now = nanoClock.getAsLong();
+        Stripe<K> stripe = stripes[index(key)];
+        sweepIfDue(stripe, now);
+
+        Bucket bucket = stripe.buckets.get(key);
+        if (bucket == null || bucket.provisional) {
+            // 한도 조회를 맵 잠금 안에서 하지 않도록 computeIfAbsent / compute 를 쓰지 않는다.
+            Limit limit = limitResolver.apply(key);
+            if (bucket == null) {
+                Bucket created = limit != null
+                        ? new Bucket(limit, false, now)
+                        : new Bucket(provisionalLimit, true, now);
+                bucket = stripe.buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    bucket = created;
+                }
+            } else if (limit != null) {
+                Bucket resolved = new Bucket(limit, false, bucket.theoreticalArrival.get());
+                bucket = stripe.buckets.replace(key, bucket, resolved)
+                        ? resolved
+                        : stripe.buckets.getOrDefault(key, resolved);
+            }
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K> stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private void sweepIfDue(Stripe<K> stripe, long now) {
+        long lastSweep = stripe.lastSweep.get();
+        if (now - lastSweep < idleTimeoutNanos || !stripe.lastSweep.compareAndSet(lastSweep, now)) {
+            return;
+        }
+        stripe.buckets.values().removeIf(bucket -> now - bucket.theoreticalArrival.get() >= idleTimeoutNanos);
+    }
+
+    private int index(K key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * 초당 허용 건수와 한 번에 몰아서 허용할 수 있는 최대 건수.
+     */
+    public record Limit(double permitsPerSecond, int burst) {
+        public Limit {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("invalid limit: " + permitsPerSecond + "/s, burst " + burst);
+            }
+        }
+    }
+
+    private static final class Stripe<K> {
+        private final ConcurrentHashMap<K, Bucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweep;
+
+        private Stripe(long now) {
+            this.lastSweep = new AtomicLong(now);
+        }
+    }
+
+    private static final class Bucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong theoreticalArrival;
+        private final boolean provisional;
+
+        private Bucket(Limit limit, boolean provisional, long theoreticalArrival) {
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / limit.permitsPerSecond()));
+            this.toleranceNanos = intervalNanos * (limit.burst() - 1);
+            this.theoreticalArrival = new AtomicLong(theoreticalArrival);
+            this.provisional = provisional;
+        }
+
+        private long tryAcquire(long now) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = Math.max(arrival, now);
+                long ahead = start - now - toleranceNanos;
+                if (ahead > 0) {
+                    return ahead;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
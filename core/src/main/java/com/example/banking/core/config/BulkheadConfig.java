@@ -0,0 +1,74 @@
+package com.example.banking.core.config;
+
+import com.example.banking.core.bulkhead.BulkheadAspect;
+import com.example.banking.core.bulkhead.BulkheadProperties;
+import com.example.banking.core.bulkhead.Compartment;
+import com.example.banking.core.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작업 구획(bulkhead)별 동시 실행 제한과 전용 커넥션 풀 (banking.bulkhead.*).
+ * 잠금을 오래 잡는 쓰기가 몰려도 다른 구획(조회)의 커넥션과 스레드를 가져가지 못한다.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "banking.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        Map<String, Compartment> compartments = new LinkedHashMap<>();
+        properties.compartments().forEach((name, config) -> compartments.put(name, new Compartment(name, config, meterRegistry)));
+        return new BulkheadAspect(compartments);
+    }
+
+    // 샤딩을 켜면 샤드마다 구획별 풀을 둔다 (ShardingConfig)
+    @Bean
+    @ConditionalOnProperty(prefix = "banking.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public WorkloadRoutingDataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            BulkheadProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return workloadPools(dataSourceProperties, "", properties, meterRegistry);
+    }
+
+    static WorkloadRoutingDataSource workloadPools(
+            DataSourceProperties dataSourceProperties,
+            String namePrefix,
+            BulkheadProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource defaultPool = pool(dataSourceProperties, namePrefix + "default", properties.defaultPoolSize(), meterRegistry);
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        properties.compartments().forEach((name, config) ->
+                pools.put(name, pool(dataSourceProperties, namePrefix + name, config.maxConcurrent(), meterRegistry)));
+        return new WorkloadRoutingDataSource(defaultPool, pools);
+    }
+
+    static HikariDataSource pool(
+            DataSourceProperties dataSourceProperties,
+            String name,
+            int size,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        pool.setPoolName("banking-" + name);
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(Math.min(size, 2));
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
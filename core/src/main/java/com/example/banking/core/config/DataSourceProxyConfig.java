@@ -0,0 +1,19 @@
+package com.example.banking.core.config;
+
+import com.example.banking.core.jdbc.DataSourceProxyBeanPostProcessor;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 등록한다.
+    @Bean
+    public static DataSourceProxyBeanPostProcessor dataSourceProxyBeanPostProcessor(
+            ObjectProvider<QueryExecutionListener> listeners
+    ) {
+        return new DataSourceProxyBeanPostProcessor(listeners);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.banking.core.config;
+
+import com.example.banking.core.bulkhead.BulkheadProperties;
+import com.example.banking.core.sharding.ShardMap;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.sharding.ShardRoutingDataSource;
+import com.example.banking.core.sharding.ShardingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계좌번호 기준 수평 샤딩 (banking.sharding.*).
+ * {@link ShardRouter} 는 항상 등록하고(꺼져 있으면 샤드 1개), 켜져 있으면 샤드별 커넥션 풀을 묶은 라우팅 DataSource 를 등록한다.
+ * 작업 구획(bulkhead)도 켜져 있으면 샤드마다 구획별 풀을 둔다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final int SHARD_POOL_SIZE = 10;
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        if (!properties.enabled()) {
+            return new ShardRouter(ShardMap.single());
+        }
+        return new ShardRouter(new ShardMap(properties.shards().size(), properties.buckets()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "banking.sharding", name = "enabled", havingValue = "true")
+    public ShardRoutingDataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            ShardingProperties properties,
+            ObjectProvider<BulkheadProperties> bulkheadProperties,
+            MeterRegistry meterRegistry,
+            ResourceLoader resourceLoader
+    ) {
+        BulkheadProperties bulkhead = bulkheadProperties.getIfAvailable();
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.shards().size(); i++) {
+            DataSourceProperties shardProperties = shardDataSourceProperties(dataSourceProperties, properties.shards().get(i));
+            DataSource shard = bulkhead == null
+                    ? BulkheadConfig.pool(shardProperties, "shard" + i, SHARD_POOL_SIZE, meterRegistry)
+                    : BulkheadConfig.workloadPools(shardProperties, "shard" + i + "-", bulkhead, meterRegistry);
+            initialize(shard, i, properties.init(), resourceLoader);
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    private static DataSourceProperties shardDataSourceProperties(DataSourceProperties base, ShardingProperties.Shard shard) {
+        DataSourceProperties shardProperties = new DataSourceProperties();
+        shardProperties.setDriverClassName(base.getDriverClassName());
+        shardProperties.setUrl(shard.url());
+        shardProperties.setUsername(shard.username() == null ? base.getUsername() : shard.username());
+        shardProperties.setPassword(shard.password() == null ? base.getPassword() : shard.password());
+        return shardProperties;
+    }
+
+    /**
+     * 스키마와 기본 데이터를 넣고, 거래 id 시퀀스를 샤드별 구간으로 옮긴다.
+     * 거래 id 는 여러 샤드에서 받아 온 구간을 Hibernate 가 함께 나눠 주므로 구간이 겹치지 않아야 한다.
+     */
+    private static void initialize(DataSource shard, int index, ShardingProperties.Init init, ResourceLoader resourceLoader) {
+        if (init.schemaLocations().isEmpty() && init.dataLocations().isEmpty()) {
+            return;
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.setSqlScriptEncoding("UTF-8");
+        init.schemaLocations().forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+        init.dataLocations().forEach(location -> populator.addScript(resourceLoader.getResource(location)));
+        populator.execute(shard);
+        if (index > 0 && !init.schemaLocations().isEmpty()) {
+            new JdbcTemplate(shard).execute("ALTER SEQUENCE transaction_seq RESTART WITH "
+                    + (index * ShardingProperties.TRANSACTION_ID_BLOCK + 1));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.banking.core.config;
+
+import com.example.banking.core.jdbc.SlowQueryListener;
+import com.example.banking.core.jdbc.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 느린 SQL 추적 (banking.sql-trace.*).
+ * SlowQueryListener 는 DataSourceProxyBeanPostProcessor 가 DataSource 프록시에 연결한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "banking.sql-trace", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(
+            @Value("${banking.sql-trace.buffer-size:4096}") int bufferSize,
+            @Value("${banking.sql-trace.drain-interval-ms:1000}") long drainIntervalMillis,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new SlowQueryLog(bufferSize, drainIntervalMillis, meterRegistry);
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(
+            SlowQueryLog slowQueryLog,
+            @Value("${banking.sql-trace.threshold-ms:100}") long thresholdMillis
+    ) {
+        return new SlowQueryListener(slowQueryLog, thresholdMillis);
+    }
+}
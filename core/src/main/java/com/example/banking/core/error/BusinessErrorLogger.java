@@ -0,0 +1,84 @@
+package com.example.banking.core.error;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 비즈니스 예외 로그를 ErrorCode 별로 초당 건수 제한 + 샘플링해서 남긴다.
+ * 초당 permitsPerSecond 건까지는 모두 남기고, 그 이후에는 sampleRate 건 중 1건만 남기며
+ * 건너뛴 건수를 함께 출력한다.
+ */
+@Slf4j
+@Component
+public class BusinessErrorLogger {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permitsPerSecond;
+    private final int sampleRate;
+    private final LongSupplier nanoClock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BusinessErrorLogger(
+            @Value("${banking.error-log.permits-per-second:10}") int permitsPerSecond,
+            @Value("${banking.error-log.sample-rate:100}") int sampleRate
+    ) {
+        this(permitsPerSecond, sampleRate, System::nanoTime);
+    }
+
+    BusinessErrorLogger(int permitsPerSecond, int sampleRate, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.nanoClock = nanoClock;
+    }
+
+    public void log(BusinessException e) {
+        long suppressed = sample(e.getErrorCode());
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed == 0) {
+            log.warn("BusinessException: [{}] {}", e.getErrorCode().getCode(), e.getMessage());
+        } else {
+            log.warn("BusinessException: [{}] {} (suppressed {})", e.getErrorCode().getCode(), e.getMessage(), suppressed);
+        }
+    }
+
+    /**
+     * 로그를 남길 차례면 직전 로그 이후 건너뛴 건수(0 이상)를, 건너뛸 차례면 -1 을 반환한다.
+     */
+    long sample(ErrorCode errorCode) {
+        Window window = windows.computeIfAbsent(errorCode.getCode(), code -> new Window(nanoClock.getAsLong()));
+        long now = nanoClock.getAsLong();
+        long start = window.start.get();
+        if (now - start >= WINDOW_NANOS && window.start.compareAndSet(start, now)) {
+            window.count.set(0);
+        }
+
+        long count = window.count.incrementAndGet();
+        if (count <= permitsPerSecond || (count - permitsPerSecond) % sampleRate == 0) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return -1;
+    }
+
+    private static final class Window {
+        private final AtomicLong start;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
@@ -2,17 +2,21 @@ package com.example.banking.core.error;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 규칙 위반 예외.
+ * 잔액 부족, 한도 초과처럼 부하 상황에서도 자주 발생하는 정상적인 거절 경로이므로
+ * 스택 트레이스를 만들지 않는다. (발생 위치는 ErrorCode 로 충분히 식별된다)
+ */
 @Getter
 public class BusinessException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage());
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
-} 
\ No newline at end of file
+}
@@ -7,7 +7,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum CommonErrorCode implements ErrorCode {
     INVALID_INPUT_VALUE("C001", "입력값이 올바르지 않습니다."),
-    INTERNAL_SERVER_ERROR("C002", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR("C002", "서버 내부 오류가 발생했습니다."),
+    TOO_MANY_REQUESTS("C003", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_BUSY("C004", "처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final String message;
@@ -2,12 +2,30 @@ package com.example.banking.core.error;
 
 import lombok.Builder;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Builder
 public record ErrorResponse(
         String code,
         String message
 ) {
+    // ErrorCode 별 기본 응답은 불변이므로 한 번만 만들어 재사용한다.
+    private static final Map<ErrorCode, ErrorResponse> CACHE = new ConcurrentHashMap<>();
+
     public ErrorResponse(ErrorCode errorCode) {
         this(errorCode.getCode(), errorCode.getMessage());
     }
-} 
\ No newline at end of file
+
+    public static ErrorResponse of(ErrorCode errorCode) {
+        return CACHE.computeIfAbsent(errorCode, ErrorResponse::new);
+    }
+
+    public static ErrorResponse of(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getMessage().equals(e.getMessage())) {
+            return of(errorCode);
+        }
+        return new ErrorResponse(errorCode.getCode(), e.getMessage());
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.banking.core.error;
 
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,28 +12,43 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final BusinessErrorLogger businessErrorLogger;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e, HttpServletRequest request) {
-        log.error("BusinessException: {}", e.getMessage());
-        ErrorResponse response = ErrorResponse.builder()
-                .code(e.getErrorCode().getCode())
-                .message(e.getMessage())
-                .build();
-        return ResponseEntity.badRequest().body(response);
+        businessErrorLogger.log(e);
+        return ResponseEntity.badRequest().body(ErrorResponse.of(e));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        businessErrorLogger.log(e);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(e));
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException e) {
+        businessErrorLogger.log(e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorResponse.of(e));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e, HttpServletRequest request) {
-        e.printStackTrace();
-        return ResponseEntity.status(500).body(new ErrorResponse(CommonErrorCode.INTERNAL_SERVER_ERROR));
+        log.error("Unhandled exception: {} {}", request.getMethod(), request.getRequestURI(), e);
+        return ResponseEntity.status(500).body(ErrorResponse.of(CommonErrorCode.INTERNAL_SERVER_ERROR));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
         log.error("ValidationException: {}", e.getMessage());
         return ResponseEntity.badRequest()
-                .body(new ErrorResponse(CommonErrorCode.INVALID_INPUT_VALUE));
+                .body(ErrorResponse.of(CommonErrorCode.INVALID_INPUT_VALUE));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.example.banking.core.error;
+
+/**
+ * 작업 구획(bulkhead)이 가득 차 요청을 받을 수 없을 때의 거절. HTTP 503 으로 응답한다.
+ */
+public class ServiceBusyException extends BusinessException {
+
+    public ServiceBusyException() {
+        super(CommonErrorCode.SERVICE_BUSY);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.banking.core.error;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도를 넘은 요청의 거절. HTTP 429 와 Retry-After 헤더로 응답한다.
+ */
+@Getter
+public class TooManyRequestsException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(CommonErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.banking.core.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션을 받은 시점부터 close 까지의 시간을 {@link ConnectionHoldTimer} 에 더한다.
+ * 풀에서 실제로 커넥션을 빌린 시간이 대상이므로 지연 커넥션 프록시보다 안쪽(풀 바로 위)에 둔다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTimeDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new HoldTimeHandler(connection, System.nanoTime()));
+    }
+
+    private static final class HoldTimeHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private boolean closed;
+
+        private HoldTimeHandler(Connection target, long acquiredAt) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if ("close".equals(method.getName()) && !closed) {
+                closed = true;
+                // 커넥션을 반납한 스레드 기준으로 기록한다. (요청 스레드가 빌리고 반납한다)
+                ConnectionHoldTimer.record(System.nanoTime() - acquiredAt);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
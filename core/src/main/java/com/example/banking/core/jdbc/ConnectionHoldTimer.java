@@ -0,0 +1,21 @@
+package com.example.banking.core.jdbc;
+
+/**
+ * 스레드별 물리 커넥션 점유 시간 누적값(ns).
+ * {@link SqlStatementCounter} 와 같이 줄어들지 않는 값이므로 구간 시간은 시작/종료 시점의 차이로 구한다.
+ */
+public final class ConnectionHoldTimer {
+
+    private static final ThreadLocal<long[]> HELD_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ConnectionHoldTimer() {
+    }
+
+    public static long current() {
+        return HELD_NANOS.get()[0];
+    }
+
+    static void record(long nanos) {
+        HELD_NANOS.get()[0] += nanos;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.banking.core.jdbc;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource 를 SQL 계측 프록시로 감싼다.
+ * 통계 카운터 외에 빈으로 등록된 {@link QueryExecutionListener} 도 함께 연결한다.
+ * <p>
+ * 가장 바깥은 {@link LazyConnectionDataSourceProxy} 로 감싸 첫 SQL 을 실행할 때 풀에서 커넥션을 빌리게 한다.
+ * 트랜잭션을 시작했지만 SQL 을 실행하기 전(검증, 캐시 조회)이나 SQL 이 없는 트랜잭션은 커넥션을 잡지 않는다.
+ * 풀 바로 위에는 {@link ConnectionHoldTimeDataSource} 를 두어 실제 커넥션 점유 시간을 잰다.
+ */
+public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryExecutionListener> listeners;
+
+    public DataSourceProxyBeanPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)
+                || bean instanceof ProxyDataSource || bean instanceof LazyConnectionDataSourceProxy) {
+            return bean;
+        }
+
+        SqlStatementCountingListener countingListener = new SqlStatementCountingListener();
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(new ConnectionHoldTimeDataSource(dataSource))
+                .name(beanName)
+                .listener(countingListener)
+                .methodListener(countingListener)
+                .proxyResultSet();
+        listeners.orderedStream().forEach(builder::listener);
+        return new LazyConnectionDataSourceProxy(builder.build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.banking.core.jdbc;
+
+/**
+ * 현재 스레드에서 실행 중인 서비스 메서드 이름 ("AccountService.createAccount").
+ * {@link SqlStatementServiceAspect} 가 채우고, SQL 관측 코드가 어느 서비스에서 실행된 SQL 인지 표시할 때 읽는다.
+ */
+public final class ServiceMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ServiceMethodContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 서비스 메서드 진입을 기록하고 바깥 서비스 메서드 이름을 반환한다. 종료 시 {@link #restore(String)} 로 되돌린다.
+     */
+    static String enter(String method) {
+        String previous = CURRENT.get();
+        CURRENT.set(method);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
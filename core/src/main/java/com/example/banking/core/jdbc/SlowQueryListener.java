@@ -0,0 +1,90 @@
+package com.example.banking.core.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 임계값보다 오래 걸린 SQL 만 바인드 파라미터, 호출한 서비스 메서드, 잠금 대기 시간과 함께 {@link SlowQueryLog} 에 넘긴다.
+ * 임계값 이하인 SQL 은 비교 한 번으로 끝나고, 문자열 변환은 느린 SQL 에서만 일어난다.
+ */
+@RequiredArgsConstructor
+public class SlowQueryListener implements QueryExecutionListener {
+
+    static final int MAX_PARAMETER_LENGTH = 100;
+    static final int MAX_PARAMETER_SETS = 10;
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdMillis;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMillis) {
+            return;
+        }
+        slowQueryLog.record(toRecord(execInfo, queryInfoList, elapsed));
+    }
+
+    private static SlowQueryRecord toRecord(ExecutionInfo execInfo, List<QueryInfo> queryInfoList, long elapsed) {
+        List<String> queries = new ArrayList<>(queryInfoList.size());
+        List<List<String>> parameters = new ArrayList<>();
+        boolean locking = false;
+        for (QueryInfo queryInfo : queryInfoList) {
+            queries.add(queryInfo.getQuery());
+            locking |= isLockingRead(queryInfo.getQuery());
+            for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+                if (parameters.size() == MAX_PARAMETER_SETS) {
+                    break;
+                }
+                parameters.add(toParameters(operations));
+            }
+        }
+        return new SlowQueryRecord(
+                Instant.now(),
+                execInfo.getDataSourceName(),
+                ServiceMethodContext.current(),
+                elapsed,
+                locking ? elapsed : 0,
+                execInfo.isSuccess(),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 1,
+                queries,
+                parameters
+        );
+    }
+
+    private static List<String> toParameters(List<ParameterSetOperation> operations) {
+        List<String> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+                values.add("null");
+            } else if (args.length > 1) {
+                values.add(truncate(String.valueOf(args[1])));
+            }
+        }
+        return values;
+    }
+
+    private static boolean isLockingRead(String query) {
+        return query != null && query.toLowerCase(Locale.ROOT).contains(" for update");
+    }
+
+    private static String truncate(String value) {
+        if (value.length() <= MAX_PARAMETER_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_PARAMETER_LENGTH) + "...";
+    }
+}
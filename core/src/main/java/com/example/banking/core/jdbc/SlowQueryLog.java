@@ -0,0 +1,110 @@
+package com.example.banking.core.jdbc;
+
+import com.example.banking.core.concurrent.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 SQL 기록을 링 버퍼에 모았다가 백그라운드 스레드에서 한 줄짜리 JSON 으로 "banking.sql.slow" 로거에 남긴다.
+ * 요청 스레드는 버퍼에 넣기만 하고, 버퍼가 가득 차면 기록을 버리고 건수만 센다.
+ */
+public class SlowQueryLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger("banking.sql.slow");
+
+    private final MpscRingBuffer<SlowQueryRecord> buffer;
+    private final long drainIntervalMillis;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final LongAdder recorded = new LongAdder();
+
+    private ScheduledExecutorService drainer;
+    private long reportedDrops;
+
+    public SlowQueryLog(int bufferSize, long drainIntervalMillis, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.drainIntervalMillis = drainIntervalMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(SlowQueryRecord record) {
+        if (buffer.offer(record)) {
+            recorded.increment();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 모두 로그로 남긴다. 드레인 스레드(또는 종료 시점)에서만 호출한다.
+     */
+    synchronized int drain() {
+        int drained = buffer.drain(this::write, buffer.capacity());
+        long drops = buffer.dropped();
+        if (drops > reportedDrops) {
+            log.warn("{\"dropped\":{}}", drops - reportedDrops);
+            reportedDrops = drops;
+        }
+        return drained;
+    }
+
+    private void write(SlowQueryRecord record) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        try {
+            log.info(objectMapper.writeValueAsString(record));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize slow query record: {}", record, e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("sql.slow.recorded", recorded, LongAdder::sum).register(registry);
+            FunctionCounter.builder("sql.slow.dropped", buffer, MpscRingBuffer::dropped).register(registry);
+        });
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drainQuietly, drainIntervalMillis, drainIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Failed to drain slow query records", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+            drainer = null;
+        }
+        drain();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return drainer != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.banking.core.jdbc;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 임계값보다 오래 걸린 SQL 한 건.
+ * lockWaitMillis 는 잠금 조회(SELECT ... FOR UPDATE) 의 실행 시간으로, 잠금 조회가 아니면 0 이다.
+ */
+public record SlowQueryRecord(
+        Instant timestamp,
+        String dataSource,
+        String serviceMethod,
+        long elapsedMillis,
+        long lockWaitMillis,
+        boolean success,
+        int batchSize,
+        List<String> queries,
+        List<List<String>> parameters
+) {
+}
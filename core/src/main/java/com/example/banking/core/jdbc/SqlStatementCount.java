@@ -0,0 +1,26 @@
+package com.example.banking.core.jdbc;
+
+/**
+ * 일정 구간 동안 실행된 SQL 통계.
+ *
+ * @param statements 실행된 SQL 문 수 (배치는 묶인 문장 수만큼 센다)
+ * @param roundTrips DB 왕복 횟수 (배치 한 번은 1회)
+ * @param rows       조회(ResultSet 으로 읽은 행)와 변경(영향받은 행) 행 수의 합
+ */
+public record SqlStatementCount(long statements, long roundTrips, long rows) {
+
+    public static final SqlStatementCount ZERO = new SqlStatementCount(0, 0, 0);
+
+    public SqlStatementCount minus(SqlStatementCount other) {
+        return new SqlStatementCount(
+                statements - other.statements,
+                roundTrips - other.roundTrips,
+                rows - other.rows
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements + ", round-trips=" + roundTrips + ", rows=" + rows;
+    }
+}
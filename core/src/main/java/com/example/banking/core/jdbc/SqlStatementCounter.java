@@ -0,0 +1,43 @@
+package com.example.banking.core.jdbc;
+
+/**
+ * 스레드별 SQL 실행 누적 카운터.
+ * 값은 줄어들지 않으므로 구간 통계는 시작/종료 시점의 {@link #current()} 차이로 구한다.
+ * (중첩된 구간 - 요청 안의 서비스 메서드 - 도 별도 초기화 없이 셀 수 있다)
+ */
+public final class SqlStatementCounter {
+
+    private static final int STATEMENTS = 0;
+    private static final int ROUND_TRIPS = 1;
+    private static final int ROWS = 2;
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[3]);
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatementCount current() {
+        long[] counts = COUNTS.get();
+        return new SqlStatementCount(counts[STATEMENTS], counts[ROUND_TRIPS], counts[ROWS]);
+    }
+
+    /**
+     * 현재 스레드에서 action 이 실행한 SQL 통계를 구한다.
+     */
+    public static SqlStatementCount measure(Runnable action) {
+        SqlStatementCount before = current();
+        action.run();
+        return current().minus(before);
+    }
+
+    static void recordExecution(long statements, long affectedRows) {
+        long[] counts = COUNTS.get();
+        counts[STATEMENTS] += statements;
+        counts[ROUND_TRIPS]++;
+        counts[ROWS] += affectedRows;
+    }
+
+    static void recordRowRead() {
+        COUNTS.get()[ROWS]++;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.banking.core.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 통계를 메트릭으로 남긴다.
+ * 요청 시작 시점의 카운터 값은 요청 속성으로 보관해 응답 헤더 계산에도 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String START_ATTRIBUTE = SqlStatementFilter.class.getName() + ".START";
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCount start = SqlStatementCounter.current();
+        request.setAttribute(START_ATTRIBUTE, start);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatementMetrics.recordRequest(request.getMethod(), uriPattern(request),
+                    SqlStatementCounter.current().minus(start));
+        }
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.banking.core.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청별 / 서비스 메서드별 SQL 통계를 메트릭으로 기록한다.
+ * (sql.request.statements|round-trips|rows, sql.service.statements|round-trips|rows)
+ * 서비스 메서드가 풀 커넥션을 잡고 있던 시간도 함께 기록한다. (db.connection.hold)
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordRequest(String method, String uri, SqlStatementCount count) {
+        record("sql.request", Tags.of("method", method, "uri", uri), count);
+    }
+
+    public void recordServiceMethod(String method, SqlStatementCount count) {
+        record("sql.service", Tags.of("method", method), count);
+    }
+
+    public void recordConnectionHold(String method, long nanos) {
+        Timer.builder("db.connection.hold")
+                .tags("method", method)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void record(String prefix, Tags tags, SqlStatementCount count) {
+        summary(prefix + ".statements", tags).record(count.statements());
+        summary(prefix + ".round-trips", tags).record(count.roundTrips());
+        summary(prefix + ".rows", tags).record(count.rows());
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.banking.core.jdbc;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 요청이 실행한 SQL 통계를 X-Sql-Statements 헤더로 붙인다.
+ * (banking.sql-stats.response-header=true 일 때만 동작)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "banking.sql-stats", name = "response-header", havingValue = "true")
+public class SqlStatementResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Sql-Statements";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatementFilter.START_ATTRIBUTE) instanceof SqlStatementCount start) {
+            response.getHeaders().set(HEADER, SqlStatementCounter.current().minus(start).toString());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.banking.core.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드별 SQL 통계와 커넥션 점유 시간을 기록하고, 실행 중인 서비스 메서드를 {@link ServiceMethodContext} 에 남긴다.
+ * 트랜잭션 커밋 시점의 flush 까지 포함하도록 트랜잭션 인터셉터보다 바깥에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementServiceAspect {
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    @Around("within(@org.springframework.stereotype.Service *)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        String outer = ServiceMethodContext.enter(method);
+        SqlStatementCount start = SqlStatementCounter.current();
+        long heldBefore = ConnectionHoldTimer.current();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServiceMethodContext.restore(outer);
+            sqlStatementMetrics.recordServiceMethod(method, SqlStatementCounter.current().minus(start));
+            long held = ConnectionHoldTimer.current() - heldBefore;
+            if (held > 0) {
+                sqlStatementMetrics.recordConnectionHold(method, held);
+            }
+        }
+    }
+}
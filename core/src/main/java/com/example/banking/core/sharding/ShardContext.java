@@ -0,0 +1,34 @@
+package com.example.banking.core.sharding;
+
+/**
+ * 현재 스레드가 작업 중인 샤드 번호. {@link ShardRoutingDataSource} 가 커넥션을 꺼낼 샤드를 고를 때 읽는다.
+ * 설정되지 않았으면 0번 샤드를 쓴다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 샤드 진입을 기록하고 바깥 샤드 번호를 반환한다. 종료 시 {@link #restore(Integer)} 로 되돌린다.
+     */
+    public static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    public static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
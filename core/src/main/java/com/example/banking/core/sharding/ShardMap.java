@@ -0,0 +1,45 @@
+package com.example.banking.core.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 계좌번호 -> 샤드 번호.
+ * 계좌번호의 CRC32 로 고정 개수의 버킷을 고르고, 버킷을 샤드에 나눠 준다.
+ * 샤드를 늘릴 때는 버킷 단위로 옮기므로 버킷 수는 샤드 수보다 충분히 크게 두고 바꾸지 않는다.
+ */
+public final class ShardMap {
+
+    private static final ShardMap SINGLE = new ShardMap(1, 1);
+
+    private final int[] bucketToShard;
+    private final int shardCount;
+
+    public ShardMap(int shardCount, int buckets) {
+        if (shardCount < 1 || buckets < shardCount) {
+            throw new IllegalArgumentException("invalid shard map: shards=" + shardCount + ", buckets=" + buckets);
+        }
+        this.shardCount = shardCount;
+        this.bucketToShard = new int[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketToShard[bucket] = bucket % shardCount;
+        }
+    }
+
+    public static ShardMap single() {
+        return SINGLE;
+    }
+
+    public int shardOf(String accountNumber) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(accountNumber.getBytes(StandardCharsets.UTF_8));
+        return bucketToShard[(int) (crc.getValue() % bucketToShard.length)];
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.banking.core.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 작업을 계좌번호의 샤드에서 실행한다. 샤딩이 꺼져 있으면(샤드 1개) 그대로 실행한다.
+ *
+ * <p>트랜잭션의 커넥션은 첫 SQL 에서 정해지므로 샤드는 트랜잭션을 시작하기 전에 정해야 한다.
+ * 트랜잭션 안에서 다른 샤드로 바꾸려 하면 다른 샤드의 데이터를 같은 커넥션으로 읽게 되므로 막는다.
+ */
+public class ShardRouter {
+
+    private final ShardMap shardMap;
+
+    public ShardRouter(ShardMap shardMap) {
+        this.shardMap = shardMap;
+    }
+
+    public int shardOf(String accountNumber) {
+        return shardMap.shardOf(accountNumber);
+    }
+
+    public int shardCount() {
+        return shardMap.shardCount();
+    }
+
+    public boolean isSameShard(String accountNumber, String otherAccountNumber) {
+        return shardCount() == 1 || shardOf(accountNumber) == shardOf(otherAccountNumber);
+    }
+
+    public <T> T onShardOf(String accountNumber, Supplier<T> action) {
+        if (shardCount() == 1) {
+            return action.get();
+        }
+        return onShard(shardOf(accountNumber), action);
+    }
+
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (shardCount() == 1) {
+            return action.get();
+        }
+        Integer current = ShardContext.current();
+        int effective = current == null ? 0 : current;
+        if (effective != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("cannot switch shard inside a transaction: " + effective + " -> " + shard);
+        }
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+}
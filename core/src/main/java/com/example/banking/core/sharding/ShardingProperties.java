@@ -0,0 +1,52 @@
+package com.example.banking.core.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 샤딩 설정 (banking.sharding.*).
+ * 샤드마다 별도 DB 를 두고, 계좌와 그 계좌의 거래 내역은 계좌번호로 정해지는 한 샤드에만 저장한다.
+ * init 의 스크립트를 지정하면 시작할 때 모든 샤드에 실행한다. (임베디드 / 테스트용)
+ */
+@ConfigurationProperties(prefix = "banking.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        int buckets,
+        List<Shard> shards,
+        Init init
+) {
+    /**
+     * 샤드마다 거래 id 시퀀스가 쓰는 구간의 크기. n 번 샤드는 n * TRANSACTION_ID_BLOCK + 1 부터 쓴다.
+     */
+    public static final long TRANSACTION_ID_BLOCK = 1L << 40;
+
+    public ShardingProperties {
+        if (buckets < 1) {
+            buckets = 1024;
+        }
+        if (shards == null) {
+            shards = List.of();
+        }
+        if (init == null) {
+            init = new Init(List.of(), List.of());
+        }
+        if (enabled && shards.isEmpty()) {
+            throw new IllegalArgumentException("banking.sharding.shards must not be empty when sharding is enabled");
+        }
+    }
+
+    public record Shard(String url, String username, String password) {
+    }
+
+    public record Init(List<String> schemaLocations, List<String> dataLocations) {
+        public Init {
+            if (schemaLocations == null) {
+                schemaLocations = List.of();
+            }
+            if (dataLocations == null) {
+                dataLocations = List.of();
+            }
+        }
+    }
+}
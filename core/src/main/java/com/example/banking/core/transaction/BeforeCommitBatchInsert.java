@@ -0,0 +1,52 @@
+package com.example.banking.core.transaction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 트랜잭션 동안 모은 행을 커밋 직전에 한 번의 JDBC 배치 INSERT 로 넣는다.
+ * 한 트랜잭션에서 여러 번 add 해도 DB 왕복은 커밋 때 한 번이고, INSERT 가 실패하면 트랜잭션 전체가 롤백된다.
+ */
+public class BeforeCommitBatchInsert {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+
+    public BeforeCommitBatchInsert(JdbcTemplate jdbcTemplate, String sql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = sql;
+    }
+
+    public void add(Object... row) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Batch rows must be added inside a transaction: " + sql);
+        }
+        pendingRows().add(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null) {
+            return rows;
+        }
+        List<Object[]> created = new ArrayList<>(2);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jdbcTemplate.batchUpdate(sql, created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BeforeCommitBatchInsert.this);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.banking.core.transaction;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 메서드의 일부만 트랜잭션으로 실행한다.
+ * 입력 검증과 응답 변환은 트랜잭션 밖에 두고 DB 작업만 감싸서 커넥션을 잡는 시간을 줄이는 데 쓴다.
+ */
+@Component
+public class TransactionRunner {
+
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public TransactionRunner(PlatformTransactionManager transactionManager) {
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public <T> T write(Supplier<T> action) {
+        return writeTemplate.execute(status -> action.get());
+    }
+
+    public <T> T readOnly(Supplier<T> action) {
+        return readOnlyTemplate.execute(status -> action.get());
+    }
+}
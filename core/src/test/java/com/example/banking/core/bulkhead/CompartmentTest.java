@@ -0,0 +1,58 @@
+package com.example.banking.core.bulkhead;
+
+import com.example.banking.core.error.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompartmentTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("자리가 없으면 최대 대기 시간까지 기다린 뒤 거절한다")
+    void full_rejectedAfterMaxWait() {
+        // given
+        Compartment compartment = compartment(1, 1, Duration.ofMillis(50));
+        compartment.acquire();
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(compartment::acquire).isInstanceOf(ServiceBusyException.class);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("bulkhead", "write").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.queue.wait").tag("bulkhead", "write").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void queueFull_rejectedImmediately() throws Exception {
+        // given
+        Compartment compartment = compartment(1, 1, Duration.ofSeconds(5));
+        compartment.acquire();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(compartment::acquire);
+        while (meterRegistry.get("bulkhead.queued").tag("bulkhead", "write").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(compartment::acquire).isInstanceOf(ServiceBusyException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        compartment.release();
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("bulkhead.active").tag("bulkhead", "write").gauge().value()).isEqualTo(1);
+    }
+
+    private Compartment compartment(int maxConcurrent, int maxQueue, Duration maxWait) {
+        return new Compartment("write", new BulkheadProperties.Compartment(maxConcurrent, maxQueue, maxWait), meterRegistry);
+    }
+}
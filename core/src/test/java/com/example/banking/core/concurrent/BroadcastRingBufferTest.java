@@ -0,0 +1,115 @@
+package com.example.banking.core.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BroadcastRingBufferTest {
+
+    @Test
+    @DisplayName("구독자마다 자기 커서부터 발행 순서대로 읽는다")
+    void independentCursors() {
+        // given
+        BroadcastRingBuffer<String> buffer = new BroadcastRingBuffer<>(8);
+        buffer.publish("a");
+        long late = buffer.cursor();
+        buffer.publish("b");
+        buffer.publish("c");
+
+        // when
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        long firstNext = buffer.read(0, 10, (element, sequence) -> first.add(element));
+        long secondNext = buffer.read(late, 10, (element, sequence) -> second.add(sequence + ":" + element));
+
+        // then
+        assertThat(first).containsExactly("a", "b", "c");
+        assertThat(second).containsExactly("1:b", "2:c");
+        assertThat(firstNext).isEqualTo(3);
+        assertThat(secondNext).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 뒤처진 구독자는 LAPPED 를 받고, 생산자는 막히지 않는다")
+    void lapped() {
+        // given
+        BroadcastRingBuffer<Integer> buffer = new BroadcastRingBuffer<>(4);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            buffer.publish(i);
+        }
+
+        // then
+        assertThat(buffer.read(0, 10, (element, sequence) -> { })).isEqualTo(BroadcastRingBuffer.LAPPED);
+        List<Integer> remaining = new ArrayList<>();
+        assertThat(buffer.read(buffer.oldest(), 10, (element, sequence) -> remaining.add(element))).isEqualTo(10);
+        assertThat(remaining).containsExactly(6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 발행해도 구독자는 빠짐없이 시퀀스 순서로 읽는다")
+    void concurrentProducers() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 1000;
+        BroadcastRingBuffer<Integer> buffer = new BroadcastRingBuffer<>(producers * perProducer);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.publish(i);
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<Long> sequences = new ArrayList<>();
+        long next = buffer.read(0, producers * perProducer, (element, sequence) -> sequences.add(sequence));
+        assertThat(next).isEqualTo(producers * perProducer);
+        assertThat(sequences).hasSize(producers * perProducer).isSorted();
+    }
+
+    @Test
+    @DisplayName("늦은 생산자는 한 바퀴 뒤의 더 새 항목을 덮어쓰지 않는다")
+    void delayedProducerDoesNotOverwriteNewerSlot() throws Exception {
+        // given: 버퍼보다 훨씬 많은 생산자가 같은 슬롯들을 두고 경합한다
+        int producers = 8;
+        int perProducer = 100_000;
+        BroadcastRingBuffer<Integer> buffer = new BroadcastRingBuffer<>(4);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.publish(i);
+                }
+                done.countDown();
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then: 슬롯마다 그 자리의 가장 새 시퀀스가 남아 마지막 한 바퀴를 빠짐없이 읽는다
+        List<Long> sequences = new ArrayList<>();
+        long next = buffer.read(buffer.oldest(), buffer.capacity(), (element, sequence) -> sequences.add(sequence));
+        assertThat(next).isEqualTo(buffer.cursor());
+        assertThat(sequences).hasSize(buffer.capacity());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.banking.core.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Nested
+    @DisplayName("단일 스레드")
+    class SingleThread {
+        @Test
+        @DisplayName("넣은 순서대로 꺼낸다")
+        void fifo() {
+            // given
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+            // when
+            buffer.offer(1);
+            buffer.offer(2);
+            buffer.offer(3);
+
+            // then
+            assertThat(buffer.poll()).isEqualTo(1);
+            assertThat(buffer.poll()).isEqualTo(2);
+            assertThat(buffer.poll()).isEqualTo(3);
+            assertThat(buffer.poll()).isNull();
+        }
+
+        @Test
+        @DisplayName("가득 차면 버리고 버린 건수를 센다")
+        void full_dropped() {
+            // given
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+            // when
+            for (int i = 0; i < 6; i++) {
+                buffer.offer(i);
+            }
+
+            // then
+            assertThat(buffer.capacity()).isEqualTo(4);
+            assertThat(buffer.dropped()).isEqualTo(2);
+            List<Integer> drained = new ArrayList<>();
+            assertThat(buffer.drain(drained::add, 10)).isEqualTo(4);
+            assertThat(drained).containsExactly(0, 1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("꺼낸 자리는 다시 쓸 수 있다")
+        void wrapAround() {
+            // given
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+            // when & then
+            for (int i = 0; i < 10; i++) {
+                assertThat(buffer.offer(i)).isTrue();
+                assertThat(buffer.poll()).isEqualTo(i);
+            }
+            assertThat(buffer.dropped()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 들어간 값은 빠짐없이 한 번씩 꺼내진다")
+    void concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(base + i);
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> received = new HashSet<>();
+        int duplicates = 0;
+        boolean producing = true;
+        while (producing) {
+            producing = !done.await(1, TimeUnit.MILLISECONDS);
+            Integer value;
+            while ((value = buffer.poll()) != null) {
+                if (!received.add(value)) {
+                    duplicates++;
+                }
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(duplicates).isZero();
+        assertThat(received.size() + buffer.dropped()).isEqualTo((long) producers * perProducer);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.banking.core.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    @DisplayName("진행 중인 조회와 stamp 가 같으면 합류해서 같은 결과를 받는다")
+    void sameStamp_shared() throws Exception {
+        // given
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", 1, this::blockingLoad));
+        awaitInFlight();
+
+        // when
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", 1, this::blockingLoad));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("stamp 가 다르면 합류하지 않고 새로 조회한다")
+    void differentStamp_loadsAgain() throws Exception {
+        // given
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", 1, this::blockingLoad));
+        awaitInFlight();
+
+        // when
+        Object result = singleFlight.execute("key", 2, () -> {
+            loads.incrementAndGet();
+            return "fresh";
+        });
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(leader).isNotDone();
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 합류한 호출도 같은 예외를 받는다")
+    void failure_propagatedToFollowers() throws Exception {
+        // given
+        IllegalStateException failure = new IllegalStateException("boom");
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", 1, () -> {
+            blockingLoad();
+            throw failure;
+        }));
+        awaitInFlight();
+
+        // when
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", 1, this::blockingLoad));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private Object blockingLoad() {
+        loads.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Object();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
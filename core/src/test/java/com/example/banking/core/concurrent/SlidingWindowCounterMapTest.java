@@ -0,0 +1,121 @@
+package com.example.banking.core.concurrent;
+
+import com.example.banking.core.concurrent.SlidingWindowCounterMap.Measure;
+import com.example.banking.core.concurrent.SlidingWindowCounterMap.Window;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterMapTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    // 카운터 0: 5분 건수, 카운터 1: 60분 합계
+    private static final Window[] WINDOWS = {
+            new Window(5 * MINUTE, Measure.COUNT),
+            new Window(60 * MINUTE, Measure.SUM)
+    };
+    private static final long[] LIMITS = {3, 1000};
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SlidingWindowCounterMap counters = new SlidingWindowCounterMap(WINDOWS, 5, 4, MINUTE, clock::get);
+
+    @Test
+    @DisplayName("한도까지는 더하고, 넘게 되는 요청은 넘은 카운터 번호를 반환하며 아무것도 더하지 않는다")
+    void tryAdd_rejectsOverLimit() {
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(counters.tryAdd(1L, 1, 100, LIMITS)).isEqualTo(-1);
+        }
+        assertThat(counters.tryAdd(1L, 1, 100, LIMITS)).isZero();
+        assertThat(counters.total(1L, 0)).isEqualTo(3);
+        assertThat(counters.total(1L, 1)).isEqualTo(300);
+
+        assertThat(counters.tryAdd(2L, 1, 1001, LIMITS)).isEqualTo(1);
+        assertThat(counters.total(2L, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("윈도가 지난 칸은 합에서 빠진다")
+    void tryAdd_windowSlides() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            counters.tryAdd(1L, 1, 100, LIMITS);
+        }
+
+        // when
+        clock.addAndGet(5 * MINUTE);
+
+        // then
+        assertThat(counters.total(1L, 0)).isZero();
+        assertThat(counters.total(1L, 1)).isEqualTo(300);
+        assertThat(counters.tryAdd(1L, 1, 100, LIMITS)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("빼면 합계 카운터만 최근 칸부터 줄고, 건수 카운터와 다른 키는 그대로다")
+    void subtract_releasesSumOnly() {
+        // given: 금액 합계가 두 칸에 나뉘어 있다
+        counters.tryAdd(1L, 1, 600, LIMITS);
+        clock.addAndGet(12 * MINUTE);
+        counters.tryAdd(1L, 1, 300, LIMITS);
+        counters.tryAdd(2L, 1, 300, LIMITS);
+
+        // when
+        counters.subtract(1L, 500, LIMITS);
+        counters.subtract(3L, 500, LIMITS);
+
+        // then
+        assertThat(counters.total(1L, 0)).isEqualTo(1);
+        assertThat(counters.total(1L, 1)).isEqualTo(400);
+        assertThat(counters.total(2L, 1)).isEqualTo(300);
+        assertThat(counters.tryAdd(1L, 1, 600, LIMITS)).isEqualTo(-1);
+
+        // 윈도보다 많이 빼도 0 아래로 내려가지 않는다
+        counters.subtract(1L, 5000, LIMITS);
+        assertThat(counters.total(1L, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도가 음수인 카운터는 판정하지도 더하지도 않는다")
+    void tryAdd_skipsNotApplicable() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(counters.tryAdd(1L, 1, 100, new long[]{-1, 5000})).isEqualTo(-1);
+        }
+
+        // then
+        assertThat(counters.total(1L, 0)).isZero();
+        assertThat(counters.total(1L, 1)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("가장 긴 윈도 동안 쓰이지 않은 키는 지우고, 남은 키의 합은 그대로다")
+    void idleKeysEvicted() {
+        // given
+        for (long key = 1; key <= 100; key++) {
+            counters.tryAdd(key, 1, 10, LIMITS);
+        }
+        clock.addAndGet(30 * MINUTE);
+        for (long key = 1; key <= 100; key += 2) {
+            counters.tryAdd(key, 1, 10, LIMITS);
+        }
+
+        // when
+        clock.addAndGet(31 * MINUTE);
+        for (long key = 1000; key < 1032; key++) {
+            counters.tryAdd(key, 1, 10, LIMITS);
+        }
+
+        // then
+        assertThat(counters.size()).isEqualTo(50 + 32);
+        for (long key = 1; key <= 100; key += 2) {
+            assertThat(counters.total(key, 1)).isEqualTo(10);
+        }
+        assertThat(counters.total(2L, 1)).isZero();
+    }
+}
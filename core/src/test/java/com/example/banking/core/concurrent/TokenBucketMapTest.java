@@ -0,0 +1,106 @@
+package com.example.banking.core.concurrent;
+
+import com.example.banking.core.concurrent.TokenBucketMap.Limit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketMapTest {
+
+    private static final Limit TEN_PER_SECOND = new Limit(10, 3);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TokenBucketMap<String> buckets = new TokenBucketMap<>(4, TimeUnit.SECONDS.toNanos(60), clock::get);
+
+    @Test
+    @DisplayName("burst 만큼은 바로 허용하고 이후에는 다음 토큰까지 남은 시간을 알려준다")
+    void burstThenRejected() {
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("A", key -> TEN_PER_SECOND)).isZero();
+        }
+        assertThat(buckets.tryAcquire("A", key -> TEN_PER_SECOND)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 허용 건수만큼 다시 채워진다")
+    void refill() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("A", key -> TEN_PER_SECOND);
+        }
+
+        // when
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // then
+        assertThat(buckets.tryAcquire("A", key -> TEN_PER_SECOND)).isZero();
+        assertThat(buckets.tryAcquire("A", key -> TEN_PER_SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("한 키가 한도를 넘어도 다른 키는 영향을 받지 않는다")
+    void keysIndependent() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            buckets.tryAcquire("A", key -> TEN_PER_SECOND);
+        }
+
+        // when & then
+        assertThat(buckets.tryAcquire("B", key -> TEN_PER_SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도는 버킷을 만들 때 한 번만 조회하고, 오래 쓰이지 않은 버킷은 지운다")
+    void limitResolvedOnce_idleEvicted() {
+        // given
+        AtomicInteger resolved = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("A", key -> {
+                resolved.incrementAndGet();
+                return TEN_PER_SECOND;
+            });
+        }
+        assertThat(resolved.get()).isEqualTo(1);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        buckets.tryAcquire("B", key -> TEN_PER_SECOND);
+        buckets.tryAcquire("C", key -> TEN_PER_SECOND);
+        buckets.tryAcquire("D", key -> TEN_PER_SECOND);
+        buckets.tryAcquire("E", key -> TEN_PER_SECOND);
+
+        // then
+        assertThat(buckets.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한도를 모르는 키는 임시 한도로 판정하고, 한도가 나오면 쓴 토큰을 이어받아 바꾼다")
+    void provisionalLimitReplaced() {
+        // given
+        Limit provisional = new Limit(10, 1);
+        assertThat(buckets.tryAcquire("A", key -> null, provisional)).isZero();
+        assertThat(buckets.tryAcquire("A", key -> null, provisional)).isPositive();
+
+        // when
+        AtomicInteger resolved = new AtomicInteger();
+        long wait = buckets.tryAcquire("A", key -> {
+            resolved.incrementAndGet();
+            return TEN_PER_SECOND;
+        }, provisional);
+
+        // then: burst 3 중 1 을 이미 썼으므로 2 건만 더 허용된다
+        assertThat(wait).isZero();
+        assertThat(buckets.tryAcquire("A", key -> {
+            resolved.incrementAndGet();
+            return TEN_PER_SECOND;
+        }, provisional)).isZero();
+        assertThat(buckets.tryAcquire("A", key -> null, provisional)).isPositive();
+        assertThat(resolved.get()).isEqualTo(1);
+    }
+}
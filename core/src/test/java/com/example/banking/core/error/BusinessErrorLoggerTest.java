@@ -0,0 +1,87 @@
+package com.example.banking.core.error;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessErrorLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final BusinessErrorLogger logger = new BusinessErrorLogger(2, 10, clock::get);
+
+    @Nested
+    @DisplayName("로그 건수 제한과 샘플링")
+    class Sampling {
+        @Test
+        @DisplayName("초당 허용 건수까지는 모두 남긴다")
+        void withinPermits_allLogged() {
+            assertThat(logger.sample(CommonErrorCode.INVALID_INPUT_VALUE)).isZero();
+            assertThat(logger.sample(CommonErrorCode.INVALID_INPUT_VALUE)).isZero();
+        }
+
+        @Test
+        @DisplayName("허용 건수를 넘으면 샘플 비율로만 남기고 건너뛴 건수를 알려준다")
+        void overPermits_sampled() {
+            // given
+            logger.sample(CommonErrorCode.INVALID_INPUT_VALUE);
+            logger.sample(CommonErrorCode.INVALID_INPUT_VALUE);
+
+            // when
+            long logged = 0;
+            long lastSuppressed = -1;
+            for (int i = 0; i < 30; i++) {
+                long suppressed = logger.sample(CommonErrorCode.INVALID_INPUT_VALUE);
+                if (suppressed >= 0) {
+                    logged++;
+                    lastSuppressed = suppressed;
+                }
+            }
+
+            // then
+            assertThat(logged).isEqualTo(3);
+            assertThat(lastSuppressed).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("1초가 지나면 허용 건수가 다시 채워진다")
+        void nextWindow_permitsReset() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                logger.sample(CommonErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            // when
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            // then
+            assertThat(logger.sample(CommonErrorCode.INVALID_INPUT_VALUE)).isEqualTo(3);
+            assertThat(logger.sample(CommonErrorCode.INVALID_INPUT_VALUE)).isZero();
+        }
+
+        @Test
+        @DisplayName("ErrorCode 별로 따로 센다")
+        void perErrorCode() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                logger.sample(CommonErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            // when & then
+            assertThat(logger.sample(CommonErrorCode.INTERNAL_SERVER_ERROR)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 스택 트레이스를 만들지 않는다")
+    void businessException_isStackless() {
+        BusinessException e = new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE);
+
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(ErrorResponse.of(e)).isSameAs(ErrorResponse.of(CommonErrorCode.INVALID_INPUT_VALUE));
+    }
+}
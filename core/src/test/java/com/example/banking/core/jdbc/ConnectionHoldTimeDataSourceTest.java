@@ -0,0 +1,65 @@
+package com.example.banking.core.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldTimeDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection physicalConnection;
+
+    @Test
+    @DisplayName("커넥션을 빌린 시점부터 반납까지의 시간을 누적한다")
+    void close_recordsHoldTime() throws Exception {
+        // given
+        when(pool.getConnection()).thenReturn(physicalConnection);
+        ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(pool);
+        long before = ConnectionHoldTimer.current();
+
+        // when
+        Connection connection = dataSource.getConnection();
+        Thread.sleep(5);
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(ConnectionHoldTimer.current() - before).isGreaterThanOrEqualTo(5_000_000L);
+        verify(physicalConnection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("지연 커넥션 프록시 아래에서는 SQL 을 실행하지 않으면 풀에서 커넥션을 빌리지 않는다")
+    void lazyProxy_withoutStatement_noHold() throws Exception {
+        // given
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(new ConnectionHoldTimeDataSource(pool));
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        long before = ConnectionHoldTimer.current();
+
+        // when
+        Connection connection = lazy.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        // then
+        verify(pool, never()).getConnection();
+        assertThat(ConnectionHoldTimer.current()).isEqualTo(before);
+    }
+}
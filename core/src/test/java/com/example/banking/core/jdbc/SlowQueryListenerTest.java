@@ -0,0 +1,85 @@
+package com.example.banking.core.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SlowQueryListenerTest {
+
+    @Mock
+    private SlowQueryLog slowQueryLog;
+
+    @Test
+    @DisplayName("임계값보다 빠른 SQL 은 기록하지 않는다")
+    void fastQuery_notRecorded() throws Exception {
+        // given
+        SlowQueryListener listener = new SlowQueryListener(slowQueryLog, 100);
+
+        // when
+        listener.afterQuery(execution(99), List.of(query("select * from account where id=?", 1L)));
+
+        // then
+        verify(slowQueryLog, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("느린 잠금 조회는 바인드 파라미터, 서비스 메서드, 잠금 대기 시간과 함께 기록한다")
+    void slowLockingRead_recorded() throws Exception {
+        // given
+        SlowQueryListener listener = new SlowQueryListener(slowQueryLog, 100);
+        String outer = ServiceMethodContext.enter("TransactionService.transfer");
+
+        // when
+        try {
+            listener.afterQuery(execution(250),
+                    List.of(query("select a1_0.id from account a1_0 where a1_0.account_number=? for update", "x".repeat(150))));
+        } finally {
+            ServiceMethodContext.restore(outer);
+        }
+
+        // then
+        ArgumentCaptor<SlowQueryRecord> captor = ArgumentCaptor.forClass(SlowQueryRecord.class);
+        verify(slowQueryLog).record(captor.capture());
+        SlowQueryRecord record = captor.getValue();
+        assertThat(record.serviceMethod()).isEqualTo("TransactionService.transfer");
+        assertThat(record.elapsedMillis()).isEqualTo(250);
+        assertThat(record.lockWaitMillis()).isEqualTo(250);
+        assertThat(record.parameters()).hasSize(1);
+        assertThat(record.parameters().get(0).get(0))
+                .hasSize(SlowQueryListener.MAX_PARAMETER_LENGTH + 3)
+                .endsWith("...");
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setDataSourceName("dataSource");
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+
+    private static QueryInfo query(String sql, Object parameter) throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        ParameterSetOperation operation = new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                new Object[]{1, parameter}
+        );
+        queryInfo.getParametersList().add(List.of(operation));
+        return queryInfo;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.banking.core.jdbc;
+
+/**
+ * 테스트에서 작업 하나가 실행할 수 있는 SQL 예산을 고정한다.
+ *
+ * <pre>
+ * SqlStatementBudget.of("deposit")
+ *         .statements(5)
+ *         .roundTrips(5)
+ *         .assertWithin(() -> transactionService.deposit(accountNumber, amount));
+ * </pre>
+ *
+ * 작업은 현재 스레드에서 실행되어야 한다. (카운터가 스레드 단위)
+ */
+public final class SqlStatementBudget {
+
+    private final String name;
+    private long maxStatements = Long.MAX_VALUE;
+    private long maxRoundTrips = Long.MAX_VALUE;
+    private long maxRows = Long.MAX_VALUE;
+
+    private SqlStatementBudget(String name) {
+        this.name = name;
+    }
+
+    public static SqlStatementBudget of(String name) {
+        return new SqlStatementBudget(name);
+    }
+
+    public SqlStatementBudget statements(long max) {
+        this.maxStatements = max;
+        return this;
+    }
+
+    public SqlStatementBudget roundTrips(long max) {
+        this.maxRoundTrips = max;
+        return this;
+    }
+
+    public SqlStatementBudget rows(long max) {
+        this.maxRows = max;
+        return this;
+    }
+
+    /**
+     * action 을 실행하고 SQL 통계가 예산을 넘으면 {@link AssertionError} 를 던진다.
+     */
+    public SqlStatementCount assertWithin(Runnable action) {
+        SqlStatementCount count = SqlStatementCounter.measure(action);
+        if (count.statements() > maxStatements || count.roundTrips() > maxRoundTrips || count.rows() > maxRows) {
+            throw new AssertionError(String.format(
+                    "[%s] SQL 예산 초과 - 실제: %s / 예산: statements=%s, round-trips=%s, rows=%s",
+                    name, count, limit(maxStatements), limit(maxRoundTrips), limit(maxRows)));
+        }
+        return count;
+    }
+
+    private static String limit(long max) {
+        return max == Long.MAX_VALUE ? "-" : String.valueOf(max);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.banking.domain.account.balance;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZoneId;
+
+@Configuration
+@EnableConfigurationProperties(BalanceCheckpointProperties.class)
+public class BalanceCheckpointConfig {
+
+    @Bean
+    public BalanceCheckpointRecorder balanceCheckpointRecorder(
+            JdbcTemplate jdbcTemplate,
+            BalanceCheckpointProperties properties,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        ZoneId jdbcZone = jdbcTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(jdbcTimeZone);
+        return new BalanceCheckpointRecorder(jdbcTemplate, properties, jdbcZone);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.banking.domain.account.balance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액 체크포인트 (banking.balance-checkpoint.*).
+ * 계좌마다 every 건째 거래마다 잔액을 남기므로, 시점 잔액 조회는 체크포인트 다음 거래를 최대 every 건 정도만 따라간다.
+ */
+@ConfigurationProperties(prefix = "banking.balance-checkpoint")
+public record BalanceCheckpointProperties(
+        int every
+) {
+    public BalanceCheckpointProperties {
+        if (every <= 0) {
+            every = 100;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.banking.domain.account.balance;
+
+import com.example.banking.core.transaction.BeforeCommitBatchInsert;
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 계좌를 만들 때(순번 0)와 계좌별 every 건째 거래마다 그 시점의 잔액을 balance_checkpoint 에 남긴다.
+ * 거래와 같은 트랜잭션에서 커밋 직전 배치 INSERT 로 넣으므로, 체크포인트가 없는 거래 구간이 every 건을 넘지 않는다.
+ */
+public class BalanceCheckpointRecorder {
+
+    static final String INSERT_SQL = "INSERT INTO balance_checkpoint "
+            + "(account_id, account_sequence, transaction_id, balance, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final BeforeCommitBatchInsert batchInsert;
+    private final BalanceCheckpointProperties properties;
+    private final ZoneId jdbcZone;
+
+    public BalanceCheckpointRecorder(JdbcTemplate jdbcTemplate, BalanceCheckpointProperties properties, ZoneId jdbcZone) {
+        this.batchInsert = new BeforeCommitBatchInsert(jdbcTemplate, INSERT_SQL);
+        this.properties = properties;
+        this.jdbcZone = jdbcZone;
+    }
+
+    /**
+     * 새로 저장한 계좌의 시작 잔액. 계좌를 저장한 트랜잭션 안에서 부른다.
+     */
+    public void recordOpening(Account account) {
+        add(account.getId(), 0, null, account.getBalance(), account.getCreatedAt());
+    }
+
+    @EventListener
+    public void onRecorded(TransactionRecordedEvent event) {
+        Long sequence = event.accountSequence();
+        if (sequence != null && sequence % properties.every() == 0) {
+            add(event.accountId(), sequence, event.transactionId(), event.balanceAfterTransaction(), event.createdAt());
+        }
+    }
+
+    // 분개(created_at)는 hibernate.jdbc.time_zone 기준으로 저장하므로 체크포인트 시각도 같은 시간대로 맞춘다
+    private void add(Long accountId, long sequence, Long transactionId, BigDecimal balance, LocalDateTime createdAt) {
+        LocalDateTime recordedAt = createdAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(jdbcZone).toLocalDateTime();
+        batchInsert.add(accountId, sequence, transactionId, balance, recordedAt);
+    }
+}
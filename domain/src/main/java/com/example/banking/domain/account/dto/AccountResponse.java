@@ -20,6 +20,12 @@ public record AccountResponse(
     @Schema(description = "계좌 잔액", example = "10000")
     BigDecimal balance,
 
+    @Schema(description = "승인(hold)으로 묶인 금액", example = "0")
+    BigDecimal heldAmount,
+
+    @Schema(description = "출금 가능 잔액 (계좌 잔액 - 승인 금액)", example = "10000")
+    BigDecimal availableBalance,
+
     @Schema(description = "계좌 상태", example = "ACTIVE")
     AccountStatus status,
 
@@ -34,6 +40,8 @@ public record AccountResponse(
                 .id(account.getId())
                 .accountNumber(account.getAccountNumber())
                 .balance(account.getBalance())
+                .heldAmount(account.getHeldAmount())
+                .availableBalance(account.getAvailableBalance())
                 .status(account.getStatus())
                 .createdAt(account.getCreatedAt())
                 .updatedAt(account.getUpdatedAt())
@@ -0,0 +1,19 @@
+package com.example.banking.domain.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "시점 잔액 응답 DTO")
+public record BalanceResponse(
+    @Schema(description = "계좌 번호", example = "1234567890")
+    String accountNumber,
+
+    @Schema(description = "조회 시각 (없으면 현재 잔액)", example = "2024-03-20T10:00:00")
+    LocalDateTime asOf,
+
+    @Schema(description = "조회 시각의 계좌 잔액", example = "10000")
+    BigDecimal balance
+) {
+}
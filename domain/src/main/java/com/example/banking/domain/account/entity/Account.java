@@ -27,6 +27,16 @@ public class Account extends BaseEntity {
     @Column(nullable = false, precision = 19)
     private BigDecimal balance;
 
+    // 승인(hold)으로 묶인 금액. 장부 잔액(balance)에는 남아 있지만 출금, 이체에는 쓸 수 없다.
+    @Builder.Default
+    @Column(nullable = false, precision = 19)
+    private BigDecimal heldAmount = BigDecimal.ZERO;
+
+    // 이 계좌의 거래 건수. 거래마다 하나씩 늘려 계좌별 거래 순번(journal_posting.account_sequence)으로 쓴다.
+    @Builder.Default
+    @Column(nullable = false)
+    private long ledgerCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_type_id", nullable = false)
     private AccountType accountType;
@@ -49,12 +59,45 @@ public class Account extends BaseEntity {
     }
 
     public void withdraw(BigDecimal amount) {
-        if (this.balance.compareTo(amount) < 0) {
+        if (getAvailableBalance().compareTo(amount) < 0) {
             throw new BusinessException(AccountErrorCode.INSUFFICIENT_BALANCE);
         }
         this.balance = this.balance.subtract(amount);
     }
 
+    /**
+     * 출금, 이체, 승인에 쓸 수 있는 잔액 (장부 잔액 - 승인 금액).
+     */
+    public BigDecimal getAvailableBalance() {
+        return this.balance.subtract(this.heldAmount);
+    }
+
+    public void hold(BigDecimal amount) {
+        if (getAvailableBalance().compareTo(amount) < 0) {
+            throw new BusinessException(AccountErrorCode.INSUFFICIENT_BALANCE);
+        }
+        this.heldAmount = this.heldAmount.add(amount);
+    }
+
+    public void releaseHold(BigDecimal amount) {
+        this.heldAmount = this.heldAmount.subtract(amount);
+    }
+
+    /**
+     * 승인 금액 heldAmount 를 풀고 그 안에서 amount 만큼 출금한다. 남는 금액은 다시 쓸 수 있게 된다.
+     */
+    public void captureHold(BigDecimal heldAmount, BigDecimal amount) {
+        this.heldAmount = this.heldAmount.subtract(heldAmount);
+        this.balance = this.balance.subtract(amount);
+    }
+
+    /**
+     * 이 계좌에 남길 다음 거래의 순번. 계좌 행을 잠근 트랜잭션 안에서만 부르므로 순번이 겹치지 않는다.
+     */
+    public long nextLedgerSequence() {
+        return ++this.ledgerCount;
+    }
+
     public void delete() {
         if (status == AccountStatus.DELETED) {
             throw new BusinessException(AccountErrorCode.ACCOUNT_ALREADY_DELETED);
@@ -28,6 +28,11 @@ public class AccountType extends BaseEntity {
     @Column(nullable = false, precision = 5, scale = 4)
     private BigDecimal transferFeeRate;
 
+    // 연 이율. 이자 배치가 매일 잔액 * 연 이율 / 그 해의 일수 만큼 (원 미만 절사) 지급한다.
+    @Column(nullable = false, precision = 7, scale = 6)
+    @Builder.Default
+    private BigDecimal interestRate = BigDecimal.ZERO;
+
     @Column(nullable = false, precision = 19)
     private BigDecimal dailyWithdrawalLimit;
 
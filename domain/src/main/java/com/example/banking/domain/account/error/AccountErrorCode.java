@@ -15,7 +15,8 @@ public enum AccountErrorCode implements ErrorCode {
     INSUFFICIENT_BALANCE("A005", "잔액이 부족합니다."),
     INVALID_AMOUNT("A006", "유효하지 않은 금액입니다. (0보다 커야 합니다)"),
     INVALID_ACCOUNT_STATUS("A007", "유효하지 않은 계좌 상태입니다."),
-    ACCOUNT_TYPE_NOT_FOUND("A008", "계좌 타입을 찾을 수 없습니다.");
+    ACCOUNT_TYPE_NOT_FOUND("A008", "계좌 타입을 찾을 수 없습니다."),
+    BALANCE_HISTORY_UNAVAILABLE("A009", "해당 시각의 잔액 기록이 없습니다. (계좌 개설 이전)");
 
     private final String code;
     private final String message;
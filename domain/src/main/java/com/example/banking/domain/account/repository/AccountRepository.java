@@ -1,6 +1,8 @@
 package com.example.banking.domain.account.repository;
 
 import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.account.support.AccountRefRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,7 +20,21 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsByAccountNumber(String accountNumber);
 
+    // 계좌번호 -> (id, 계좌 타입 id). 계좌 타입은 FK 컬럼만 읽으므로 조인하지 않는다.
+    @Query("SELECT new com.example.banking.domain.account.support.AccountRef(a.id, a.accountType.id) " +
+            "FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountRef> findRefByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT new com.example.banking.domain.account.support.AccountRefRow(a.accountNumber, a.id, a.accountType.id) " +
+            "FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<AccountRefRow> findRefsByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdWithLock(@Param("id") Long id);
+
+    // PK 범위를 id 순서로 읽으며 잠근다. 단건 잠금(findByIdWithLock)과 같은 순서라 서로 교착되지 않는다.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
-    Optional<Account> findByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
+    List<Account> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,48 +1,68 @@
 package com.example.banking.domain.account.service;
 
 import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.balance.BalanceCheckpointRecorder;
 import com.example.banking.domain.account.dto.AccountResponse;
 import com.example.banking.domain.account.entity.Account;
 import com.example.banking.domain.account.entity.AccountType;
 import com.example.banking.domain.account.error.AccountErrorCode;
 import com.example.banking.domain.account.repository.AccountRepository;
 import com.example.banking.domain.account.repository.AccountTypeRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.account.support.AccountWriteStamps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 
+/**
+ * 계좌는 계좌번호의 샤드에 저장한다. 샤드를 정한 뒤 트랜잭션을 시작하도록 {@link TransactionRunner} 로 감싼다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AccountTypeRepository accountTypeRepository;
+    private final AccountWriteStamps accountWriteStamps;
+    private final AccountIdCache accountIdCache;
+    private final BalanceCheckpointRecorder balanceCheckpointRecorder;
+    private final ShardRouter shardRouter;
+    private final TransactionRunner transactionRunner;
 
-    @Transactional
     public AccountResponse createAccount(String accountNumber, BigDecimal initialBalance) {
-        if (accountRepository.existsByAccountNumber(accountNumber)) {
-            throw new BusinessException(AccountErrorCode.ACCOUNT_ALREADY_EXISTS);
-        }
+        Account savedAccount = shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+            if (accountRepository.existsByAccountNumber(accountNumber)) {
+                throw new BusinessException(AccountErrorCode.ACCOUNT_ALREADY_EXISTS);
+            }
 
-        // 기본 type 은 1이라고 가정한다. data.sql 참고
-        AccountType accountType = accountTypeRepository.findById(1L)
-                .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_TYPE_NOT_FOUND));
+            // 기본 type 은 1이라고 가정한다. data.sql 참고 (계좌 타입은 모든 샤드에 같은 id 로 있다)
+            AccountType accountType = accountTypeRepository.findById(1L)
+                    .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_TYPE_NOT_FOUND));
 
-        Account account = Account.create(accountNumber, initialBalance, accountType);
-        Account savedAccount = accountRepository.save(account);
+            Account account = Account.create(accountNumber, initialBalance, accountType);
+            Account saved = accountRepository.save(account);
+            balanceCheckpointRecorder.recordOpening(saved);
+            accountIdCache.registerCreated(accountNumber, new AccountRef(saved.getId(), accountType.getId()));
+            return saved;
+        }));
 
         return AccountResponse.from(savedAccount);
     }
 
 
-    @Transactional
     public void deleteAccount(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+            Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
 
-        account.delete();
+            account.delete();
+            accountWriteStamps.registerWrite(accountNumber);
+            accountIdCache.invalidate(accountNumber);
+            return null;
+        }));
     }
 }
\ No newline at end of file
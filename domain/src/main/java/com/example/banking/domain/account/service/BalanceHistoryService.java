@@ -0,0 +1,123 @@
+package com.example.banking.domain.account.service;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.balance.BalanceCheckpointProperties;
+import com.example.banking.domain.account.dto.BalanceResponse;
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시점 잔액 조회. asOf 이전의 가장 가까운 체크포인트에서 시작해 그 뒤 거래를 계좌별 순번 순서로 asOf 까지 따라간다.
+ * 체크포인트가 every 건마다 있으므로 읽는 거래는 최대 every 건 남짓이고, 거래 내역이 쌓여도 조회 시간은 거의 같다.
+ * 체크포인트와 분개 시각은 hibernate.jdbc.time_zone 기준으로 저장되어 있어 asOf 를 같은 시간대로 바꿔 비교한다.
+ */
+@Service
+public class BalanceHistoryService {
+
+    static final String CHECKPOINT_SQL = "SELECT account_sequence, balance FROM balance_checkpoint "
+            + "WHERE account_id = :accountId AND created_at <= :asOf "
+            + "ORDER BY created_at DESC, account_sequence DESC LIMIT 1";
+    // 계좌의 증감(거래)을 순번 순서로
+    static final String REPLAY_SQL = "SELECT account_sequence, balance_after, created_at FROM journal_posting "
+            + "WHERE account_id = :accountId AND account_sequence > :after "
+            + "ORDER BY account_sequence LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+    private final AccountIdCache accountIdCache;
+    private final BalanceCheckpointProperties properties;
+    private final ShardRouter shardRouter;
+    private final TransactionRunner transactionRunner;
+    private final ZoneId jdbcZone;
+
+    public BalanceHistoryService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            AccountRepository accountRepository,
+            AccountIdCache accountIdCache,
+            BalanceCheckpointProperties properties,
+            ShardRouter shardRouter,
+            TransactionRunner transactionRunner,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountRepository = accountRepository;
+        this.accountIdCache = accountIdCache;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.transactionRunner = transactionRunner;
+        this.jdbcZone = jdbcTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(jdbcTimeZone);
+    }
+
+    /**
+     * asOf 시점의 잔액. asOf 가 없으면 현재 잔액을 준다. 시각은 다른 응답 시각처럼 JVM 기본 시간대 기준이다.
+     */
+    public BalanceResponse getBalance(String accountNumber, LocalDateTime asOf) {
+        if (asOf == null) {
+            BigDecimal balance = shardRouter.onShardOf(accountNumber, () -> transactionRunner.readOnly(() ->
+                    accountRepository.findByAccountNumber(accountNumber)
+                            .map(Account::getBalance)
+                            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND))));
+            return new BalanceResponse(accountNumber, null, balance);
+        }
+
+        AccountRef account = accountIdCache.resolve(accountNumber)
+                .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        BigDecimal balance = shardRouter.onShardOf(accountNumber, () -> transactionRunner.readOnly(() ->
+                balanceAt(account.id(), toJdbcZone(asOf))));
+        return new BalanceResponse(accountNumber, asOf, balance);
+    }
+
+    private BigDecimal balanceAt(Long accountId, LocalDateTime asOf) {
+        List<Replayed> checkpoint = jdbcTemplate.query(CHECKPOINT_SQL, Map.of("accountId", accountId, "asOf", asOf),
+                (rs, rowNum) -> new Replayed(rs.getLong("account_sequence"), rs.getBigDecimal("balance"), null));
+        long after = checkpoint.isEmpty() ? 0 : checkpoint.get(0).sequence();
+        BigDecimal balance = checkpoint.isEmpty() ? null : checkpoint.get(0).balance();
+
+        // 다음 체크포인트까지(every 건) 한 번에 읽고, asOf 를 넘는 거래를 만나면 멈춘다
+        int limit = properties.every() + 1;
+        while (true) {
+            List<Replayed> rows = jdbcTemplate.query(REPLAY_SQL,
+                    Map.of("accountId", accountId, "after", after, "limit", limit),
+                    (rs, rowNum) -> new Replayed(rs.getLong("account_sequence"),
+                            rs.getBigDecimal("balance_after"), rs.getTimestamp("created_at").toLocalDateTime()));
+            for (Replayed row : rows) {
+                if (row.createdAt().isAfter(asOf)) {
+                    return requireBalance(balance);
+                }
+                balance = row.balance();
+                after = row.sequence();
+            }
+            if (rows.size() < limit) {
+                return requireBalance(balance);
+            }
+        }
+    }
+
+    private LocalDateTime toJdbcZone(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).withZoneSameInstant(jdbcZone).toLocalDateTime();
+    }
+
+    private static BigDecimal requireBalance(BigDecimal balance) {
+        if (balance == null) {
+            throw new BusinessException(AccountErrorCode.BALANCE_HISTORY_UNAVAILABLE);
+        }
+        return balance;
+    }
+
+    private record Replayed(long sequence, BigDecimal balance, LocalDateTime createdAt) {
+    }
+}
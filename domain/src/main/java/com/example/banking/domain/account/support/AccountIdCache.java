@@ -0,0 +1,116 @@
+package com.example.banking.domain.account.support;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 계좌번호 -> (계좌 id, 계좌 타입 id) 캐시 (banking.account-id-cache.maximum-size).
+ * 계좌번호는 발급 후 바뀌지 않으므로 만료 없이 크기로만 제한한다.
+ * 처음 조회할 때와 계좌를 만든 트랜잭션이 커밋될 때 채우고, 계좌를 삭제하면 비운다.
+ * 없는 계좌번호는 캐시하지 않는다. (나중에 발급될 수 있다)
+ * 캐시에 없으면 계좌번호의 샤드에서 읽으므로 트랜잭션 밖이나 같은 샤드의 트랜잭션 안에서 호출한다.
+ */
+@Component
+public class AccountIdCache {
+
+    // IN 절 하나에 넣는 계좌번호 수
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final AccountRepository accountRepository;
+    private final ShardRouter shardRouter;
+    private final Cache<String, AccountRef> cache;
+
+    public AccountIdCache(
+            AccountRepository accountRepository,
+            ShardRouter shardRouter,
+            @Value("${banking.account-id-cache.maximum-size:100000}") long maximumSize,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.accountRepository = accountRepository;
+        this.shardRouter = shardRouter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "account-id"));
+    }
+
+    public Optional<AccountRef> resolve(String accountNumber) {
+        AccountRef cached = cache.getIfPresent(accountNumber);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<AccountRef> found = shardRouter.onShardOf(accountNumber,
+                () -> accountRepository.findRefByAccountNumber(accountNumber));
+        found.ifPresent(ref -> cache.put(accountNumber, ref));
+        return found;
+    }
+
+    /**
+     * 캐시에 있을 때만 준다. DB 를 조회하지 않고 객체를 만들지 않으므로 요청마다 부르는 판정 경로에서 쓴다.
+     */
+    public AccountRef getIfCached(String accountNumber) {
+        return cache.getIfPresent(accountNumber);
+    }
+
+    /**
+     * 여러 계좌번호를 한 번에 찾는다. 캐시에 없는 것만 샤드별로 IN 절로 묶어 조회하고, 없는 계좌번호는 결과에서 빠진다.
+     */
+    public Map<String, AccountRef> resolveAll(Collection<String> accountNumbers) {
+        Map<String, AccountRef> resolved = new HashMap<>(cache.getAllPresent(accountNumbers));
+        Map<Integer, List<String>> missingByShard = new HashMap<>();
+        for (String accountNumber : accountNumbers) {
+            if (!resolved.containsKey(accountNumber)) {
+                missingByShard.computeIfAbsent(shardRouter.shardOf(accountNumber), shard -> new ArrayList<>())
+                        .add(accountNumber);
+            }
+        }
+        missingByShard.forEach((shard, missing) -> shardRouter.onShard(shard, () -> {
+            for (int from = 0; from < missing.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<String> chunk = missing.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, missing.size()));
+                for (AccountRefRow row : accountRepository.findRefsByAccountNumberIn(chunk)) {
+                    cache.put(row.accountNumber(), row.ref());
+                    resolved.put(row.accountNumber(), row.ref());
+                }
+            }
+            return null;
+        }));
+        return resolved;
+    }
+
+    /**
+     * 계좌를 만든 트랜잭션이 커밋되면 캐시에 넣는다. 롤백되면 넣지 않는다.
+     */
+    public void registerCreated(String accountNumber, AccountRef ref) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(accountNumber, ref);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(accountNumber, ref);
+            }
+        });
+    }
+
+    public void invalidate(String accountNumber) {
+        cache.invalidate(accountNumber);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.banking.domain.account.support;
+
+/**
+ * 계좌번호로 찾은 계좌의 PK 와 계좌 타입 id. 계좌번호가 발급된 뒤에는 바뀌지 않는다.
+ */
+public record AccountRef(Long id, Long accountTypeId) {
+}
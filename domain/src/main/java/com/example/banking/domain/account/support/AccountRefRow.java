@@ -0,0 +1,11 @@
+package com.example.banking.domain.account.support;
+
+/**
+ * 계좌번호 여러 개를 한 번에 찾을 때의 조회 결과 한 행.
+ */
+public record AccountRefRow(String accountNumber, Long id, Long accountTypeId) {
+
+    public AccountRef ref() {
+        return new AccountRef(id, accountTypeId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.banking.domain.account.support;
+
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 계좌별 쓰기 버전. 조회 결과를 다른 요청과 공유해도 되는지 판단하는 데 쓴다.
+ *
+ * <p>쓰기 트랜잭션은 커밋 직전에 버전을 올리고 진행 중으로 표시하며, 커밋(또는 롤백)이 끝나면 버전을 한 번 더 올리고 표시를 푼다.
+ * 따라서 같은 stamp 를 받은 두 조회 사이에는 커밋된 쓰기가 없다. 쓰기가 진행 중이면 stamp 는 -1 이다.
+ * 계좌번호를 고정된 수의 슬롯에 해시해 메모리를 일정하게 유지한다. 슬롯이 겹치면 공유 기회만 줄어든다.
+ */
+@Component
+public class AccountWriteStamps {
+
+    private static final int STRIPES = 4096;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final AtomicIntegerArray writers = new AtomicIntegerArray(STRIPES);
+
+    public long stamp(String accountNumber) {
+        int stripe = stripe(accountNumber);
+        if (writers.get(stripe) > 0) {
+            return -1;
+        }
+        return versions.get(stripe);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 전후로 계좌의 버전을 올린다. 트랜잭션 밖이면 바로 올린다.
+     */
+    public void registerWrite(String accountNumber) {
+        int stripe = stripe(accountNumber);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.incrementAndGet(stripe);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean begun;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                begun = true;
+                writers.incrementAndGet(stripe);
+                versions.incrementAndGet(stripe);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (begun) {
+                    versions.incrementAndGet(stripe);
+                    writers.decrementAndGet(stripe);
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        registerWrite(event.accountNumber());
+    }
+
+    private static int stripe(String accountNumber) {
+        int hash = accountNumber.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.banking.domain.hold.dto;
+
+import com.example.banking.domain.hold.entity.AccountHold;
+import com.example.banking.domain.hold.type.HoldStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "출금 승인 응답 DTO")
+public record HoldResponse(
+    @Schema(description = "승인 ID", example = "1")
+    Long id,
+
+    @Schema(description = "계좌 번호", example = "1234567890")
+    String accountNumber,
+
+    @Schema(description = "승인 금액", example = "10000")
+    BigDecimal amount,
+
+    @Schema(description = "매입 금액 (매입 전이면 없음)", example = "8000")
+    BigDecimal capturedAmount,
+
+    @Schema(description = "상태", example = "AUTHORIZED")
+    HoldStatus status,
+
+    @Schema(description = "만료 시각")
+    LocalDateTime expiresAt,
+
+    @Schema(description = "매입으로 생긴 출금 거래 ID")
+    Long transactionId
+) {
+    public static HoldResponse from(AccountHold hold) {
+        return new HoldResponse(
+            hold.getId(),
+            hold.getAccountNumber(),
+            hold.getAmount(),
+            hold.getCapturedAmount(),
+            hold.getStatus(),
+            hold.getExpiresAt(),
+            hold.getTransactionId()
+        );
+    }
+}
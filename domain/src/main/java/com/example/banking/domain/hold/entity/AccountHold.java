@@ -0,0 +1,91 @@
+package com.example.banking.domain.hold.entity;
+
+import com.example.banking.core.common.BaseEntity;
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.hold.error.HoldErrorCode;
+import com.example.banking.domain.hold.type.HoldStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 출금 승인(hold). 승인하면 계좌의 heldAmount 에 묶이고, 매입(capture)하면 실제로 출금되며, 취소(void)나 만료로 풀린다.
+ * 만료 처리는 정리 워커가 JDBC 로 직접 하므로, 엔티티로는 바뀐 컬럼만 UPDATE 한다.
+ */
+@Entity
+@DynamicUpdate
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccountHold extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 계좌 엔티티를 읽지 않고 잠글 수 있게 id 만 둔다
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, length = 20)
+    private String accountNumber;
+
+    @Column(nullable = false, precision = 19)
+    private BigDecimal amount;
+
+    @Column(precision = 19)
+    private BigDecimal capturedAmount;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private HoldStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private Long transactionId;
+
+    public static AccountHold authorize(Long accountId, String accountNumber, BigDecimal amount, LocalDateTime expiresAt) {
+        return AccountHold.builder()
+                .accountId(accountId)
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .status(HoldStatus.AUTHORIZED)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 매입할 수 있는지 확인한다. 만료 시각이 지났으면 정리 워커가 아직 가져가지 않았어도 매입하지 않는다.
+     */
+    public void validateCapture(BigDecimal captureAmount, LocalDateTime now) {
+        validateAuthorized();
+        if (!now.isBefore(expiresAt)) {
+            throw new BusinessException(HoldErrorCode.HOLD_EXPIRED);
+        }
+        if (captureAmount.compareTo(amount) > 0) {
+            throw new BusinessException(HoldErrorCode.CAPTURE_AMOUNT_EXCEEDS_HOLD);
+        }
+    }
+
+    public void capture(BigDecimal captureAmount, Long transactionId) {
+        this.status = HoldStatus.CAPTURED;
+        this.capturedAmount = captureAmount;
+        this.transactionId = transactionId;
+    }
+
+    public void voidHold() {
+        validateAuthorized();
+        this.status = HoldStatus.VOIDED;
+    }
+
+    private void validateAuthorized() {
+        if (status != HoldStatus.AUTHORIZED) {
+            throw new BusinessException(HoldErrorCode.HOLD_NOT_AUTHORIZED);
+        }
+    }
+}
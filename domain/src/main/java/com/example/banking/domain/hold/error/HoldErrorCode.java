@@ -0,0 +1,19 @@
+package com.example.banking.domain.hold.error;
+
+import com.example.banking.core.error.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum HoldErrorCode implements ErrorCode {
+
+    HOLD_NOT_FOUND("H001", "승인 내역을 찾을 수 없습니다."),
+    HOLD_NOT_AUTHORIZED("H002", "이미 매입, 취소되었거나 만료된 승인입니다."),
+    HOLD_EXPIRED("H003", "만료된 승인입니다."),
+    CAPTURE_AMOUNT_EXCEEDS_HOLD("H004", "매입 금액이 승인 금액보다 큽니다."),
+    INVALID_HOLD_DURATION("H005", "유효하지 않은 승인 유효 기간입니다.");
+
+    private final String code;
+    private final String message;
+}
@@ -0,0 +1,35 @@
+package com.example.banking.domain.hold.expiry;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+@EnableConfigurationProperties(HoldProperties.class)
+public class HoldConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "banking.hold", name = "sweeper-enabled", havingValue = "true", matchIfMissing = true)
+    public HoldExpirySweeper holdExpirySweeper(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            HoldProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        // JPA 가 hibernate.jdbc.time_zone 기준으로 저장한 만료 시각과 같은 시간대의 현재 시각으로 비교한다
+        Clock clock = jdbcTimeZone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(jdbcTimeZone));
+        return new HoldExpirySweeper(namedParameterJdbcTemplate, transactionRunner, shardRouter, properties, meterRegistry, clock);
+    }
+}
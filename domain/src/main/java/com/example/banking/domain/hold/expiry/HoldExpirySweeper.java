@@ -0,0 +1,160 @@
+package com.example.banking.domain.hold.expiry;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 시각이 지난 승인(AUTHORIZED)을 샤드마다 배치로 EXPIRED 로 바꾸고 계좌에 묶인 금액을 푼다.
+ *
+ * <p>한 배치는 트랜잭션 하나다. {@code FOR UPDATE SKIP LOCKED} 로 승인을 잡으므로 매입 / 취소 중인 승인과
+ * 다른 인스턴스의 워커가 잡은 승인은 건너뛴다. 계좌는 id 순서로 계좌마다 한 번만 갱신해,
+ * 한 계좌의 승인이 여러 건 만료돼도 UPDATE 는 한 번이고 잠금 순서도 매입 / 취소(승인 -> 계좌)와 같다.
+ */
+@Slf4j
+public class HoldExpirySweeper implements SmartLifecycle {
+
+    static final String CLAIM_SQL = "SELECT id, account_id, amount FROM account_hold "
+            + "WHERE status = 'AUTHORIZED' AND expires_at <= :now "
+            + "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+    static final String EXPIRE_SQL = "UPDATE account_hold SET status = 'EXPIRED', updated_at = :now WHERE id IN (:ids)";
+    static final String RELEASE_SQL = "UPDATE account SET held_amount = held_amount - :amount WHERE id = :accountId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final HoldProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Clock clock;
+    private final LongAdder expired = new LongAdder();
+
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    public HoldExpirySweeper(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            HoldProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRunner = transactionRunner;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 모든 샤드에서 만료된 승인을 한 배치씩 풀고, 푼 건수를 반환한다.
+     */
+    public int sweepBatch() {
+        int swept = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            swept += shardRouter.onShard(shard, () -> transactionRunner.write(this::sweepShardBatch));
+        }
+        expired.add(swept);
+        return swept;
+    }
+
+    private int sweepShardBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ExpiredHold> holds = jdbcTemplate.query(CLAIM_SQL, Map.of("now", now, "limit", properties.sweepBatchSize()),
+                (rs, rowNum) -> new ExpiredHold(rs.getLong("id"), rs.getLong("account_id"), rs.getBigDecimal("amount")));
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update(EXPIRE_SQL, Map.of("now", now, "ids", holds.stream().map(ExpiredHold::id).toList()));
+
+        Map<Long, BigDecimal> releases = new TreeMap<>();
+        holds.forEach(hold -> releases.merge(hold.accountId(), hold.amount(), BigDecimal::add));
+        SqlParameterSource[] batch = releases.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("accountId", entry.getKey())
+                        .addValue("amount", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RELEASE_SQL, batch);
+        return holds.size();
+    }
+
+    private void runWorker() {
+        long pollMillis = properties.sweepInterval().toMillis();
+        while (running) {
+            int count;
+            try {
+                count = sweepBatch();
+            } catch (RuntimeException e) {
+                log.warn("Failed to sweep expired holds", e);
+                count = 0;
+            }
+            if (count < properties.sweepBatchSize()) {
+                try {
+                    Thread.sleep(pollMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public long expired() {
+        return expired.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry ->
+                FunctionCounter.builder("hold.expired", expired, LongAdder::sum).register(registry));
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hold-expiry-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        worker.submit(this::runWorker);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.shutdownNow();
+            try {
+                worker.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return worker != null;
+    }
+
+    private record ExpiredHold(long id, long accountId, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.banking.domain.hold.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 출금 승인 (banking.hold.*).
+ * 유효 기간을 주지 않은 승인은 default-ttl 뒤에 만료되고, max-ttl 보다 길게는 승인하지 않는다.
+ * 만료 정리 워커는 sweep-interval 마다 샤드별로 sweep-batch-size 건씩 만료된 승인을 풀어 준다.
+ */
+@ConfigurationProperties(prefix = "banking.hold")
+public record HoldProperties(
+        Duration defaultTtl,
+        Duration maxTtl,
+        boolean sweeperEnabled,
+        Duration sweepInterval,
+        int sweepBatchSize
+) {
+    public HoldProperties {
+        if (defaultTtl == null) {
+            defaultTtl = Duration.ofDays(7);
+        }
+        if (maxTtl == null) {
+            maxTtl = Duration.ofDays(30);
+        }
+        if (sweepInterval == null) {
+            sweepInterval = Duration.ofSeconds(10);
+        }
+        if (sweepBatchSize <= 0) {
+            sweepBatchSize = 500;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.banking.domain.hold.repository;
+
+import com.example.banking.domain.hold.entity.AccountHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AccountHoldRepository extends JpaRepository<AccountHold, Long> {
+
+    // 승인을 먼저 잠그고 계좌를 잠근다. 만료 정리 워커도 같은 순서라 서로 교착되지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM AccountHold h WHERE h.id = :id")
+    Optional<AccountHold> findByIdWithLock(@Param("id") Long id);
+}
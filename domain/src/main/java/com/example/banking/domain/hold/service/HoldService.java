@@ -0,0 +1,132 @@
+package com.example.banking.domain.hold.service;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.hold.dto.HoldResponse;
+import com.example.banking.domain.hold.entity.AccountHold;
+import com.example.banking.domain.hold.error.HoldErrorCode;
+import com.example.banking.domain.hold.expiry.HoldProperties;
+import com.example.banking.domain.hold.repository.AccountHoldRepository;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import com.example.banking.domain.transaction.type.TransactionType;
+import com.example.banking.domain.transaction.validation.TransactionValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 출금 승인(hold) 후 매입(capture) / 취소(void).
+ * 승인은 계좌의 출금 가능 잔액만 줄이고, 금액이 확정되면 매입으로 한 번에 출금한다.
+ * 단계마다 계좌 한 행을 잠깐 잠그고 끝나므로, 결제처럼 확정까지 오래 걸리는 출금도 계좌 잠금을 오래 잡지 않는다.
+ * 잠금 순서는 언제나 승인 -> 계좌다.
+ * 일일 출금 한도는 매입한 출금에 아직 매입하지 않은 승인 금액을 더해 승인할 때와 매입할 때 모두 검증한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+    private final AccountHoldRepository accountHoldRepository;
+    private final AccountRepository accountRepository;
+    private final AccountIdCache accountIdCache;
+    private final TransactionValidator transactionValidator;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final HoldProperties holdProperties;
+    private final JournalWriter journalWriter;
+
+    /**
+     * 출금 가능 잔액에서 amount 를 묶는다. ttl 이 없으면 기본 유효 기간을 쓴다.
+     */
+    public HoldResponse authorize(String accountNumber, BigDecimal amount, Duration ttl) {
+        // 1. 입력 검증 (트랜잭션 밖)
+        transactionValidator.validateWithdrawalRequest(accountNumber, amount);
+        Duration validFor = ttl == null ? holdProperties.defaultTtl() : ttl;
+        if (validFor.isNegative() || validFor.isZero() || validFor.compareTo(holdProperties.maxTtl()) > 0) {
+            throw new BusinessException(HoldErrorCode.INVALID_HOLD_DURATION);
+        }
+        AccountRef velocity = transactionValidator.validateVelocity(accountNumber, TransactionType.WITHDRAWAL, 1, amount);
+
+        // 2. 계좌를 잠가 검증하고 승인 금액만큼 묶는다. 실패하면 빈도 금액 합계에서 돌려준다
+        AccountHold hold;
+        try {
+            AccountRef ref = resolveAccount(accountNumber);
+            hold = shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+                Account account = lockAccount(ref.id());
+                transactionValidator.validateWithdrawalAccount(account, amount);
+                account.hold(amount);
+                return accountHoldRepository.save(
+                    AccountHold.authorize(account.getId(), accountNumber, amount, LocalDateTime.now().plus(validFor)));
+            }));
+        } catch (RuntimeException e) {
+            transactionValidator.releaseVelocity(velocity, TransactionType.WITHDRAWAL, amount);
+            throw e;
+        }
+        return HoldResponse.from(hold);
+    }
+
+    /**
+     * 승인 금액 안에서 amount 를 출금하고 승인을 닫는다. 승인보다 적게 매입하면 나머지는 다시 쓸 수 있게 된다.
+     */
+    public HoldResponse capture(String accountNumber, Long holdId, BigDecimal amount) {
+        transactionValidator.validateWithdrawalRequest(accountNumber, amount);
+
+        AccountHold captured = shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+            AccountHold hold = lockHold(accountNumber, holdId);
+            hold.validateCapture(amount, LocalDateTime.now());
+
+            Account account = lockAccount(hold.getAccountId());
+            transactionValidator.validateCapture(account, hold.getAmount(), amount);
+            account.captureHold(hold.getAmount(), amount);
+            JournalEntry withdrawal = journalWriter.newEntry(JournalEntryType.WITHDRAWAL)
+                .post(account, amount.negate())
+                .post(BankAccount.CASH, amount);
+            journalWriter.write(withdrawal);
+
+            hold.capture(amount, withdrawal.id());
+            return hold;
+        }));
+        return HoldResponse.from(captured);
+    }
+
+    /**
+     * 승인을 취소하고 묶인 금액을 푼다.
+     */
+    public HoldResponse voidHold(String accountNumber, Long holdId) {
+        transactionValidator.validateAccountNumber(accountNumber);
+
+        AccountHold voided = shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+            AccountHold hold = lockHold(accountNumber, holdId);
+            hold.voidHold();
+            lockAccount(hold.getAccountId()).releaseHold(hold.getAmount());
+            return hold;
+        }));
+        return HoldResponse.from(voided);
+    }
+
+    private AccountHold lockHold(String accountNumber, Long holdId) {
+        return accountHoldRepository.findByIdWithLock(holdId)
+            .filter(found -> found.getAccountNumber().equals(accountNumber))
+            .orElseThrow(() -> new BusinessException(HoldErrorCode.HOLD_NOT_FOUND));
+    }
+
+    private AccountRef resolveAccount(String accountNumber) {
+        return accountIdCache.resolve(accountNumber)
+            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private Account lockAccount(Long accountId) {
+        return accountRepository.findByIdWithLock(accountId)
+            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.banking.domain.hold.type;
+
+public enum HoldStatus {
+    AUTHORIZED,
+    CAPTURED,
+    VOIDED,
+    EXPIRED
+}
@@ -0,0 +1,36 @@
+package com.example.banking.domain.interest.accrual;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+@EnableConfigurationProperties(InterestAccrualProperties.class)
+public class InterestAccrualConfig {
+
+    @Bean
+    public InterestAccrualJob interestAccrualJob(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            JournalWriter journalWriter,
+            InterestAccrualProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        // 거래 시각과 지급 날짜(cron)를 hibernate.jdbc.time_zone 기준으로 저장한 시각과 같은 시간대로 맞춘다
+        Clock clock = jdbcTimeZone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(jdbcTimeZone));
+        return new InterestAccrualJob(namedParameterJdbcTemplate, transactionRunner, shardRouter, journalWriter,
+                properties, meterRegistry, clock);
+    }
+}
@@ -0,0 +1,474 @@
+package com.example.banking.domain.interest.accrual;
+
+import com.example.banking.core.bulkhead.WorkloadContext;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계좌 타입의 연 이율로 하루치 이자를 지급한다.
+ *
+ * <p>샤드마다 계좌 id 를 partition-size 폭의 구간으로 나눠 interest_accrual_partition 에 기록하고,
+ * workers 개 워커가 {@code FOR UPDATE SKIP LOCKED} 로 구간을 하나씩 lease 동안 맡는다.
+ * 구간 안에서는 id 순서로 chunk-size 계좌씩 트랜잭션 하나로 처리한다: 계좌를 잠그고, 이자 분개와 잔액 UPDATE 를
+ * JDBC 배치로 보내고, 구간의 마지막 계좌 id(체크포인트)를 같은 트랜잭션에서 기록한다. 계좌 잠금은 청크 하나 동안만 잡는다.
+ *
+ * <p>중간에 죽으면 커밋된 청크까지만 반영되고, 다시 실행하면 체크포인트 다음 계좌부터 이어서 한다. 같은 날짜를 다시 실행해도
+ * 끝난 구간은 건너뛰므로 이자를 두 번 주지 않는다. lease 가 끝나 다른 워커가 구간을 가져갔으면 체크포인트 기록이 실패하고 청크는 롤백된다.
+ *
+ * <p>분개를 쓰면서 계좌마다 {@link TransactionRecordedEvent} 가 발행되므로 체크포인트와 아웃박스도 같은 트랜잭션에서 함께 쓰인다.
+ */
+@Slf4j
+public class InterestAccrualJob implements SmartLifecycle {
+
+    static final String RANGE_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM account";
+    static final String PLANNED_SQL = "SELECT COUNT(*) FROM interest_accrual_partition WHERE accrual_date = :date";
+    static final String PLAN_SQL = "INSERT IGNORE INTO interest_accrual_partition "
+            + "(accrual_date, start_id, end_id, last_account_id, updated_at) "
+            + "VALUES (:date, :startId, :endId, :lastAccountId, :now)";
+    static final String UNFINISHED_SQL = "SELECT DISTINCT accrual_date FROM interest_accrual_partition "
+            + "WHERE status = 'PENDING' ORDER BY accrual_date";
+    static final String RATES_SQL = "SELECT id, interest_rate FROM account_type";
+    static final String CLAIM_SQL = "SELECT start_id, end_id, last_account_id FROM interest_accrual_partition "
+            + "WHERE accrual_date = :date AND status = 'PENDING' AND (lease_until IS NULL OR lease_until <= :now) "
+            + "ORDER BY start_id LIMIT 1 FOR UPDATE SKIP LOCKED";
+    static final String LEASE_SQL = "UPDATE interest_accrual_partition SET lease_until = :leaseUntil "
+            + "WHERE accrual_date = :date AND start_id = :startId";
+    static final String RELEASE_SQL = "UPDATE interest_accrual_partition SET lease_until = NULL "
+            + "WHERE accrual_date = :date AND start_id = :startId AND lease_until = :claimedLease";
+    static final String LOCK_CHUNK_SQL = "SELECT id, account_number, account_type_id, balance, ledger_count FROM account "
+            + "WHERE id > :after AND id <= :endId AND status = 'ACTIVE' ORDER BY id LIMIT :limit FOR UPDATE";
+    static final String CREDIT_SQL = "UPDATE account SET balance = balance + ?, ledger_count = ?, updated_at = ? WHERE id = ?";
+    static final String CHECKPOINT_SQL = "UPDATE interest_accrual_partition SET last_account_id = :lastAccountId, "
+            + "status = :status, accounts = accounts + :accounts, interest = interest + :interest, "
+            + "lease_until = :leaseUntil, updated_at = :now "
+            + "WHERE accrual_date = :date AND start_id = :startId AND lease_until = :claimedLease";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final JournalWriter journalWriter;
+    private final InterestAccrualProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Clock clock;
+    private final LongAdder accrued = new LongAdder();
+
+    private ExecutorService scheduler;
+    private volatile boolean stopping;
+    private boolean started;
+
+    public InterestAccrualJob(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            JournalWriter journalWriter,
+            InterestAccrualProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRunner = transactionRunner;
+        this.shardRouter = shardRouter;
+        this.journalWriter = journalWriter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * accrualDate 하루치 이자를 지급한다. 이미 끝난 구간은 건너뛰고, 끝나지 않은 구간은 체크포인트부터 이어서 한다.
+     * 워커가 실패한 구간은 PENDING 으로 남아 다음 실행에서 이어진다.
+     */
+    public InterestAccrualResult run(LocalDate accrualDate) {
+        Totals totals = new Totals();
+        long startedAt = System.nanoTime();
+        AtomicInteger index = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "interest-accrual-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                runShard(shard, accrualDate, workers, totals);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        InterestAccrualResult result = totals.toResult(accrualDate);
+        log.info("Interest accrual for {}: partitions={}, accounts={}, interest={}, elapsed={}ms", accrualDate,
+                result.partitions(), result.accounts(), result.interest(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    private void runShard(int shard, LocalDate accrualDate, ExecutorService workers, Totals totals) {
+        Map<Long, BigDecimal> rates = shardRouter.onShard(shard, () -> {
+            plan(accrualDate);
+            return loadRates();
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < properties.workers(); i++) {
+            futures.add(workers.submit(() -> {
+                String outer = WorkloadContext.enter(properties.workload());
+                try {
+                    shardRouter.onShard(shard, () -> {
+                        drain(accrualDate, rates, totals);
+                        return null;
+                    });
+                } finally {
+                    WorkloadContext.restore(outer);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("Interest accrual worker failed: shard={}, date={}", shard, accrualDate, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 그 날짜의 구간이 없으면 계좌 id 범위를 partition-size 단위로 나눠 넣는다.
+     * 구간 경계는 id 만으로 정해지므로 여러 인스턴스가 함께 넣어도 같은 행이 된다.
+     */
+    private void plan(LocalDate accrualDate) {
+        Long planned = jdbcTemplate.queryForObject(PLANNED_SQL, Map.of("date", accrualDate), Long.class);
+        if (planned != null && planned > 0) {
+            return;
+        }
+        long[] range = jdbcTemplate.getJdbcOperations().queryForObject(RANGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("min_id"), rs.getLong("max_id")});
+        if (range == null || range[1] == 0) {
+            return;
+        }
+        long size = properties.partitionSize();
+        LocalDateTime now = now();
+        List<MapSqlParameterSource> partitions = new ArrayList<>();
+        for (long k = (range[0] - 1) / size; k <= (range[1] - 1) / size; k++) {
+            long startId = k * size + 1;
+            partitions.add(new MapSqlParameterSource()
+                    .addValue("date", accrualDate)
+                    .addValue("startId", startId)
+                    .addValue("endId", startId + size - 1)
+                    .addValue("lastAccountId", startId - 1)
+                    .addValue("now", now));
+        }
+        transactionRunner.write(() ->
+                jdbcTemplate.batchUpdate(PLAN_SQL, partitions.toArray(MapSqlParameterSource[]::new)));
+    }
+
+    private Map<Long, BigDecimal> loadRates() {
+        Map<Long, BigDecimal> rates = new HashMap<>();
+        jdbcTemplate.getJdbcOperations().query(RATES_SQL, (RowCallbackHandler) rs ->
+                rates.put(rs.getLong("id"), rs.getBigDecimal("interest_rate")));
+        return rates;
+    }
+
+    private void drain(LocalDate accrualDate, Map<Long, BigDecimal> rates, Totals totals) {
+        Partition partition;
+        while (!stopping && (partition = claim(accrualDate)) != null) {
+            try {
+                if (accrue(accrualDate, partition, rates, totals)) {
+                    totals.partitions.incrementAndGet();
+                }
+            } catch (PartitionLostException e) {
+                log.debug("Interest accrual partition {} of {} was re-claimed", partition.startId(), accrualDate);
+            }
+        }
+    }
+
+    private Partition claim(LocalDate accrualDate) {
+        LocalDateTime now = now();
+        LocalDateTime leaseUntil = now.plus(properties.lease());
+        return transactionRunner.write(() -> {
+            List<Partition> rows = jdbcTemplate.query(CLAIM_SQL, Map.of("date", accrualDate, "now", now),
+                    (rs, rowNum) -> new Partition(
+                            rs.getLong("start_id"), rs.getLong("end_id"), rs.getLong("last_account_id"), leaseUntil));
+            if (rows.isEmpty()) {
+                return null;
+            }
+            jdbcTemplate.update(LEASE_SQL,
+                    Map.of("date", accrualDate, "startId", rows.get(0).startId(), "leaseUntil", leaseUntil));
+            return rows.get(0);
+        });
+    }
+
+    /**
+     * 구간을 청크 단위로 끝까지 처리한다. 종료 중이면 lease 를 놓고 false 를 반환한다.
+     */
+    private boolean accrue(LocalDate accrualDate, Partition partition, Map<Long, BigDecimal> rates, Totals totals) {
+        long after = partition.lastAccountId();
+        LocalDateTime claimedLease = partition.leaseUntil();
+        while (true) {
+            if (stopping) {
+                release(accrualDate, partition, claimedLease);
+                return false;
+            }
+            LocalDateTime now = now();
+            LocalDateTime nextLease = now.plus(properties.lease());
+            long from = after;
+            LocalDateTime lease = claimedLease;
+            Chunk chunk = transactionRunner.write(() ->
+                    accrueChunk(accrualDate, partition, from, lease, nextLease, now, rates));
+            totals.add(chunk);
+            accrued.add(chunk.accounts());
+            if (chunk.completed()) {
+                return true;
+            }
+            after = chunk.lastAccountId();
+            claimedLease = nextLease;
+        }
+    }
+
+    private Chunk accrueChunk(
+            LocalDate accrualDate,
+            Partition partition,
+            long after,
+            LocalDateTime claimedLease,
+            LocalDateTime nextLease,
+            LocalDateTime now,
+            Map<Long, BigDecimal> rates
+    ) {
+        int limit = properties.chunkSize();
+        List<LockedAccount> accounts = jdbcTemplate.query(LOCK_CHUNK_SQL,
+                Map.of("after", after, "endId", partition.endId(), "limit", limit),
+                (rs, rowNum) -> new LockedAccount(
+                        rs.getLong("id"), rs.getString("account_number"), rs.getLong("account_type_id"),
+                        rs.getBigDecimal("balance"), rs.getLong("ledger_count")));
+        boolean completed = accounts.size() < limit;
+        long lastAccountId = completed ? partition.endId() : accounts.get(accounts.size() - 1).id();
+
+        List<LockedAccount> credited = new ArrayList<>(accounts.size());
+        List<BigDecimal> amounts = new ArrayList<>(accounts.size());
+        for (LockedAccount account : accounts) {
+            BigDecimal interest = dailyInterest(account.balance(), rates.get(account.accountTypeId()), accrualDate);
+            if (interest.signum() > 0) {
+                credited.add(account);
+                amounts.add(interest);
+            }
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        if (!credited.isEmpty()) {
+            // 분개 시각은 다른 거래처럼 JVM 기본 시간대로 넘긴다
+            LocalDateTime recordedAt = now.atZone(clock.getZone())
+                    .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            List<Object[]> credits = new ArrayList<>(credited.size());
+            // 분개는 청크 하나를 한 건으로 남긴다: 계좌별 +이자, 이자 비용 -합계
+            JournalEntry entry = journalWriter.newEntry(JournalEntryType.INTEREST, recordedAt);
+            for (int i = 0; i < credited.size(); i++) {
+                LockedAccount account = credited.get(i);
+                BigDecimal interest = amounts.get(i);
+                BigDecimal balanceAfter = account.balance().add(interest);
+                long sequence = account.ledgerCount() + 1;
+                credits.add(new Object[]{interest, sequence, now, account.id()});
+                total = total.add(interest);
+                entry.post(account.id(), account.accountNumber(), interest, BigDecimal.ZERO, balanceAfter, sequence, null);
+            }
+            journalWriter.write(entry.post(BankAccount.INTEREST_EXPENSE, total.negate()));
+            jdbcTemplate.getJdbcOperations().batchUpdate(CREDIT_SQL, credits);
+        }
+
+        MapSqlParameterSource checkpoint = new MapSqlParameterSource()
+                .addValue("date", accrualDate)
+                .addValue("startId", partition.startId())
+                .addValue("claimedLease", claimedLease)
+                .addValue("lastAccountId", lastAccountId)
+                .addValue("status", completed ? "COMPLETED" : "PENDING")
+                .addValue("accounts", credited.size())
+                .addValue("interest", total)
+                .addValue("leaseUntil", completed ? null : nextLease)
+                .addValue("now", now);
+        if (jdbcTemplate.update(CHECKPOINT_SQL, checkpoint) != 1) {
+            throw new PartitionLostException();
+        }
+        return new Chunk(lastAccountId, completed, credited.size(), total);
+    }
+
+    private void release(LocalDate accrualDate, Partition partition, LocalDateTime claimedLease) {
+        try {
+            transactionRunner.write(() -> jdbcTemplate.update(RELEASE_SQL,
+                    Map.of("date", accrualDate, "startId", partition.startId(), "claimedLease", claimedLease)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release interest accrual partition {} of {}", partition.startId(), accrualDate, e);
+        }
+    }
+
+    /**
+     * 하루치 이자. 잔액 * 연 이율 / 그 해의 일수를 원 미만 절사한다.
+     */
+    static BigDecimal dailyInterest(BigDecimal balance, BigDecimal annualRate, LocalDate accrualDate) {
+        if (annualRate == null || annualRate.signum() <= 0 || balance.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return balance.multiply(annualRate)
+                .divide(BigDecimal.valueOf(accrualDate.lengthOfYear()), 0, RoundingMode.DOWN);
+    }
+
+    /**
+     * 끝나지 않은 구간이 남은 날짜를 오래된 것부터 이어서 처리한다.
+     */
+    public void resumeUnfinished() {
+        SortedSet<LocalDate> dates = new TreeSet<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            dates.addAll(shardRouter.onShard(shard, () -> jdbcTemplate.getJdbcOperations().query(UNFINISHED_SQL,
+                    (rs, rowNum) -> rs.getDate("accrual_date").toLocalDate())));
+        }
+        for (LocalDate date : dates) {
+            if (stopping) {
+                return;
+            }
+            log.info("Resuming unfinished interest accrual for {}", date);
+            run(date);
+        }
+    }
+
+    // lease_until 은 DATETIME(초 단위)이라 비교할 값도 초 단위로 맞춘다
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void runScheduler() {
+        CronExpression cron = CronExpression.parse(properties.cron());
+        try {
+            resumeUnfinished();
+        } catch (RuntimeException e) {
+            log.warn("Failed to resume unfinished interest accrual", e);
+        }
+        while (!stopping) {
+            ZonedDateTime now = ZonedDateTime.now(clock);
+            ZonedDateTime next = cron.next(now);
+            if (next == null) {
+                return;
+            }
+            try {
+                Thread.sleep(Math.max(0, Duration.between(now, next).toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                // 자정이 지난 뒤 실행되므로 전날 이자를 지급한다
+                run(next.toLocalDate().minusDays(1));
+            } catch (RuntimeException e) {
+                log.warn("Interest accrual failed", e);
+            }
+        }
+    }
+
+    public long accrued() {
+        return accrued.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry ->
+                FunctionCounter.builder("interest.accrued.accounts", accrued, LongAdder::sum).register(registry));
+        stopping = false;
+        started = true;
+        if (properties.schedulerEnabled()) {
+            scheduler = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "interest-accrual-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.submit(this::runScheduler);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopping = true;
+        started = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return started;
+    }
+
+    private record Partition(long startId, long endId, long lastAccountId, LocalDateTime leaseUntil) {
+    }
+
+    private record LockedAccount(long id, String accountNumber, long accountTypeId, BigDecimal balance, long ledgerCount) {
+    }
+
+    private record Chunk(long lastAccountId, boolean completed, int accounts, BigDecimal interest) {
+    }
+
+    private static class Totals {
+        private final AtomicInteger partitions = new AtomicInteger();
+        private final LongAdder accounts = new LongAdder();
+        private final AtomicReference<BigDecimal> interest = new AtomicReference<>(BigDecimal.ZERO);
+
+        void add(Chunk chunk) {
+            accounts.add(chunk.accounts());
+            interest.accumulateAndGet(chunk.interest(), BigDecimal::add);
+        }
+
+        InterestAccrualResult toResult(LocalDate accrualDate) {
+            return new InterestAccrualResult(accrualDate, partitions.get(), accounts.sum(), interest.get());
+        }
+    }
+
+    /**
+     * lease 가 끝나 다른 워커가 구간을 가져갔다. 청크를 롤백한다.
+     */
+    private static class PartitionLostException extends RuntimeException {
+        PartitionLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
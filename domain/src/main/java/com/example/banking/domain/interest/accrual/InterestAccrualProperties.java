@@ -0,0 +1,42 @@
+package com.example.banking.domain.interest.accrual;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일별 이자 배치 (banking.interest.*).
+ * 계좌 id 를 partition-size 폭의 구간으로 나누고 workers 개 워커가 구간을 하나씩 맡아 chunk-size 계좌씩 잠가 지급한다.
+ * 구간은 lease 동안 독점하며 청크를 커밋할 때마다 연장한다. scheduler-enabled 면 cron 마다 전날 이자를 지급한다.
+ */
+@ConfigurationProperties(prefix = "banking.interest")
+public record InterestAccrualProperties(
+        boolean schedulerEnabled,
+        String cron,
+        int workers,
+        long partitionSize,
+        int chunkSize,
+        Duration lease,
+        String workload
+) {
+    public InterestAccrualProperties {
+        if (cron == null) {
+            cron = "0 0 1 * * *";
+        }
+        if (workers <= 0) {
+            workers = 4;
+        }
+        if (partitionSize <= 0) {
+            partitionSize = 100_000;
+        }
+        if (chunkSize <= 0) {
+            chunkSize = 1_000;
+        }
+        if (lease == null) {
+            lease = Duration.ofMinutes(5);
+        }
+        if (workload == null) {
+            workload = "interest";
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.banking.domain.interest.accrual;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 이번 실행에서 이 인스턴스가 처리한 몫. 다른 인스턴스가 처리했거나 이전 실행에서 끝난 구간은 세지 않는다.
+ */
+public record InterestAccrualResult(
+        LocalDate accrualDate,
+        int partitions,
+        long accounts,
+        BigDecimal interest
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.banking.domain.transaction.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 일괄 지급의 한 건. 출금 계좌에서 toAccountNumber 로 amount 를 이체한다.
+ */
+public record PayoutLeg(String toAccountNumber, BigDecimal amount) {
+}
@@ -0,0 +1,24 @@
+package com.example.banking.domain.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "일괄 지급 응답 DTO")
+public record PayoutResponse(
+    @Schema(description = "출금 계좌 번호", example = "1234567891")
+    String fromAccountNumber,
+
+    @Schema(description = "지급 건수", example = "3")
+    int legCount,
+
+    @Schema(description = "지급 총액 (수수료 제외)", example = "30000")
+    BigDecimal totalAmount,
+
+    @Schema(description = "수수료 합계", example = "300")
+    BigDecimal totalFee,
+
+    @Schema(description = "지급 후 출금 계좌 잔액", example = "69700")
+    BigDecimal balanceAfterTransaction
+) {
+}
@@ -0,0 +1,61 @@
+package com.example.banking.domain.transaction.dto;
+
+import com.example.banking.domain.transaction.entity.ScheduledTransfer;
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import com.example.banking.domain.transaction.type.ScheduledTransferStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "예약 이체 응답 DTO")
+public record ScheduledTransferResponse(
+    @Schema(description = "예약 이체 ID", example = "1")
+    Long id,
+
+    @Schema(description = "출금 계좌 번호", example = "1234567891")
+    String fromAccountNumber,
+
+    @Schema(description = "입금 계좌 번호", example = "2345678910")
+    String toAccountNumber,
+
+    @Schema(description = "이체 금액", example = "10000")
+    BigDecimal amount,
+
+    @Schema(description = "반복 주기", example = "MONTHLY")
+    RepeatInterval repeatInterval,
+
+    @Schema(description = "다음 실행 시각")
+    LocalDateTime nextRunAt,
+
+    @Schema(description = "반복 종료 시각 (없으면 계속 반복)")
+    LocalDateTime endAt,
+
+    @Schema(description = "상태", example = "PENDING")
+    ScheduledTransferStatus status,
+
+    @Schema(description = "현재 회차의 실패 횟수", example = "0")
+    int attempts,
+
+    @Schema(description = "마지막으로 실행된 출금 거래 ID")
+    Long lastTransactionId,
+
+    @Schema(description = "마지막 실패 사유")
+    String lastError
+) {
+    public static ScheduledTransferResponse from(ScheduledTransfer scheduledTransfer) {
+        return new ScheduledTransferResponse(
+            scheduledTransfer.getId(),
+            scheduledTransfer.getFromAccountNumber(),
+            scheduledTransfer.getToAccountNumber(),
+            scheduledTransfer.getAmount(),
+            scheduledTransfer.getRepeatInterval(),
+            scheduledTransfer.getNextRunAt(),
+            scheduledTransfer.getEndAt(),
+            scheduledTransfer.getStatus(),
+            scheduledTransfer.getAttempts(),
+            scheduledTransfer.getLastTransactionId(),
+            scheduledTransfer.getLastError()
+        );
+    }
+}
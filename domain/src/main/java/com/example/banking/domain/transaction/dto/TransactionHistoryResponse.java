@@ -1,6 +1,5 @@
 package com.example.banking.domain.transaction.dto;
 
-import com.example.banking.domain.transaction.entity.Transaction;
 import com.example.banking.domain.transaction.type.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -32,15 +31,4 @@ public record TransactionHistoryResponse(
     @Schema(description = "거래 일시", example = "2024-03-20T10:00:00")
     LocalDateTime createdAt
 ) {
-    public static TransactionHistoryResponse from(Transaction transaction) {
-        return TransactionHistoryResponse.builder()
-            .id(transaction.getId())
-            .type(transaction.getType())
-            .amount(transaction.getAmount())
-            .fee(transaction.getFee())
-            .balanceAfterTransaction(transaction.getBalanceAfterTransaction())
-            .relatedAccountNumber(transaction.getRelatedAccountNumber())
-            .createdAt(transaction.getCreatedAt())
-            .build();
-    }
-} 
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 package com.example.banking.domain.transaction.dto;
 
-import com.example.banking.domain.transaction.entity.Transaction;
+import com.example.banking.domain.transaction.journal.JournalEntry;
 import com.example.banking.domain.transaction.type.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -34,16 +34,20 @@ public record TransactionResponse(
 
     LocalDateTime createdAt
 ) {
-    public static TransactionResponse from(Transaction transaction) {
+    /**
+     * 분개의 첫 증감, 곧 거래를 요청한 계좌(입출금 계좌, 이체의 출금 계좌)의 거래.
+     */
+    public static TransactionResponse of(JournalEntry entry) {
+        JournalEntry.Posting posting = entry.postings().get(0);
         return TransactionResponse.builder()
-                .id(transaction.getId())
-                .accountNumber(transaction.getAccount().getAccountNumber())
-                .type(transaction.getType())
-                .amount(transaction.getAmount())
-                .balanceAfterTransaction(transaction.getBalanceAfterTransaction())
-                .fee(transaction.getFee())
-                .relatedAccountNumber(transaction.getRelatedAccountNumber())
-                .createdAt(transaction.getCreatedAt())
+                .id(entry.id())
+                .accountNumber(posting.accountNumber())
+                .type(entry.type().transactionType(posting.amount()))
+                .amount(posting.principal())
+                .balanceAfterTransaction(posting.balanceAfter())
+                .fee(posting.fee())
+                .relatedAccountNumber(posting.relatedAccountNumber())
+                .createdAt(entry.createdAt())
                 .build();
     }
-} 
\ No newline at end of file
+}
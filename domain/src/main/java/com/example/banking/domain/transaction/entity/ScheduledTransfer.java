@@ -0,0 +1,89 @@
+package com.example.banking.domain.transaction.entity;
+
+import com.example.banking.core.common.BaseEntity;
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import com.example.banking.domain.transaction.type.ScheduledTransferStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 / 자동 이체. nextRunAt 이 되면 실행기가 가져가 이체하고, 반복이면 다음 실행 시각으로 옮긴다.
+ * 실행 상태(attempts, leaseUntil 등)는 실행기가 JDBC 로 직접 갱신하므로, 엔티티로는 바뀐 컬럼만 UPDATE 한다.
+ */
+@Entity
+@DynamicUpdate
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ScheduledTransfer extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String fromAccountNumber;
+
+    @Column(nullable = false, length = 20)
+    private String toAccountNumber;
+
+    @Column(nullable = false, precision = 19)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RepeatInterval repeatInterval;
+
+    @Column(nullable = false)
+    private LocalDateTime nextRunAt;
+
+    private LocalDateTime endAt;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ScheduledTransferStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 실행기가 가져간 행은 이 시각까지 다른 실행기가 가져가지 않는다. 재시도 대기에도 쓴다.
+    private LocalDateTime leaseUntil;
+
+    private Long lastTransactionId;
+
+    @Column(length = 200)
+    private String lastError;
+
+    public static ScheduledTransfer create(
+        String fromAccountNumber,
+        String toAccountNumber,
+        BigDecimal amount,
+        RepeatInterval repeatInterval,
+        LocalDateTime firstRunAt,
+        LocalDateTime endAt
+    ) {
+        return ScheduledTransfer.builder()
+                .fromAccountNumber(fromAccountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(amount)
+                .repeatInterval(repeatInterval)
+                .nextRunAt(firstRunAt)
+                .endAt(endAt)
+                .status(ScheduledTransferStatus.PENDING)
+                .build();
+    }
+
+    public void cancel() {
+        if (status != ScheduledTransferStatus.PENDING) {
+            throw new BusinessException(TransactionErrorCode.SCHEDULED_TRANSFER_NOT_PENDING);
+        }
+        this.status = ScheduledTransferStatus.CANCELLED;
+    }
+}
@@ -15,7 +15,16 @@ public enum TransactionErrorCode implements ErrorCode {
     NOT_FOUND("T006", "거래 내역을 찾을 수 없습니다"),
     AMOUNT_TOO_SMALL("T007", "거래 금액이 최소 금액보다 작습니다"),
     AMOUNT_TOO_LARGE("T008", "거래 금액이 최대 금액을 초과합니다"),
-    FAILED("T009", "거래 처리 중 오류가 발생했습니다");
+    FAILED("T009", "거래 처리 중 오류가 발생했습니다"),
+    INVALID_PAYOUT_LEG_COUNT("T010", "일괄 지급 건수가 허용 범위를 벗어났습니다"),
+    DUPLICATE_PAYOUT_DESTINATION("T011", "일괄 지급에 같은 입금 계좌가 중복되었습니다"),
+    SCHEDULED_TRANSFER_NOT_FOUND("T012", "예약 이체를 찾을 수 없습니다"),
+    INVALID_SCHEDULE("T013", "예약 이체 일정이 올바르지 않습니다"),
+    SCHEDULED_TRANSFER_NOT_PENDING("T014", "이미 끝났거나 취소된 예약 이체입니다"),
+    CROSS_SHARD_PAYOUT("T015", "일괄 지급은 출금 계좌와 같은 샤드의 계좌로만 보낼 수 있습니다"),
+    TRANSFER_IN_PROGRESS("T016", "이체를 처리하고 있습니다. 잠시 후 거래 내역을 확인해 주세요"),
+    TRANSFER_COMPENSATED("T017", "입금에 실패해 출금을 되돌린 이체입니다"),
+    VELOCITY_LIMIT_EXCEEDED("T018", "짧은 시간에 거래가 너무 많습니다. 잠시 후 다시 시도해 주세요");
 
     private final String code;
     private final String message;
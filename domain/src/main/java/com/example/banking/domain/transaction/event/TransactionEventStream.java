@@ -0,0 +1,50 @@
+package com.example.banking.domain.transaction.event;
+
+import com.example.banking.core.concurrent.BroadcastRingBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 커밋된 거래를 순서대로 담는 메모리 내 스트림 (banking.transaction-stream.*).
+ * 커밋 직후 요청 스레드에서 링 버퍼에 넣기만 하므로 쓰기 요청은 구독자 수나 속도와 무관하다.
+ * 구독자는 시퀀스 커서로 읽고, 버퍼 크기 이상 뒤처지면 {@link BroadcastRingBuffer#LAPPED} 를 받는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.transaction-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionEventStream {
+
+    private final BroadcastRingBuffer<TransactionRecordedEvent> buffer;
+
+    public TransactionEventStream(@Value("${banking.transaction-stream.buffer-size:8192}") int bufferSize) {
+        this.buffer = new BroadcastRingBuffer<>(bufferSize);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(TransactionRecordedEvent event) {
+        buffer.publish(event);
+    }
+
+    public long cursor() {
+        return buffer.cursor();
+    }
+
+    public long oldest() {
+        return buffer.oldest();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * from 부터 최대 limit 건을 (이벤트, 시퀀스) 로 넘기고 다음 커서를 반환한다.
+     */
+    public long read(long from, int limit, ObjLongConsumer<TransactionRecordedEvent> consumer) {
+        return buffer.read(from, limit, consumer);
+    }
+}
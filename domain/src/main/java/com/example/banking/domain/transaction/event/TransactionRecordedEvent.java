@@ -0,0 +1,39 @@
+package com.example.banking.domain.transaction.event;
+
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.type.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 분개의 고객 계좌 증감 하나(거래 내역 한 줄)가 저장될 때 발행된다. 저장한 트랜잭션 안에서 동기적으로 전달된다.
+ * transactionId 는 분개 id 라 같은 분개의 두 계좌(이체의 출금 / 입금 등)가 같은 값을 갖는다.
+ */
+public record TransactionRecordedEvent(
+        Long transactionId,
+        Long accountId,
+        String accountNumber,
+        TransactionType type,
+        BigDecimal amount,
+        BigDecimal fee,
+        BigDecimal balanceAfterTransaction,
+        String relatedAccountNumber,
+        LocalDateTime createdAt,
+        Long accountSequence
+) {
+    public static TransactionRecordedEvent of(JournalEntry entry, JournalEntry.Posting posting) {
+        return new TransactionRecordedEvent(
+                entry.id(),
+                posting.accountId(),
+                posting.accountNumber(),
+                entry.type().transactionType(posting.amount()),
+                posting.principal(),
+                posting.fee(),
+                posting.balanceAfter(),
+                posting.relatedAccountNumber(),
+                entry.createdAt(),
+                posting.accountSequence()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.banking.domain.transaction.history;
+
+import com.example.banking.core.concurrent.SingleFlight;
+import com.example.banking.domain.account.support.AccountWriteStamps;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
+import com.example.banking.domain.transaction.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시에 들어온 같은 거래 내역 조회(계좌, 페이지, 크기, 정렬이 같은 요청)를 DB 조회 한 번으로 합친다.
+ * 조회가 시작된 뒤 그 계좌에 쓰기가 커밋되면 이후 요청은 합류하지 않고 새로 조회한다. ({@link AccountWriteStamps})
+ * 트랜잭션 밖(컨트롤러)에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionHistoryCoalescer {
+
+    private final TransactionService transactionService;
+    private final AccountWriteStamps accountWriteStamps;
+    private final SingleFlight<Key, Page<TransactionHistoryResponse>> flights = new SingleFlight<>();
+
+    public Page<TransactionHistoryResponse> getTransactionHistory(String accountNumber, Pageable pageable) {
+        return flights.execute(
+                new Key(accountNumber, pageable),
+                accountWriteStamps.stamp(accountNumber),
+                () -> transactionService.getTransactionHistory(accountNumber, pageable)
+        );
+    }
+
+    private record Key(String accountNumber, Pageable pageable) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.banking.domain.transaction.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 고객 계좌의 상대편이 되는 은행 계정. account 테이블의 id 는 양수이므로 분개에서는 음수 id 로 구분한다.
+ * 은행 계정은 account 행이 없고 잔액은 분개 합계로만 본다. (거래마다 같은 행을 잠그지 않도록)
+ */
+@Getter
+@AllArgsConstructor
+public enum BankAccount {
+    // 입출금의 상대편 (은행 밖으로 나가고 들어오는 돈)
+    CASH(-1, "현금"),
+    FEE_INCOME(-2, "수수료 수익"),
+    INTEREST_EXPENSE(-3, "이자 비용"),
+    // 샤드 간 이체에서 출금 샤드와 입금 샤드가 각자 분개를 맞추는 중간 계정. 이체가 끝나면 샤드 합계가 0 이 된다.
+    SHARD_CLEARING(-4, "샤드 간 이체 정산");
+
+    private final long id;
+    private final String description;
+
+    public static BankAccount of(long id) {
+        for (BankAccount account : values()) {
+            if (account.id == id) {
+                return account;
+            }
+        }
+        return null;
+    }
+}
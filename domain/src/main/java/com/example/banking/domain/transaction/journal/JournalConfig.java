@@ -0,0 +1,44 @@
+package com.example.banking.domain.transaction.journal;
+
+import com.example.banking.core.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.ZoneId;
+
+@Configuration
+public class JournalConfig {
+
+    // 검증 때 한 번에 받아 오는 증감 행 수
+    private static final int VERIFY_FETCH_SIZE = 1000;
+
+    @Bean
+    public JournalWriter journalWriter(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        return new JournalWriter(jdbcTemplate, eventPublisher, jdbcZone(jdbcTimeZone));
+    }
+
+    @Bean
+    public JournalReader journalReader(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        return new JournalReader(jdbcTemplate, jdbcZone(jdbcTimeZone));
+    }
+
+    @Bean
+    public JournalVerifier journalVerifier(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        return new JournalVerifier(jdbcTemplate, shardRouter, VERIFY_FETCH_SIZE);
+    }
+
+    private static ZoneId jdbcZone(String jdbcTimeZone) {
+        return jdbcTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(jdbcTimeZone);
+    }
+}
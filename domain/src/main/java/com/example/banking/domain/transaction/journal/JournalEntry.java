@@ -0,0 +1,118 @@
+package com.example.banking.domain.transaction.journal;
+
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분개 한 건. 거래 하나가 움직인 돈을 계좌별 증감(posting) 으로 담으며, 모든 증감의 합은 0 이어야 한다.
+ * 증감은 그 계좌 잔액의 변화로, 고객 계좌는 account.id, 은행 계정은 {@link BankAccount} 의 음수 id 를 쓴다.
+ *
+ * <p>고객 계좌 증감 하나가 거래 내역 한 줄이다. 그래서 고객 계좌 증감에는 거래 후 잔액, 계좌별 순번, 수수료, 상대 계좌를 함께 남긴다.
+ * 분개 id 는 {@link JournalWriter#newEntry} 가 거래 id 시퀀스에서 받는다.
+ */
+public final class JournalEntry {
+
+    private final Long id;
+    private final JournalEntryType type;
+    private final LocalDateTime createdAt;
+    private final List<Posting> postings = new ArrayList<>(4);
+
+    private JournalEntry(Long id, JournalEntryType type, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public static JournalEntry of(long id, JournalEntryType type, LocalDateTime createdAt) {
+        return new JournalEntry(id, type, createdAt);
+    }
+
+    /**
+     * 고객 계좌 증감. 잔액을 바꾼 뒤에 부르며, 그 잔액과 계좌의 다음 순번을 남긴다.
+     * fee 는 amount 에 들어 있는 수수료다.
+     */
+    public JournalEntry post(Account account, BigDecimal amount, BigDecimal fee, String relatedAccountNumber) {
+        return post(account.getId(), account.getAccountNumber(), amount, fee, account.getBalance(),
+                account.nextLedgerSequence(), relatedAccountNumber);
+    }
+
+    public JournalEntry post(Account account, BigDecimal amount) {
+        return post(account, amount, BigDecimal.ZERO, null);
+    }
+
+    public JournalEntry post(
+            Long accountId,
+            String accountNumber,
+            BigDecimal amount,
+            BigDecimal fee,
+            BigDecimal balanceAfter,
+            long accountSequence,
+            String relatedAccountNumber
+    ) {
+        postings.add(new Posting(accountId, accountNumber, amount, fee, balanceAfter, accountSequence, relatedAccountNumber));
+        return this;
+    }
+
+    /**
+     * 0 원 증감(수수료 없는 이체 등)은 남기지 않는다.
+     */
+    public JournalEntry post(BankAccount account, BigDecimal amount) {
+        if (amount.signum() != 0) {
+            postings.add(new Posting(account.getId(), null, amount, null, null, null, null));
+        }
+        return this;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public JournalEntryType type() {
+        return type;
+    }
+
+    public LocalDateTime createdAt() {
+        return createdAt;
+    }
+
+    public List<Posting> postings() {
+        return postings;
+    }
+
+    public BigDecimal sum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Posting posting : postings) {
+            sum = sum.add(posting.amount());
+        }
+        return sum;
+    }
+
+    /**
+     * 은행 계정 증감은 accountNumber 부터 뒤의 값이 모두 null 이다.
+     */
+    public record Posting(
+            Long accountId,
+            String accountNumber,
+            BigDecimal amount,
+            BigDecimal fee,
+            BigDecimal balanceAfter,
+            Long accountSequence,
+            String relatedAccountNumber
+    ) {
+        public boolean customer() {
+            return accountNumber != null;
+        }
+
+        /**
+         * 거래 내역에 보이는 금액. 증감에서 수수료를 뺀 크기다.
+         */
+        public BigDecimal principal() {
+            return amount.abs().subtract(fee);
+        }
+    }
+}
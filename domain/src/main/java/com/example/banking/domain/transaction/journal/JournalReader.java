@@ -0,0 +1,127 @@
+package com.example.banking.domain.transaction.journal;
+
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import com.example.banking.domain.transaction.type.TransactionType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 고객 계좌 증감(journal_posting) 하나를 거래 내역 한 줄로 읽는다. 분개 유형과 시각이 증감에 복사되어 있어 분개와 조인하지 않는다.
+ * 유형은 분개 유형과 증감의 부호로({@link JournalEntryType#transactionType}) 정한다.
+ * 시각은 hibernate.jdbc.time_zone 기준으로 저장되어 있어 JPA 로 읽을 때처럼 JVM 기본 시간대로 바꿔 준다.
+ */
+public class JournalReader {
+
+    // 계좌별 순번 역순. (account_id, account_sequence) 인덱스를 거꾸로 읽는다
+    static final String HISTORY_SQL = "SELECT entry_id, amount, fee, balance_after, related_account_number, type, created_at "
+            + "FROM journal_posting WHERE account_id = :accountId "
+            + "ORDER BY account_sequence DESC LIMIT :limit OFFSET :offset";
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM journal_posting WHERE account_id = :accountId";
+    static final String RESPONSE_SQL = "SELECT p.entry_id, p.amount, p.fee, p.balance_after, "
+            + "p.related_account_number, p.type, p.created_at, a.account_number "
+            + "FROM journal_posting p JOIN account a ON a.id = p.account_id "
+            + "WHERE p.entry_id = :entryId AND p.account_id = :accountId ORDER BY p.line LIMIT 1";
+    // (account_id, created_at) 인덱스로 그날 증감만 읽는다. 보상된(환불한) 샤드 간 이체 출금은 빼므로 환불 분개는 더하지 않는다
+    static final String DAILY_AMOUNT_SQL = "SELECT COALESCE(SUM(-p.amount - COALESCE(p.fee, 0)), 0) FROM journal_posting p "
+            + "WHERE p.account_id = :accountId AND p.created_at >= :from AND p.created_at < :to "
+            + "AND p.amount < 0 AND p.type IN (:types) "
+            + "AND NOT EXISTS (SELECT 1 FROM transfer_saga s "
+            + "WHERE s.debit_transaction_id = p.entry_id AND s.state = 'COMPENSATED')";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ZoneId jdbcZone;
+
+    public JournalReader(NamedParameterJdbcTemplate jdbcTemplate, ZoneId jdbcZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcZone = jdbcZone;
+    }
+
+    /**
+     * 계좌의 거래 내역을 최신순으로. 정렬은 계좌별 순번 역순으로 정해져 있어 pageable 의 정렬은 보지 않는다.
+     * 마지막 페이지처럼 개수를 알 수 있으면 COUNT 쿼리를 보내지 않는다.
+     */
+    public Page<TransactionHistoryResponse> findHistory(Long accountId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("limit", pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE)
+                .addValue("offset", pageable.isPaged() ? pageable.getOffset() : 0);
+        List<TransactionHistoryResponse> content = jdbcTemplate.query(HISTORY_SQL, params, (rs, rowNum) -> {
+            BigDecimal amount = rs.getBigDecimal("amount");
+            BigDecimal fee = rs.getBigDecimal("fee");
+            return new TransactionHistoryResponse(
+                    rs.getLong("entry_id"),
+                    type(rs, amount),
+                    amount.abs().subtract(fee),
+                    fee,
+                    rs.getBigDecimal("balance_after"),
+                    rs.getString("related_account_number"),
+                    createdAt(rs));
+        });
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                jdbcTemplate.queryForObject(COUNT_SQL, Map.of("accountId", accountId), Long.class));
+    }
+
+    /**
+     * 분개 하나에서 그 계좌의 거래. 샤드 간 이체를 다시 호출했을 때 처음 출금한 거래를 돌려주는 데 쓴다.
+     */
+    public Optional<TransactionResponse> findResponse(Long entryId, Long accountId) {
+        List<TransactionResponse> rows = jdbcTemplate.query(RESPONSE_SQL,
+                Map.of("entryId", entryId, "accountId", accountId), (rs, rowNum) -> {
+                    BigDecimal amount = rs.getBigDecimal("amount");
+                    BigDecimal fee = rs.getBigDecimal("fee");
+                    return new TransactionResponse(
+                            rs.getLong("entry_id"),
+                            rs.getString("account_number"),
+                            type(rs, amount),
+                            amount.abs().subtract(fee),
+                            rs.getBigDecimal("balance_after"),
+                            fee,
+                            rs.getString("related_account_number"),
+                            createdAt(rs));
+                });
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 계좌가 [from, to) 동안 type 으로 내보낸 금액의 합 (수수료 제외). 보상된 샤드 간 이체는 넣지 않는다. 시각은 JVM 기본 시간대다.
+     */
+    public BigDecimal getDailyAmount(Long accountId, TransactionType type, LocalDateTime from, LocalDateTime to) {
+        List<String> types = Arrays.stream(JournalEntryType.values())
+                .filter(entryType -> entryType.getOutgoing() == type)
+                .map(Enum::name)
+                .toList();
+        return jdbcTemplate.queryForObject(DAILY_AMOUNT_SQL, new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("types", types)
+                .addValue("from", toJdbcZone(from))
+                .addValue("to", toJdbcZone(to)), BigDecimal.class);
+    }
+
+    private static TransactionType type(ResultSet rs, BigDecimal amount) throws SQLException {
+        return JournalEntryType.valueOf(rs.getString("type")).transactionType(amount);
+    }
+
+    private LocalDateTime createdAt(ResultSet rs) throws SQLException {
+        return rs.getObject("created_at", LocalDateTime.class)
+                .atZone(jdbcZone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private LocalDateTime toJdbcZone(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).withZoneSameInstant(jdbcZone).toLocalDateTime();
+    }
+}
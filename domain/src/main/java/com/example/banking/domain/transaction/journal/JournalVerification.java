@@ -0,0 +1,25 @@
+package com.example.banking.domain.transaction.journal;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분개 검증 결과. 모든 샤드의 분개를 합친 값이다.
+ *
+ * @param unbalancedEntryIds 증감의 합이 0 이 아닌 분개 id (앞에서부터 최대 {@link JournalVerifier#MAX_REPORTED} 개)
+ * @param bankBalances       은행 계정별 증감 합계 (수수료 수익, 이자 비용 등)
+ * @param total              전체 증감 합계. 모든 분개가 맞으면 0 이다.
+ */
+public record JournalVerification(
+        long entries,
+        long postings,
+        long unbalancedEntries,
+        List<Long> unbalancedEntryIds,
+        Map<BankAccount, BigDecimal> bankBalances,
+        BigDecimal total
+) {
+    public boolean balanced() {
+        return unbalancedEntries == 0 && total.signum() == 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.banking.domain.transaction.journal;
+
+import com.example.banking.core.sharding.ShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분개마다 증감의 합이 0 인지 샤드별로 journal_posting 을 PK 순서로 한 번 훑으며 확인한다.
+ * 행을 fetch-size 단위로 받아 분개가 바뀔 때마다 합계를 확인하고 버리므로 분개 수와 관계없이 메모리를 일정하게 쓴다.
+ */
+public class JournalVerifier {
+
+    static final int MAX_REPORTED = 20;
+    static final String SCAN_SQL = "SELECT entry_id, account_id, amount FROM journal_posting ORDER BY entry_id, line";
+
+    private final JdbcTemplate streaming;
+    private final ShardRouter shardRouter;
+
+    public JournalVerifier(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, int fetchSize) {
+        this.streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streaming.setFetchSize(fetchSize);
+        this.shardRouter = shardRouter;
+    }
+
+    public JournalVerification verify() {
+        Scan scan = new Scan();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> {
+                streaming.query(SCAN_SQL, scan);
+                scan.closeEntry();
+                return null;
+            });
+        }
+        return new JournalVerification(scan.entries, scan.postings, scan.unbalancedEntries,
+                scan.unbalancedEntryIds, scan.bankBalances, scan.total);
+    }
+
+    private static final class Scan implements RowCallbackHandler {
+
+        private long entries;
+        private long postings;
+        private long unbalancedEntries;
+        private final List<Long> unbalancedEntryIds = new ArrayList<>();
+        private final Map<BankAccount, BigDecimal> bankBalances = new EnumMap<>(BankAccount.class);
+        private BigDecimal total = BigDecimal.ZERO;
+
+        private long entryId;
+        private boolean inEntry;
+        private BigDecimal entrySum = BigDecimal.ZERO;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowEntryId = rs.getLong("entry_id");
+            if (!inEntry || rowEntryId != entryId) {
+                closeEntry();
+                entryId = rowEntryId;
+                inEntry = true;
+            }
+            BigDecimal amount = rs.getBigDecimal("amount");
+            entrySum = entrySum.add(amount);
+            total = total.add(amount);
+            postings++;
+
+            BankAccount bankAccount = BankAccount.of(rs.getLong("account_id"));
+            if (bankAccount != null) {
+                bankBalances.merge(bankAccount, amount, BigDecimal::add);
+            }
+        }
+
+        void closeEntry() {
+            if (!inEntry) {
+                return;
+            }
+            entries++;
+            if (entrySum.signum() != 0) {
+                unbalancedEntries++;
+                if (unbalancedEntryIds.size() < MAX_REPORTED) {
+                    unbalancedEntryIds.add(entryId);
+                }
+            }
+            inEntry = false;
+            entrySum = BigDecimal.ZERO;
+        }
+    }
+}
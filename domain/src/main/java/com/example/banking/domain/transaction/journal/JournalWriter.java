@@ -0,0 +1,93 @@
+package com.example.banking.domain.transaction.journal;
+
+import com.example.banking.core.transaction.BeforeCommitBatchInsert;
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 분개를 거래와 같은 트랜잭션에서 journal_entry / journal_posting 에 넣는다. 분개가 거래 원장이다.
+ * 트랜잭션 동안 모은 분개와 증감을 커밋 직전에 테이블별 배치 INSERT 한 번씩으로 넣으므로,
+ * 증감이 몇 개든 DB 왕복은 두 번이고 INSERT 가 실패하면 거래도 함께 롤백된다.
+ *
+ * <p>증감에는 분개 유형과 시각을 복사해 두어 거래 내역을 분개와 조인하지 않고 읽는다.
+ * 고객 계좌 증감마다 {@link TransactionRecordedEvent} 를 발행하므로 체크포인트, 아웃박스, 스트림도 같은 트랜잭션에서 함께 쓰인다.
+ */
+public class JournalWriter {
+
+    static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR transaction_seq";
+    static final String INSERT_ENTRY_SQL = "INSERT INTO journal_entry (id, type, created_at) VALUES (?, ?, ?)";
+    static final String INSERT_POSTING_SQL = "INSERT INTO journal_posting "
+            + "(entry_id, line, account_id, amount, type, created_at, fee, balance_after, account_sequence, "
+            + "related_account_number) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // transaction_seq 는 50 씩 증가하고, 받은 값부터 50 개를 메모리에서 나눠 쓴다 (pooled-lo)
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BeforeCommitBatchInsert entries;
+    private final BeforeCommitBatchInsert postings;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId jdbcZone;
+    private long nextId;
+    private long idLimit;
+
+    public JournalWriter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher, ZoneId jdbcZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entries = new BeforeCommitBatchInsert(jdbcTemplate, INSERT_ENTRY_SQL);
+        this.postings = new BeforeCommitBatchInsert(jdbcTemplate, INSERT_POSTING_SQL);
+        this.eventPublisher = eventPublisher;
+        this.jdbcZone = jdbcZone;
+    }
+
+    /**
+     * 새 분개. 시각은 JVM 기본 시간대의 지금이다. 트랜잭션 안에서 부른다.
+     */
+    public JournalEntry newEntry(JournalEntryType type) {
+        return newEntry(type, LocalDateTime.now());
+    }
+
+    public JournalEntry newEntry(JournalEntryType type, LocalDateTime createdAt) {
+        return JournalEntry.of(nextId(), type, createdAt);
+    }
+
+    /**
+     * 증감의 합이 0 이 아니면 IllegalStateException. 트랜잭션 안에서 부른다.
+     */
+    public void write(JournalEntry entry) {
+        if (entry.sum().signum() != 0) {
+            throw new IllegalStateException("Unbalanced journal entry " + entry.id() + " (" + entry.type()
+                    + "): sum=" + entry.sum());
+        }
+        // 다른 시각 컬럼처럼 hibernate.jdbc.time_zone 기준으로 저장한다.
+        // Timestamp 로 넘기면 드라이버가 자기가 아는 JVM 시간대로 다시 바꾸므로 벽시계 시각(LocalDateTime) 그대로 넘긴다.
+        LocalDateTime createdAt = entry.createdAt().atZone(ZoneId.systemDefault()).withZoneSameInstant(jdbcZone).toLocalDateTime();
+        entries.add(entry.id(), entry.type().name(), createdAt);
+        List<JournalEntry.Posting> lines = entry.postings();
+        for (int line = 0; line < lines.size(); line++) {
+            JournalEntry.Posting posting = lines.get(line);
+            postings.add(entry.id(), line + 1, posting.accountId(), posting.amount(), entry.type().name(), createdAt,
+                    posting.fee(), posting.balanceAfter(), posting.accountSequence(), posting.relatedAccountNumber());
+            if (posting.customer()) {
+                eventPublisher.publishEvent(TransactionRecordedEvent.of(entry, posting));
+            }
+        }
+    }
+
+    /**
+     * 시퀀스는 트랜잭션이 열린 샤드에서 읽는다. 구간은 인스턴스 전체가 함께 나눠 쓴다. (샤드마다 시퀀스 구간이 겹치지 않는다)
+     */
+    private synchronized long nextId() {
+        if (nextId == idLimit) {
+            Long base = jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+            nextId = base;
+            idLimit = base + ID_BLOCK_SIZE;
+        }
+        return nextId++;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.banking.domain.transaction.outbox;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 파일에 한 줄에 하나씩 payload(JSON)를 덧붙이는 싱크. 외부 브로커 없이 로컬에서 전달 흐름을 확인할 때 쓴다.
+ * 배치마다 한 번 flush 한다.
+ */
+public class FileOutboxSink implements OutboxSink, Closeable {
+
+    private final Path path;
+    private BufferedWriter writer;
+
+    public FileOutboxSink(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        try {
+            BufferedWriter out = writer();
+            for (OutboxMessage message : messages) {
+                out.write(message.payload());
+                out.newLine();
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox messages to " + path, e);
+        }
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return writer;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
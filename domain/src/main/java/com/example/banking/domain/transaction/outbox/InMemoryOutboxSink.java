@@ -0,0 +1,39 @@
+package com.example.banking.domain.transaction.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 메모리에 최근 capacity 건만 남기는 싱크. 테스트와 embedded 프로파일에서 외부 시스템 대신 쓴다.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+    private long delivered;
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+        delivered += batch.size();
+    }
+
+    public synchronized List<OutboxMessage> messages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized long delivered() {
+        return delivered;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.banking.domain.transaction.outbox;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "banking.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink(OutboxProperties properties) {
+        return switch (properties.sink()) {
+            case FILE -> new FileOutboxSink(Path.of(properties.filePath()));
+            case MEMORY -> new InMemoryOutboxSink(properties.memoryCapacity());
+        };
+    }
+
+    @Bean
+    public TransactionOutboxRelay transactionOutboxRelay(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            OutboxSink outboxSink,
+            OutboxProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new TransactionOutboxRelay(
+                namedParameterJdbcTemplate, transactionRunner, shardRouter, outboxSink, properties, meterRegistry);
+    }
+}
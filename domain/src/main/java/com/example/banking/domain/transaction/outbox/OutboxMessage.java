@@ -0,0 +1,15 @@
+package com.example.banking.domain.transaction.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 한 건. payload 는 {@link com.example.banking.domain.transaction.event.TransactionRecordedEvent} 의 JSON 이다.
+ */
+public record OutboxMessage(
+        Long id,
+        Long transactionId,
+        String accountNumber,
+        String payload,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,45 @@
+package com.example.banking.domain.transaction.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 거래 아웃박스 (banking.outbox.*).
+ * sink 는 기본 제공 싱크 선택이며, {@link OutboxSink} 빈을 직접 등록하면 그것을 쓴다.
+ */
+@ConfigurationProperties(prefix = "banking.outbox")
+public record OutboxProperties(
+        boolean enabled,
+        SinkType sink,
+        String filePath,
+        int memoryCapacity,
+        int batchSize,
+        int workers,
+        Duration pollInterval
+) {
+    public OutboxProperties {
+        if (sink == null) {
+            sink = SinkType.FILE;
+        }
+        if (filePath == null) {
+            filePath = "outbox/transactions.jsonl";
+        }
+        if (memoryCapacity <= 0) {
+            memoryCapacity = 10_000;
+        }
+        if (batchSize <= 0) {
+            batchSize = 1000;
+        }
+        if (workers <= 0) {
+            workers = 1;
+        }
+        if (pollInterval == null) {
+            pollInterval = Duration.ofMillis(200);
+        }
+    }
+
+    public enum SinkType {
+        FILE, MEMORY
+    }
+}
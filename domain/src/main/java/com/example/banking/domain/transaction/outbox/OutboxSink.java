@@ -0,0 +1,14 @@
+package com.example.banking.domain.transaction.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 메시지를 외부로 내보내는 대상.
+ * 예외 없이 반환하면 전달된 것으로 보고 아웃박스에서 지운다. 예외가 나면 배치 전체를 다음에 다시 보낸다.
+ * 같은 메시지가 두 번 이상 전달될 수 있으므로 (at-least-once) 받는 쪽은 (transactionId, accountNumber) 로 중복을 거른다.
+ * transactionId 는 분개 id 라 이체의 출금 / 입금처럼 계좌만 다른 메시지가 같은 값을 갖는다.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,159 @@
+package com.example.banking.domain.transaction.outbox;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 행을 배치로 가져와 {@link OutboxSink} 로 보내고 지운다.
+ *
+ * <p>한 배치는 트랜잭션 하나다: {@code FOR UPDATE SKIP LOCKED} 로 최대 batch-size 행을 잡고, 싱크로 보낸 뒤 한 번의 DELETE 로 지운다.
+ * 다른 워커(다른 인스턴스 포함)가 잡은 행은 건너뛰므로 워커를 늘리면 그대로 나눠 처리한다.
+ * 싱크가 실패하면 롤백되어 행이 남고 다음 배치에서 다시 보낸다. 배치가 가득 차면 쉬지 않고 바로 다음 배치를 가져온다.
+ * 샤딩을 켜면 샤드마다 차례로 배치를 가져온다.
+ */
+@Slf4j
+public class TransactionOutboxRelay implements SmartLifecycle {
+
+    static final String CLAIM_SQL = "SELECT id, transaction_id, account_number, payload, created_at "
+            + "FROM transaction_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+    static final String DELETE_SQL = "DELETE FROM transaction_outbox WHERE id IN (:ids)";
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getLong("transaction_id"),
+            rs.getString("account_number"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public TransactionOutboxRelay(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            OutboxSink sink,
+            OutboxProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRunner = transactionRunner;
+        this.shardRouter = shardRouter;
+        this.sink = sink;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 샤드마다 배치 하나를 보내고 보낸 건수를 반환한다.
+     */
+    public int relayBatch() {
+        int count = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            count += shardRouter.onShard(shard, this::relayShardBatch);
+        }
+        return count;
+    }
+
+    private int relayShardBatch() {
+        Integer count = transactionRunner.write(() -> {
+            List<OutboxMessage> batch = jdbcTemplate.query(CLAIM_SQL, Map.of("limit", properties.batchSize()), ROW_MAPPER);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.deliver(batch);
+            jdbcTemplate.update(DELETE_SQL, Map.of("ids", batch.stream().map(OutboxMessage::id).toList()));
+            return batch.size();
+        });
+        relayed.add(count);
+        return count;
+    }
+
+    private void runWorker() {
+        long pollMillis = properties.pollInterval().toMillis();
+        while (running) {
+            int count;
+            try {
+                count = relayBatch();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to relay outbox batch", e);
+                count = 0;
+            }
+            if (count < properties.batchSize()) {
+                try {
+                    Thread.sleep(pollMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public long relayed() {
+        return relayed.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("outbox.relayed", relayed, LongAdder::sum).register(registry);
+            FunctionCounter.builder("outbox.relay.failures", failures, LongAdder::sum).register(registry);
+        });
+        AtomicInteger index = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.submit(this::runWorker);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            try {
+                workers.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workers = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return workers != null;
+    }
+}
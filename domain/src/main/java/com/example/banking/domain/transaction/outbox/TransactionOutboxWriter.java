@@ -0,0 +1,44 @@
+package com.example.banking.domain.transaction.outbox;
+
+import com.example.banking.core.transaction.BeforeCommitBatchInsert;
+import com.example.banking.domain.transaction.event.TransactionRecordedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래를 저장한 트랜잭션 안에서 아웃박스 행을 쓴다.
+ * 트랜잭션 동안 모은 행을 커밋 직전에 한 번의 배치 INSERT 로 넣으므로, 이체(거래 2건)도 DB 왕복은 한 번 늘어난다.
+ * 아웃박스 INSERT 가 실패하면 거래도 함께 롤백된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "banking.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionOutboxWriter {
+
+    static final String INSERT_SQL =
+            "INSERT INTO transaction_outbox (transaction_id, account_number, payload) VALUES (?, ?, ?)";
+
+    private final BeforeCommitBatchInsert batchInsert;
+    private final ObjectMapper objectMapper;
+
+    public TransactionOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.batchInsert = new BeforeCommitBatchInsert(jdbcTemplate, INSERT_SQL);
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onRecorded(TransactionRecordedEvent event) {
+        batchInsert.add(event.transactionId(), event.accountNumber(), serialize(event));
+    }
+
+    private String serialize(TransactionRecordedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize transaction event: " + event.transactionId(), e);
+        }
+    }
+}
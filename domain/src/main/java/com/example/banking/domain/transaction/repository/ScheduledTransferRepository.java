@@ -0,0 +1,23 @@
+package com.example.banking.domain.transaction.repository;
+
+import com.example.banking.domain.transaction.entity.ScheduledTransfer;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    List<ScheduledTransfer> findByFromAccountNumberOrderByIdDesc(String fromAccountNumber);
+
+    // 실행기가 결과를 기록하는 중이면 커밋될 때까지 기다린다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ScheduledTransfer s WHERE s.id = :id")
+    Optional<ScheduledTransfer> findByIdWithLock(@Param("id") Long id);
+}
@@ -0,0 +1,238 @@
+package com.example.banking.domain.transaction.saga;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalReader;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import com.example.banking.domain.transaction.type.TransferSagaState;
+import com.example.banking.domain.transaction.validation.TransactionValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서로 다른 샤드의 계좌 사이 이체. 한 트랜잭션으로 묶을 수 없으므로 샤드별 로컬 트랜잭션을 차례로 커밋한다.
+ *
+ * <ol>
+ * <li>출금 샤드: 출금 계좌를 잠가 검증하고 출금(금액 + 수수료), 출금 분개, transfer_saga(DEBITED) 를 함께 커밋한다.</li>
+ * <li>입금 샤드: 입금 계좌를 잠가 입금, 입금 분개, transfer_saga_credit 을 함께 커밋한다. 이미 입금 기록이 있으면 건너뛴다.</li>
+ * <li>출금 샤드: transfer_saga 를 COMPLETED 로 바꾼다.</li>
+ * </ol>
+ * 입금이 업무 오류(입금 계좌 해지 등)로 실패하면 출금 샤드에서 출금액을 되돌리고(환불 분개) COMPENSATED 로 바꾼다.
+ * debit_transaction_id, credit_transaction_id 는 분개 id 다. 그 밖의 오류로 멈추면 DEBITED 로 남고 {@link TransferSagaRecovery} 가 2 단계부터 다시 진행한다.
+ *
+ * <p>같은 sagaId 로 다시 호출하면 새로 출금하지 않고 기록된 상태에서 이어간다.
+ * 샤드를 오가므로 트랜잭션 밖에서 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrossShardTransferSaga {
+
+    static final String FIND_SQL = "SELECT saga_id, from_account_number, to_account_number, amount, fee, state, "
+            + "debit_transaction_id FROM transfer_saga WHERE saga_id = :sagaId";
+    static final String LOCK_SQL = FIND_SQL + " FOR UPDATE";
+    static final String INSERT_SQL = "INSERT INTO transfer_saga (saga_id, from_account_number, to_account_number, "
+            + "amount, fee, state, debit_transaction_id, attempts, created_at, updated_at) "
+            + "VALUES (:sagaId, :from, :to, :amount, :fee, 'DEBITED', :debitTransactionId, 0, :now, :now)";
+    static final String COMPLETE_SQL = "UPDATE transfer_saga SET state = 'COMPLETED', updated_at = :now "
+            + "WHERE saga_id = :sagaId AND state = 'DEBITED'";
+    static final String COMPENSATE_SQL = "UPDATE transfer_saga SET state = 'COMPENSATED', last_error = :lastError, "
+            + "updated_at = :now WHERE saga_id = :sagaId AND state = 'DEBITED'";
+    static final String CREDITED_SQL = "SELECT COUNT(*) FROM transfer_saga_credit WHERE saga_id = :sagaId";
+    static final String CREDIT_SQL = "INSERT INTO transfer_saga_credit (saga_id, credit_transaction_id, created_at) "
+            + "VALUES (:sagaId, :creditTransactionId, :now)";
+
+    static final RowMapper<Saga> ROW_MAPPER = (rs, rowNum) -> new Saga(
+            rs.getString("saga_id"),
+            rs.getString("from_account_number"),
+            rs.getString("to_account_number"),
+            rs.getBigDecimal("amount"),
+            rs.getBigDecimal("fee"),
+            TransferSagaState.valueOf(rs.getString("state")),
+            rs.getLong("debit_transaction_id")
+    );
+
+    private final ShardRouter shardRouter;
+    private final TransactionRunner transactionRunner;
+    private final AccountRepository accountRepository;
+    private final AccountIdCache accountIdCache;
+    private final TransactionValidator transactionValidator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JournalWriter journalWriter;
+    private final JournalReader journalReader;
+
+    /**
+     * 이체하고 출금 계좌의 거래 내역을 반환한다. 입금 요청 값 검증은 호출하는 쪽에서 끝낸 뒤 부른다.
+     *
+     * @throws BusinessException 입금이 업무 오류로 실패해 보상했으면 그 오류,
+     *                           입금 샤드 장애 등으로 끝내지 못했으면 {@link TransactionErrorCode#TRANSFER_IN_PROGRESS}
+     */
+    public TransactionResponse transfer(String sagaId, String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+        // 1. 입금 계좌 존재 여부 검증 (입금 샤드. 캐시에 있으면 DB 를 거치지 않는다)
+        resolveAccount(toAccountNumber);
+
+        // 2. 출금 샤드: 출금과 saga 기록
+        Debit debit = shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.write(
+                () -> debit(sagaId, fromAccountNumber, toAccountNumber, amount)));
+        Saga saga = debit.saga();
+
+        // 3. 입금 샤드: 입금, 출금 샤드: 완료 기록
+        if (saga.state() == TransferSagaState.DEBITED) {
+            proceed(saga);
+        } else if (saga.state() == TransferSagaState.COMPENSATED) {
+            throw new BusinessException(TransactionErrorCode.TRANSFER_COMPENSATED);
+        }
+
+        if (debit.response() != null) {
+            return debit.response();
+        }
+        return shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.readOnly(
+                () -> journalReader.findResponse(saga.debitTransactionId(), resolveAccount(fromAccountNumber).id())
+                        .orElseThrow(() -> new BusinessException(TransactionErrorCode.NOT_FOUND))));
+    }
+
+    /**
+     * 출금이 끝난(DEBITED) saga 의 입금과 완료 기록을 진행한다. 입금이 업무 오류로 실패하면 보상하고 그 오류를 던진다.
+     */
+    void proceed(Saga saga) {
+        try {
+            shardRouter.onShardOf(saga.toAccountNumber(), () -> transactionRunner.write(() -> credit(saga)));
+        } catch (BusinessException e) {
+            compensate(saga, e);
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Cross-shard transfer credit failed, left for recovery: sagaId={}", saga.sagaId(), e);
+            throw new BusinessException(TransactionErrorCode.TRANSFER_IN_PROGRESS);
+        }
+
+        try {
+            shardRouter.onShardOf(saga.fromAccountNumber(), () -> transactionRunner.write(
+                    () -> jdbcTemplate.update(COMPLETE_SQL, Map.of("sagaId", saga.sagaId(), "now", LocalDateTime.now()))));
+        } catch (RuntimeException e) {
+            // 입금은 끝났다. 복구 워커가 입금 기록을 확인하고 완료로 바꾼다.
+            log.warn("Failed to mark cross-shard transfer completed: sagaId={}", saga.sagaId(), e);
+        }
+    }
+
+    private Debit debit(String sagaId, String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+        List<Saga> existing = jdbcTemplate.query(FIND_SQL, Map.of("sagaId", sagaId), ROW_MAPPER);
+        if (!existing.isEmpty()) {
+            return new Debit(existing.get(0), null);
+        }
+
+        Account fromAccount = lockAccount(resolveAccount(fromAccountNumber));
+        transactionValidator.validateTransferSourceAccount(fromAccount, amount);
+
+        BigDecimal fee = fromAccount.calculateTransferFee(amount);
+        fromAccount.withdraw(amount.add(fee));
+        // 입금 샤드로 보낼 금액은 정산 계정에 두어 이 샤드의 분개를 맞춘다
+        JournalEntry debit = journalWriter.newEntry(JournalEntryType.SHARD_TRANSFER_DEBIT)
+                .post(fromAccount, amount.add(fee).negate(), fee, toAccountNumber)
+                .post(BankAccount.FEE_INCOME, fee)
+                .post(BankAccount.SHARD_CLEARING, amount);
+        journalWriter.write(debit);
+
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("sagaId", sagaId)
+                .addValue("from", fromAccountNumber)
+                .addValue("to", toAccountNumber)
+                .addValue("amount", amount)
+                .addValue("fee", fee)
+                .addValue("debitTransactionId", debit.id())
+                .addValue("now", LocalDateTime.now()));
+        Saga saga = new Saga(sagaId, fromAccountNumber, toAccountNumber, amount, fee,
+                TransferSagaState.DEBITED, debit.id());
+        return new Debit(saga, TransactionResponse.of(debit));
+    }
+
+    /**
+     * 입금 계좌를 먼저 잠그고 입금 기록을 확인하므로, 같은 saga 를 동시에 진행해도 한 번만 입금된다.
+     */
+    private Void credit(Saga saga) {
+        Account toAccount = lockAccount(resolveAccount(saga.toAccountNumber()));
+        Integer credited = jdbcTemplate.queryForObject(CREDITED_SQL, Map.of("sagaId", saga.sagaId()), Integer.class);
+        if (credited != null && credited > 0) {
+            return null;
+        }
+        transactionValidator.validateDepositAccount(toAccount);
+
+        toAccount.deposit(saga.amount());
+        JournalEntry credit = journalWriter.newEntry(JournalEntryType.SHARD_TRANSFER_CREDIT)
+                .post(toAccount, saga.amount(), BigDecimal.ZERO, saga.fromAccountNumber())
+                .post(BankAccount.SHARD_CLEARING, saga.amount().negate());
+        journalWriter.write(credit);
+        jdbcTemplate.update(CREDIT_SQL, Map.of(
+                "sagaId", saga.sagaId(), "creditTransactionId", credit.id(), "now", LocalDateTime.now()));
+        return null;
+    }
+
+    private void compensate(Saga saga, BusinessException cause) {
+        try {
+            shardRouter.onShardOf(saga.fromAccountNumber(), () -> transactionRunner.write(() -> {
+                Account fromAccount = lockAccount(resolveAccount(saga.fromAccountNumber()));
+                List<Saga> locked = jdbcTemplate.query(LOCK_SQL, Map.of("sagaId", saga.sagaId()), ROW_MAPPER);
+                if (locked.isEmpty() || locked.get(0).state() != TransferSagaState.DEBITED) {
+                    return null;
+                }
+
+                // 수수료까지 되돌리고 환불 내역을 남긴다
+                BigDecimal refund = saga.amount().add(saga.fee());
+                fromAccount.deposit(refund);
+                journalWriter.write(journalWriter.newEntry(JournalEntryType.SHARD_TRANSFER_REFUND)
+                        .post(fromAccount, refund, BigDecimal.ZERO, saga.toAccountNumber())
+                        .post(BankAccount.FEE_INCOME, saga.fee().negate())
+                        .post(BankAccount.SHARD_CLEARING, saga.amount().negate()));
+                jdbcTemplate.update(COMPENSATE_SQL, Map.of(
+                        "sagaId", saga.sagaId(), "lastError", cause.getErrorCode().getCode(), "now", LocalDateTime.now()));
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Cross-shard transfer compensation failed, left for recovery: sagaId={}", saga.sagaId(), e);
+            throw new BusinessException(TransactionErrorCode.TRANSFER_IN_PROGRESS);
+        }
+    }
+
+    private AccountRef resolveAccount(String accountNumber) {
+        return accountIdCache.resolve(accountNumber)
+                .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private Account lockAccount(AccountRef ref) {
+        return accountRepository.findByIdWithLock(ref.id())
+                .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    record Saga(
+            String sagaId,
+            String fromAccountNumber,
+            String toAccountNumber,
+            BigDecimal amount,
+            BigDecimal fee,
+            TransferSagaState state,
+            long debitTransactionId
+    ) {
+    }
+
+    private record Debit(Saga saga, TransactionResponse response) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.banking.domain.transaction.saga;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+// 샤드가 하나면 샤드 간 이체가 없으므로 복구 워커도 두지 않는다
+@Configuration
+@EnableConfigurationProperties(TransferSagaProperties.class)
+@ConditionalOnProperty(prefix = "banking.sharding", name = "enabled", havingValue = "true")
+public class TransferSagaConfig {
+
+    @Bean
+    public TransferSagaRecovery transferSagaRecovery(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            CrossShardTransferSaga crossShardTransferSaga,
+            TransferSagaProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new TransferSagaRecovery(
+                namedParameterJdbcTemplate, transactionRunner, shardRouter, crossShardTransferSaga, properties, meterRegistry);
+    }
+}
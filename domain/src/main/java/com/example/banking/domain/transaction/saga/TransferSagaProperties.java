@@ -0,0 +1,28 @@
+package com.example.banking.domain.transaction.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 샤드 간 이체 복구 워커 (banking.transfer-saga.*).
+ * stale-after 보다 오래 DEBITED 로 남은 saga 를 멈춘 것으로 보고 poll-interval 마다 batch-size 건씩 다시 진행한다.
+ */
+@ConfigurationProperties(prefix = "banking.transfer-saga")
+public record TransferSagaProperties(
+        Duration pollInterval,
+        Duration staleAfter,
+        int batchSize
+) {
+    public TransferSagaProperties {
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(5);
+        }
+        if (staleAfter == null) {
+            staleAfter = Duration.ofSeconds(30);
+        }
+        if (batchSize <= 0) {
+            batchSize = 100;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.banking.domain.transaction.saga;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 출금 후 멈춘(DEBITED 로 오래 남은) 샤드 간 이체를 샤드마다 찾아 {@link CrossShardTransferSaga} 로 다시 진행한다.
+ *
+ * <p>짧은 트랜잭션으로 {@code FOR UPDATE SKIP LOCKED} 로 잡고 updated_at 을 지금으로 바꿔 커밋하므로,
+ * 다른 인스턴스의 워커는 stale-after 동안 같은 saga 를 다시 잡지 않는다.
+ * 입금은 입금 기록(transfer_saga_credit)으로 한 번만 되므로 잡은 뒤 죽어도 다음 워커가 이어서 진행하면 된다.
+ */
+@Slf4j
+public class TransferSagaRecovery implements SmartLifecycle {
+
+    static final String CLAIM_SQL = "SELECT saga_id, from_account_number, to_account_number, amount, fee, state, "
+            + "debit_transaction_id FROM transfer_saga WHERE state = 'DEBITED' AND updated_at <= :staleBefore "
+            + "ORDER BY updated_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+    static final String TOUCH_SQL = "UPDATE transfer_saga SET attempts = attempts + 1, updated_at = :now "
+            + "WHERE saga_id IN (:sagaIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final CrossShardTransferSaga saga;
+    private final TransferSagaProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    public TransferSagaRecovery(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionRunner transactionRunner,
+            ShardRouter shardRouter,
+            CrossShardTransferSaga saga,
+            TransferSagaProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRunner = transactionRunner;
+        this.shardRouter = shardRouter;
+        this.saga = saga;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 모든 샤드에서 멈춘 saga 를 한 배치씩 잡아 진행하고, 잡은 건수를 반환한다.
+     */
+    public int recoverBatch() {
+        int claimed = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            LocalDateTime now = LocalDateTime.now();
+            List<CrossShardTransferSaga.Saga> batch = shardRouter.onShard(shard, () -> transactionRunner.write(() -> {
+                List<CrossShardTransferSaga.Saga> stale = jdbcTemplate.query(CLAIM_SQL, Map.of(
+                        "staleBefore", now.minus(properties.staleAfter()),
+                        "limit", properties.batchSize()), CrossShardTransferSaga.ROW_MAPPER);
+                if (!stale.isEmpty()) {
+                    jdbcTemplate.update(TOUCH_SQL, Map.of(
+                            "now", now, "sagaIds", stale.stream().map(CrossShardTransferSaga.Saga::sagaId).toList()));
+                }
+                return stale;
+            }));
+            batch.forEach(this::recover);
+            claimed += batch.size();
+        }
+        return claimed;
+    }
+
+    private void recover(CrossShardTransferSaga.Saga stale) {
+        try {
+            saga.proceed(stale);
+            recovered.increment();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == TransactionErrorCode.TRANSFER_IN_PROGRESS) {
+                failures.increment();
+            } else {
+                // 입금할 수 없어 보상했다
+                recovered.increment();
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to recover cross-shard transfer: sagaId={}", stale.sagaId(), e);
+        }
+    }
+
+    private void runWorker() {
+        long pollMillis = properties.pollInterval().toMillis();
+        while (running) {
+            int count;
+            try {
+                count = recoverBatch();
+            } catch (RuntimeException e) {
+                log.warn("Failed to claim stale cross-shard transfers", e);
+                count = 0;
+            }
+            if (count < properties.batchSize()) {
+                try {
+                    Thread.sleep(pollMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public long recovered() {
+        return recovered.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("transfer.saga.recovered", recovered, LongAdder::sum).register(registry);
+            FunctionCounter.builder("transfer.saga.recovery.failures", failures, LongAdder::sum).register(registry);
+        });
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transfer-saga-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        worker.submit(this::runWorker);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.shutdownNow();
+            try {
+                worker.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return worker != null;
+    }
+}
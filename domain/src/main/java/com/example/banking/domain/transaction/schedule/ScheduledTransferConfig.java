@@ -0,0 +1,41 @@
+package com.example.banking.domain.transaction.schedule;
+
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.transaction.saga.CrossShardTransferSaga;
+import com.example.banking.domain.transaction.service.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+@EnableConfigurationProperties(ScheduledTransferProperties.class)
+@ConditionalOnProperty(prefix = "banking.scheduled-transfer", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledTransferConfig {
+
+    @Bean
+    public ScheduledTransferExecutor scheduledTransferExecutor(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionRunner transactionRunner,
+            TransactionService transactionService,
+            CrossShardTransferSaga crossShardTransferSaga,
+            ShardRouter shardRouter,
+            ScheduledTransferProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone
+    ) {
+        // 실행기는 JDBC 로 직접 읽고 쓰므로, JPA 가 hibernate.jdbc.time_zone 기준으로 저장한 시각과 같은 시간대의 현재 시각을 쓴다
+        Clock clock = jdbcTimeZone.isBlank() ? Clock.systemDefaultZone() : Clock.system(ZoneId.of(jdbcTimeZone));
+        return new ScheduledTransferExecutor(
+                namedParameterJdbcTemplate, transactionRunner, transactionService, crossShardTransferSaga, shardRouter,
+                properties, meterRegistry, clock);
+    }
+}
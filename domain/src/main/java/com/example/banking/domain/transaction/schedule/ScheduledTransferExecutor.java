@@ -0,0 +1,398 @@
+package com.example.banking.domain.transaction.schedule;
+
+import com.example.banking.core.bulkhead.WorkloadContext;
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.saga.CrossShardTransferSaga;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import com.example.banking.domain.transaction.type.ScheduledTransferStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 시각이 된 예약 이체를 가져와 {@link TransactionService#transfer} 로 실행한다.
+ *
+ * <p>워커마다 짧은 트랜잭션으로 {@code FOR UPDATE SKIP LOCKED} 로 최대 batch-size 행을 잡고 lease_until 을 lease 만큼 미룬 뒤 커밋한다.
+ * 다른 워커(다른 인스턴스 포함)가 잡은 행은 건너뛰므로 워커를 늘리면 밀린 행을 나눠 처리한다.
+ * 한 건은 트랜잭션 하나다: 이체와 결과 기록(다음 실행 시각, 완료)을 함께 커밋하므로, 중간에 죽으면 둘 다 롤백되고 lease 가 끝난 뒤 다시 실행된다.
+ * 결과 기록은 잡을 때 쓴 lease_until 이 그대로이고 취소되지 않았을 때만 성공한다. 아니면 이체까지 롤백한다.
+ *
+ * <p>실패하면 retry-backoff * 2^(실패 횟수 - 1) 뒤에 다시 시도하고, max-attempts 번 실패하면 그 회차를 포기한다.
+ * (반복이면 다음 회차로, 1회면 FAILED) 멈춰 있던 동안 지난 반복 회차는 한 번만 실행한다.
+ *
+ * <p>샤딩을 켜면 샤드마다 차례로 배치를 잡는다. 샤드가 다른 계좌 사이 예약 이체는 {@link CrossShardTransferSaga} 로 실행하고 결과는 따로 기록한다.
+ * sagaId 를 (예약 id, 회차, 시도 횟수)로 정하므로 기록 전에 죽어 다시 잡혀도 같은 saga 를 이어갈 뿐 다시 출금하지 않는다.
+ */
+@Slf4j
+public class ScheduledTransferExecutor implements SmartLifecycle {
+
+    static final String CLAIM_SQL = "SELECT id, from_account_number, to_account_number, amount, repeat_interval, "
+            + "next_run_at, end_at, attempts, last_transaction_id FROM scheduled_transfer "
+            + "WHERE status = 'PENDING' AND next_run_at <= :now AND (lease_until IS NULL OR lease_until <= :now) "
+            + "ORDER BY next_run_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+    static final String LEASE_SQL = "UPDATE scheduled_transfer SET lease_until = :leaseUntil WHERE id IN (:ids)";
+    static final String RELEASE_SQL = "UPDATE scheduled_transfer SET lease_until = NULL "
+            + "WHERE id IN (:ids) AND lease_until = :claimedLease";
+    static final String RECORD_SQL = "UPDATE scheduled_transfer SET status = :status, next_run_at = :nextRunAt, "
+            + "attempts = :attempts, lease_until = :leaseUntil, last_transaction_id = :lastTransactionId, "
+            + "last_error = :lastError, updated_at = :now "
+            + "WHERE id = :id AND status = 'PENDING' AND lease_until = :claimedLease";
+
+    private static final int MAX_ERROR_LENGTH = 200;
+
+    private static final RowMapper<Claim> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp endAt = rs.getTimestamp("end_at");
+        return new Claim(
+                rs.getLong("id"),
+                rs.getString("from_account_number"),
+                rs.getString("to_account_number"),
+                rs.getBigDecimal("amount"),
+                RepeatInterval.valueOf(rs.getString("repeat_interval")),
+                rs.getTimestamp("next_run_at").toLocalDateTime(),
+                endAt == null ? null : endAt.toLocalDateTime(),
+                rs.getInt("attempts"),
+                rs.getObject("last_transaction_id", Long.class)
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRunner transactionRunner;
+    private final TransactionService transactionService;
+    private final CrossShardTransferSaga crossShardTransferSaga;
+    private final ShardRouter shardRouter;
+    private final ScheduledTransferProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Clock clock;
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public ScheduledTransferExecutor(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionRunner transactionRunner,
+            TransactionService transactionService,
+            CrossShardTransferSaga crossShardTransferSaga,
+            ShardRouter shardRouter,
+            ScheduledTransferProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionRunner = transactionRunner;
+        this.transactionService = transactionService;
+        this.crossShardTransferSaga = crossShardTransferSaga;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 샤드마다 실행 시각이 된 행을 한 배치 잡아 실행하고, 잡은 건수를 반환한다.
+     */
+    public int executeBatch() {
+        int claimed = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            claimed += shardRouter.onShard(shard, this::executeShardBatch);
+        }
+        return claimed;
+    }
+
+    private int executeShardBatch() {
+        LocalDateTime now = now();
+        LocalDateTime claimedLease = now.plus(properties.lease());
+        List<Claim> claims = transactionRunner.write(() -> {
+            List<Claim> batch = jdbcTemplate.query(CLAIM_SQL,
+                    Map.of("now", now, "limit", properties.batchSize()), ROW_MAPPER);
+            if (!batch.isEmpty()) {
+                jdbcTemplate.update(LEASE_SQL,
+                        Map.of("leaseUntil", claimedLease, "ids", batch.stream().map(Claim::id).toList()));
+            }
+            return batch;
+        });
+
+        for (int i = 0; i < claims.size(); i++) {
+            if (!running) {
+                // 종료 중이면 남은 행을 lease 만료까지 묶어 두지 않고 바로 놓아준다
+                releaseLeases(claims.subList(i, claims.size()), claimedLease);
+                break;
+            }
+            execute(claims.get(i), claimedLease);
+        }
+        return claims.size();
+    }
+
+    private void execute(Claim claim, LocalDateTime claimedLease) {
+        if (!shardRouter.isSameShard(claim.fromAccountNumber(), claim.toAccountNumber())) {
+            executeCrossShard(claim, claimedLease);
+            return;
+        }
+        try {
+            transactionRunner.write(() -> {
+                TransactionResponse response = transactionService.transfer(
+                        claim.fromAccountNumber(), claim.toAccountNumber(), claim.amount());
+                recordExecuted(claim, claimedLease, response.id(), null);
+                return response;
+            });
+            succeeded.increment();
+        } catch (LeaseLostException e) {
+            log.debug("Scheduled transfer {} was cancelled or re-claimed; rolled back", claim.id());
+        } catch (RuntimeException e) {
+            failed.increment();
+            recordFailure(claim, claimedLease, e);
+        }
+    }
+
+    private void executeCrossShard(Claim claim, LocalDateTime claimedLease) {
+        Long transactionId;
+        String error = null;
+        try {
+            transactionId = crossShardTransferSaga.transfer(sagaId(claim),
+                    claim.fromAccountNumber(), claim.toAccountNumber(), claim.amount()).id();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != TransactionErrorCode.TRANSFER_IN_PROGRESS) {
+                failed.increment();
+                recordFailure(claim, claimedLease, e);
+                return;
+            }
+            // 출금은 끝났고 saga 복구가 입금하거나 되돌린다. 같은 회차를 다시 출금하지 않도록 실행한 것으로 기록한다.
+            transactionId = claim.lastTransactionId();
+            error = describe(e);
+        } catch (RuntimeException e) {
+            failed.increment();
+            recordFailure(claim, claimedLease, e);
+            return;
+        }
+        try {
+            Long lastTransactionId = transactionId;
+            String lastError = error;
+            transactionRunner.write(() -> {
+                recordExecuted(claim, claimedLease, lastTransactionId, lastError);
+                return null;
+            });
+            succeeded.increment();
+        } catch (LeaseLostException e) {
+            log.info("Scheduled transfer {} was cancelled after its cross-shard transfer ran", claim.id());
+        } catch (RuntimeException e) {
+            // 기록하지 못하면 lease 가 끝난 뒤 다시 잡히고, 같은 sagaId 라 다시 출금하지 않는다
+            log.warn("Failed to record cross-shard scheduled transfer: id={}", claim.id(), e);
+        }
+    }
+
+    private void recordExecuted(Claim claim, LocalDateTime claimedLease, Long transactionId, String lastError) {
+        LocalDateTime now = now();
+        LocalDateTime next = nextOccurrence(claim, now);
+        ScheduledTransferStatus status = next == null ? ScheduledTransferStatus.COMPLETED : ScheduledTransferStatus.PENDING;
+        record(claim, claimedLease, status, next == null ? claim.nextRunAt() : next, 0, null, transactionId, lastError, now);
+    }
+
+    static String sagaId(Claim claim) {
+        return "scheduled-" + claim.id() + "-" + claim.nextRunAt() + "-" + claim.attempts();
+    }
+
+    private void recordFailure(Claim claim, LocalDateTime claimedLease, RuntimeException cause) {
+        LocalDateTime now = now();
+        int attempts = claim.attempts() + 1;
+        String error = describe(cause);
+        try {
+            transactionRunner.write(() -> {
+                if (attempts < properties.maxAttempts()) {
+                    // 같은 회차를 나중에 다시 시도한다. lease_until 을 재시도 시각으로 쓴다.
+                    LocalDateTime retryAt = now.plus(properties.retryBackoff().multipliedBy(1L << (attempts - 1)));
+                    record(claim, claimedLease, ScheduledTransferStatus.PENDING, claim.nextRunAt(), attempts,
+                            retryAt.truncatedTo(ChronoUnit.SECONDS), claim.lastTransactionId(), error, now);
+                } else {
+                    // 이 회차는 포기하고 다음 회차로 넘어간다
+                    LocalDateTime next = nextOccurrence(claim, now);
+                    ScheduledTransferStatus status = next == null ? ScheduledTransferStatus.FAILED : ScheduledTransferStatus.PENDING;
+                    record(claim, claimedLease, status, next == null ? claim.nextRunAt() : next, 0, null,
+                            claim.lastTransactionId(), error, now);
+                }
+                return null;
+            });
+        } catch (LeaseLostException e) {
+            log.debug("Scheduled transfer {} was cancelled or re-claimed", claim.id());
+        } catch (RuntimeException e) {
+            // 기록하지 못하면 lease 가 끝난 뒤 다시 잡혀 재시도된다
+            log.warn("Failed to record scheduled transfer failure: id={}", claim.id(), e);
+        }
+        log.info("Scheduled transfer failed: id={}, attempts={}, error={}", claim.id(), attempts, error);
+    }
+
+    private void record(
+            Claim claim,
+            LocalDateTime claimedLease,
+            ScheduledTransferStatus status,
+            LocalDateTime nextRunAt,
+            int attempts,
+            LocalDateTime leaseUntil,
+            Long lastTransactionId,
+            String lastError,
+            LocalDateTime now
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", claim.id())
+                .addValue("claimedLease", claimedLease)
+                .addValue("status", status.name())
+                .addValue("nextRunAt", nextRunAt)
+                .addValue("attempts", attempts)
+                .addValue("leaseUntil", leaseUntil)
+                .addValue("lastTransactionId", lastTransactionId)
+                .addValue("lastError", lastError)
+                .addValue("now", now);
+        if (jdbcTemplate.update(RECORD_SQL, params) != 1) {
+            throw new LeaseLostException();
+        }
+    }
+
+    private void releaseLeases(List<Claim> claims, LocalDateTime claimedLease) {
+        try {
+            transactionRunner.write(() -> jdbcTemplate.update(RELEASE_SQL,
+                    Map.of("ids", claims.stream().map(Claim::id).toList(), "claimedLease", claimedLease)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release scheduled transfer leases", e);
+        }
+    }
+
+    /**
+     * 다음 회차의 실행 시각. 반복하지 않거나 종료 시각을 넘으면 null. 지난 회차는 건너뛴다.
+     */
+    static LocalDateTime nextOccurrence(Claim claim, LocalDateTime now) {
+        LocalDateTime next = claim.repeatInterval().next(claim.nextRunAt());
+        while (next != null && !next.isAfter(now)) {
+            next = claim.repeatInterval().next(next);
+        }
+        if (next == null || (claim.endAt() != null && next.isAfter(claim.endAt()))) {
+            return null;
+        }
+        return next;
+    }
+
+    private static String describe(RuntimeException e) {
+        String error = e instanceof BusinessException businessException
+                ? businessException.getErrorCode().getCode() + " " + businessException.getMessage()
+                : e.getClass().getSimpleName();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    // lease_until 은 DATETIME(초 단위)이라 비교할 값도 초 단위로 맞춘다
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void runWorker() {
+        String outer = WorkloadContext.enter(properties.workload());
+        try {
+            long pollMillis = properties.pollInterval().toMillis();
+            while (running) {
+                int count;
+                try {
+                    count = executeBatch();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to claim scheduled transfers", e);
+                    count = 0;
+                }
+                if (count < properties.batchSize()) {
+                    try {
+                        Thread.sleep(pollMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            WorkloadContext.restore(outer);
+        }
+    }
+
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("scheduled.transfer.succeeded", succeeded, LongAdder::sum).register(registry);
+            FunctionCounter.builder("scheduled.transfer.failures", failed, LongAdder::sum).register(registry);
+        });
+        AtomicInteger index = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-transfer-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.submit(this::runWorker);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workers = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return workers != null;
+    }
+
+    record Claim(
+            long id,
+            String fromAccountNumber,
+            String toAccountNumber,
+            BigDecimal amount,
+            RepeatInterval repeatInterval,
+            LocalDateTime nextRunAt,
+            LocalDateTime endAt,
+            int attempts,
+            Long lastTransactionId
+    ) {
+    }
+
+    /**
+     * 결과를 기록하려는데 그 사이 취소되었거나 lease 가 끝나 다른 워커가 가져갔다.
+     */
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
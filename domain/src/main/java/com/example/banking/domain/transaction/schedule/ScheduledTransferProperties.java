@@ -0,0 +1,45 @@
+package com.example.banking.domain.transaction.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 예약 이체 실행기 (banking.scheduled-transfer.*).
+ * workload 는 실행기 스레드가 쓸 작업 구획 이름이다. 그 구획의 전용 커넥션 풀을 써서 API 요청의 커넥션을 가져가지 않는다.
+ */
+@ConfigurationProperties(prefix = "banking.scheduled-transfer")
+public record ScheduledTransferProperties(
+        boolean enabled,
+        int workers,
+        int batchSize,
+        Duration pollInterval,
+        Duration lease,
+        int maxAttempts,
+        Duration retryBackoff,
+        String workload
+) {
+    public ScheduledTransferProperties {
+        if (workers <= 0) {
+            workers = 4;
+        }
+        if (batchSize <= 0) {
+            batchSize = 200;
+        }
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(1);
+        }
+        if (lease == null) {
+            lease = Duration.ofMinutes(5);
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 3;
+        }
+        if (retryBackoff == null) {
+            retryBackoff = Duration.ofMinutes(1);
+        }
+        if (workload == null) {
+            workload = "scheduled";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.banking.domain.transaction.service;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
+import com.example.banking.domain.account.error.AccountErrorCode;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.transaction.dto.ScheduledTransferResponse;
+import com.example.banking.domain.transaction.entity.ScheduledTransfer;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.repository.ScheduledTransferRepository;
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import com.example.banking.domain.transaction.validation.TransactionValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 / 자동 이체 등록, 조회, 취소. 실행은 {@code ScheduledTransferExecutor} 가 {@link TransactionService#transfer} 로 한다.
+ * 잔액, 한도, 계좌 상태는 실행 시점에 검증한다. 예약은 출금 계좌의 샤드에 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduledTransferService {
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final AccountIdCache accountIdCache;
+    private final TransactionValidator transactionValidator;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+
+    public ScheduledTransferResponse schedule(
+        String fromAccountNumber,
+        String toAccountNumber,
+        BigDecimal amount,
+        RepeatInterval repeatInterval,
+        LocalDateTime firstRunAt,
+        LocalDateTime endAt
+    ) {
+        // 1. 입력 검증
+        transactionValidator.validateTransferRequest(fromAccountNumber, toAccountNumber, amount);
+        if (repeatInterval == null || firstRunAt == null || (endAt != null && endAt.isBefore(firstRunAt))) {
+            throw new BusinessException(TransactionErrorCode.INVALID_SCHEDULE);
+        }
+
+        // 2. 계좌 존재 여부 검증
+        resolveAccount(fromAccountNumber);
+        resolveAccount(toAccountNumber);
+
+        ScheduledTransfer saved = shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.write(
+            () -> scheduledTransferRepository.save(
+                ScheduledTransfer.create(fromAccountNumber, toAccountNumber, amount, repeatInterval, firstRunAt, endAt))));
+        return ScheduledTransferResponse.from(saved);
+    }
+
+    public List<ScheduledTransferResponse> getScheduledTransfers(String fromAccountNumber) {
+        transactionValidator.validateAccountNumber(fromAccountNumber);
+
+        return shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.readOnly(
+            () -> scheduledTransferRepository.findByFromAccountNumberOrderByIdDesc(fromAccountNumber)
+                .stream()
+                .map(ScheduledTransferResponse::from)
+                .toList()));
+    }
+
+    /**
+     * 취소한다. 실행 중인 회차는 실행기가 결과를 기록할 때 취소를 확인하고 롤백한다.
+     */
+    public ScheduledTransferResponse cancel(String fromAccountNumber, Long id) {
+        ScheduledTransfer cancelled = shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.write(() -> {
+            ScheduledTransfer scheduledTransfer = scheduledTransferRepository.findByIdWithLock(id)
+                .filter(found -> found.getFromAccountNumber().equals(fromAccountNumber))
+                .orElseThrow(() -> new BusinessException(TransactionErrorCode.SCHEDULED_TRANSFER_NOT_FOUND));
+            scheduledTransfer.cancel();
+            return scheduledTransfer;
+        }));
+        return ScheduledTransferResponse.from(cancelled);
+    }
+
+    private void resolveAccount(String accountNumber) {
+        accountIdCache.resolve(accountNumber)
+            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+}
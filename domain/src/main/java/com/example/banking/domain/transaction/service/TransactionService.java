@@ -1,118 +1,291 @@
 package com.example.banking.domain.transaction.service;
 
 import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
 import com.example.banking.domain.account.entity.Account;
 import com.example.banking.domain.account.error.AccountErrorCode;
 import com.example.banking.domain.account.repository.AccountRepository;
-import com.example.banking.domain.account.validation.AccountValidator;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.dto.PayoutResponse;
 import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
 import com.example.banking.domain.transaction.dto.TransactionResponse;
-import com.example.banking.domain.transaction.entity.Transaction;
-import com.example.banking.domain.transaction.repository.TransactionRepository;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalReader;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.saga.CrossShardTransferSaga;
+import com.example.banking.domain.transaction.type.JournalEntryType;
+import com.example.banking.domain.transaction.type.TransactionType;
 import com.example.banking.domain.transaction.validation.TransactionValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * 입력 검증과 응답 변환은 트랜잭션 밖에서 수행하고, DB 작업만 {@link TransactionRunner} 로 트랜잭션 안에서 실행한다.
+ * 계좌번호는 {@link AccountIdCache} 로 id 를 찾아 PK 로 잠그고, 계좌 검증은 잠근 계좌로 한다.
+ * 트랜잭션은 계좌번호의 샤드에서 시작하고({@link ShardRouter}), 샤드가 다른 계좌 사이 이체는 {@link CrossShardTransferSaga} 로 한다.
+ * 거래는 분개 한 건({@link JournalEntry})으로 남기고, 거래 내역도 분개의 계좌별 증감에서 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TransactionService {
+    // 일괄 지급에서 잠금 쿼리 하나의 IN 절에 넣는 계좌 수
+    private static final int LOCK_CHUNK_SIZE = 1000;
+
     private final AccountRepository accountRepository;
-    private final AccountValidator accountValidator;
-    private final TransactionRepository transactionRepository;
+    private final AccountIdCache accountIdCache;
     private final TransactionValidator transactionValidator;
+    private final TransactionRunner transactionRunner;
+    private final ShardRouter shardRouter;
+    private final CrossShardTransferSaga crossShardTransferSaga;
+    private final JournalWriter journalWriter;
+    private final JournalReader journalReader;
 
-    @Transactional
     public TransactionResponse deposit(String accountNumber, BigDecimal amount) {
-        // 검증
-        transactionValidator.validateDeposit(accountNumber, amount);
+        // 입력 검증
+        transactionValidator.validateDepositRequest(accountNumber, amount);
 
-        // 거래 처리 (비관적 락 적용)
-        Account account = accountRepository.findByAccountNumberWithLock(accountNumber)
-            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
-        account.deposit(amount);
-        
-        // 거래 내역 저장
-        Transaction transaction = Transaction.createDeposit(account, amount);
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        JournalEntry savedEntry = shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+            // 계좌 조회 (비관적 락 적용) 및 검증
+            Account account = lockAccount(resolveAccount(accountNumber));
+            transactionValidator.validateDepositAccount(account);
+
+            // 거래 처리
+            account.deposit(amount);
 
-        return TransactionResponse.from(savedTransaction);
+            // 분개 저장
+            JournalEntry entry = journalWriter.newEntry(JournalEntryType.DEPOSIT)
+                .post(account, amount)
+                .post(BankAccount.CASH, amount.negate());
+            journalWriter.write(entry);
+            return entry;
+        }));
+
+        return TransactionResponse.of(savedEntry);
     }
 
-    @Transactional
     public TransactionResponse withdraw(String accountNumber, BigDecimal amount) {
-        // 검증
-        transactionValidator.validateWithdrawal(accountNumber, amount);
+        // 입력 검증
+        transactionValidator.validateWithdrawalRequest(accountNumber, amount);
+        AccountRef velocity = transactionValidator.validateVelocity(accountNumber, TransactionType.WITHDRAWAL, 1, amount);
 
-        // 거래 처리 (비관적 락 적용)
-        Account account = accountRepository.findByAccountNumberWithLock(accountNumber)
-            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
-        account.withdraw(amount);
-        
-        // 거래 내역 저장
-        Transaction transaction = Transaction.createWithdrawal(account, amount);
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        JournalEntry savedEntry = releaseVelocityOnFailure(velocity, TransactionType.WITHDRAWAL, amount, () ->
+            shardRouter.onShardOf(accountNumber, () -> transactionRunner.write(() -> {
+                // 계좌 조회 (비관적 락 적용) 및 검증
+                Account account = lockAccount(resolveAccount(accountNumber));
+                transactionValidator.validateWithdrawalAccount(account, amount);
 
-        return TransactionResponse.from(savedTransaction);
+                // 거래 처리
+                account.withdraw(amount);
+
+                // 분개 저장
+                JournalEntry entry = journalWriter.newEntry(JournalEntryType.WITHDRAWAL)
+                    .post(account, amount.negate())
+                    .post(BankAccount.CASH, amount);
+                journalWriter.write(entry);
+                return entry;
+            })));
+
+        return TransactionResponse.of(savedEntry);
     }
 
-    @Transactional
     public TransactionResponse transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
-        // 1. 이체 검증
-        transactionValidator.validateTransfer(fromAccountNumber, toAccountNumber, amount);
+        // 1. 입력 검증
+        transactionValidator.validateTransferRequest(fromAccountNumber, toAccountNumber, amount);
+        AccountRef velocity = transactionValidator.validateVelocity(fromAccountNumber, TransactionType.TRANSFER_OUT, 1, amount);
 
-        // 2. 계좌 조회 (비관적 락 적용)
-        Account fromAccount = accountRepository.findByAccountNumberWithLock(fromAccountNumber)
-            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
-        Account toAccount = accountRepository.findByAccountNumberWithLock(toAccountNumber)
-            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+        return releaseVelocityOnFailure(velocity, TransactionType.TRANSFER_OUT, amount, () ->
+            executeTransfer(fromAccountNumber, toAccountNumber, amount));
+    }
 
-        // 3. 수수료 계산
-        BigDecimal fee = fromAccount.calculateTransferFee(amount);
-        BigDecimal totalAmount = amount.add(fee);
-
-        // 4. 출금 계좌 잔액 업데이트
-        fromAccount.withdraw(totalAmount);
-        BigDecimal fromAccountBalanceAfterTransaction = fromAccount.getBalance();
-
-        // 5. 입금 계좌 잔액 업데이트
-        toAccount.deposit(amount);
-        BigDecimal toAccountBalanceAfterTransaction = toAccount.getBalance();
-
-        // 6. 거래 내역 생성 및 저장
-        Transaction fromTransaction = Transaction.createTransferOut(
-            fromAccount,
-            amount,
-            fee,
-            fromAccountBalanceAfterTransaction,
-            toAccountNumber
-        );
-        Transaction savedFromTransaction = transactionRepository.save(fromTransaction);
-
-        Transaction toTransaction = Transaction.createTransferIn(
-            toAccount,
-            amount,
-            BigDecimal.ZERO,
-            toAccountBalanceAfterTransaction,
-            fromAccountNumber
-        );
-        transactionRepository.save(toTransaction);
-
-        // 출금 계좌의 거래 내역을 반환
-        return TransactionResponse.from(savedFromTransaction);
+    private TransactionResponse executeTransfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+        if (!shardRouter.isSameShard(fromAccountNumber, toAccountNumber)) {
+            return crossShardTransferSaga.transfer(UUID.randomUUID().toString(), fromAccountNumber, toAccountNumber, amount);
+        }
+
+        JournalEntry savedEntry = shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.write(() -> {
+            // 2. 계좌 조회 (비관적 락 적용). 교착 상태를 피하도록 항상 id 가 작은 계좌부터 잠근다.
+            AccountRef fromRef = resolveAccount(fromAccountNumber);
+            AccountRef toRef = resolveAccount(toAccountNumber);
+            Account fromAccount;
+            Account toAccount;
+            if (fromRef.id() < toRef.id()) {
+                fromAccount = lockAccount(fromRef);
+                toAccount = lockAccount(toRef);
+            } else {
+                toAccount = lockAccount(toRef);
+                fromAccount = lockAccount(fromRef);
+            }
+
+            // 3. 계좌 검증
+            transactionValidator.validateTransferAccounts(fromAccount, toAccount, amount);
+
+            // 4. 수수료 계산
+            BigDecimal fee = fromAccount.calculateTransferFee(amount);
+            BigDecimal totalAmount = amount.add(fee);
+
+            // 5. 잔액 업데이트
+            fromAccount.withdraw(totalAmount);
+            toAccount.deposit(amount);
+
+            // 6. 분개: 출금 계좌 -(금액 + 수수료), 입금 계좌 +금액, 수수료 수익 +수수료. 계좌별 거래 내역도 이 증감이다.
+            JournalEntry entry = journalWriter.newEntry(JournalEntryType.TRANSFER)
+                .post(fromAccount, totalAmount.negate(), fee, toAccountNumber)
+                .post(toAccount, amount, BigDecimal.ZERO, fromAccountNumber)
+                .post(BankAccount.FEE_INCOME, fee);
+            journalWriter.write(entry);
+            return entry;
+        }));
+
+        // 출금 계좌의 거래를 반환
+        return TransactionResponse.of(savedEntry);
+    }
+
+    /**
+     * 한 계좌에서 여러 계좌로 한 트랜잭션 안에서 일괄 이체한다. 한 건이라도 실패하면 전체가 롤백된다.
+     * 출금 계좌와 입금 계좌를 모두 id 순서로 한 번씩만 잠그고, 잔액과 일일 한도는 합계로 한 번만 검증한다.
+     * 지급 전체를 분개 한 건으로 남기고, 증감은 커밋 직전 배치 INSERT 한 번으로 저장된다.
+     * 한 트랜잭션으로 묶어야 하므로 입금 계좌는 모두 출금 계좌와 같은 샤드여야 한다.
+     */
+    public PayoutResponse payout(String fromAccountNumber, List<PayoutLeg> legs) {
+        // 1. 입력 검증
+        transactionValidator.validatePayoutRequest(fromAccountNumber, legs);
+        for (PayoutLeg leg : legs) {
+            if (!shardRouter.isSameShard(fromAccountNumber, leg.toAccountNumber())) {
+                throw new BusinessException(TransactionErrorCode.CROSS_SHARD_PAYOUT);
+            }
+        }
+        BigDecimal payoutAmount = legs.stream().map(PayoutLeg::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        AccountRef velocity = transactionValidator.validateVelocity(
+            fromAccountNumber, TransactionType.TRANSFER_OUT, legs.size(), payoutAmount);
+
+        return releaseVelocityOnFailure(velocity, TransactionType.TRANSFER_OUT, payoutAmount, () ->
+            executePayout(fromAccountNumber, legs));
+    }
+
+    private PayoutResponse executePayout(String fromAccountNumber, List<PayoutLeg> legs) {
+        return shardRouter.onShardOf(fromAccountNumber, () -> transactionRunner.write(() -> {
+            // 2. 계좌 조회 (비관적 락 적용). 출금 계좌도 입금 계좌들과 함께 id 순서로 잠근다.
+            AccountRef fromRef = resolveAccount(fromAccountNumber);
+            Map<String, AccountRef> toRefs = accountIdCache.resolveAll(
+                legs.stream().map(PayoutLeg::toAccountNumber).toList());
+            if (toRefs.size() != legs.size()) {
+                throw new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND);
+            }
+            TreeSet<Long> ids = new TreeSet<>();
+            ids.add(fromRef.id());
+            toRefs.values().forEach(ref -> ids.add(ref.id()));
+            Map<Long, Account> accounts = lockAccounts(ids);
+
+            Account fromAccount = accounts.get(fromRef.id());
+            List<Account> toAccounts = new ArrayList<>(legs.size());
+            List<BigDecimal> fees = new ArrayList<>(legs.size());
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            BigDecimal totalFee = BigDecimal.ZERO;
+            for (PayoutLeg leg : legs) {
+                toAccounts.add(accounts.get(toRefs.get(leg.toAccountNumber()).id()));
+
+                // 3. 건별 수수료 계산 (단건 이체와 같은 방식으로 건마다 절사)
+                BigDecimal fee = fromAccount.calculateTransferFee(leg.amount());
+                fees.add(fee);
+                totalAmount = totalAmount.add(leg.amount());
+                totalFee = totalFee.add(fee);
+            }
+
+            // 4. 계좌 검증 (합계 기준)
+            transactionValidator.validatePayoutAccounts(fromAccount, toAccounts, totalAmount, totalFee);
+
+            // 5. 잔액 업데이트 및 분개. 지급 전체가 분개 한 건이고, 출금 계좌는 건마다 증감을 남겨 거래 내역이 건별로 보인다.
+            JournalEntry entry = journalWriter.newEntry(JournalEntryType.PAYOUT);
+            for (int i = 0; i < legs.size(); i++) {
+                PayoutLeg leg = legs.get(i);
+                Account toAccount = toAccounts.get(i);
+                BigDecimal fee = fees.get(i);
+
+                fromAccount.withdraw(leg.amount().add(fee));
+                toAccount.deposit(leg.amount());
+
+                entry.post(fromAccount, leg.amount().add(fee).negate(), fee, leg.toAccountNumber())
+                    .post(toAccount, leg.amount(), BigDecimal.ZERO, fromAccountNumber);
+            }
+            journalWriter.write(entry.post(BankAccount.FEE_INCOME, totalFee));
+
+            return new PayoutResponse(fromAccountNumber, legs.size(), totalAmount, totalFee, fromAccount.getBalance());
+        }));
     }
 
-    @Transactional(readOnly = true)
     public Page<TransactionHistoryResponse> getTransactionHistory(String accountNumber, Pageable pageable) {
-        // 계좌 존재 여부 검증
-        accountValidator.validateAccountExists(accountNumber);
+        // 입력 검증
+        transactionValidator.validateAccountNumber(accountNumber);
+
+        return shardRouter.onShardOf(accountNumber, () -> transactionRunner.readOnly(() -> {
+            // 계좌 존재 여부 검증
+            AccountRef account = resolveAccount(accountNumber);
+
+            // 계좌의 증감을 분개와 조인해 응답 컬럼만 바로 읽는다
+            return journalReader.findHistory(account.id(), pageable);
+        }));
+    }
+
+    /**
+     * 빈도 검증을 통과한 거래가 실패하면 금액 규칙의 합계에서 금액을 돌려준다. (잔액 부족, 한도 초과, 롤백, 보상된 샤드 간 이체)
+     * 샤드 간 이체가 입금 전에 멈춘 경우는 출금이 커밋되어 있으므로 돌려주지 않는다.
+     */
+    private <T> T releaseVelocityOnFailure(
+            AccountRef velocity, TransactionType type, BigDecimal amount, Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != TransactionErrorCode.TRANSFER_IN_PROGRESS) {
+                transactionValidator.releaseVelocity(velocity, type, amount);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            transactionValidator.releaseVelocity(velocity, type, amount);
+            throw e;
+        }
+    }
+
+    private AccountRef resolveAccount(String accountNumber) {
+        return accountIdCache.resolve(accountNumber)
+            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private Account lockAccount(AccountRef ref) {
+        return accountRepository.findByIdWithLock(ref.id())
+            .orElseThrow(() -> new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND));
+    }
 
-        Page<Transaction> transactions = transactionRepository.findByAccountNumberOrderByIdDesc(accountNumber, pageable);
-        return transactions.map(TransactionHistoryResponse::from);
+    /**
+     * 정렬된 id 를 앞에서부터 나눠 잠그므로 전체 잠금 순서도 id 순서가 된다.
+     */
+    private Map<Long, Account> lockAccounts(TreeSet<Long> ids) {
+        List<Long> sortedIds = new ArrayList<>(ids);
+        Map<Long, Account> accounts = new HashMap<>(sortedIds.size() * 2);
+        for (int from = 0; from < sortedIds.size(); from += LOCK_CHUNK_SIZE) {
+            List<Long> chunk = sortedIds.subList(from, Math.min(from + LOCK_CHUNK_SIZE, sortedIds.size()));
+            for (Account account : accountRepository.findAllByIdWithLock(chunk)) {
+                accounts.put(account.getId(), account);
+            }
+        }
+        if (accounts.size() != sortedIds.size()) {
+            throw new BusinessException(AccountErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        return accounts;
     }
-}
\ No newline at end of file
+}
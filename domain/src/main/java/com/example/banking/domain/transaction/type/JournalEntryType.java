@@ -0,0 +1,28 @@
+package com.example.banking.domain.transaction.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public enum JournalEntryType {
+    DEPOSIT("입금", TransactionType.DEPOSIT, TransactionType.DEPOSIT),
+    WITHDRAWAL("출금", TransactionType.WITHDRAWAL, TransactionType.WITHDRAWAL),
+    TRANSFER("이체", TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN),
+    PAYOUT("일괄 지급", TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN),
+    INTEREST("이자", TransactionType.INTEREST, TransactionType.INTEREST),
+    SHARD_TRANSFER_DEBIT("샤드 간 이체 출금", TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN),
+    SHARD_TRANSFER_CREDIT("샤드 간 이체 입금", TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN),
+    SHARD_TRANSFER_REFUND("샤드 간 이체 출금 취소", TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
+
+    private final String description;
+    // 고객 계좌 증감이 음수 / 양수일 때 거래 내역에 보이는 유형
+    private final TransactionType outgoing;
+    private final TransactionType incoming;
+
+    public TransactionType transactionType(BigDecimal amount) {
+        return amount.signum() < 0 ? outgoing : incoming;
+    }
+}
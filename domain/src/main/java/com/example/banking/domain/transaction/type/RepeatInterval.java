@@ -0,0 +1,29 @@
+package com.example.banking.domain.transaction.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public enum RepeatInterval {
+    ONCE("1회"),
+    DAILY("매일"),
+    WEEKLY("매주"),
+    MONTHLY("매월");
+
+    private final String description;
+
+    /**
+     * 다음 실행 시각. 반복하지 않으면 null.
+     */
+    public LocalDateTime next(LocalDateTime runAt) {
+        return switch (this) {
+            case ONCE -> null;
+            case DAILY -> runAt.plusDays(1);
+            case WEEKLY -> runAt.plusWeeks(1);
+            case MONTHLY -> runAt.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.banking.domain.transaction.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ScheduledTransferStatus {
+    PENDING("대기"),
+    COMPLETED("완료"),
+    FAILED("실패"),
+    CANCELLED("취소");
+
+    private final String description;
+}
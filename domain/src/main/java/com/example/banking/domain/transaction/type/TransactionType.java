@@ -9,7 +9,8 @@ public enum TransactionType {
     DEPOSIT("입금"),
     WITHDRAWAL("출금"),
     TRANSFER_OUT("이체출금"),
-    TRANSFER_IN("이체입금");
+    TRANSFER_IN("이체입금"),
+    INTEREST("이자");
 
     private final String description;
 }
\ No newline at end of file
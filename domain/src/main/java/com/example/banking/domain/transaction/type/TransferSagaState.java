@@ -0,0 +1,14 @@
+package com.example.banking.domain.transaction.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferSagaState {
+    DEBITED("출금 완료, 입금 대기"),
+    COMPLETED("완료"),
+    COMPENSATED("출금 취소");
+
+    private final String description;
+}
@@ -3,52 +3,119 @@ package com.example.banking.domain.transaction.validation;
 import com.example.banking.core.error.BusinessException;
 import com.example.banking.core.validation.CommonValidator;
 import com.example.banking.domain.account.entity.Account;
+import com.example.banking.domain.account.support.AccountRef;
 import com.example.banking.domain.account.validation.AccountValidator;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
 import com.example.banking.domain.transaction.error.TransactionErrorCode;
-import com.example.banking.domain.transaction.repository.TransactionRepository;
+import com.example.banking.domain.transaction.journal.JournalReader;
 import com.example.banking.domain.transaction.type.TransactionType;
+import com.example.banking.domain.transaction.velocity.VelocityEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionValidator {
+    // 일괄 지급 한 번에 처리하는 최대 건수
+    public static final int MAX_PAYOUT_LEGS = 10_000;
+
     private final CommonValidator commonValidator;
     private final AccountValidator accountValidator;
-    private final TransactionRepository transactionRepository;
+    private final JournalReader journalReader;
+    private final VelocityEngine velocityEngine;
 
-    public void validateDeposit(String accountNumber, BigDecimal amount) {
-        // 1. 기본 금액 검증
-        commonValidator.validateAmountFormat(amount);
-        commonValidator.validatePositiveAmount(amount);
-        validateMaxAmount(amount);
+    /**
+     * 입금 요청 값 검증. DB 를 조회하지 않으므로 트랜잭션 밖에서 수행한다.
+     */
+    public void validateDepositRequest(String accountNumber, BigDecimal amount) {
+        validateAmount(amount);
+        commonValidator.validateAccountNumberFormat(accountNumber);
+    }
 
-        // 2. 계좌 검증
-        Account account = accountValidator.validateAccountExists(accountNumber);
+    /**
+     * 입금 계좌 검증. 잠금으로 읽은 계좌를 넘겨 검증과 처리 사이에 상태가 바뀌지 않게 한다.
+     */
+    public void validateDepositAccount(Account account) {
         accountValidator.validateAccountStatus(account);
     }
 
-    public void validateWithdrawal(String accountNumber, BigDecimal amount) {
-        // 1. 기본 금액 검증
-        commonValidator.validateAmountFormat(amount);
-        commonValidator.validatePositiveAmount(amount);
-        validateMaxAmount(amount);
+    /**
+     * 출금 요청 값 검증. DB 를 조회하지 않으므로 트랜잭션 밖에서 수행한다.
+     */
+    public void validateWithdrawalRequest(String accountNumber, BigDecimal amount) {
+        validateAmount(amount);
+        commonValidator.validateAccountNumberFormat(accountNumber);
+    }
 
-        // 2. 계좌 검증
-        Account account = accountValidator.validateAccountExists(accountNumber);
+    /**
+     * 출금 계좌 검증. 잠금으로 읽은 계좌의 잔액과 한도로 검증한다.
+     */
+    public void validateWithdrawalAccount(Account account, BigDecimal amount) {
+        // 1. 계좌 상태 검증
         accountValidator.validateAccountStatus(account);
 
-        // 3. 잔액 검증
-        if (account.getBalance().compareTo(amount) < 0) {
+        // 2. 잔액 검증 (승인으로 묶인 금액 제외)
+        if (account.getAvailableBalance().compareTo(amount) < 0) {
             throw new BusinessException(TransactionErrorCode.INSUFFICIENT_BALANCE);
         }
 
-        // 4. 일일 출금 한도 검증
-        validateDailyWithdrawalLimit(account, amount);
+        // 3. 일일 출금 한도 검증 (아직 매입하지 않은 승인 금액 포함)
+        validateDailyWithdrawalLimit(account, account.getHeldAmount(), amount);
+    }
+
+    /**
+     * 승인 매입 검증. 매입할 승인 금액(holdAmount)은 묶인 금액에서 빼고 실제 매입 금액을 더해 일일 출금 한도를 다시 본다.
+     */
+    public void validateCapture(Account account, BigDecimal holdAmount, BigDecimal amount) {
+        validateDailyWithdrawalLimit(account, account.getHeldAmount().subtract(holdAmount), amount);
+    }
+
+    /**
+     * 거래 빈도 검증. 계좌별 메모리 카운터로 판정하므로 트랜잭션 밖에서, DB 작업 전에 수행한다.
+     * 통과하면 count 건, amount 원이 빈도에 기록되고 기록한 계좌를 반환한다. 판정하지 않았으면 null 이다.
+     * 거래가 실패하면 반환한 계좌로 {@link #releaseVelocity} 를 불러 금액을 돌려준다.
+     */
+    public AccountRef validateVelocity(String accountNumber, TransactionType type, int count, BigDecimal amount) {
+        AccountRef account = velocityEngine.accountToCheck(accountNumber, type);
+        if (account == null) {
+            return null;
+        }
+        String violatedRule = velocityEngine.tryRecord(account, type, count, amount);
+        if (violatedRule != null) {
+            throw new BusinessException(TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED,
+                TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED.getMessage() + " (" + violatedRule + ")");
+        }
+        return account;
+    }
+
+    /**
+     * validateVelocity 를 통과한 거래가 실패했을 때 금액 규칙의 합계에서 amount 를 뺀다. account 가 null 이면 아무것도 하지 않는다.
+     */
+    public void releaseVelocity(AccountRef account, TransactionType type, BigDecimal amount) {
+        if (account != null) {
+            velocityEngine.release(account, type, amount);
+        }
+    }
+
+    /**
+     * 계좌번호 형식 검증. DB 를 조회하지 않으므로 트랜잭션 밖에서 수행한다.
+     */
+    public void validateAccountNumber(String accountNumber) {
+        commonValidator.validateAccountNumberFormat(accountNumber);
+    }
+
+    private void validateAmount(BigDecimal amount) {
+        commonValidator.validateAmountFormat(amount);
+        commonValidator.validatePositiveAmount(amount);
+        validateMaxAmount(amount);
     }
 
     private void validateMaxAmount(BigDecimal amount) {
@@ -58,52 +125,75 @@ public class TransactionValidator {
         }
     }
 
-    private void validateDailyWithdrawalLimit(Account account, BigDecimal amount) {
+    private void validateDailyWithdrawalLimit(Account account, BigDecimal heldAmount, BigDecimal amount) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfDay = now.with(LocalTime.MIN);
         LocalDateTime endOfDay = now.with(LocalTime.MAX);
 
-        BigDecimal dailyAmount = transactionRepository.getDailyTransactionAmount(
-            account, TransactionType.WITHDRAWAL, startOfDay, endOfDay);
+        BigDecimal dailyAmount = journalReader.getDailyAmount(
+            account.getId(), TransactionType.WITHDRAWAL, startOfDay, endOfDay);
 
         if (dailyAmount == null) {
             dailyAmount = BigDecimal.ZERO;
         }
 
-        if (dailyAmount.add(amount).compareTo(account.getDailyWithdrawalLimit()) > 0) {
+        if (dailyAmount.add(heldAmount).add(amount).compareTo(account.getDailyWithdrawalLimit()) > 0) {
             throw new BusinessException(TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
         }
     }
 
-    public void validateTransfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
+    /**
+     * 이체 요청 값 검증. DB 를 조회하지 않으므로 트랜잭션 밖에서 수행한다.
+     */
+    public void validateTransferRequest(String fromAccountNumber, String toAccountNumber, BigDecimal amount) {
         // 1. 기본 금액 검증
-        commonValidator.validateAmountFormat(amount);
-        commonValidator.validatePositiveAmount(amount);
-        validateMaxAmount(amount);
+        validateAmount(amount);
 
         // 2. 자기 계좌 이체 방지 (계좌 존재 여부 검증 전에 수행)
         if (fromAccountNumber.equals(toAccountNumber)) {
             throw new BusinessException(TransactionErrorCode.SAME_ACCOUNT_TRANSFER);
         }
 
-        // 3. 계좌 존재 여부 검증
-        Account fromAccount = accountValidator.validateAccountExists(fromAccountNumber);
-        Account toAccount = accountValidator.validateAccountExists(toAccountNumber);
+        // 3. 계좌번호 형식 검증
+        commonValidator.validateAccountNumberFormat(fromAccountNumber);
+        commonValidator.validateAccountNumberFormat(toAccountNumber);
+    }
 
-        // 4. 계좌 상태 검증
+    /**
+     * 이체 계좌 검증. 잠금으로 읽은 두 계좌의 상태, 잔액, 한도로 검증한다.
+     */
+    public void validateTransferAccounts(Account fromAccount, Account toAccount, BigDecimal amount) {
+        // 1. 계좌 상태 검증
         accountValidator.validateAccountStatus(fromAccount);
         accountValidator.validateAccountStatus(toAccount);
 
-        // 5. 수수료 계산
+        // 2. 수수료 계산
         BigDecimal fee = fromAccount.calculateTransferFee(amount);
         BigDecimal totalAmount = amount.add(fee);
 
-        // 6. 잔액 검증 (수수료 포함)
-        if (fromAccount.getBalance().compareTo(totalAmount) < 0) {
+        // 3. 잔액 검증 (수수료 포함, 승인으로 묶인 금액 제외)
+        if (fromAccount.getAvailableBalance().compareTo(totalAmount) < 0) {
+            throw new BusinessException(TransactionErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 4. 일일 이체 한도 검증
+        validateDailyTransferLimit(fromAccount, amount);
+    }
+
+    /**
+     * 샤드 간 이체의 출금 계좌 검증. 입금 계좌는 다른 샤드에 있어 입금할 때 따로 검증한다.
+     */
+    public void validateTransferSourceAccount(Account fromAccount, BigDecimal amount) {
+        // 1. 계좌 상태 검증
+        accountValidator.validateAccountStatus(fromAccount);
+
+        // 2. 잔액 검증 (수수료 포함, 승인으로 묶인 금액 제외)
+        BigDecimal totalAmount = amount.add(fromAccount.calculateTransferFee(amount));
+        if (fromAccount.getAvailableBalance().compareTo(totalAmount) < 0) {
             throw new BusinessException(TransactionErrorCode.INSUFFICIENT_BALANCE);
         }
 
-        // 7. 일일 이체 한도 검증
+        // 3. 일일 이체 한도 검증
         validateDailyTransferLimit(fromAccount, amount);
     }
 
@@ -112,8 +202,8 @@ public class TransactionValidator {
         LocalDateTime startOfDay = now.with(LocalTime.MIN);
         LocalDateTime endOfDay = now.with(LocalTime.MAX);
 
-        BigDecimal dailyAmount = transactionRepository.getDailyTransactionAmount(
-            account, TransactionType.TRANSFER_OUT, startOfDay, endOfDay);
+        BigDecimal dailyAmount = journalReader.getDailyAmount(
+            account.getId(), TransactionType.TRANSFER_OUT, startOfDay, endOfDay);
         
         if (dailyAmount == null) {
             dailyAmount = BigDecimal.ZERO;
@@ -123,4 +213,48 @@ public class TransactionValidator {
             throw new BusinessException(TransactionErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 지급 요청 값 검증. DB 를 조회하지 않으므로 트랜잭션 밖에서 수행한다.
+     */
+    public void validatePayoutRequest(String fromAccountNumber, List<PayoutLeg> legs) {
+        // 1. 지급 건수 검증
+        if (legs == null || legs.isEmpty() || legs.size() > MAX_PAYOUT_LEGS) {
+            throw new BusinessException(TransactionErrorCode.INVALID_PAYOUT_LEG_COUNT);
+        }
+
+        // 2. 출금 계좌번호 형식 검증
+        commonValidator.validateAccountNumberFormat(fromAccountNumber);
+
+        // 3. 건별 금액, 입금 계좌 검증 (자기 계좌, 중복 입금 계좌 방지)
+        Set<String> toAccountNumbers = new HashSet<>();
+        for (PayoutLeg leg : legs) {
+            validateTransferRequest(fromAccountNumber, leg.toAccountNumber(), leg.amount());
+            if (!toAccountNumbers.add(leg.toAccountNumber())) {
+                throw new BusinessException(TransactionErrorCode.DUPLICATE_PAYOUT_DESTINATION);
+            }
+        }
+    }
+
+    /**
+     * 일괄 지급 계좌 검증. 잠금으로 읽은 계좌들로 검증하고, 잔액과 일일 이체 한도는 합계로 한 번만 확인한다.
+     */
+    public void validatePayoutAccounts(
+            Account fromAccount,
+            Collection<Account> toAccounts,
+            BigDecimal totalAmount,
+            BigDecimal totalFee
+    ) {
+        // 1. 계좌 상태 검증
+        accountValidator.validateAccountStatus(fromAccount);
+        toAccounts.forEach(accountValidator::validateAccountStatus);
+
+        // 2. 잔액 검증 (수수료 포함, 승인으로 묶인 금액 제외)
+        if (fromAccount.getAvailableBalance().compareTo(totalAmount.add(totalFee)) < 0) {
+            throw new BusinessException(TransactionErrorCode.INSUFFICIENT_BALANCE);
+        }
+
+        // 3. 일일 이체 한도 검증
+        validateDailyTransferLimit(fromAccount, totalAmount);
+    }
+}
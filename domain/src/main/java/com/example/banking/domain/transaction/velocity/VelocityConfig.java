@@ -0,0 +1,23 @@
+package com.example.banking.domain.transaction.velocity;
+
+import com.example.banking.domain.account.repository.AccountTypeRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(VelocityProperties.class)
+public class VelocityConfig {
+
+    @Bean
+    public VelocityEngine velocityEngine(
+            AccountIdCache accountIdCache,
+            AccountTypeRepository accountTypeRepository,
+            VelocityProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new VelocityEngine(accountIdCache, accountTypeRepository, properties, meterRegistry);
+    }
+}
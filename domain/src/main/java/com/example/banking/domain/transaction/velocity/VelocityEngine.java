@@ -0,0 +1,145 @@
+package com.example.banking.domain.transaction.velocity;
+
+import com.example.banking.core.concurrent.SlidingWindowCounterMap;
+import com.example.banking.core.concurrent.SlidingWindowCounterMap.Window;
+import com.example.banking.domain.account.entity.AccountType;
+import com.example.banking.domain.account.repository.AccountTypeRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.transaction.type.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계좌 id 별 메모리 카운터로 거래 빈도 규칙을 판정한다. 규칙마다 카운터 하나를 두고, 통과한 요청은 바로 카운터에 더한다.
+ * 판정과 기록이 stripe 잠금 하나로 묶이므로 동시에 들어온 요청이 함께 한도를 넘지 않는다.
+ * 나중에 잔액 부족, 한도 초과, 롤백, 보상 등으로 실패한 요청은 {@link #release} 로 금액 합계에서 빼고, 건수는 시도로 남긴다.
+ *
+ * <p>계좌 id 와 타입은 {@link AccountIdCache} 에 있을 때만 쓰고, 타입별 한도는 기동할 때 타입 id 별로 만들어 두므로
+ * 판정은 DB 를 거치지 않고 객체를 만들지 않는다. 캐시에 없는 계좌는 판정하지 않고, 이어지는 잠금 경로가 계좌를 찾으며 캐시를 채운다.
+ * 인스턴스마다 따로 세므로 여러 인스턴스가 나눠 받으면 한도가 인스턴스 수만큼 느슨해진다.
+ */
+@Slf4j
+public class VelocityEngine {
+
+    private static final int STRIPES = 64;
+    private static final long NOT_APPLICABLE = -1;
+
+    private final AccountIdCache accountIdCache;
+    private final AccountTypeRepository accountTypeRepository;
+    private final boolean enabled;
+    private final String[] ruleNames;
+    private final VelocityProperties.Rule[] rules;
+    private final boolean[] hasRule = new boolean[TransactionType.values().length];
+    private final Map<Long, long[][]> limitsByAccountType = new ConcurrentHashMap<>();
+    private final long[][] defaultLimits;
+    private final SlidingWindowCounterMap counters;
+    private final Counter[] rejected;
+
+    public VelocityEngine(
+            AccountIdCache accountIdCache,
+            AccountTypeRepository accountTypeRepository,
+            VelocityProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.accountIdCache = accountIdCache;
+        this.accountTypeRepository = accountTypeRepository;
+        this.enabled = properties.enabled() && !properties.rules().isEmpty();
+
+        List<String> names = new ArrayList<>(properties.rules().keySet());
+        this.ruleNames = names.toArray(String[]::new);
+        this.rules = names.stream().map(properties.rules()::get).toArray(VelocityProperties.Rule[]::new);
+        Window[] windows = new Window[rules.length];
+        this.rejected = new Counter[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            windows[i] = new Window(rules[i].window().toNanos(), rules[i].measure());
+            hasRule[rules[i].type().ordinal()] = true;
+            rejected[i] = meterRegistry.counter("velocity.rejected", "rule", ruleNames[i]);
+        }
+        this.defaultLimits = limitsFor(null);
+        this.counters = new SlidingWindowCounterMap(
+                windows, properties.buckets(), STRIPES, properties.idleTimeout().toNanos());
+        Gauge.builder("velocity.accounts", counters, SlidingWindowCounterMap::size).register(meterRegistry);
+    }
+
+    /**
+     * type 의 빈도를 판정할 계좌. 규칙이 없거나 계좌 id 캐시에 없으면 DB 를 조회하지 않고 null 을 반환한다. (판정하지 않는다)
+     * 없는 계좌면 이후 계좌 조회에서 실패한다.
+     */
+    public AccountRef accountToCheck(String accountNumber, TransactionType type) {
+        if (!enabled || !hasRule[type.ordinal()]) {
+            return null;
+        }
+        return accountIdCache.getIfCached(accountNumber);
+    }
+
+    /**
+     * 한도 안이면 count 건, amount 원을 기록하고 null 을, 넘으면 기록하지 않고 넘은 규칙 이름을 반환한다.
+     */
+    public String tryRecord(String accountNumber, TransactionType type, int count, BigDecimal amount) {
+        AccountRef account = accountToCheck(accountNumber, type);
+        return account == null ? null : tryRecord(account, type, count, amount);
+    }
+
+    public String tryRecord(AccountRef account, TransactionType type, int count, BigDecimal amount) {
+        int violated = counters.tryAdd(account.id(), count, amount.longValue(), limits(account, type));
+        if (violated < 0) {
+            return null;
+        }
+        rejected[violated].increment();
+        return ruleNames[violated];
+    }
+
+    /**
+     * tryRecord 로 기록한 거래가 실패했을 때 금액 규칙의 합계에서 amount 를 뺀다. 건수 규칙은 시도로 남긴다.
+     */
+    public void release(AccountRef account, TransactionType type, BigDecimal amount) {
+        counters.subtract(account.id(), amount.longValue(), limits(account, type));
+    }
+
+    private long[] limits(AccountRef account, TransactionType type) {
+        return limitsByAccountType.getOrDefault(account.accountTypeId(), defaultLimits)[type.ordinal()];
+    }
+
+    /**
+     * 계좌 타입별 한도를 기동할 때 만들어 두어 요청 처리 중에 계좌 타입을 조회하지 않게 한다.
+     * 이후 추가된 타입이나 기동할 때 읽지 못한 타입은 기본 한도를 쓴다. (계좌 타입은 몇 개뿐이라 크기 제한 없이 둔다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadAccountTypes() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (AccountType accountType : accountTypeRepository.findAll()) {
+                limitsByAccountType.put(accountType.getId(), limitsFor(accountType.getCode()));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to preload velocity limits by account type, using default limits: {}", e.getMessage());
+        }
+    }
+
+    // 거래 종류별로 규칙마다의 한도. 해당 종류가 아닌 규칙은 NOT_APPLICABLE 이다.
+    private long[][] limitsFor(String accountTypeCode) {
+        long[][] limits = new long[TransactionType.values().length][rules.length];
+        for (long[] row : limits) {
+            Arrays.fill(row, NOT_APPLICABLE);
+        }
+        for (int i = 0; i < rules.length; i++) {
+            limits[rules[i].type().ordinal()][i] = rules[i].limitFor(accountTypeCode);
+        }
+        return limits;
+    }
+}
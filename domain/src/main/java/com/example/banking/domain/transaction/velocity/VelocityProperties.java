@@ -0,0 +1,58 @@
+package com.example.banking.domain.transaction.velocity;
+
+import com.example.banking.core.concurrent.SlidingWindowCounterMap.Measure;
+import com.example.banking.domain.transaction.type.TransactionType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 거래 빈도 한도 (banking.velocity.*).
+ * rules 는 규칙 이름별로 거래 종류, 건수(COUNT) / 금액 합계(SUM), 윈도와 한도를 정한다.
+ * 한도는 AccountType 코드(NORMAL, VIP ...)별로 accountTypes 에 둘 수 있고, 없는 코드는 limit 를 쓴다.
+ */
+@ConfigurationProperties(prefix = "banking.velocity")
+public record VelocityProperties(
+        boolean enabled,
+        int buckets,
+        Duration idleTimeout,
+        Map<String, Rule> rules
+) {
+    public VelocityProperties {
+        if (buckets <= 0) {
+            buckets = 10;
+        }
+        if (idleTimeout == null) {
+            idleTimeout = Duration.ofHours(1);
+        }
+        if (rules == null) {
+            rules = new LinkedHashMap<>();
+        }
+    }
+
+    public record Rule(
+            TransactionType type,
+            Measure measure,
+            Duration window,
+            long limit,
+            Map<String, Long> accountTypes
+    ) {
+        public Rule {
+            if (type == null || measure == null || window == null || window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("invalid velocity rule: " + type + " " + measure + " " + window);
+            }
+            if (accountTypes == null) {
+                accountTypes = Map.of();
+            }
+        }
+
+        public long limitFor(String accountTypeCode) {
+            if (accountTypeCode == null) {
+                return limit;
+            }
+            return accountTypes.getOrDefault(accountTypeCode, limit);
+        }
+    }
+}
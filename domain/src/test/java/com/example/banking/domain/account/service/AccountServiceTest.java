@@ -1,20 +1,29 @@
 package com.example.banking.domain.account.service;
 
+import com.example.banking.domain.account.balance.BalanceCheckpointRecorder;
 import com.example.banking.domain.account.dto.AccountResponse;
 import com.example.banking.domain.account.entity.Account;
 import com.example.banking.domain.account.entity.AccountType;
 import com.example.banking.domain.account.error.AccountErrorCode;
 import com.example.banking.domain.account.repository.AccountRepository;
 import com.example.banking.domain.account.repository.AccountTypeRepository;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.account.support.AccountWriteStamps;
 import com.example.banking.domain.account.type.AccountStatus;
 import com.example.banking.core.error.BusinessException;
+import com.example.banking.core.sharding.ShardMap;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -23,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +47,21 @@ class AccountServiceTest {
     @Mock
     private AccountTypeRepository accountTypeRepository;
 
+    @Mock
+    private AccountWriteStamps accountWriteStamps;
+
+    @Mock
+    private AccountIdCache accountIdCache;
+
+    @Mock
+    private BalanceCheckpointRecorder balanceCheckpointRecorder;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(ShardMap.single());
+
+    @Spy
+    private TransactionRunner transactionRunner = new TransactionRunner(mock(PlatformTransactionManager.class));
+
     @Nested
     @DisplayName("계좌 생성")
     class CreateAccount {
@@ -70,6 +95,8 @@ class AccountServiceTest {
             assertThat(response.status()).isEqualTo(AccountStatus.ACTIVE);
             verify(accountRepository).save(any(Account.class));
             verify(accountTypeRepository).findById(1L);
+            verify(accountIdCache).registerCreated(VALID_ACCOUNT_NUMBER, new AccountRef(account.getId(), 1L));
+            verify(balanceCheckpointRecorder).recordOpening(account);
         }
 
         @Test
@@ -117,6 +144,8 @@ class AccountServiceTest {
             // then
             assertThat(account.getStatus()).isEqualTo(AccountStatus.DELETED);
             verify(accountRepository).findByAccountNumber(VALID_ACCOUNT_NUMBER);
+            verify(accountWriteStamps).registerWrite(VALID_ACCOUNT_NUMBER);
+            verify(accountIdCache).invalidate(VALID_ACCOUNT_NUMBER);
         }
 
         @Test
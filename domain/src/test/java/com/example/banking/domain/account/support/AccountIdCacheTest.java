@@ -0,0 +1,90 @@
+package com.example.banking.domain.account.support;
+
+import com.example.banking.core.sharding.ShardMap;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.domain.account.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdCacheTest {
+
+    private static final String ACCOUNT_NUMBER = "1234567890";
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountIdCache accountIdCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        accountIdCache = new AccountIdCache(accountRepository, new ShardRouter(ShardMap.single()), 100, mock(ObjectProvider.class));
+    }
+
+    @Test
+    @DisplayName("처음 조회한 계좌번호는 캐시하고 이후에는 DB 를 조회하지 않는다")
+    void resolve_cachesFirstLookup() {
+        // given
+        when(accountRepository.findRefByAccountNumber(ACCOUNT_NUMBER)).thenReturn(Optional.of(new AccountRef(1L, 2L)));
+
+        // when
+        accountIdCache.resolve(ACCOUNT_NUMBER);
+        Optional<AccountRef> second = accountIdCache.resolve(ACCOUNT_NUMBER);
+
+        // then
+        assertThat(second).contains(new AccountRef(1L, 2L));
+        verify(accountRepository, times(1)).findRefByAccountNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("없는 계좌번호는 캐시하지 않는다")
+    void resolve_missingNotCached() {
+        // given
+        when(accountRepository.findRefByAccountNumber(ACCOUNT_NUMBER)).thenReturn(Optional.empty());
+
+        // when
+        accountIdCache.resolve(ACCOUNT_NUMBER);
+        Optional<AccountRef> second = accountIdCache.resolve(ACCOUNT_NUMBER);
+
+        // then
+        assertThat(second).isEmpty();
+        verify(accountRepository, times(2)).findRefByAccountNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("생성한 계좌는 조회 없이 캐시에서 찾고, 삭제하면 다시 DB 에서 찾는다")
+    void registerCreated_thenInvalidate() {
+        // given
+        accountIdCache.registerCreated(ACCOUNT_NUMBER, new AccountRef(1L, 1L));
+
+        // when
+        Optional<AccountRef> created = accountIdCache.resolve(ACCOUNT_NUMBER);
+
+        // then
+        assertThat(created).contains(new AccountRef(1L, 1L));
+        verify(accountRepository, never()).findRefByAccountNumber(any());
+
+        // when
+        accountIdCache.invalidate(ACCOUNT_NUMBER);
+        accountIdCache.resolve(ACCOUNT_NUMBER);
+
+        // then
+        verify(accountRepository).findRefByAccountNumber(ACCOUNT_NUMBER);
+    }
+}
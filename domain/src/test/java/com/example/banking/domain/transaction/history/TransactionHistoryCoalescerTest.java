@@ -0,0 +1,73 @@
+package com.example.banking.domain.transaction.history;
+
+import com.example.banking.domain.account.support.AccountWriteStamps;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
+import com.example.banking.domain.transaction.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionHistoryCoalescerTest {
+
+    private static final String ACCOUNT_NUMBER = "1234567890";
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Mock
+    private TransactionService transactionService;
+
+    private final AccountWriteStamps accountWriteStamps = new AccountWriteStamps();
+    private TransactionHistoryCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new TransactionHistoryCoalescer(transactionService, accountWriteStamps);
+    }
+
+    @Test
+    @DisplayName("조회 중에 쓰기가 커밋되면 이후 요청은 진행 중인 조회에 합류하지 않는다")
+    void writeDuringFlight_notShared() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Page<TransactionHistoryResponse> stale = new PageImpl<>(List.of());
+        Page<TransactionHistoryResponse> fresh = new PageImpl<>(List.of());
+        when(transactionService.getTransactionHistory(ACCOUNT_NUMBER, FIRST_PAGE))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return stale;
+                })
+                .thenReturn(fresh);
+        CompletableFuture<Page<TransactionHistoryResponse>> inFlight =
+                CompletableFuture.supplyAsync(() -> coalescer.getTransactionHistory(ACCOUNT_NUMBER, FIRST_PAGE));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        accountWriteStamps.registerWrite(ACCOUNT_NUMBER);
+        Page<TransactionHistoryResponse> afterWrite = coalescer.getTransactionHistory(ACCOUNT_NUMBER, FIRST_PAGE);
+
+        // then
+        assertThat(afterWrite).isSameAs(fresh);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isSameAs(stale);
+        verify(transactionService, times(2)).getTransactionHistory(ACCOUNT_NUMBER, FIRST_PAGE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.banking.domain.transaction.schedule;
+
+import com.example.banking.domain.transaction.type.RepeatInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduledTransferExecutorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 25, 9, 0, 30);
+
+    @Nested
+    @DisplayName("다음 회차 계산")
+    class NextOccurrence {
+        @Test
+        @DisplayName("1회 예약은 다음 회차가 없다")
+        void once() {
+            // given
+            ScheduledTransferExecutor.Claim claim = claim(RepeatInterval.ONCE, NOW.minusSeconds(30), null);
+
+            // when & then
+            assertThat(ScheduledTransferExecutor.nextOccurrence(claim, NOW)).isNull();
+        }
+
+        @Test
+        @DisplayName("멈춰 있던 동안 지난 회차는 건너뛰고 현재 이후의 첫 회차로 간다")
+        void skipsMissedOccurrences() {
+            // given
+            ScheduledTransferExecutor.Claim claim = claim(RepeatInterval.DAILY, NOW.minusDays(3).minusSeconds(30), null);
+
+            // when & then
+            assertThat(ScheduledTransferExecutor.nextOccurrence(claim, NOW)).isEqualTo(NOW.plusDays(1).minusSeconds(30));
+        }
+
+        @Test
+        @DisplayName("종료 시각을 넘는 회차는 없다")
+        void endAt() {
+            // given
+            ScheduledTransferExecutor.Claim claim = claim(RepeatInterval.MONTHLY, NOW, NOW.plusDays(20));
+
+            // when & then
+            assertThat(ScheduledTransferExecutor.nextOccurrence(claim, NOW)).isNull();
+        }
+    }
+
+    private static ScheduledTransferExecutor.Claim claim(RepeatInterval repeatInterval, LocalDateTime nextRunAt, LocalDateTime endAt) {
+        return new ScheduledTransferExecutor.Claim(
+                1L, "1234567891", "2345678910", new BigDecimal("10000"), repeatInterval, nextRunAt, endAt, 0, null);
+    }
+}
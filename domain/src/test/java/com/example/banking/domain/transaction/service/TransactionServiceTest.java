@@ -2,13 +2,26 @@ package com.example.banking.domain.transaction.service;
 
 import com.example.banking.core.error.BusinessException;
 import com.example.banking.core.error.CommonErrorCode;
+import com.example.banking.core.sharding.ShardMap;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.core.transaction.TransactionRunner;
 import com.example.banking.domain.account.entity.Account;
 import com.example.banking.domain.account.entity.AccountType;
+import com.example.banking.domain.account.error.AccountErrorCode;
 import com.example.banking.domain.account.repository.AccountRepository;
 import com.example.banking.domain.account.type.AccountStatus;
+import com.example.banking.domain.account.support.AccountIdCache;
+import com.example.banking.domain.account.support.AccountRef;
+import com.example.banking.domain.transaction.dto.PayoutLeg;
+import com.example.banking.domain.transaction.dto.PayoutResponse;
+import com.example.banking.domain.transaction.dto.TransactionHistoryResponse;
 import com.example.banking.domain.transaction.dto.TransactionResponse;
-import com.example.banking.domain.transaction.entity.Transaction;
-import com.example.banking.domain.transaction.repository.TransactionRepository;
+import com.example.banking.domain.transaction.journal.BankAccount;
+import com.example.banking.domain.transaction.journal.JournalEntry;
+import com.example.banking.domain.transaction.journal.JournalReader;
+import com.example.banking.domain.transaction.journal.JournalWriter;
+import com.example.banking.domain.transaction.saga.CrossShardTransferSaga;
+import com.example.banking.domain.transaction.type.JournalEntryType;
 import com.example.banking.domain.transaction.type.TransactionType;
 import com.example.banking.domain.transaction.validation.TransactionValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,15 +29,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -41,7 +65,24 @@ class TransactionServiceTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private AccountIdCache accountIdCache;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionRunner transactionRunner = new TransactionRunner(transactionManager);
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(ShardMap.single());
+
+    @Mock
+    private CrossShardTransferSaga crossShardTransferSaga;
+
+    @Mock
+    private JournalWriter journalWriter;
+
+    @Mock
+    private JournalReader journalReader;
 
     private Account normalAccount;
     private Account premiumAccount;
@@ -87,6 +128,7 @@ class TransactionServiceTest {
 
         // 계좌 설정
         normalAccount = Account.builder()
+            .id(1L)
             .accountNumber("1234567891")
             .balance(new BigDecimal("1000000"))
             .accountType(normalType)
@@ -118,10 +160,11 @@ class TransactionServiceTest {
             String accountNumber = "1234567891";
             BigDecimal amount = new BigDecimal("100000");
 
-            when(accountRepository.findByAccountNumberWithLock(accountNumber))
+            when(accountIdCache.resolve(accountNumber))
+                .thenReturn(Optional.of(new AccountRef(1L, 1L)));
+            when(accountRepository.findByIdWithLock(1L))
                 .thenReturn(Optional.of(normalAccount));
-            when(transactionRepository.save(any(Transaction.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            stubNewEntry();
 
             // when
             TransactionResponse response = transactionService.deposit(accountNumber, amount);
@@ -132,9 +175,12 @@ class TransactionServiceTest {
             assertThat(response.fee()).isEqualTo(BigDecimal.ZERO);
             assertThat(normalAccount.getBalance()).isEqualTo(new BigDecimal("1100000"));
 
-            verify(transactionValidator).validateDeposit(accountNumber, amount);
-            verify(accountRepository).findByAccountNumberWithLock(accountNumber);
-            verify(transactionRepository).save(any(Transaction.class));
+            verify(transactionValidator).validateDepositRequest(accountNumber, amount);
+            verify(accountRepository).findByIdWithLock(1L);
+            verify(transactionValidator).validateDepositAccount(normalAccount);
+            assertThat(writtenEntry().postings())
+                .extracting(JournalEntry.Posting::accountId, JournalEntry.Posting::amount)
+                .containsExactly(tuple(1L, amount), tuple(BankAccount.CASH.getId(), amount.negate()));
         }
 
         @Test
@@ -142,16 +188,17 @@ class TransactionServiceTest {
         void deposit_validation_failure() {
             // given
             doThrow(new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE))
-                .when(transactionValidator).validateDeposit(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+                .when(transactionValidator).validateDepositRequest(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
 
             // when & then
             assertThatThrownBy(() -> transactionService.deposit(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_INPUT_VALUE);
 
-            verify(transactionValidator).validateDeposit(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
-            verify(accountRepository, never()).findByAccountNumberWithLock(any());
-            verify(transactionRepository, never()).save(any());
+            verify(transactionValidator).validateDepositRequest(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+            verify(transactionManager, never()).getTransaction(any());
+            verify(accountRepository, never()).findByIdWithLock(any());
+            verify(journalWriter, never()).write(any());
         }
     }
 
@@ -165,10 +212,11 @@ class TransactionServiceTest {
             String accountNumber = "1234567891";
             BigDecimal amount = new BigDecimal("100000");
 
-            when(accountRepository.findByAccountNumberWithLock(accountNumber))
+            when(accountIdCache.resolve(accountNumber))
+                .thenReturn(Optional.of(new AccountRef(1L, 1L)));
+            when(accountRepository.findByIdWithLock(1L))
                 .thenReturn(Optional.of(normalAccount));
-            when(transactionRepository.save(any(Transaction.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            stubNewEntry();
 
             // when
             TransactionResponse response = transactionService.withdraw(accountNumber, amount);
@@ -179,9 +227,12 @@ class TransactionServiceTest {
             assertThat(response.fee()).isEqualTo(BigDecimal.ZERO);
             assertThat(normalAccount.getBalance()).isEqualTo(new BigDecimal("900000"));
 
-            verify(transactionValidator).validateWithdrawal(accountNumber, amount);
-            verify(accountRepository).findByAccountNumberWithLock(accountNumber);
-            verify(transactionRepository).save(any(Transaction.class));
+            verify(transactionValidator).validateWithdrawalRequest(accountNumber, amount);
+            verify(accountRepository).findByIdWithLock(1L);
+            verify(transactionValidator).validateWithdrawalAccount(normalAccount, amount);
+            assertThat(writtenEntry().postings())
+                .extracting(JournalEntry.Posting::accountId, JournalEntry.Posting::amount)
+                .containsExactly(tuple(1L, amount.negate()), tuple(BankAccount.CASH.getId(), amount));
         }
 
         @Test
@@ -189,16 +240,17 @@ class TransactionServiceTest {
         void withdraw_validation_failure() {
             // given
             doThrow(new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE))
-                .when(transactionValidator).validateWithdrawal(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+                .when(transactionValidator).validateWithdrawalRequest(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
 
             // when & then
             assertThatThrownBy(() -> transactionService.withdraw(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_INPUT_VALUE);
 
-            verify(transactionValidator).validateWithdrawal(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
-            verify(accountRepository, never()).findByAccountNumberWithLock(any());
-            verify(transactionRepository, never()).save(any());
+            verify(transactionValidator).validateWithdrawalRequest(TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+            verify(transactionManager, never()).getTransaction(any());
+            verify(accountRepository, never()).findByIdWithLock(any());
+            verify(journalWriter, never()).write(any());
         }
     }
 
@@ -214,6 +266,7 @@ class TransactionServiceTest {
             BigDecimal amount = new BigDecimal("100000");
 
             Account fromAccount = Account.builder()
+                .id(2L)
                 .accountNumber(fromAccountNumber)
                 .balance(new BigDecimal("1000000"))
                 .accountType(normalType)
@@ -221,18 +274,22 @@ class TransactionServiceTest {
                 .build();
 
             Account toAccount = Account.builder()
+                .id(1L)
                 .accountNumber(toAccountNumber)
                 .balance(new BigDecimal("1000000"))
                 .accountType(normalType)
                 .status(AccountStatus.ACTIVE)
                 .build();
 
-            when(accountRepository.findByAccountNumberWithLock(fromAccountNumber))
+            when(accountIdCache.resolve(fromAccountNumber))
+                .thenReturn(Optional.of(new AccountRef(2L, 1L)));
+            when(accountIdCache.resolve(toAccountNumber))
+                .thenReturn(Optional.of(new AccountRef(1L, 1L)));
+            when(accountRepository.findByIdWithLock(2L))
                 .thenReturn(Optional.of(fromAccount));
-            when(accountRepository.findByAccountNumberWithLock(toAccountNumber))
+            when(accountRepository.findByIdWithLock(1L))
                 .thenReturn(Optional.of(toAccount));
-            when(transactionRepository.save(any(Transaction.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            stubNewEntry();
 
             // when
             TransactionResponse response = transactionService.transfer(fromAccountNumber, toAccountNumber, amount);
@@ -249,8 +306,20 @@ class TransactionServiceTest {
             assertThat(fromAccount.getBalance()).isEqualTo(expectedFromBalance);
             assertThat(toAccount.getBalance()).isEqualTo(expectedToBalance);
 
-            // 거래 내역 저장 확인 (출금 계좌와 입금 계좌 모두)
-            verify(transactionRepository, times(2)).save(any(Transaction.class));
+            // id 가 작은 입금 계좌부터 잠근다
+            InOrder lockOrder = inOrder(accountRepository);
+            lockOrder.verify(accountRepository).findByIdWithLock(1L);
+            lockOrder.verify(accountRepository).findByIdWithLock(2L);
+            verify(transactionValidator).validateTransferAccounts(fromAccount, toAccount, amount);
+
+            // 분개 한 건에 출금 계좌, 입금 계좌, 수수료 수익 증감을 남긴다 (거래 내역 행을 따로 쓰지 않는다)
+            assertThat(writtenEntry().postings())
+                .extracting(JournalEntry.Posting::accountId, JournalEntry.Posting::amount,
+                    JournalEntry.Posting::fee, JournalEntry.Posting::relatedAccountNumber)
+                .containsExactly(
+                    tuple(2L, new BigDecimal("-101000"), expectedFee, toAccountNumber),
+                    tuple(1L, amount, BigDecimal.ZERO, fromAccountNumber),
+                    tuple(BankAccount.FEE_INCOME.getId(), expectedFee, null, null));
         }
 
         @Test
@@ -258,16 +327,150 @@ class TransactionServiceTest {
         void transfer_validation_failure() {
             // given
             doThrow(new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE))
-                .when(transactionValidator).validateTransfer(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+                .when(transactionValidator).validateTransferRequest(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
 
             // when & then
             assertThatThrownBy(() -> transactionService.transfer(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_INPUT_VALUE);
 
-            verify(transactionValidator).validateTransfer(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
-            verify(accountRepository, never()).findByAccountNumberWithLock(any());
-            verify(transactionRepository, never()).save(any());
+            verify(transactionValidator).validateTransferRequest(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_DEPOSIT_AMOUNT);
+            verify(transactionManager, never()).getTransaction(any());
+            verify(accountRepository, never()).findByIdWithLock(any());
+            verify(journalWriter, never()).write(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("일괄 지급 테스트")
+    class PayoutTest {
+        @Test
+        @DisplayName("일괄 지급 성공 - 출금 계좌와 입금 계좌를 id 순서로 한 번에 잠그고 합계로 검증한다")
+        void payout_success() {
+            // given
+            String fromAccountNumber = "1234567891";
+            List<PayoutLeg> legs = List.of(
+                new PayoutLeg("2345678910", new BigDecimal("100000")),
+                new PayoutLeg("3456789012", new BigDecimal("50000"))
+            );
+
+            Account fromAccount = Account.builder()
+                .id(2L)
+                .accountNumber(fromAccountNumber)
+                .balance(new BigDecimal("1000000"))
+                .accountType(normalType)
+                .status(AccountStatus.ACTIVE)
+                .build();
+            Account firstToAccount = Account.builder()
+                .id(3L)
+                .accountNumber("2345678910")
+                .balance(BigDecimal.ZERO)
+                .accountType(normalType)
+                .status(AccountStatus.ACTIVE)
+                .build();
+            Account secondToAccount = Account.builder()
+                .id(1L)
+                .accountNumber("3456789012")
+                .balance(BigDecimal.ZERO)
+                .accountType(normalType)
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+            when(accountIdCache.resolve(fromAccountNumber))
+                .thenReturn(Optional.of(new AccountRef(2L, 1L)));
+            when(accountIdCache.resolveAll(List.of("2345678910", "3456789012")))
+                .thenReturn(Map.of("2345678910", new AccountRef(3L, 1L), "3456789012", new AccountRef(1L, 1L)));
+            when(accountRepository.findAllByIdWithLock(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(secondToAccount, fromAccount, firstToAccount));
+            stubNewEntry();
+
+            // when
+            PayoutResponse response = transactionService.payout(fromAccountNumber, legs);
+
+            // then
+            // 수수료는 건별 1% (1,000 + 500)
+            assertThat(response.legCount()).isEqualTo(2);
+            assertThat(response.totalAmount()).isEqualTo(new BigDecimal("150000"));
+            assertThat(response.totalFee()).isEqualTo(new BigDecimal("1500"));
+            assertThat(response.balanceAfterTransaction()).isEqualTo(new BigDecimal("848500"));
+            assertThat(firstToAccount.getBalance()).isEqualTo(new BigDecimal("100000"));
+            assertThat(secondToAccount.getBalance()).isEqualTo(new BigDecimal("50000"));
+
+            verify(accountRepository, never()).findByIdWithLock(any());
+            verify(transactionValidator).validatePayoutAccounts(
+                fromAccount, List.of(firstToAccount, secondToAccount), new BigDecimal("150000"), new BigDecimal("1500"));
+            // 지급 전체가 분개 한 건이고, 출금 계좌는 건마다 증감을 남긴다
+            assertThat(writtenEntry().postings())
+                .extracting(JournalEntry.Posting::accountId, JournalEntry.Posting::amount, JournalEntry.Posting::balanceAfter)
+                .containsExactly(
+                    tuple(2L, new BigDecimal("-101000"), new BigDecimal("899000")),
+                    tuple(3L, new BigDecimal("100000"), new BigDecimal("100000")),
+                    tuple(2L, new BigDecimal("-50500"), new BigDecimal("848500")),
+                    tuple(1L, new BigDecimal("50000"), new BigDecimal("50000")),
+                    tuple(BankAccount.FEE_INCOME.getId(), new BigDecimal("1500"), null));
+        }
+
+        @Test
+        @DisplayName("일괄 지급 실패 - 없는 입금 계좌가 있으면 잠그기 전에 실패한다")
+        void payout_accountNotFound_failure() {
+            // given
+            String fromAccountNumber = "1234567891";
+            List<PayoutLeg> legs = List.of(
+                new PayoutLeg("2345678910", new BigDecimal("100000")),
+                new PayoutLeg("3456789012", new BigDecimal("50000"))
+            );
+
+            when(accountIdCache.resolve(fromAccountNumber))
+                .thenReturn(Optional.of(new AccountRef(2L, 1L)));
+            when(accountIdCache.resolveAll(List.of("2345678910", "3456789012")))
+                .thenReturn(Map.of("2345678910", new AccountRef(3L, 1L)));
+
+            // when & then
+            assertThatThrownBy(() -> transactionService.payout(fromAccountNumber, legs))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", AccountErrorCode.ACCOUNT_NOT_FOUND);
+
+            verify(accountRepository, never()).findAllByIdWithLock(any());
+            verify(journalWriter, never()).write(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("거래 내역 조회")
+    class GetTransactionHistory {
+        @Test
+        @DisplayName("거래 내역 조회 성공 - 계좌의 분개 증감에서 읽는다")
+        void getTransactionHistory_success() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 20);
+            TransactionHistoryResponse history = TransactionHistoryResponse.builder()
+                .id(1L)
+                .type(TransactionType.DEPOSIT)
+                .amount(TEST_DEPOSIT_AMOUNT)
+                .build();
+            when(accountIdCache.resolve(TEST_ACCOUNT_NUMBER))
+                .thenReturn(Optional.of(new AccountRef(1L, 1L)));
+            when(journalReader.findHistory(1L, pageable))
+                .thenReturn(new PageImpl<>(List.of(history), pageable, 1));
+
+            // when
+            Page<TransactionHistoryResponse> response = transactionService.getTransactionHistory(TEST_ACCOUNT_NUMBER, pageable);
+
+            // then
+            assertThat(response.getContent()).containsExactly(history);
+            verify(transactionValidator).validateAccountNumber(TEST_ACCOUNT_NUMBER);
+            verify(accountIdCache).resolve(TEST_ACCOUNT_NUMBER);
+        }
+    }
+
+    private void stubNewEntry() {
+        when(journalWriter.newEntry(any(JournalEntryType.class)))
+            .thenAnswer(invocation -> JournalEntry.of(1L, invocation.getArgument(0), LocalDateTime.now()));
+    }
+
+    private JournalEntry writtenEntry() {
+        ArgumentCaptor<JournalEntry> entry = ArgumentCaptor.forClass(JournalEntry.class);
+        verify(journalWriter).write(entry.capture());
+        return entry.getValue();
+    }
+}
@@ -6,11 +6,13 @@ import com.example.banking.core.validation.CommonValidator;
 import com.example.banking.domain.account.entity.Account;
 import com.example.banking.domain.account.entity.AccountType;
 import com.example.banking.domain.account.repository.AccountRepository;
+import com.example.banking.domain.account.support.AccountRef;
 import com.example.banking.domain.account.type.AccountStatus;
 import com.example.banking.domain.account.validation.AccountValidator;
 import com.example.banking.domain.transaction.error.TransactionErrorCode;
-import com.example.banking.domain.transaction.repository.TransactionRepository;
+import com.example.banking.domain.transaction.journal.JournalReader;
 import com.example.banking.domain.transaction.type.TransactionType;
+import com.example.banking.domain.transaction.velocity.VelocityEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,8 +25,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +44,14 @@ class TransactionValidatorTest {
     private AccountValidator accountValidator;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private JournalReader journalReader;
 
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private VelocityEngine velocityEngine;
+
     private static final String TEST_ACCOUNT_NUMBER = "1234567891";
     private static final String TEST_TO_ACCOUNT_NUMBER = "2345678910";
     private static final BigDecimal TEST_AMOUNT = new BigDecimal("50000");
@@ -56,7 +63,7 @@ class TransactionValidatorTest {
 
     @BeforeEach
     void setUp() {
-        transactionValidator = new TransactionValidator(commonValidator, accountValidator, transactionRepository);
+        transactionValidator = new TransactionValidator(commonValidator, accountValidator, journalReader, velocityEngine);
         
         // 일반계좌 타입 설정
         normalType = AccountType.builder()
@@ -87,54 +94,53 @@ class TransactionValidatorTest {
     @DisplayName("입금 검증")
     class DepositValidation {
         @Test
-        @DisplayName("입금 검증 성공")
-        void validateDeposit_success() {
-            // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-
-            // when & then
-            transactionValidator.validateDeposit(TEST_ACCOUNT_NUMBER, TEST_AMOUNT);
+        @DisplayName("입금 요청 검증 성공 - 계좌는 조회하지 않는다")
+        void validateDepositRequest_success() {
+            // when
+            transactionValidator.validateDepositRequest(TEST_ACCOUNT_NUMBER, TEST_AMOUNT);
 
+            // then
             verify(commonValidator).validateAmountFormat(TEST_AMOUNT);
             verify(commonValidator).validatePositiveAmount(TEST_AMOUNT);
-            verify(accountValidator).validateAccountExists(TEST_ACCOUNT_NUMBER);
-            verify(accountValidator).validateAccountStatus(testAccount);
+            verify(commonValidator).validateAccountNumberFormat(TEST_ACCOUNT_NUMBER);
+            verifyNoInteractions(accountValidator, journalReader);
         }
 
         @Test
-        @DisplayName("입금 검증 실패 - 금액 형식 오류")
-        void validateDeposit_amountFormatError() {
+        @DisplayName("입금 요청 검증 실패 - 금액 형식 오류")
+        void validateDepositRequest_amountFormatError() {
             // given
             doThrow(new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE))
                 .when(commonValidator).validateAmountFormat(TEST_AMOUNT);
 
             // when & then
-            assertThatThrownBy(() -> transactionValidator.validateDeposit(TEST_ACCOUNT_NUMBER, TEST_AMOUNT))
+            assertThatThrownBy(() -> transactionValidator.validateDepositRequest(TEST_ACCOUNT_NUMBER, TEST_AMOUNT))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.INVALID_INPUT_VALUE);
 
-            verify(commonValidator).validateAmountFormat(TEST_AMOUNT);
             verify(commonValidator, never()).validatePositiveAmount(any());
-            verify(accountValidator, never()).validateAccountExists(any());
-            verify(accountValidator, never()).validateAccountStatus(any());
         }
 
         @Test
-        @DisplayName("입금 검증 실패 - 최대 금액 초과")
-        void validateDeposit_amountTooLarge() {
+        @DisplayName("입금 요청 검증 실패 - 최대 금액 초과")
+        void validateDepositRequest_amountTooLarge() {
             // given
             BigDecimal amount = new BigDecimal("21000000"); // 최대 금액 2천만원 초과
 
             // when & then
-            assertThatThrownBy(() -> transactionValidator.validateDeposit(TEST_ACCOUNT_NUMBER, amount))
+            assertThatThrownBy(() -> transactionValidator.validateDepositRequest(TEST_ACCOUNT_NUMBER, amount))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.AMOUNT_TOO_LARGE);
+        }
+
+        @Test
+        @DisplayName("입금 계좌 검증 - 잠금으로 읽은 계좌의 상태를 검증한다")
+        void validateDepositAccount() {
+            // when
+            transactionValidator.validateDepositAccount(testAccount);
 
-            verify(commonValidator).validateAmountFormat(amount);
-            verify(commonValidator).validatePositiveAmount(amount);
-            verify(accountValidator, never()).validateAccountExists(any());
-            verify(accountValidator, never()).validateAccountStatus(any());
+            // then
+            verify(accountValidator).validateAccountStatus(testAccount);
         }
     }
 
@@ -142,124 +148,196 @@ class TransactionValidatorTest {
     @DisplayName("출금 검증")
     class WithdrawalValidation {
         @Test
-        @DisplayName("출금 검증 성공")
-        void validateWithdrawal_success() {
+        @DisplayName("출금 계좌 검증 성공")
+        void validateWithdrawalAccount_success() {
             // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-            when(transactionRepository.getDailyTransactionAmount(
-                any(Account.class), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(BigDecimal.ZERO);
 
-            // when & then
-            transactionValidator.validateWithdrawal(TEST_ACCOUNT_NUMBER, TEST_AMOUNT);
+            // when
+            transactionValidator.validateWithdrawalAccount(testAccount, TEST_AMOUNT);
 
-            verify(commonValidator).validateAmountFormat(TEST_AMOUNT);
-            verify(commonValidator).validatePositiveAmount(TEST_AMOUNT);
-            verify(accountValidator).validateAccountExists(TEST_ACCOUNT_NUMBER);
+            // then
             verify(accountValidator).validateAccountStatus(testAccount);
         }
 
         @Test
-        @DisplayName("출금 검증 실패 - 잔액 부족")
-        void validateWithdrawal_insufficientBalance() {
-            // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-
+        @DisplayName("출금 계좌 검증 실패 - 잔액 부족")
+        void validateWithdrawalAccount_insufficientBalance() {
             // when & then
-            assertThatThrownBy(() -> transactionValidator.validateWithdrawal(TEST_ACCOUNT_NUMBER, new BigDecimal("6000000")))
+            assertThatThrownBy(() -> transactionValidator.validateWithdrawalAccount(testAccount, new BigDecimal("6000000")))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.INSUFFICIENT_BALANCE);
         }
 
         @Test
-        @DisplayName("출금 검증 실패 - 일일 한도 초과")
-        void validateWithdrawal_dailyLimitExceeded() {
+        @DisplayName("출금 계좌 검증 실패 - 일일 한도 초과")
+        void validateWithdrawalAccount_dailyLimitExceeded() {
             // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-            when(transactionRepository.getDailyTransactionAmount(
-                any(Account.class), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(new BigDecimal("600000")); // 이미 60만원 출금
 
             // when & then
-            assertThatThrownBy(() -> transactionValidator.validateWithdrawal(TEST_ACCOUNT_NUMBER, new BigDecimal("500000")))
+            assertThatThrownBy(() -> transactionValidator.validateWithdrawalAccount(testAccount, new BigDecimal("500000")))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
         }
-    }
 
-    @Nested
-    @DisplayName("이체 검증")
-    class TransferValidation {
         @Test
-        @DisplayName("이체 검증 성공")
-        void validateTransfer_success() {
+        @DisplayName("출금 계좌 검증 실패 - 매입하지 않은 승인 금액까지 더하면 일일 한도 초과")
+        void validateWithdrawalAccount_dailyLimitExceededWithHolds() {
             // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-            when(accountValidator.validateAccountExists(TEST_TO_ACCOUNT_NUMBER))
-                .thenReturn(testToAccount);
-            when(transactionRepository.getDailyTransactionAmount(
-                any(Account.class), eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class), any(LocalDateTime.class)))
+            testAccount.hold(new BigDecimal("600000"));
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(BigDecimal.ZERO);
 
             // when & then
-            transactionValidator.validateTransfer(TEST_ACCOUNT_NUMBER, TEST_TO_ACCOUNT_NUMBER, TEST_AMOUNT);
+            assertThatThrownBy(() -> transactionValidator.validateWithdrawalAccount(testAccount, new BigDecimal("500000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
+        }
 
-            verify(commonValidator).validateAmountFormat(TEST_AMOUNT);
-            verify(commonValidator).validatePositiveAmount(TEST_AMOUNT);
-            verify(accountValidator).validateAccountExists(TEST_ACCOUNT_NUMBER);
-            verify(accountValidator).validateAccountExists(TEST_TO_ACCOUNT_NUMBER);
-            verify(accountValidator).validateAccountStatus(testAccount);
-            verify(accountValidator).validateAccountStatus(testToAccount);
+        @Test
+        @DisplayName("매입 검증 - 매입할 승인 금액 대신 실제 매입 금액을 센다")
+        void validateCapture_countsCapturedAmount() {
+            // given
+            testAccount.hold(new BigDecimal("600000"));
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.WITHDRAWAL), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new BigDecimal("500000"));
+
+            // when & then
+            transactionValidator.validateCapture(testAccount, new BigDecimal("600000"), new BigDecimal("500000"));
+            assertThatThrownBy(() -> transactionValidator.validateCapture(
+                    testAccount, new BigDecimal("600000"), new BigDecimal("600000")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.DAILY_WITHDRAWAL_LIMIT_EXCEEDED);
         }
+    }
 
+    @Nested
+    @DisplayName("이체 검증")
+    class TransferValidation {
         @Test
-        @DisplayName("이체 검증 실패 - 자기 계좌로 이체")
-        void validateTransfer_sameAccount() {
+        @DisplayName("이체 요청 검증 실패 - 자기 계좌로 이체")
+        void validateTransferRequest_sameAccount() {
             // when & then
-            assertThatThrownBy(() -> transactionValidator.validateTransfer(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_AMOUNT))
+            assertThatThrownBy(() -> transactionValidator.validateTransferRequest(TEST_ACCOUNT_NUMBER, TEST_ACCOUNT_NUMBER, TEST_AMOUNT))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.SAME_ACCOUNT_TRANSFER);
+
+            verifyNoInteractions(accountValidator, journalReader);
         }
 
         @Test
-        @DisplayName("이체 검증 실패 - 수수료 포함 잔액 부족")
-        void validateTransfer_insufficientBalanceWithFee() {
+        @DisplayName("이체 계좌 검증 성공")
+        void validateTransferAccounts_success() {
             // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-            when(accountValidator.validateAccountExists(TEST_TO_ACCOUNT_NUMBER))
-                .thenReturn(testToAccount);
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(BigDecimal.ZERO);
+
+            // when
+            transactionValidator.validateTransferAccounts(testAccount, testToAccount, TEST_AMOUNT);
+
+            // then
+            verify(accountValidator).validateAccountStatus(testAccount);
+            verify(accountValidator).validateAccountStatus(testToAccount);
+        }
 
+        @Test
+        @DisplayName("이체 계좌 검증 실패 - 수수료 포함 잔액 부족")
+        void validateTransferAccounts_insufficientBalanceWithFee() {
             // 4,960,000원 이체 시도
             // 수수료 1%: 49,600원
             // 총 필요 금액: 5,009,600원
             // 계좌 잔액 500만원으로는 부족
-            assertThatThrownBy(() -> transactionValidator.validateTransfer(TEST_ACCOUNT_NUMBER, TEST_TO_ACCOUNT_NUMBER, new BigDecimal("4960000")))
+            assertThatThrownBy(() -> transactionValidator.validateTransferAccounts(testAccount, testToAccount, new BigDecimal("4960000")))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.INSUFFICIENT_BALANCE);
         }
 
         @Test
-        @DisplayName("이체 검증 실패 - 일일 한도 초과")
-        void validateTransfer_dailyLimitExceeded() {
+        @DisplayName("이체 계좌 검증 실패 - 일일 한도 초과")
+        void validateTransferAccounts_dailyLimitExceeded() {
             // given
-            when(accountValidator.validateAccountExists(TEST_ACCOUNT_NUMBER))
-                .thenReturn(testAccount);
-            when(accountValidator.validateAccountExists(TEST_TO_ACCOUNT_NUMBER))
-                .thenReturn(testToAccount);
-            when(transactionRepository.getDailyTransactionAmount(
-                any(Account.class), eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class), any(LocalDateTime.class)))
+            when(journalReader.getDailyAmount(
+                any(), eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(new BigDecimal("2000000")); // 이미 200만원 이체
 
             // when & then
             // 150만원 이체 시도 (일일 한도 300만원 초과)
-            assertThatThrownBy(() -> transactionValidator.validateTransfer(TEST_ACCOUNT_NUMBER, TEST_TO_ACCOUNT_NUMBER, new BigDecimal("1500000")))
+            assertThatThrownBy(() -> transactionValidator.validateTransferAccounts(testAccount, testToAccount, new BigDecimal("1500000")))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.DAILY_TRANSFER_LIMIT_EXCEEDED);
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("거래 빈도 검증")
+    class VelocityValidation {
+        private final AccountRef accountRef = new AccountRef(1L, 1L);
+
+        @Test
+        @DisplayName("거래 빈도 검증 성공 - 기록한 계좌를 반환한다")
+        void validateVelocity_success() {
+            // given
+            when(velocityEngine.accountToCheck(TEST_ACCOUNT_NUMBER, TransactionType.WITHDRAWAL)).thenReturn(accountRef);
+            when(velocityEngine.tryRecord(accountRef, TransactionType.WITHDRAWAL, 1, TEST_AMOUNT))
+                .thenReturn(null);
+
+            // when
+            AccountRef recorded = transactionValidator.validateVelocity(
+                TEST_ACCOUNT_NUMBER, TransactionType.WITHDRAWAL, 1, TEST_AMOUNT);
+
+            // then
+            assertThat(recorded).isSameAs(accountRef);
+            verify(velocityEngine).tryRecord(accountRef, TransactionType.WITHDRAWAL, 1, TEST_AMOUNT);
+        }
+
+        @Test
+        @DisplayName("거래 빈도 검증 - 판정할 계좌가 없으면 기록하지 않고 null 을 반환한다")
+        void validateVelocity_notChecked() {
+            // when
+            AccountRef recorded = transactionValidator.validateVelocity(
+                TEST_ACCOUNT_NUMBER, TransactionType.WITHDRAWAL, 1, TEST_AMOUNT);
+
+            // then
+            assertThat(recorded).isNull();
+            transactionValidator.releaseVelocity(recorded, TransactionType.WITHDRAWAL, TEST_AMOUNT);
+            verify(velocityEngine, never()).tryRecord(any(AccountRef.class), any(), anyInt(), any());
+            verify(velocityEngine, never()).release(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("거래 빈도 검증 실패 - 규칙 한도 초과")
+        void validateVelocity_limitExceeded() {
+            // given
+            when(velocityEngine.accountToCheck(TEST_ACCOUNT_NUMBER, TransactionType.TRANSFER_OUT)).thenReturn(accountRef);
+            when(velocityEngine.tryRecord(accountRef, TransactionType.TRANSFER_OUT, 1, TEST_AMOUNT))
+                .thenReturn("transfer-amount");
+
+            // when & then
+            assertThatThrownBy(() -> transactionValidator.validateVelocity(
+                    TEST_ACCOUNT_NUMBER, TransactionType.TRANSFER_OUT, 1, TEST_AMOUNT))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TransactionErrorCode.VELOCITY_LIMIT_EXCEEDED)
+                .hasMessageContaining("transfer-amount");
+
+            verifyNoInteractions(journalReader);
+        }
+
+        @Test
+        @DisplayName("실패한 거래의 금액을 기록한 계좌로 돌려준다")
+        void releaseVelocity() {
+            // when
+            transactionValidator.releaseVelocity(accountRef, TransactionType.TRANSFER_OUT, TEST_AMOUNT);
+
+            // then
+            verify(velocityEngine).release(accountRef, TransactionType.TRANSFER_OUT, TEST_AMOUNT);
+        }
+    }
+}
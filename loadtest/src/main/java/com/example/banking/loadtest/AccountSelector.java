@@ -0,0 +1,25 @@
+package com.example.banking.loadtest;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 대상 계좌를 고르는 전략 (계좌 인기도 편향).
+ * 반환값은 0 부터 accountCount - 1 사이의 계좌 인덱스이며, 인덱스가 작을수록 인기 계좌다.
+ */
+public interface AccountSelector {
+
+    int next(SplittableRandom random);
+
+    /**
+     * "uniform" 또는 "zipf[:지수]" 형식을 해석한다. 지수를 생략하면 1.0 을 사용한다.
+     */
+    static AccountSelector parse(String spec, int accountCount) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        return switch (parts[0]) {
+            case "uniform" -> new UniformAccountSelector(accountCount);
+            case "zipf" -> new ZipfAccountSelector(accountCount, parts.length > 1 ? Double.parseDouble(parts[1]) : 1.0);
+            default -> throw new IllegalArgumentException("지원하지 않는 계좌 편향입니다: " + spec);
+        };
+    }
+}
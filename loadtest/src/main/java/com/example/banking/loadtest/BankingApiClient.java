@@ -0,0 +1,74 @@
+package com.example.banking.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 실제 REST 엔드포인트(AccountController, TransactionController)를 호출하는 비동기 HTTP 클라이언트.
+ * 응답 본문은 읽고 버리며 상태 코드만 돌려준다.
+ */
+public class BankingApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public BankingApiClient(String baseUrl, Executor executor) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public CompletableFuture<Integer> createAccount(String accountNumber, long initialBalance) {
+        return post("/api/accounts",
+                "{\"accountNumber\":\"" + accountNumber + "\",\"initialBalance\":" + initialBalance + "}");
+    }
+
+    public CompletableFuture<Integer> deposit(String accountNumber, long amount) {
+        return post("/api/accounts/" + accountNumber + "/deposit", amountBody(amount));
+    }
+
+    public CompletableFuture<Integer> withdraw(String accountNumber, long amount) {
+        return post("/api/accounts/" + accountNumber + "/withdraw", amountBody(amount));
+    }
+
+    public CompletableFuture<Integer> transfer(String fromAccountNumber, String toAccountNumber, long amount) {
+        return post("/api/accounts/" + fromAccountNumber + "/transfer/" + toAccountNumber, amountBody(amount));
+    }
+
+    public CompletableFuture<Integer> getTransactionHistory(String accountNumber, int page, int size) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/accounts/" + accountNumber + "/transactions?page=" + page + "&size=" + size))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private CompletableFuture<Integer> post(String path, String json) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return send(request);
+    }
+
+    private CompletableFuture<Integer> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    private static String amountBody(long amount) {
+        return "{\"amount\":" + amount + "}";
+    }
+}
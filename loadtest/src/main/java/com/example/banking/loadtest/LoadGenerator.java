@@ -0,0 +1,147 @@
+package com.example.banking.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 처리량으로 요청을 보내는 개방형(open-loop) 부하 발생기.
+ * 요청은 미리 정해진 출발 시각에 맞춰 보내며, 응답 지연 때문에 다음 요청이 늦어지지 않는다.
+ * 지연시간은 출발 예정 시각부터 측정해 coordinated omission 을 보정한다.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private static final String ACCOUNT_PREFIX = "LT";
+
+    private final LoadTestOptions options;
+    private final BankingApiClient client;
+    private final AccountSelector accountSelector;
+    private final SplittableRandom random;
+
+    public LoadGenerator(LoadTestOptions options, BankingApiClient client) {
+        this.options = options;
+        this.client = client;
+        this.accountSelector = AccountSelector.parse(options.skew(), options.accounts());
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static String accountNumber(int index) {
+        return ACCOUNT_PREFIX + String.format("%010d", index);
+    }
+
+    /**
+     * 부하용 계좌를 만든다. 이미 존재하는 계좌(재실행)는 그대로 사용한다.
+     */
+    public void prepareAccounts() {
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        List<CompletableFuture<Integer>> requests = new ArrayList<>(options.accounts());
+        for (int i = 0; i < options.accounts(); i++) {
+            inFlight.acquireUninterruptibly();
+            requests.add(client.createAccount(accountNumber(i), options.initialBalance())
+                    .whenComplete((status, error) -> inFlight.release()));
+        }
+
+        long failed = requests.stream()
+                .map(CompletableFuture::join)
+                .filter(status -> status >= 500)
+                .count();
+        if (failed > 0) {
+            throw new IllegalStateException("부하용 계좌 생성에 실패했습니다: " + failed + "건");
+        }
+        log.info("부하용 계좌 {}개 준비 완료", options.accounts());
+    }
+
+    public LoadReport run(String target) {
+        if (!options.warmup().isZero()) {
+            log.info("워밍업 {}", options.warmup());
+            drive(options.warmup(), newStats());
+        }
+
+        log.info("측정 시작 rate={}/s duration={} mix={} skew={}",
+                options.rate(), options.duration(), options.mix(), accountSelector);
+        Map<Operation, OperationStats> stats = newStats();
+        long started = System.nanoTime();
+        drive(options.duration(), stats);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        return LoadReport.of(options, target, stats, elapsedSeconds);
+    }
+
+    private void drive(Duration length, Map<Operation, OperationStats> stats) {
+        long intervalNanos = (long) (1_000_000_000L / options.rate());
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // 동시 요청 수가 상한에 닿으면 기다리지만, 지연시간은 출발 예정 시각 기준이라 대기도 집계된다
+            inFlight.acquireUninterruptibly();
+            Operation operation = options.mix().next(random);
+            OperationStats operationStats = stats.get(operation);
+            CompletableFuture<Integer> response;
+            try {
+                response = send(operation);
+            } catch (RuntimeException e) {
+                // future 를 받기 전에 실패해도 실패로 집계하고 허가를 돌려준다
+                try {
+                    operationStats.record(System.nanoTime() - intendedStart, null, e);
+                } finally {
+                    inFlight.release();
+                }
+                continue;
+            }
+            // 마지막 대기(acquire)가 집계 전에 풀리지 않도록 집계한 뒤에 허가를 돌려준다
+            response.whenComplete((status, error) -> {
+                try {
+                    operationStats.record(System.nanoTime() - intendedStart, status, error);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        // 진행 중인 요청이 모두 끝날 때까지 대기
+        inFlight.acquireUninterruptibly(options.maxInFlight());
+    }
+
+    private CompletableFuture<Integer> send(Operation operation) {
+        int account = accountSelector.next(random);
+        return switch (operation) {
+            case DEPOSIT -> client.deposit(accountNumber(account), options.amount());
+            case WITHDRAW -> client.withdraw(accountNumber(account), options.amount());
+            case TRANSFER -> client.transfer(accountNumber(account), accountNumber(counterparty(account)), options.amount());
+            case HISTORY -> client.getTransactionHistory(accountNumber(account), 0, options.pageSize());
+        };
+    }
+
+    private int counterparty(int account) {
+        int other = accountSelector.next(random);
+        return other != account ? other : (account + 1) % options.accounts();
+    }
+
+    private static Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.banking.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 측정 구간의 결과. 작업별 p50/p99/p999 지연시간(ms)과 처리량(ops/s)을 담는다.
+ */
+public record LoadReport(
+        String target,
+        String mix,
+        String skew,
+        int accounts,
+        double targetRate,
+        double elapsedSeconds,
+        List<Row> operations,
+        Row total
+) {
+    public record Row(
+            String operation,
+            long count,
+            long succeeded,
+            long rejected,
+            long failed,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double throughput
+    ) {
+        static Row of(String operation, OperationStats stats, double elapsedSeconds) {
+            return new Row(
+                    operation,
+                    stats.count(),
+                    stats.succeeded(),
+                    stats.rejected(),
+                    stats.failed(),
+                    stats.percentileMillis(50.0),
+                    stats.percentileMillis(99.0),
+                    stats.percentileMillis(99.9),
+                    stats.maxMillis(),
+                    elapsedSeconds > 0 ? stats.count() / elapsedSeconds : 0
+            );
+        }
+    }
+
+    public static LoadReport of(LoadTestOptions options, String target, Map<Operation, OperationStats> stats, double elapsedSeconds) {
+        List<Row> rows = new ArrayList<>();
+        OperationStats total = new OperationStats();
+        for (Map.Entry<Operation, OperationStats> entry : new EnumMap<>(stats).entrySet()) {
+            if (entry.getValue().count() == 0) {
+                continue;
+            }
+            rows.add(Row.of(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(), elapsedSeconds));
+            total.add(entry.getValue());
+        }
+        return new LoadReport(target, options.mix().toString(), options.skew(), options.accounts(), options.rate(),
+                elapsedSeconds, rows, Row.of("total", total, elapsedSeconds));
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "target=%s mix=%s skew=%s accounts=%d rate=%.0f/s elapsed=%.1fs%n",
+                target, mix, skew, accounts, targetRate, elapsedSeconds);
+        out.printf(Locale.ROOT, "%-10s %9s %9s %9s %7s %10s %10s %10s %10s %12s%n",
+                "operation", "count", "ok", "rejected", "failed", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "ops/s");
+        for (Row row : operations) {
+            printRow(out, row);
+        }
+        printRow(out, total);
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    private static void printRow(PrintStream out, Row row) {
+        out.printf(Locale.ROOT, "%-10s %9d %9d %9d %7d %10.2f %10.2f %10.2f %10.2f %12.1f%n",
+                row.operation(), row.count(), row.succeeded(), row.rejected(), row.failed(),
+                row.p50Millis(), row.p99Millis(), row.p999Millis(), row.maxMillis(), row.throughput());
+    }
+}
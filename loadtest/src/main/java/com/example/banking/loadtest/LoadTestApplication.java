@@ -0,0 +1,64 @@
+package com.example.banking.loadtest;
+
+import com.example.banking.api.BankingApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 진입점.
+ *
+ * <pre>
+ * # 외부 MariaDB 없이 (embedded 프로파일로 API 서버를 같은 JVM 에 띄워서) 실행
+ * ./gradlew :loadtest:bootRun --args='--rate=500 --duration=30s --skew=zipf:1.1'
+ *
+ * # 이미 떠 있는 서버를 대상으로 실행
+ * ./gradlew :loadtest:bootRun --args='--target=http://localhost:8080 --rate=500'
+ * </pre>
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext embedded = options.embedded() ? startEmbeddedServer(options.velocity()) : null;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            String target = embedded != null
+                    ? "http://localhost:" + ((WebServerApplicationContext) embedded).getWebServer().getPort()
+                    : options.target();
+
+            LoadGenerator generator = new LoadGenerator(options, new BankingApiClient(target, executor));
+            generator.prepareAccounts();
+            LoadReport report = generator.run(embedded != null ? "embedded" : target);
+
+            report.print(System.out);
+            if (options.report() != null) {
+                report.write(options.report());
+                log.info("결과 저장: {}", options.report().toAbsolutePath());
+            }
+        } finally {
+            executor.shutdownNow();
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    /**
+     * 부하용 계좌 몇 개에 요청이 몰리므로 거래 빈도 한도를 켜면 대부분의 출금 / 이체가 거절된다. 그래서 --velocity 로 켤 때만 켠다.
+     */
+    private static ConfigurableApplicationContext startEmbeddedServer(boolean velocity) {
+        log.info("embedded 프로파일로 API 서버를 시작합니다. (거래 빈도 한도: {})", velocity ? "켬" : "끔 - 켜려면 --velocity");
+        return new SpringApplicationBuilder(BankingApplication.class)
+                .profiles("embedded")
+                .properties("server.port=0")
+                // properties() 는 기본값이라 application.yml 을 덮지 못해 명령행 인자로 넘긴다
+                .run("--banking.velocity.enabled=" + velocity);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.banking.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션. "--key=value" 형식의 인자로 지정한다.
+ *
+ * <pre>
+ * --target=http://localhost:8080   대상 서버 (생략하면 embedded 프로파일로 API 서버를 함께 띄운다)
+ * --accounts=100                   부하용 계좌 수
+ * --initial-balance=100000000      부하용 계좌 초기 잔액
+ * --amount=1000                    입금/출금/이체 금액
+ * --rate=200                       목표 처리량 (초당 요청 수)
+ * --duration=30s                   측정 구간 길이
+ * --warmup=5s                      측정 전 워밍업 구간 길이
+ * --max-in-flight=256              동시에 진행 중인 요청 수 상한
+ * --mix=deposit:40,withdraw:30,transfer:20,history:10
+ * --skew=uniform | zipf:1.1        계좌 인기도 편향
+ * --page-size=20                   거래 내역 조회 페이지 크기
+ * --seed=42                        난수 시드
+ * --report=build/loadtest.json     결과를 JSON 으로 저장할 경로 (선택)
+ * --velocity=false                 embedded 서버의 거래 빈도 한도 (banking.velocity.enabled)
+ * </pre>
+ */
+public record LoadTestOptions(
+        String target,
+        int accounts,
+        long initialBalance,
+        long amount,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int maxInFlight,
+        OperationMix mix,
+        String skew,
+        int pageSize,
+        long seed,
+        Path report,
+        boolean velocity
+) {
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.remove("target"),
+                Integer.parseInt(values.getOrDefault("accounts", "100")),
+                Long.parseLong(values.getOrDefault("initial-balance", "100000000")),
+                Long.parseLong(values.getOrDefault("amount", "1000")),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                parseDuration(values.getOrDefault("duration", "30s")),
+                parseDuration(values.getOrDefault("warmup", "5s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "256")),
+                OperationMix.parse(values.getOrDefault("mix", "deposit:40,withdraw:30,transfer:20,history:10")),
+                values.getOrDefault("skew", "uniform"),
+                Integer.parseInt(values.getOrDefault("page-size", "20")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.containsKey("report") ? Path.of(values.get("report")) : null,
+                Boolean.parseBoolean(values.getOrDefault("velocity", "false"))
+        );
+
+        values.keySet().removeAll(List.of("accounts", "initial-balance", "amount", "rate", "duration",
+                "warmup", "max-in-flight", "mix", "skew", "page-size", "seed", "report", "velocity"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + values.keySet());
+        }
+        if (options.accounts() < 2 && options.mix().toString().contains("transfer")) {
+            throw new IllegalArgumentException("이체를 포함하려면 계좌가 2개 이상 필요합니다.");
+        }
+        if (options.rate() <= 0) {
+            throw new IllegalArgumentException("목표 처리량은 0보다 커야 합니다.");
+        }
+        if (options.velocity() && !options.embedded()) {
+            throw new IllegalArgumentException("--velocity 는 embedded 서버에만 적용됩니다. 대상 서버의 banking.velocity.enabled 로 설정하세요.");
+        }
+        return options;
+    }
+
+    public boolean embedded() {
+        return target == null;
+    }
+
+    public static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("시간 형식이 올바르지 않습니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.banking.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum Operation {
+    DEPOSIT("입금"),
+    WITHDRAW("출금"),
+    TRANSFER("이체"),
+    HISTORY("거래 내역 조회");
+
+    private final String description;
+}
@@ -0,0 +1,79 @@
+package com.example.banking.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 작업 비율(가중치)에 따라 다음에 수행할 작업을 고른다.
+ * 형식: "deposit:40,withdraw:30,transfer:20,history:10"
+ */
+public class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = new Operation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+
+        int index = 0;
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            sum += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = sum;
+            index++;
+        }
+        this.totalWeight = sum;
+    }
+
+    public static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String token : spec.split(",")) {
+            String[] pair = token.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("작업 비율 형식이 올바르지 않습니다: " + token);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("작업 비율은 0 이상이어야 합니다: " + token);
+            }
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("최소 하나의 작업 비율이 필요합니다: " + spec);
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(SplittableRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(operations[i].name().toLowerCase(Locale.ROOT))
+                    .append(':')
+                    .append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.banking.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 하나에 대한 지연시간 분포와 결과 건수.
+ * 지연시간은 요청이 "출발했어야 하는" 시각부터 측정하므로 서버가 밀려 발생한 대기도 포함된다.
+ */
+public class OperationStats {
+
+    private final Histogram latencyNanos = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public void record(long latency, Integer status, Throwable error) {
+        latencyNanos.recordValue(Math.min(latency, latencyNanos.getHighestTrackableValue()));
+        if (error != null || status == null || status >= 500) {
+            failed.increment();
+        } else if (status >= 400) {
+            // 잔액 부족, 한도 초과 등 비즈니스 규칙에 의한 거절
+            rejected.increment();
+        } else {
+            succeeded.increment();
+        }
+    }
+
+    public long count() {
+        return latencyNanos.getTotalCount();
+    }
+
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencyNanos.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return latencyNanos.getMaxValue() / 1_000_000.0;
+    }
+
+    public void add(OperationStats other) {
+        latencyNanos.add(other.latencyNanos);
+        succeeded.add(other.succeeded());
+        rejected.add(other.rejected());
+        failed.add(other.failed());
+    }
+}
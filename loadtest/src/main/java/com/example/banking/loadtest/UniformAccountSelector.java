@@ -0,0 +1,25 @@
+package com.example.banking.loadtest;
+
+import java.util.SplittableRandom;
+
+public class UniformAccountSelector implements AccountSelector {
+
+    private final int accountCount;
+
+    public UniformAccountSelector(int accountCount) {
+        if (accountCount < 1) {
+            throw new IllegalArgumentException("계좌 수는 1 이상이어야 합니다.");
+        }
+        this.accountCount = accountCount;
+    }
+
+    @Override
+    public int next(SplittableRandom random) {
+        return random.nextInt(accountCount);
+    }
+
+    @Override
+    public String toString() {
+        return "uniform";
+    }
+}
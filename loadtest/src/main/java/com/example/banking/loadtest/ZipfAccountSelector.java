@@ -0,0 +1,46 @@
+package com.example.banking.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포로 계좌를 고른다. k 번째 계좌가 선택될 확률은 1 / (k+1)^exponent 에 비례한다.
+ * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑으므로 선택 비용은 O(log n) 이다.
+ */
+public class ZipfAccountSelector implements AccountSelector {
+
+    private final double exponent;
+    private final double[] cumulative;
+
+    public ZipfAccountSelector(int accountCount, double exponent) {
+        if (accountCount < 1) {
+            throw new IllegalArgumentException("계좌 수는 1 이상이어야 합니다.");
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("Zipf 지수는 0보다 커야 합니다.");
+        }
+        this.exponent = exponent;
+        this.cumulative = new double[accountCount];
+
+        double sum = 0;
+        for (int k = 0; k < accountCount; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < accountCount; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    @Override
+    public int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "zipf:" + exponent;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.banking.loadtest.startup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * API 부트 jar 를 방식별({@link StartupMode})로 여러 번 띄워 기동 시간과 첫 요청까지 걸린 시간을 잰다.
+ * 컨테이너 이미지(api/Dockerfile)와 같은 순서로 jar 를 풀고 학습 실행으로 CDS 아카이브를 만든 뒤,
+ * 방식을 번갈아 가며 띄워 측정 중 기계 상태 변화가 한 방식에만 몰리지 않게 한다.
+ *
+ * <pre>
+ * ./gradlew :api:bootJar -Paot
+ * ./gradlew :loadtest:startupBenchmark -Paot --args='--runs=5 --report=build/startup.json'
+ * </pre>
+ */
+@Slf4j
+public class StartupBenchmark {
+
+    static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/example/banking/api/BankingApplication__ApplicationContextInitializer.class";
+    static final String CDS_ARCHIVE = "application.jsa";
+
+    private static final String AOT_BANNER = "Starting AOT-processed";
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in [0-9.]+ seconds \\(process running for ([0-9.]+)\\)");
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final StartupOptions options;
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    public StartupBenchmark(StartupOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupOptions options = StartupOptions.parse(args);
+        StartupReport report = new StartupBenchmark(options).run();
+
+        report.print(System.out);
+        if (options.report() != null) {
+            report.write(options.report());
+            log.info("결과 저장: {}", options.report().toAbsolutePath());
+        }
+    }
+
+    public StartupReport run() throws IOException, InterruptedException {
+        verifyAotProcessed();
+        Files.createDirectories(options.workDir());
+        Path appDir = options.workDir().resolve("app");
+        extract(appDir);
+        trainArchive(appDir);
+
+        Map<StartupMode, List<StartupSample>> samples = new EnumMap<>(StartupMode.class);
+        for (int run = 1; run <= options.runs(); run++) {
+            for (StartupMode mode : StartupMode.values()) {
+                StartupSample sample = launch(mode, appDir);
+                log.info("{} #{}: ready={}ms firstRequest={}ms", mode, run,
+                        Math.round(sample.readyMillis()), Math.round(sample.firstRequestMillis()));
+                samples.computeIfAbsent(mode, key -> new ArrayList<>()).add(sample);
+            }
+        }
+
+        List<StartupReport.Row> rows = new ArrayList<>();
+        samples.forEach((mode, modeSamples) -> rows.add(StartupReport.Row.of(mode, modeSamples)));
+        return new StartupReport(options.jar().toString(), options.profile(), options.runs(), rows);
+    }
+
+    private void verifyAotProcessed() throws IOException {
+        try (JarFile jar = new JarFile(options.jar().toFile())) {
+            if (jar.getEntry(AOT_INITIALIZER) == null) {
+                throw new IllegalStateException(
+                        "AOT 처리되지 않은 jar 입니다. ./gradlew :api:bootJar -Paot 로 다시 만드세요: " + options.jar());
+            }
+        }
+    }
+
+    /**
+     * 이미지의 빌드 단계처럼 jar 를 실행용 jar + lib/ 로 푼다. CDS 는 클래스패스가 디렉터리 안의 jar 들이어야 쓸 수 있다.
+     */
+    private void extract(Path appDir) throws IOException, InterruptedException {
+        exec(options.workDir(), "extract", List.of(java, "-Djarmode=tools", "-jar", options.jar().toString(),
+                "extract", "--destination", appDir.toString(), "--force"));
+    }
+
+    /**
+     * 컨텍스트를 띄운 직후(onRefresh) 종료하는 학습 실행으로, 그동안 읽은 클래스를 CDS 아카이브에 남긴다.
+     */
+    private void trainArchive(Path appDir) throws IOException, InterruptedException {
+        Files.deleteIfExists(appDir.resolve(CDS_ARCHIVE));
+        exec(appDir, "train", List.of(java, "-XX:ArchiveClassesAtExit=" + CDS_ARCHIVE,
+                "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+                "-jar", appJarName(), "--spring.profiles.active=" + options.profile()));
+        if (!Files.exists(appDir.resolve(CDS_ARCHIVE))) {
+            throw new IllegalStateException("CDS 아카이브를 만들지 못했습니다: " + appDir.resolve(CDS_ARCHIVE));
+        }
+    }
+
+    private StartupSample launch(StartupMode mode, Path appDir) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java));
+        if (mode.cds()) {
+            // 아카이브를 쓸 수 없으면 조용히 건너뛰지 않고 기동에 실패하게 한다
+            command.add("-Xshare:on");
+            command.add("-XX:SharedArchiveFile=" + CDS_ARCHIVE);
+        }
+        if (mode.aot()) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of("-jar", mode == StartupMode.JAR ? options.jar().toString() : appJarName(),
+                "--spring.profiles.active=" + options.profile(), "--server.port=" + port));
+
+        Path output = options.workDir().resolve(mode.name().toLowerCase(Locale.ROOT) + ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory((mode == StartupMode.JAR ? options.workDir() : appDir).toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        try {
+            long deadline = start + options.timeout().toNanos();
+            awaitReady(process, port, deadline, output);
+            double readyMillis = millisSince(start);
+
+            HttpResponse<Void> response = get(port, options.firstRequest());
+            if (response == null || response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("첫 요청이 실패했습니다: " + options.firstRequest() + ", 로그: " + output);
+            }
+            double firstRequestMillis = millisSince(start);
+
+            String log = awaitStartedLine(output, deadline);
+            Matcher started = STARTED.matcher(log);
+            return new StartupSample(
+                    log.contains(AOT_BANNER),
+                    started.find() ? Double.parseDouble(started.group(1)) * 1000 : Double.NaN,
+                    readyMillis,
+                    firstRequestMillis);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitReady(Process process, int port, long deadline, Path output) throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("기동 중 종료되었습니다 (exit " + process.exitValue() + "), 로그: " + output);
+            }
+            HttpResponse<Void> response = get(port, "/actuator/health");
+            if (response != null && response.statusCode() == 200) {
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("기동 대기 시간을 넘었습니다: " + options.timeout() + ", 로그: " + output);
+    }
+
+    // 기동 완료 로그는 요청을 받기 시작한 직후에 남으므로 잠깐 더 기다린다
+    private String awaitStartedLine(Path output, long deadline) throws IOException, InterruptedException {
+        String log = Files.readString(output);
+        while (!STARTED.matcher(log).find() && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+            log = Files.readString(output);
+        }
+        return log;
+    }
+
+    /**
+     * 아직 포트를 열지 않았으면 null.
+     */
+    private HttpResponse<Void> get(int port, String path) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // 연결 거절, 응답 전 끊김 (아직 기동 중)
+            return null;
+        }
+    }
+
+    private void exec(Path directory, String name, List<String> command) throws IOException, InterruptedException {
+        Path output = options.workDir().resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        if (!process.waitFor(options.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+            throw new IllegalStateException(name + " 대기 시간을 넘었습니다: " + options.timeout() + ", 로그: " + output);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException(name + " 실패 (exit " + process.exitValue() + "), 로그: " + output);
+        }
+    }
+
+    // extract 는 실행용 jar 를 원래 jar 와 같은 이름으로 푼다
+    private String appJarName() {
+        return options.jar().getFileName().toString();
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.banking.loadtest.startup;
+
+/**
+ * API 서버를 띄우는 방식.
+ */
+public enum StartupMode {
+    // 기존 이미지: 부트 jar 를 그대로 java -jar 로 실행 (리플렉션 기반 컨텍스트 구성)
+    JAR(false, false),
+    // 푼 jar + AOT 로 만든 빈 정의 코드 (-Dspring.aot.enabled=true)
+    AOT(true, false),
+    // 푼 jar + AOT + 학습 실행으로 만든 CDS 아카이브 (컨테이너 이미지와 같은 방식)
+    AOT_CDS(true, true);
+
+    private final boolean aot;
+    private final boolean cds;
+
+    StartupMode(boolean aot, boolean cds) {
+        this.aot = aot;
+        this.cds = cds;
+    }
+
+    public boolean aot() {
+        return aot;
+    }
+
+    public boolean cds() {
+        return cds;
+    }
+}
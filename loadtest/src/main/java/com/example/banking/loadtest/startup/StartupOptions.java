@@ -0,0 +1,62 @@
+package com.example.banking.loadtest.startup;
+
+import com.example.banking.loadtest.LoadTestOptions;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시간 측정 옵션. "--key=value" 형식의 인자로 지정한다.
+ *
+ * <pre>
+ * --jar=api/build/libs/api.jar      측정할 API 부트 jar (./gradlew :api:bootJar -Paot 로 만든 jar)
+ * --work-dir=build/startup          jar 를 풀고 CDS 아카이브를 만들 디렉터리
+ * --runs=3                          방식별 기동 횟수 (중앙값으로 비교)
+ * --profile=embedded                기동 프로파일 (외부 DB 없이 측정)
+ * --first-request=/api/accounts/1234567890/transactions   준비된 뒤 처음 보낼 요청
+ * --timeout=180s                    한 번 기동을 기다리는 최대 시간
+ * --report=build/startup.json       결과를 JSON 으로 저장할 경로 (선택)
+ * </pre>
+ */
+public record StartupOptions(
+        Path jar,
+        Path workDir,
+        int runs,
+        String profile,
+        String firstRequest,
+        Duration timeout,
+        Path report
+) {
+    public static StartupOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        StartupOptions options = new StartupOptions(
+                Path.of(values.getOrDefault("jar", "api/build/libs/api.jar")).toAbsolutePath(),
+                Path.of(values.getOrDefault("work-dir", "build/startup")).toAbsolutePath(),
+                Integer.parseInt(values.getOrDefault("runs", "3")),
+                values.getOrDefault("profile", "embedded"),
+                values.getOrDefault("first-request", "/api/accounts/1234567890/transactions"),
+                LoadTestOptions.parseDuration(values.getOrDefault("timeout", "180s")),
+                values.containsKey("report") ? Path.of(values.get("report")) : null
+        );
+
+        values.keySet().removeAll(List.of("jar", "work-dir", "runs", "profile", "first-request", "timeout", "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + values.keySet());
+        }
+        if (options.runs() <= 0) {
+            throw new IllegalArgumentException("기동 횟수는 0보다 커야 합니다.");
+        }
+        return options;
+    }
+}
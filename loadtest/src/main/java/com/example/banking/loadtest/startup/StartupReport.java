@@ -0,0 +1,95 @@
+package com.example.banking.loadtest.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 방식별 기동 시간. 모두 프로세스를 띄운 시점부터 잰 ms 이며, 여러 번 띄운 값의 중앙값과 최솟값을 담는다.
+ *
+ * <ul>
+ * <li>started: 스프링이 기동 완료를 알린 시점의 JVM 가동 시간 ("process running for")</li>
+ * <li>ready: /actuator/health 가 처음 200 을 준 시점</li>
+ * <li>firstRequest: 준비된 뒤 보낸 첫 업무 요청의 응답을 받은 시점</li>
+ * </ul>
+ */
+public record StartupReport(
+        String jar,
+        String profile,
+        int runs,
+        List<Row> modes
+) {
+    public record Row(
+            StartupMode mode,
+            boolean aotProcessed,
+            double startedMedianMillis,
+            double readyMedianMillis,
+            double readyMinMillis,
+            double firstRequestMedianMillis,
+            double firstRequestMinMillis
+    ) {
+        static Row of(StartupMode mode, List<StartupSample> samples) {
+            return new Row(
+                    mode,
+                    samples.stream().allMatch(StartupSample::aotProcessed),
+                    median(samples.stream().mapToDouble(StartupSample::startedMillis).toArray()),
+                    median(samples.stream().mapToDouble(StartupSample::readyMillis).toArray()),
+                    samples.stream().mapToDouble(StartupSample::readyMillis).min().orElse(0),
+                    median(samples.stream().mapToDouble(StartupSample::firstRequestMillis).toArray()),
+                    samples.stream().mapToDouble(StartupSample::firstRequestMillis).min().orElse(0)
+            );
+        }
+    }
+
+    public Row row(StartupMode mode) {
+        return modes.stream()
+                .filter(row -> row.mode() == mode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("측정하지 않은 방식입니다: " + mode));
+    }
+
+    /**
+     * 첫 요청까지 걸린 시간(중앙값)의 비율. 1 보다 작으면 mode 가 baseline 보다 빠르다.
+     */
+    public double firstRequestRatio(StartupMode mode, StartupMode baseline) {
+        return row(mode).firstRequestMedianMillis() / row(baseline).firstRequestMedianMillis();
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "jar=%s profile=%s runs=%d%n", jar, profile, runs);
+        out.printf(Locale.ROOT, "%-8s %5s %13s %11s %9s %17s %15s %8s%n",
+                "mode", "aot", "started(ms)", "ready(ms)", "min(ms)", "firstRequest(ms)", "min(ms)", "ratio");
+        for (Row row : modes) {
+            out.printf(Locale.ROOT, "%-8s %5s %13.0f %11.0f %9.0f %17.0f %15.0f %8.2f%n",
+                    row.mode().name().toLowerCase(Locale.ROOT), row.aotProcessed(), row.startedMedianMillis(),
+                    row.readyMedianMillis(), row.readyMinMillis(), row.firstRequestMedianMillis(),
+                    row.firstRequestMinMillis(), firstRequestRatio(row.mode(), modes.get(0).mode()));
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    private static double median(double[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
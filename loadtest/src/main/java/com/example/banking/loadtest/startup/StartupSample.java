@@ -0,0 +1,12 @@
+package com.example.banking.loadtest.startup;
+
+/**
+ * 한 번 띄운 결과 (프로세스를 띄운 시점부터 잰 ms).
+ */
+public record StartupSample(
+        boolean aotProcessed,
+        double startedMillis,
+        double readyMillis,
+        double firstRequestMillis
+) {
+}
@@ -0,0 +1,115 @@
+package com.example.banking.loadtest.stress;
+
+import com.example.banking.loadtest.LoadTestOptions;
+import com.example.banking.loadtest.OperationMix;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경합 스트레스 옵션. "--key=value" 형식의 인자로 지정한다.
+ * threads / accounts / skew 는 쉼표로 여러 값을 주면 모든 조합을 차례로 측정한다.
+ *
+ * <pre>
+ * --threads=1,10,100,1000          동시에 서비스를 호출하는 스레드 수
+ * --accounts=2,100,10000,1000000   경합 대상 계좌 수 (앞에서부터 N 개를 쓴다)
+ * --skew=uniform,zipf:1.1          계좌 인기도 편향
+ * --mix=deposit:30,withdraw:30,transfer:40
+ * --duration=10s                   조합별 측정 구간
+ * --warmup=2s                      조합별 측정 전 워밍업 구간 (잔액 검증에는 포함)
+ * --amount=1000                    입금/출금/이체 금액
+ * --initial-balance=1000000000     계좌 초기 잔액 (잔액 부족 거절이 결과를 가리지 않도록 크게)
+ * --max-retries=3                  교착 상태 / 잠금 대기 초과를 다시 시도하는 최대 횟수
+ * --profile=embedded               서비스를 띄울 프로파일
+ * --seed=42                        난수 시드
+ * --report=build/stress/contention.json   결과 JSON 경로
+ * --baseline=old.json              비교할 이전 결과 (선택)
+ * --max-regression=0.2             처리량이 이 비율 넘게 줄면 회귀로 본다
+ * --spring.* / --banking.*         서비스 설정 (예: --spring.datasource.hikari.maximum-pool-size=50)
+ * </pre>
+ */
+public record ContentionOptions(
+        List<Integer> threads,
+        List<Integer> accounts,
+        List<String> skews,
+        OperationMix mix,
+        Duration duration,
+        Duration warmup,
+        long amount,
+        long initialBalance,
+        int maxRetries,
+        String profile,
+        long seed,
+        Path report,
+        Path baseline,
+        double maxRegression,
+        Map<String, String> properties
+) {
+    private static final List<String> KEYS = List.of("threads", "accounts", "skew", "mix", "duration", "warmup",
+            "amount", "initial-balance", "max-retries", "profile", "seed", "report", "baseline", "max-regression");
+
+    public static ContentionOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        values.entrySet().removeIf(entry -> {
+            boolean property = entry.getKey().startsWith("spring.") || entry.getKey().startsWith("banking.");
+            if (property) {
+                properties.put(entry.getKey(), entry.getValue());
+            }
+            return property;
+        });
+
+        ContentionOptions options = new ContentionOptions(
+                parseInts(values.getOrDefault("threads", "1,10,100")),
+                parseInts(values.getOrDefault("accounts", "2,100,10000")),
+                List.of(values.getOrDefault("skew", "uniform,zipf:1.1").split(",")),
+                OperationMix.parse(values.getOrDefault("mix", "deposit:30,withdraw:30,transfer:40")),
+                LoadTestOptions.parseDuration(values.getOrDefault("duration", "10s")),
+                LoadTestOptions.parseDuration(values.getOrDefault("warmup", "2s")),
+                Long.parseLong(values.getOrDefault("amount", "1000")),
+                Long.parseLong(values.getOrDefault("initial-balance", "1000000000")),
+                Integer.parseInt(values.getOrDefault("max-retries", "3")),
+                values.getOrDefault("profile", "embedded"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("report", "build/stress/contention.json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "0.2")),
+                properties
+        );
+
+        values.keySet().removeAll(KEYS);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + values.keySet());
+        }
+        if (options.threads().stream().anyMatch(count -> count < 1)) {
+            throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + options.threads());
+        }
+        if (options.accounts().stream().anyMatch(count -> count < 2)) {
+            throw new IllegalArgumentException("계좌는 2개 이상 필요합니다: " + options.accounts());
+        }
+        if (options.maxRetries() < 0) {
+            throw new IllegalArgumentException("재시도 횟수는 0 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    public int maxAccounts() {
+        return accounts.stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    private static List<Integer> parseInts(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).map(Integer::parseInt).toList();
+    }
+}
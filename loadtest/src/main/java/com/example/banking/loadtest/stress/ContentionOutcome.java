@@ -0,0 +1,60 @@
+package com.example.banking.loadtest.stress;
+
+import com.example.banking.core.error.BusinessException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 서비스 호출 한 번의 결과. 예외의 원인 사슬에서 SQLState / 벤더 오류 코드를 보고 잠금 경합 실패를 구분한다.
+ */
+public enum ContentionOutcome {
+    SUCCEEDED,
+    // 잔액 부족, 한도 초과 등 비즈니스 규칙에 의한 거절
+    REJECTED,
+    DEADLOCK,
+    LOCK_TIMEOUT,
+    // 커넥션 풀에서 커넥션을 얻지 못함
+    POOL_TIMEOUT,
+    FAILED;
+
+    // MariaDB: ER_LOCK_DEADLOCK / ER_LOCK_WAIT_TIMEOUT, H2: DEADLOCK_1 / LOCK_TIMEOUT_1
+    private static final int MARIADB_DEADLOCK = 1213;
+    private static final int MARIADB_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int H2_DEADLOCK = 40001;
+    private static final int H2_LOCK_TIMEOUT = 50200;
+
+    /**
+     * 교착 상태와 잠금 대기 초과는 다시 시도하면 성공할 수 있다.
+     */
+    public boolean retryable() {
+        return this == DEADLOCK || this == LOCK_TIMEOUT;
+    }
+
+    public static ContentionOutcome classify(Throwable error) {
+        if (error == null) {
+            return SUCCEEDED;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BusinessException) {
+                return REJECTED;
+            }
+            if (cause instanceof SQLTransientConnectionException) {
+                return POOL_TIMEOUT;
+            }
+            if (cause instanceof SQLException sql) {
+                if ("40001".equals(sql.getSQLState())
+                        || sql.getErrorCode() == MARIADB_DEADLOCK || sql.getErrorCode() == H2_DEADLOCK) {
+                    return DEADLOCK;
+                }
+                if (sql.getErrorCode() == MARIADB_LOCK_WAIT_TIMEOUT || sql.getErrorCode() == H2_LOCK_TIMEOUT) {
+                    return LOCK_TIMEOUT;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return FAILED;
+    }
+}
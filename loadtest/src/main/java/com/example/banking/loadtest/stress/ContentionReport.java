@@ -0,0 +1,133 @@
+package com.example.banking.loadtest.stress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 조합(계좌 수 x 편향 x 스레드 수)별 경합 측정 결과. 지연시간은 ms, 처리량은 ops/s, 금액은 원이다.
+ * 잔액 검증(conserved)은 조합 전후 부하용 계좌 잔액 합계의 변화가 성공한 거래로 기대한 변화와 같은지를 본다.
+ */
+public record ContentionReport(
+        String profile,
+        String mix,
+        double durationSeconds,
+        double warmupSeconds,
+        int maxRetries,
+        List<Cell> cells
+) {
+    public record Cell(
+            int accounts,
+            String skew,
+            int threads,
+            double elapsedSeconds,
+            long count,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<ContentionOutcome, Long> outcomes,
+            // 재시도 전의 시도까지 센 교착 상태 / 잠금 대기 초과 횟수
+            long deadlocks,
+            long lockTimeouts,
+            long retries,
+            long expectedDelta,
+            long actualDelta,
+            long negativeBalances,
+            boolean conserved,
+            List<OperationRow> operations
+    ) {
+        boolean sameSetting(Cell other) {
+            return accounts == other.accounts && threads == other.threads && skew.equals(other.skew);
+        }
+    }
+
+    public record OperationRow(
+            String operation,
+            long count,
+            Map<ContentionOutcome, Long> outcomes,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double throughput
+    ) {
+    }
+
+    public boolean conserved() {
+        return cells.stream().allMatch(Cell::conserved);
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "profile=%s mix=%s duration=%.0fs warmup=%.0fs max-retries=%d%n",
+                profile, mix, durationSeconds, warmupSeconds, maxRetries);
+        out.printf(Locale.ROOT, "%9s %-10s %7s %10s %10s %9s %9s %9s %9s %9s %8s %8s %8s %8s %9s%n",
+                "accounts", "skew", "threads", "ops", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)",
+                "rejected", "deadlock", "lockWait", "pool", "retries", "conserved");
+        for (Cell cell : cells) {
+            out.printf(Locale.ROOT, "%9d %-10s %7d %10d %10.1f %9.3f %9.3f %9.3f %9.3f %9d %8d %8d %8d %8d %9s%n",
+                    cell.accounts(), cell.skew(), cell.threads(), cell.count(), cell.throughput(),
+                    cell.p50Millis(), cell.p99Millis(), cell.p999Millis(), cell.maxMillis(),
+                    cell.outcomes().getOrDefault(ContentionOutcome.REJECTED, 0L),
+                    cell.deadlocks(), cell.lockTimeouts(),
+                    cell.outcomes().getOrDefault(ContentionOutcome.POOL_TIMEOUT, 0L),
+                    cell.retries(), cell.conserved() ? "yes" : "NO");
+        }
+        for (Cell cell : cells) {
+            if (!cell.conserved()) {
+                out.printf(Locale.ROOT, "잔액 불일치 accounts=%d skew=%s threads=%d: 기대 %d, 실제 %d, 음수 잔액 %d 계좌%n",
+                        cell.accounts(), cell.skew(), cell.threads(), cell.expectedDelta(), cell.actualDelta(),
+                        cell.negativeBalances());
+            }
+        }
+    }
+
+    /**
+     * 같은 조합끼리 처리량과 p99 의 변화율을 출력하고, 처리량이 maxRegression 비율 넘게 줄어든 조합이 있으면 true.
+     */
+    public boolean compare(ContentionReport baseline, double maxRegression, PrintStream out) {
+        boolean regressed = false;
+        out.printf(Locale.ROOT, "%9s %-10s %7s %12s %12s %9s %12s %12s %9s%n",
+                "accounts", "skew", "threads", "base ops/s", "ops/s", "Δ", "base p99", "p99", "Δ");
+        for (Cell cell : cells) {
+            Cell base = baseline.cells().stream().filter(cell::sameSetting).findFirst().orElse(null);
+            if (base == null) {
+                continue;
+            }
+            double throughputChange = change(base.throughput(), cell.throughput());
+            boolean cellRegressed = throughputChange < -maxRegression;
+            regressed |= cellRegressed;
+            out.printf(Locale.ROOT, "%9d %-10s %7d %12.1f %12.1f %8.1f%% %12.3f %12.3f %8.1f%%%s%n",
+                    cell.accounts(), cell.skew(), cell.threads(),
+                    base.throughput(), cell.throughput(), throughputChange * 100,
+                    base.p99Millis(), cell.p99Millis(), change(base.p99Millis(), cell.p99Millis()) * 100,
+                    cellRegressed ? "  회귀" : "");
+        }
+        return regressed;
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    public static ContentionReport read(Path path) throws IOException {
+        return new ObjectMapper().readValue(path.toFile(), ContentionReport.class);
+    }
+
+    private static double change(double base, double value) {
+        return base == 0 ? 0 : (value - base) / base;
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.banking.loadtest.stress;
+
+import com.example.banking.api.BankingApplication;
+import com.example.banking.core.sharding.ShardRouter;
+import com.example.banking.domain.transaction.dto.TransactionResponse;
+import com.example.banking.domain.transaction.service.TransactionService;
+import com.example.banking.loadtest.AccountSelector;
+import com.example.banking.loadtest.Operation;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 를 거치지 않고 같은 JVM 에서 서비스({@link TransactionService})를 직접 호출해 계좌 잠금 경합을 잰다.
+ * 스레드 수, 계좌 수, 계좌 편향의 모든 조합을 차례로 측정하고, 조합마다 잔액 합계가 성공한 거래만큼만 바뀌었는지 확인한다.
+ *
+ * <p>스레드마다 다음 작업을 응답을 받은 뒤 바로 보내는 closed-loop 로 돌린다. 스레드가 지연시간 분포와 건수를 따로 모아
+ * 끝난 뒤 합치므로 측정 도구가 경합을 더하지 않는다. 교착 상태와 잠금 대기 초과는 max-retries 까지 다시 시도하며,
+ * 지연시간은 첫 시도부터 잰다.
+ *
+ * <pre>
+ * ./gradlew :loadtest:contentionStress --args='--threads=1,10,100,1000 --accounts=2,100,10000,1000000'
+ * ./gradlew :loadtest:contentionStress --args='--baseline=build/stress/previous.json --report=build/stress/current.json'
+ * </pre>
+ *
+ * 잔액이 맞지 않으면 1, 이전 결과보다 처리량이 max-regression 넘게 줄면 2 로 종료한다.
+ */
+@Slf4j
+public class ContentionStress {
+
+    static final String ACCOUNT_PREFIX = "CS";
+
+    private static final int INSERT_BATCH = 1_000;
+    private static final Pageable HISTORY_PAGE = PageRequest.of(0, 20);
+    private static final long HIGHEST_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final ContentionOptions options;
+    private final TransactionService transactionService;
+    private final ShardRouter shardRouter;
+    private final JdbcTemplate jdbcTemplate;
+    private final BigDecimal amount;
+
+    public ContentionStress(ContentionOptions options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.transactionService = context.getBean(TransactionService.class);
+        this.shardRouter = context.getBean(ShardRouter.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.amount = BigDecimal.valueOf(options.amount());
+    }
+
+    public static void main(String[] args) throws Exception {
+        ContentionOptions options = ContentionOptions.parse(args);
+
+        int status = 0;
+        try (ConfigurableApplicationContext context = start(options)) {
+            ContentionReport report = new ContentionStress(options, context).run();
+
+            report.print(System.out);
+            report.write(options.report());
+            log.info("결과 저장: {}", options.report().toAbsolutePath());
+
+            if (!report.conserved()) {
+                status = 1;
+            } else if (options.baseline() != null
+                    && report.compare(ContentionReport.read(options.baseline()), options.maxRegression(), System.out)) {
+                status = 2;
+            }
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(ContentionOptions options) {
+        log.info("{} 프로파일로 서비스를 시작합니다.", options.profile());
+        List<String> args = new ArrayList<>(List.of(
+                // 같은 계좌에 요청을 몰아 넣으므로 거래 빈도 한도를 켜면 대부분이 잠금 전에 거절된다
+                "--banking.velocity.enabled=false",
+                "--banking.interest.scheduler-enabled=false"));
+        options.properties().forEach((key, value) -> args.add("--" + key + "=" + value));
+        return new SpringApplicationBuilder(BankingApplication.class)
+                .profiles(options.profile().split(","))
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "logging.level.com.example.banking.loadtest=INFO")
+                .run(args.toArray(String[]::new));
+    }
+
+    public ContentionReport run() throws InterruptedException {
+        prepareAccounts(options.maxAccounts());
+
+        List<ContentionReport.Cell> cells = new ArrayList<>();
+        for (int accounts : options.accounts()) {
+            for (String skew : options.skews()) {
+                for (int threads : options.threads()) {
+                    ContentionReport.Cell cell = runCell(accounts, skew, threads);
+                    log.info("accounts={} skew={} threads={}: {} ops/s, p99 {}ms, deadlock {}, lockWait {}, conserved {}",
+                            accounts, skew, threads, Math.round(cell.throughput()), cell.p99Millis(),
+                            cell.deadlocks(), cell.lockTimeouts(), cell.conserved());
+                    cells.add(cell);
+                }
+            }
+        }
+        return new ContentionReport(options.profile(), options.mix().toString(),
+                options.duration().toMillis() / 1000.0, options.warmup().toMillis() / 1000.0,
+                options.maxRetries(), cells);
+    }
+
+    public static String accountNumber(int index) {
+        return ACCOUNT_PREFIX + String.format("%010d", index);
+    }
+
+    /**
+     * 부하용 계좌를 샤드별로 한꺼번에 넣는다. 백만 개까지 서비스로 하나씩 만들면 준비가 측정보다 오래 걸린다.
+     * 이미 있는 계좌(재실행)는 잔액을 그대로 두고 쓴다. 일일 한도 거절이 덜 섞이도록 한도가 큰 VIP 타입으로 만든다.
+     */
+    private void prepareAccounts(int count) {
+        Map<Integer, List<String>> missingByShard = new TreeMap<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            missingByShard.put(shard, new ArrayList<>());
+        }
+        Set<String> existing = new HashSet<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            existing.addAll(shardRouter.onShard(shard, () -> jdbcTemplate.queryForList(
+                    "SELECT account_number FROM account WHERE account_number LIKE ?", String.class, ACCOUNT_PREFIX + "%")));
+        }
+        for (int i = 0; i < count; i++) {
+            String accountNumber = accountNumber(i);
+            if (!existing.contains(accountNumber)) {
+                missingByShard.get(shardRouter.shardOf(accountNumber)).add(accountNumber);
+            }
+        }
+
+        BigDecimal initialBalance = BigDecimal.valueOf(options.initialBalance());
+        missingByShard.forEach((shard, accountNumbers) -> shardRouter.onShard(shard, () -> {
+            if (accountNumbers.isEmpty()) {
+                return null;
+            }
+            Long accountTypeId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM account_type WHERE code = 'VIP'", Long.class);
+            for (int from = 0; from < accountNumbers.size(); from += INSERT_BATCH) {
+                List<Object[]> batch = accountNumbers.subList(from, Math.min(from + INSERT_BATCH, accountNumbers.size()))
+                        .stream()
+                        .map(accountNumber -> new Object[]{accountNumber, accountTypeId, initialBalance})
+                        .toList();
+                jdbcTemplate.batchUpdate("INSERT INTO account (account_number, account_type_id, balance, status) "
+                        + "VALUES (?, ?, ?, 'ACTIVE')", batch);
+            }
+            // 계좌를 만들 때의 잔액 (시점 잔액 조회의 시작점)
+            jdbcTemplate.update("INSERT INTO balance_checkpoint (account_id, account_sequence, transaction_id, balance, created_at) "
+                    + "SELECT a.id, 0, NULL, a.balance, a.created_at FROM account a WHERE a.account_number LIKE ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM balance_checkpoint c WHERE c.account_id = a.id)", ACCOUNT_PREFIX + "%");
+            return null;
+        }));
+        log.info("부하용 계좌 {}개 준비 완료 (새로 만든 계좌 {}개)", count,
+                missingByShard.values().stream().mapToInt(List::size).sum());
+    }
+
+    private ContentionReport.Cell runCell(int accounts, String skew, int threads) throws InterruptedException {
+        AccountSelector selector = AccountSelector.parse(skew, accounts);
+        long before = totalBalance();
+
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        long[] window = new long[2];
+        Worker[] workers = new Worker[threads];
+        Thread[] running = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(selector, accounts, seeds.split(), ready, go, window);
+            running[i] = new Thread(workers[i], "contention-" + i);
+            running[i].start();
+        }
+        ready.await();
+        long started = System.nanoTime();
+        window[0] = started + options.warmup().toNanos();
+        window[1] = window[0] + options.duration().toNanos();
+        go.countDown();
+        for (Thread thread : running) {
+            thread.join();
+        }
+        double elapsedSeconds = (System.nanoTime() - window[0]) / 1_000_000_000.0;
+
+        long actualDelta = totalBalance() - before;
+        return summarize(accounts, skew, threads, elapsedSeconds, workers, actualDelta, negativeBalances());
+    }
+
+    private ContentionReport.Cell summarize(int accounts, String skew, int threads, double elapsedSeconds,
+                                            Worker[] workers, long actualDelta, long negativeBalances) {
+        Histogram total = newHistogram();
+        Map<ContentionOutcome, Long> outcomes = new EnumMap<>(ContentionOutcome.class);
+        long deadlocks = 0;
+        long lockTimeouts = 0;
+        long retries = 0;
+        long expectedDelta = 0;
+        List<ContentionReport.OperationRow> rows = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram latency = newHistogram();
+            Map<ContentionOutcome, Long> operationOutcomes = new EnumMap<>(ContentionOutcome.class);
+            for (Worker worker : workers) {
+                latency.add(worker.latency[operation.ordinal()]);
+                for (ContentionOutcome outcome : ContentionOutcome.values()) {
+                    long count = worker.outcomes[operation.ordinal()][outcome.ordinal()];
+                    if (count > 0) {
+                        operationOutcomes.merge(outcome, count, Long::sum);
+                    }
+                }
+            }
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(latency);
+            operationOutcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+            rows.add(new ContentionReport.OperationRow(operation.name().toLowerCase(Locale.ROOT), latency.getTotalCount(),
+                    operationOutcomes, millis(latency.getValueAtPercentile(50.0)),
+                    millis(latency.getValueAtPercentile(99.0)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()), latency.getTotalCount() / elapsedSeconds));
+        }
+        for (Worker worker : workers) {
+            deadlocks += worker.deadlocks;
+            lockTimeouts += worker.lockTimeouts;
+            retries += worker.retries;
+            expectedDelta += worker.expectedDelta;
+        }
+
+        return new ContentionReport.Cell(accounts, skew, threads, elapsedSeconds, total.getTotalCount(),
+                total.getTotalCount() / elapsedSeconds, millis(total.getValueAtPercentile(50.0)),
+                millis(total.getValueAtPercentile(99.0)), millis(total.getValueAtPercentile(99.9)),
+                millis(total.getMaxValue()), outcomes, deadlocks, lockTimeouts, retries,
+                expectedDelta, actualDelta, negativeBalances,
+                expectedDelta == actualDelta && negativeBalances == 0, rows);
+    }
+
+    private long totalBalance() {
+        long sum = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            BigDecimal shardSum = shardRouter.onShard(shard, () -> jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(balance), 0) FROM account WHERE account_number LIKE ?",
+                    BigDecimal.class, ACCOUNT_PREFIX + "%"));
+            sum += shardSum.longValueExact();
+        }
+        return sum;
+    }
+
+    private long negativeBalances() {
+        long count = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            count += shardRouter.onShard(shard, () -> jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM account WHERE account_number LIKE ? AND balance < 0",
+                    Long.class, ACCOUNT_PREFIX + "%"));
+        }
+        return count;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_LATENCY_NANOS, 3);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 스레드 하나의 closed-loop. 워밍업 동안의 거래는 기록하지 않지만 잔액은 바꾸므로 기대 변화에는 더한다.
+     */
+    private final class Worker implements Runnable {
+
+        private final AccountSelector selector;
+        private final int accounts;
+        private final SplittableRandom random;
+        private final CountDownLatch ready;
+        private final CountDownLatch go;
+        // [측정 시작, 측정 끝] (System.nanoTime). go 전에 채워진다.
+        private final long[] window;
+
+        private final Histogram[] latency = new Histogram[Operation.values().length];
+        private final long[][] outcomes = new long[Operation.values().length][ContentionOutcome.values().length];
+        private long deadlocks;
+        private long lockTimeouts;
+        private long retries;
+        private long expectedDelta;
+
+        private Worker(AccountSelector selector, int accounts, SplittableRandom random,
+                       CountDownLatch ready, CountDownLatch go, long[] window) {
+            this.selector = selector;
+            this.accounts = accounts;
+            this.random = random;
+            this.ready = ready;
+            this.go = go;
+            this.window = window;
+            for (int i = 0; i < latency.length; i++) {
+                latency[i] = newHistogram();
+            }
+        }
+
+        @Override
+        public void run() {
+            ready.countDown();
+            try {
+                go.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long measureFrom = window[0];
+            long measureUntil = window[1];
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                boolean recording = now >= measureFrom;
+                Operation operation = options.mix().next(random);
+                int from = selector.next(random);
+                int to = selector.next(random);
+                if (to == from) {
+                    to = from + 1 == accounts ? 0 : from + 1;
+                }
+
+                ContentionOutcome outcome;
+                int attempt = 0;
+                while (true) {
+                    outcome = execute(operation, accountNumber(from), accountNumber(to));
+                    if (recording && outcome == ContentionOutcome.DEADLOCK) {
+                        deadlocks++;
+                    } else if (recording && outcome == ContentionOutcome.LOCK_TIMEOUT) {
+                        lockTimeouts++;
+                    }
+                    if (!outcome.retryable() || attempt == options.maxRetries()) {
+                        break;
+                    }
+                    attempt++;
+                    if (recording) {
+                        retries++;
+                    }
+                }
+
+                if (recording) {
+                    long elapsed = System.nanoTime() - now;
+                    latency[operation.ordinal()].recordValue(Math.min(elapsed, HIGHEST_LATENCY_NANOS));
+                    outcomes[operation.ordinal()][outcome.ordinal()]++;
+                }
+            }
+        }
+
+        private ContentionOutcome execute(Operation operation, String accountNumber, String otherAccountNumber) {
+            try {
+                switch (operation) {
+                    case DEPOSIT -> {
+                        transactionService.deposit(accountNumber, amount);
+                        expectedDelta += options.amount();
+                    }
+                    case WITHDRAW -> {
+                        transactionService.withdraw(accountNumber, amount);
+                        expectedDelta -= options.amount();
+                    }
+                    case TRANSFER -> {
+                        // 이체 금액은 부하용 계좌 사이에서 옮겨지고 수수료만 빠져나간다
+                        TransactionResponse response = transactionService.transfer(accountNumber, otherAccountNumber, amount);
+                        expectedDelta -= response.fee() == null ? 0 : response.fee().longValueExact();
+                    }
+                    case HISTORY -> transactionService.getTransactionHistory(accountNumber, HISTORY_PAGE);
+                }
+                return ContentionOutcome.SUCCEEDED;
+            } catch (RuntimeException e) {
+                ContentionOutcome outcome = ContentionOutcome.classify(e);
+                if (outcome == ContentionOutcome.FAILED) {
+                    log.debug("Unexpected failure during {}", operation, e);
+                }
+                return outcome;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.banking.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AccountSelectorTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Nested
+    @DisplayName("계좌 인기도 편향")
+    class Skew {
+        @Test
+        @DisplayName("zipf 는 순위가 높은 계좌에 요청이 몰린다")
+        void zipf_favorsTopRankedAccounts() {
+            // given
+            AccountSelector selector = AccountSelector.parse("zipf:1.0", 1000);
+            SplittableRandom random = new SplittableRandom(42);
+            int[] hits = new int[1000];
+
+            // when
+            for (int i = 0; i < SAMPLES; i++) {
+                hits[selector.next(random)]++;
+            }
+
+            // then
+            // 1위와 2위의 빈도 비는 2^1.0 = 2 에 가깝다
+            assertThat((double) hits[0] / hits[1]).isCloseTo(2.0, within(0.2));
+            assertThat(hits[0]).isGreaterThan(hits[999] * 100);
+        }
+
+        @Test
+        @DisplayName("uniform 은 모든 계좌를 고르게 선택한다")
+        void uniform_spreadsEvenly() {
+            // given
+            AccountSelector selector = AccountSelector.parse("uniform", 10);
+            SplittableRandom random = new SplittableRandom(42);
+            int[] hits = new int[10];
+
+            // when
+            for (int i = 0; i < SAMPLES; i++) {
+                hits[selector.next(random)]++;
+            }
+
+            // then
+            for (int hit : hits) {
+                assertThat(hit).isCloseTo(SAMPLES / 10, within(SAMPLES / 100));
+            }
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 편향은 거부한다")
+        void unknownSkew_failure() {
+            assertThatThrownBy(() -> AccountSelector.parse("pareto", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 비율")
+    class Mix {
+        @Test
+        @DisplayName("가중치 0 인 작업은 선택되지 않는다")
+        void zeroWeight_neverSelected() {
+            // given
+            OperationMix mix = OperationMix.parse("deposit:1,withdraw:0,history:1");
+            SplittableRandom random = new SplittableRandom(42);
+
+            // when & then
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(mix.next(random)).isNotEqualTo(Operation.WITHDRAW);
+            }
+            assertThat(mix.toString()).isEqualTo("deposit:1,history:1");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.banking.loadtest.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 시간 회귀 테스트. 프로세스를 여러 번 띄우므로 일반 test 에서는 빼고 startupTest 태스크로만 돈다.
+ * (./gradlew :loadtest:startupTest -Paot)
+ */
+@Tag("startup")
+@EnabledIfSystemProperty(named = "startup.jar", matches = ".+")
+class StartupRegressionTest {
+
+    // AOT + CDS 의 첫 요청까지 시간은 java -jar 의 이 비율 이하여야 한다
+    private static final double MAX_RATIO = Double.parseDouble(System.getProperty("startup.max-ratio", "0.8"));
+
+    @Test
+    @DisplayName("AOT + CDS 로 띄우면 AOT 코드로 기동하고, java -jar 보다 빨리 첫 요청을 처리한다")
+    void aotWithCds_startsFasterThanJar() throws Exception {
+        // given
+        StartupOptions options = StartupOptions.parse(
+                "--jar=" + System.getProperty("startup.jar"),
+                "--work-dir=" + System.getProperty("startup.work-dir", "build/startup"),
+                "--runs=" + System.getProperty("startup.runs", "2"));
+
+        // when
+        StartupReport report = new StartupBenchmark(options).run();
+        report.print(System.out);
+
+        // then
+        assertThat(report.row(StartupMode.JAR).aotProcessed()).isFalse();
+        assertThat(report.row(StartupMode.AOT).aotProcessed()).isTrue();
+        assertThat(report.row(StartupMode.AOT_CDS).aotProcessed()).isTrue();
+        assertThat(report.firstRequestRatio(StartupMode.AOT_CDS, StartupMode.JAR)).isLessThan(MAX_RATIO);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.banking.loadtest.stress;
+
+import com.example.banking.core.error.BusinessException;
+import com.example.banking.domain.transaction.error.TransactionErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentionOutcomeTest {
+
+    @Nested
+    @DisplayName("결과 분류")
+    class Classify {
+        @Test
+        @DisplayName("원인 사슬의 벤더 오류 코드로 교착 상태와 잠금 대기 초과를 구분한다")
+        void lockFailures() {
+            // given
+            SQLException mariaDeadlock = new SQLException("Deadlock found", "40001", 1213);
+            SQLException mariaLockWait = new SQLException("Lock wait timeout exceeded", "HY000", 1205);
+            SQLException h2LockTimeout = new SQLException("Timeout trying to lock table", "HYT00", 50200);
+
+            // when & then
+            assertThat(ContentionOutcome.classify(new CannotAcquireLockException("lock", mariaDeadlock)))
+                    .isEqualTo(ContentionOutcome.DEADLOCK);
+            assertThat(ContentionOutcome.classify(new CannotAcquireLockException("lock", mariaLockWait)))
+                    .isEqualTo(ContentionOutcome.LOCK_TIMEOUT);
+            assertThat(ContentionOutcome.classify(new RuntimeException(new RuntimeException(h2LockTimeout))))
+                    .isEqualTo(ContentionOutcome.LOCK_TIMEOUT);
+            assertThat(ContentionOutcome.DEADLOCK.retryable()).isTrue();
+            assertThat(ContentionOutcome.LOCK_TIMEOUT.retryable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("비즈니스 거절, 커넥션 풀 대기 초과, 그 밖의 예외를 구분하고 다시 시도하지 않는다")
+        void otherFailures() {
+            // given
+            BusinessException rejected = new BusinessException(TransactionErrorCode.INSUFFICIENT_BALANCE);
+            CannotGetJdbcConnectionException pool = new CannotGetJdbcConnectionException("pool",
+                    new SQLTransientConnectionException("Connection is not available, request timed out"));
+
+            // when & then
+            assertThat(ContentionOutcome.classify(null)).isEqualTo(ContentionOutcome.SUCCEEDED);
+            assertThat(ContentionOutcome.classify(rejected)).isEqualTo(ContentionOutcome.REJECTED);
+            assertThat(ContentionOutcome.classify(pool)).isEqualTo(ContentionOutcome.POOL_TIMEOUT);
+            assertThat(ContentionOutcome.classify(new IllegalStateException("boom"))).isEqualTo(ContentionOutcome.FAILED);
+            assertThat(ContentionOutcome.REJECTED.retryable()).isFalse();
+            assertThat(ContentionOutcome.POOL_TIMEOUT.retryable()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("옵션")
+    class Options {
+        @Test
+        @DisplayName("쉼표로 준 값들의 모든 조합을 측정하고 spring / banking 설정은 서비스로 넘긴다")
+        void parse() {
+            // when
+            ContentionOptions options = ContentionOptions.parse("--threads=1,1000", "--accounts=2,1000000",
+                    "--skew=uniform,zipf:1.2", "--spring.datasource.hikari.maximum-pool-size=50");
+
+            // then
+            assertThat(options.threads()).containsExactly(1, 1000);
+            assertThat(options.maxAccounts()).isEqualTo(1_000_000);
+            assertThat(options.skews()).containsExactly("uniform", "zipf:1.2");
+            assertThat(options.properties()).containsEntry("spring.datasource.hikari.maximum-pool-size", "50");
+        }
+
+        @Test
+        @DisplayName("계좌가 2개보다 적거나 모르는 옵션이면 거부한다")
+        void parse_invalid() {
+            assertThatThrownBy(() -> ContentionOptions.parse("--accounts=1"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ContentionOptions.parse("--thread=10"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}